@@ -12,6 +12,10 @@ public class AndroidLauncher extends AndroidApplication {
 		super.onCreate(savedInstanceState);
 		AndroidApplicationConfiguration config = new AndroidApplicationConfiguration();
 		config.useWakelock = true;
-		initialize(new MiniQuestsGame(), config);
+		// the game can advance on its own thread, separate from the display
+		// (e.g., adb shell am start --ez pipelined true ...)
+		boolean pipelined = getIntent().getBooleanExtra("pipelined", false);
+		initialize(pipelined ? new MiniQuestsGame(new SimulationThread())
+		                     : new MiniQuestsGame(), config);
 	}
 }
@@ -47,6 +47,10 @@ public class EnvBitsApp implements EnvBits {
   public void save(byte data[]) {
   } // EnvBits.save()
   
+  // nothing is saved, so nothing to wait for
+  public void flushSave() {
+  } // EnvBits.flushSave()
+  
   // load the game data (not currently implemented for the 'App' project)
   public byte[] load() {
     
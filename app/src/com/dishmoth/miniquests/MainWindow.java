@@ -11,15 +11,24 @@ import java.awt.event.*;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.awt.image.BufferStrategy;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import com.dishmoth.miniquests.game.EgaCanvas;
 import com.dishmoth.miniquests.game.EgaTools;
 import com.dishmoth.miniquests.game.Env;
+import com.dishmoth.miniquests.game.FrameBuffers;
 import com.dishmoth.miniquests.game.GameManager;
+import com.dishmoth.miniquests.game.KeyMonitor;
+import com.dishmoth.miniquests.game.KeyRecorder;
+import com.dishmoth.miniquests.game.KeyRecording;
 import com.dishmoth.miniquests.game.MapStory;
 import com.dishmoth.miniquests.game.MenuStory;
 import com.dishmoth.miniquests.game.QuestStats;
 import com.dishmoth.miniquests.game.QuestStory;
+import com.dishmoth.miniquests.game.Telemetry;
 import com.dishmoth.miniquests.game.TitleStory;
 
 // the main game window (pure Java, non-libGDX version)
@@ -42,6 +51,15 @@ public class MainWindow extends Frame implements Runnable {
   private TimingControl  mTimingControl  = null;
   private EgaCanvas      mGameScreen     = null;
   private RecolourTool   mRecolourTool   = null;
+  
+  // advances the game on a separate thread, if not null, in which case the
+  // main loop just displays the frames passed over from it
+  private SimulationThread mSimulation = null;
+  private FrameBuffers     mFrames     = null;
+  
+  // records the keys for playing back later (or null)
+  private KeyRecorder mKeyRecorder = null;
+  private String      mRecordFile  = null;
 
   // EGA data converted to pixels
   private BufferedImage mImage;
@@ -73,10 +91,43 @@ public class MainWindow extends Frame implements Runnable {
       
       envBits.debug("MainWindow()");
     }
+    // decoded sounds can be cached on disk to speed up later launches
+    // (e.g., java -Dminiquests.soundcache=/tmp/mq-sounds ...)
+    // and long sounds can be decoded as they play to save memory
+    // (e.g., java -Dminiquests.streamcutoff=65536 ...)
+    ResourcesApp resources = new ResourcesApp();
+    String soundCache = System.getProperty("miniquests.soundcache");
+    if ( soundCache != null ) resources.setSoundCache(new File(soundCache));
+    Integer streamCutoff = Integer.getInteger("miniquests.streamcutoff");
+    if ( streamCutoff != null ) resources.setStreamingCutoff(streamCutoff);
+    
+    // sounds are loaded as needed rather than all at start-up
+    SoundsApp sounds = new SoundsApp();
+    sounds.setLazy(true);
+    
     Env.initialize( envBits,
-                    new ResourcesApp(),
-                    new SoundsApp() );
-    Env.addKeyMonitor( new KeyMonitorApp(this) );
+                    resources,
+                    sounds );
+    
+    // the keys can be recorded for playing back with HeadlessRunner
+    // (e.g., java -Dminiquests.record=run.txt -Dminiquests.quest=0 ...)
+    // (the saved game data is recorded too, since the title screen and 
+    // menus depend on it)
+    KeyMonitor keys = new KeyMonitorApp(this);
+    mRecordFile = System.getProperty("miniquests.record");
+    if ( mRecordFile != null ) {
+      long seed = System.nanoTime();
+      Env.setRandomSeed(seed);
+      Integer quest = Integer.getInteger("miniquests.quest");
+      KeyRecording recording = new KeyRecording(seed, 
+                              ( (quest != null) ? quest.intValue()
+                                                : KeyRecording.STORY_TITLE ));
+      recording.setSaveData(Env.load());
+      mKeyRecorder = new KeyRecorder(keys, recording);
+      keys = mKeyRecorder;
+      Env.debug("Recording keys to " + mRecordFile);
+    }
+    Env.addKeyMonitor(keys);
 
     //QuestStats.decode("uBVj0NYr6TewCgk5IfqFPuwKUr2Pa48Sg2EWmJKdsCQqySWx4ec4Abi2Gbo6M4uESl0IYA6Qe0CfkEImqEOtwJUp2Ta68TgyErmIKfsERvyUWq4bc1Agi2GcoDMeuHS10bYq6WeCCWk");
 
@@ -112,13 +163,25 @@ public class MainWindow extends Frame implements Runnable {
 
     mGameScreen = new EgaCanvas(Env.screenWidth(), Env.screenHeight());
     
-    mGameManager = new GameManager(new TitleStory());
+    mGameManager = new GameManager( (mKeyRecorder != null) 
+                                    ? mKeyRecorder.recording().startingStory()
+                                    : new TitleStory() );
     //mGameManager = new GameManager(new MenuStory());
     //mGameManager = new GameManager(new TrainingStory());
     //mGameManager = new GameManager(new MapStory(-1));
     //mGameManager = new GameManager(new QuestStory(4));
+    mGameManager.useStaticLayer(true);
+    if ( mKeyRecorder != null ) mKeyRecorder.advance();
     mGameManager.advance();
     
+    // the game can advance on its own thread, separate from the display
+    // (e.g., java -Dminiquests.pipelined=true ..., but not when recording)
+    if ( mKeyRecorder == null && Boolean.getBoolean("miniquests.pipelined") ) {
+      mSimulation = new SimulationThread();
+      mFrames = new FrameBuffers(Env.screenWidth(), Env.screenHeight());
+      Env.debug("Game advancing on a separate thread");
+    }
+    
     mTimingControl = new TimingControl();
     
     if ( Env.debugMode() ) mRecolourTool = new RecolourTool(mGameCanvas);
@@ -141,6 +204,7 @@ public class MainWindow extends Frame implements Runnable {
     Env.debug("start()");
     
     if ( mMainLoop == null ) {
+      if ( mSimulation != null ) mSimulation.start(mGameManager, mFrames, null);
       mMainLoop = new Thread(this);
       mMainLoop.start();
     }
@@ -153,13 +217,17 @@ public class MainWindow extends Frame implements Runnable {
     
     Env.debug("stop()");
     
+    Thread mainLoop = mMainLoop;
     if ( mMainLoop != null ) {
       mMainLoop.interrupt();
     }
     mMainLoop = null;
+    
+    if ( mSimulation != null ) mSimulation.stop();
+    if ( mKeyRecorder != null ) saveRecording(mainLoop);
 
     Env.keys().reset();
-    Env.saveState().save();
+    Env.saveState().flush();
     Env.sounds().stopAll();
     
     mTimingControl.report();
@@ -184,9 +252,16 @@ public class MainWindow extends Frame implements Runnable {
     Env.keys().reset();
     mTimingControl.reset();
 
+    if ( mSimulation != null ) {
+      displayFrames();
+      mMainLoop = null;
+      return;
+    }
+    
     while ( mMainLoop == Thread.currentThread() ) {
       
       // advance
+      if ( mKeyRecorder != null ) mKeyRecorder.advance();
       mGameManager.advance();
       long nanosAfterAdvance = System.nanoTime();
 
@@ -206,6 +281,62 @@ public class MainWindow extends Frame implements Runnable {
     
   } // Runnable.run()
 
+  // the game loop when the game is advanced by the simulation thread
+  // (display each new frame as soon as it's ready)
+  private void displayFrames() {
+    
+    final Telemetry telemetry = Env.telemetry();
+    long prevFrameNanos = 0;
+    
+    while ( mMainLoop == Thread.currentThread() ) {
+      
+      final int numTicks = mFrames.acquire();
+      if ( numTicks > 0 ) {
+        final long frameNanos = System.nanoTime();
+        if ( prevFrameNanos != 0 ) {
+          telemetry.record(Telemetry.FRAME, frameNanos - prevFrameNanos);
+        }
+        prevFrameNanos = frameNanos;
+        showGameScreen(mFrames.front());
+        telemetry.frame(numTicks, true, System.nanoTime());
+      }
+      
+      try {
+        Thread.sleep(1);
+      } catch ( InterruptedException ex ) {
+        break;
+      }
+      
+    }
+    
+    mTimingControl.report();
+    
+  } // displayFrames()
+
+  // write the recorded keys to file (once the game thread has finished)
+  private void saveRecording(Thread mainLoop) {
+    
+    if ( mainLoop != null && mainLoop != Thread.currentThread() ) {
+      try {
+        mainLoop.join();
+      } catch ( InterruptedException ex ) {}
+    }
+    
+    KeyRecording recording = mKeyRecorder.recording();
+    EgaCanvas canvas = new EgaCanvas(Env.screenWidth(), Env.screenHeight());
+    mGameManager.draw(canvas);
+    recording.setHash( KeyRecording.stateHash(canvas) );
+    
+    try {
+      Files.write(new File(mRecordFile).toPath(), 
+                  recording.encode().getBytes(StandardCharsets.US_ASCII));
+      Env.debug("Recorded " + recording.numTicks() + " ticks");
+    } catch ( IOException ex ) {
+      Env.debug("Failed to write recording: " + ex.getMessage());
+    }
+    
+  } // saveRecording()
+  
   // black magic to try and get buffer strategy working
   private void prepareBufferStrategy() {
   
@@ -228,10 +359,22 @@ public class MainWindow extends Frame implements Runnable {
   // draw the game image onto the off-screen buffer, then flip to the screen
   private void drawGameScreen() {
     
+    final long nanosBeforeDraw = System.nanoTime();
     mGameScreen.clear();
     mGameManager.draw(mGameScreen);
+    final long nanosAfterDraw = System.nanoTime();
+    Env.telemetry().record(Telemetry.DRAW, nanosAfterDraw - nanosBeforeDraw);
     
-    if ( mRecolourTool != null ) mRecolourTool.recolour(mGameScreen);
+    showGameScreen(mGameScreen);
+    
+  } // drawGameScreen()
+  
+  // copy a finished game image to the off-screen buffer, then flip it
+  private void showGameScreen(EgaCanvas screen) {
+    
+    final long nanosBefore = System.nanoTime();
+    
+    if ( mRecolourTool != null ) mRecolourTool.recolour(screen);
     
     Graphics g = mBufferStrategy.getDrawGraphics();
     assert( g instanceof Graphics2D );
@@ -242,17 +385,19 @@ public class MainWindow extends Frame implements Runnable {
     final int xOffset = (width - scale*Env.screenWidth())/2,
               yOffset = (height - scale*Env.screenHeight())/2;
 
-    drawEgaCanvas((Graphics2D)g, scale, xOffset, yOffset);
+    drawEgaCanvas((Graphics2D)g, screen, scale, xOffset, yOffset);
     
     g.dispose();
     if ( !mBufferStrategy.contentsLost() ) mBufferStrategy.show();
+    Env.telemetry().record(Telemetry.UPLOAD, System.nanoTime() - nanosBefore);
     
-    if ( Env.debugMode() ) mGameScreen.checkColourCount();
+    if ( Env.debugMode() ) screen.checkColourCount();
 
-  } // drawGameScreen()
+  } // showGameScreen()
 
   // display the EGA pixels
-  private void drawEgaCanvas(Graphics2D g2, int scale, int xOffset, int yOffset) {
+  private void drawEgaCanvas(Graphics2D g2, EgaCanvas screen, 
+                             int scale, int xOffset, int yOffset) {
     
     if ( mImage == null ) {
       mImage = new BufferedImage(Env.screenWidth(), Env.screenHeight(), 
@@ -262,7 +407,7 @@ public class MainWindow extends Frame implements Runnable {
     DataBufferInt buffer = (DataBufferInt)mImage.getRaster().getDataBuffer();
     int rgbPixels[] = buffer.getData();
     
-    byte pixels[] = mGameScreen.pixels();
+    byte pixels[] = screen.pixels();
     assert( rgbPixels.length == pixels.length );
     
     for ( int k = 0 ; k < pixels.length ; k++ ) {
@@ -21,13 +21,35 @@ public class OggDecode {
   // set whether the decode displays comments when running
   public static void setVerbose(boolean v) { kVerbose = v; }
   
-  // decoded data from an Ogg Vorbis stream
-  private static class DecodedData {
+  // decoded data from an Ogg Vorbis stream (16-bit signed PCM format)
+  // (the data may be shared between sound effects so should not be changed)
+  // (for a sound that is to be streamed, bytes is null and oggBytes holds
+  // the original file instead)
+  public static class DecodedData {
     public int rate;
     public int channels;
     public byte[] bytes;
+    public byte[] oggBytes;
   } // OggDecode.DecodedData
 
+  // source of PCM data (16-bit signed) decoded on demand
+  public static abstract class PcmStream {
+    
+    // format of the data
+    protected int mRate,
+                  mChannels;
+    
+    // sample rate and number of channels
+    public int rate() { return mRate; }
+    public int channels() { return mChannels; }
+
+    // decode up to the given number of bytes into the buffer, returning 
+    // the number of bytes decoded, or -1 at the end of the stream
+    public abstract int read(byte buffer[], int offset, int length) 
+                                                          throws IOException;
+    
+  } // OggDecode.PcmStream
+
   // read the input stream as Ogg Vorbis data, and return a Clip object
   public static Clip toClip(InputStream input) throws IOException {
   
@@ -44,6 +66,94 @@ public class OggDecode {
     
   } // toSoundEffect()
 
+  // read the input stream as Ogg Vorbis data, and return the PCM data
+  public static DecodedData toPcm(InputStream input) throws IOException {
+  
+    return decodeOggStream(input);
+    
+  } // toPcm()
+    
+  // create a SoundEffect object from previously decoded data
+  // (data left undecoded is streamed if possible, or else decoded now)
+  public static SoundEffect toSoundEffect(DecodedData data) throws IOException {
+  
+    if ( data.bytes == null ) {
+      SoundEffect se = SoundEffect.newStreamed(pcmFormat(data.rate, 
+                                                         data.channels),
+                                               data.oggBytes);
+      if ( se != null ) {
+        if ( kVerbose ) {
+          System.out.println("Constructing streamed sound effect, " 
+                             + data.oggBytes.length + " bytes of Ogg data");
+        }
+        return se;
+      }
+      data = decodeOggStream(new ByteArrayInputStream(data.oggBytes));
+    }
+    return newSoundEffect(data.rate, data.channels, data.bytes);
+    
+  } // toSoundEffect()
+
+  // read the header of an Ogg Vorbis file and return the size of the PCM 
+  // data that it decodes to (the rate and channels are filled in too)
+  // (based on the granule position of the last page of the stream)
+  public static int readHeader(byte oggBytes[], DecodedData data) 
+                                                          throws IOException {
+    
+    // the identification header is the only packet on the first page
+    final int numSegments = (pageStart(oggBytes, 0) ? oggBytes[26] & 0xFF 
+                                                    : -1);
+    final int packet = 27 + numSegments;
+    if ( numSegments < 0 || oggBytes.length < packet + 16 ||
+         oggBytes[packet] != 1 || oggBytes[packet+1] != 'v' ) {
+      throw new IOException("input does not appear to be an Ogg bitstream");
+    }
+    data.channels = oggBytes[packet+11] & 0xFF;
+    data.rate = (int)littleEndian(oggBytes, packet+12, 4);
+    
+    // the last page holds the total number of frames
+    for ( int index = oggBytes.length - 27 ; index > 0 ; index-- ) {
+      if ( pageStart(oggBytes, index) ) {
+        final long numFrames = littleEndian(oggBytes, index+6, 8);
+        final long numBytes = 2*data.channels*numFrames;
+        return (int)Math.min(numBytes, Integer.MAX_VALUE);
+      }
+    }
+    throw new IOException("Ogg bitstream has no end");
+    
+  } // readHeader()
+  
+  // whether an Ogg page starts at the specified position
+  private static boolean pageStart(byte bytes[], int index) {
+    
+    return ( index + 27 <= bytes.length &&
+             bytes[index]   == 'O' && bytes[index+1] == 'g' &&
+             bytes[index+2] == 'g' && bytes[index+3] == 'S' );
+    
+  } // pageStart()
+  
+  // read a little-endian integer from some bytes
+  private static long littleEndian(byte bytes[], int index, int numBytes) {
+    
+    long val = 0;
+    for ( int k = numBytes-1 ; k >= 0 ; k-- ) {
+      val = (val << 8) | (bytes[index+k] & 0xFF);
+    }
+    return val;
+    
+  } // littleEndian()
+  
+  // the format of decoded data
+  private static AudioFormat pcmFormat(int sampleRate, int numChannels) {
+  
+    int     bitsPerSample = 16;
+    boolean isSigned      = true,
+            isBigEndian   = false;
+    return new AudioFormat((float)sampleRate, bitsPerSample,
+                           numChannels, isSigned, isBigEndian);
+    
+  } // pcmFormat()
+
   // create a Clip from an array of bytes in 16-bit signed PCM format
   private static Clip newClip(int    sampleRate, 
                               int    numChannels,
@@ -80,11 +190,7 @@ public class OggDecode {
                                             byte[] pcmBytes) 
                                            throws IOException {
 
-    int     bitsPerSample = 16;
-    boolean isSigned      = true,
-            isBigEndian   = false;
-    AudioFormat format = new AudioFormat((float)sampleRate, bitsPerSample,
-                                         numChannels, isSigned, isBigEndian);
+    AudioFormat format = pcmFormat(sampleRate, numChannels);
 
     SoundEffect se = new SoundEffect(format, pcmBytes);
   
@@ -104,6 +210,13 @@ public class OggDecode {
     
   } // decodeOggStream()
   
+  // prepare to decode Ogg Vorbis data a bit at a time
+  public static PcmStream openPcmStream(byte oggBytes[]) throws IOException {
+    
+    throw new IOException("JOrbis library needed to decode Ogg Vorbis sound files");
+    
+  } // openPcmStream()
+  
 /*
   // read the input stream as Ogg Vorbis data
   private static DecodedData decodeOggStream(InputStream input) throws IOException {
@@ -125,6 +238,126 @@ public class OggDecode {
 
   } // decodeOggStream()
   
+  // prepare to decode Ogg Vorbis data a bit at a time
+  public static PcmStream openPcmStream(byte oggBytes[]) throws IOException {
+    
+    return new VorbisStream(new ByteArrayInputStream(oggBytes));
+    
+  } // openPcmStream()
+  
+  // decodes packets from an Ogg Vorbis stream as more PCM data is wanted
+  // (only the first logical bitstream is read if the stream is chained)
+  private static class VorbisStream extends PcmStream {
+    
+    // the encoded data
+    final private InputStream mInput;
+    
+    // decoder state (see decodeStream())
+    final private SyncState   mSyncState   = new SyncState();
+    final private StreamState mStreamState = new StreamState();
+    final private Page        mPage        = new Page();
+    final private Packet      mPacket      = new Packet();
+    final private Info        mInfo        = new Info();
+    final private Comment     mComment     = new Comment();
+    final private DspState    mDspState    = new DspState();
+    final private com.jcraft.jorbis.Block mBlock 
+                                   = new com.jcraft.jorbis.Block(mDspState);
+    
+    // output from the decoder
+    final private float[][][] mPcm = new float[1][][];
+    final private int         mIndices[];
+    
+    // decoded bytes not yet read
+    private byte mPending[] = new byte[kNumBytes];
+    private int  mPendingStart = 0,
+                 mPendingEnd   = 0;
+    
+    // whether the last page has been reached
+    private boolean mEnded = false;
+    
+    // constructor (reads the headers)
+    public VorbisStream(InputStream input) throws IOException {
+      
+      mInput = input;
+      mSyncState.init();
+      
+      if ( !readFirstPage(mSyncState, mPage, mInput) ) {
+        throw new IOException("Ogg bitstream is empty");
+      }
+      mStreamState.init(mPage.serialno());
+      mInfo.init();
+      mComment.init();
+      readFirstHeader(mStreamState, mPage, mPacket, mInfo, mComment);
+      readSecondaryHeaders(mSyncState, mStreamState, mPage, 
+                           mPacket, mInfo, mComment, mInput);
+      if ( kVerbose ) displayComments(mComment, mInfo);
+      
+      mDspState.synthesis_init(mInfo);
+      mBlock.init(mDspState);
+      
+      mRate = mInfo.rate;
+      mChannels = mInfo.channels;
+      mIndices = new int[mChannels];
+      
+    } // constructor
+    
+    // decode more data
+    @Override
+    public int read(byte buffer[], int offset, int length) throws IOException {
+      
+      while ( mPendingStart == mPendingEnd ) {
+        if ( !decodeMore() ) return -1;
+      }
+      
+      final int numBytes = Math.min(length, mPendingEnd - mPendingStart);
+      System.arraycopy(mPending, mPendingStart, buffer, offset, numBytes);
+      mPendingStart += numBytes;
+      return numBytes;
+      
+    } // PcmStream.read()
+    
+    // refill the pending bytes, return false at the end of the stream
+    private boolean decodeMore() throws IOException {
+      
+      while ( true ) {
+        
+        int numSamples = mDspState.synthesis_pcmout(mPcm, mIndices);
+        if ( numSamples > 0 ) {
+          final int numBytes = 2*mChannels*numSamples;
+          if ( mPending.length < numBytes ) mPending = new byte[numBytes];
+          convertData(mChannels, numSamples, mIndices, mPcm[0], mPending);
+          mDspState.synthesis_read(numSamples);
+          mPendingStart = 0;
+          mPendingEnd = numBytes;
+          return true;
+        }
+        
+        int result = mStreamState.packetout(mPacket);
+        if ( result == 1 ) {
+          if ( mBlock.synthesis(mPacket) == 0 ) {
+            mDspState.synthesis_blockin(mBlock);
+          }
+          continue;
+        }
+        if ( result == -1 ) continue; // missing or corrupt data
+        
+        if ( mEnded ) return false;
+        
+        result = mSyncState.pageout(mPage);
+        if ( result == 1 ) {
+          mStreamState.pagein(mPage);
+          if ( mPage.eos() != 0 ) mEnded = true;
+        } else if ( result == 0 ) {
+          int numBytes = readAndSubmitBytes(mSyncState, mInput, kNumBytes);
+          if ( numBytes == 0 ) mEnded = true;
+        }
+        
+      }
+      
+    } // decodeMore()
+    
+  } // class OggDecode.VorbisStream
+  
   // size of a chunk of data
   private static final int kNumBytes = 4096;
   
@@ -378,7 +611,23 @@ public class OggDecode {
                                throws IOException {
 
     byte[] outputBuffer = new byte[2*numChannels*numSamples];    
+    convertData(numChannels, numSamples, indices, pcm, outputBuffer);
     
+    try {
+      outStream.write(outputBuffer, 0, outputBuffer.length);
+    } catch ( Exception ex ) {
+      throw new IOException("error writing to result buffer (" + ex + ")");
+    }
+
+  } // writeData()
+
+  // convert the array of PCM data to bytes (16-bit signed little-endian)
+  private static void convertData(int       numChannels, 
+                                  int       numSamples, 
+                                  int[]     indices, 
+                                  float[][] pcm, 
+                                  byte[]    outputBuffer) {
+
     for ( int i = 0 ; i < numChannels ; i++ ) {
       int ptr = i*2;
       int mono = indices[i];
@@ -393,13 +642,7 @@ public class OggDecode {
       }
     }
     
-    try {
-      outStream.write(outputBuffer, 0, outputBuffer.length);
-    } catch ( Exception ex ) {
-      throw new IOException("error writing to result buffer (" + ex + ")");
-    }
-
-  } // writeData()
+  } // convertData()
 */
   
 } // class OggDecode
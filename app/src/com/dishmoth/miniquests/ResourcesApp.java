@@ -11,6 +11,8 @@ import com.dishmoth.miniquests.game.*;
 import java.awt.image.*;
 import java.io.*;
 import java.net.*;
+import java.security.MessageDigest;
+import java.util.concurrent.*;
 import javax.imageio.ImageIO;
 import javax.sound.sampled.*;
 
@@ -20,11 +22,47 @@ public class ResourcesApp implements Resources {
   // path for files
   static protected final String kRootPackageName = "data/";
   
+  // identifies a file of cached PCM data (see setSoundCache())
+  static private final int kSoundCacheMagic = 0x4D515043;
+  
+  // decoded Ogg Vorbis files, shared by all of the effects that use them
+  private final ConcurrentHashMap<String, Future<OggDecode.DecodedData>> 
+                                                               mDecodedSounds;
+  
+  // background threads for decoding sound files (created when first needed)
+  private ExecutorService mDecodeThreads = null;
+  
+  // directory for keeping decoded sound data between runs (or null)
+  private File mSoundCacheDir = null;
+  
+  // sounds that decode to more bytes than this are streamed (or -1)
+  private int mStreamingCutoff = -1;
+  
   // constructor
   public ResourcesApp() {
     
+    mDecodedSounds = new ConcurrentHashMap<String, 
+                                           Future<OggDecode.DecodedData>>();
+    
   } // constructor
   
+  // keep decoded sound data in the specified directory so that later runs
+  // can skip decoding (files are named by a hash of the original data)
+  public void setSoundCache(File dir) {
+    
+    if ( dir != null && !dir.isDirectory() && !dir.mkdirs() ) {
+      Env.debug("ResourcesApp: cannot create sound cache " + dir);
+      dir = null;
+    }
+    mSoundCacheDir = dir;
+    
+  } // setSoundCache()
+
+  // decode long sounds as they play, rather than keeping all of their 
+  // data in memory (cutoff is the decoded size in bytes, or -1 for never)
+  // (must be called before the sounds are loaded)
+  public void setStreamingCutoff(int numBytes) { mStreamingCutoff = numBytes; }
+  
   // open a stream to a resource file (return null if error)
   // (file is assumed to be within resources package)
   public InputStream openResourceStream(String fileName) {
@@ -139,9 +177,7 @@ public class ResourcesApp implements Resources {
       
       if ( fileName.endsWith(".ogg") ) {
 
-        InputStream inStream = url.openStream();
-        effect = OggDecode.toSoundEffect(inStream);
-        inStream.close();
+        effect = OggDecode.toSoundEffect(decodedSound(fileName));
 
       } else {
 
@@ -162,4 +198,194 @@ public class ResourcesApp implements Resources {
     
   } // loadSoundEffect()
   
+  // start decoding an Ogg Vorbis file in the background (unless that has
+  // already happened) so that loadSoundEffect() can pick up the results
+  public Future<OggDecode.DecodedData> prefetchSound(final String fileName) {
+    
+    Future<OggDecode.DecodedData> future = mDecodedSounds.get(fileName);
+    if ( future != null ) return future;
+    
+    FutureTask<OggDecode.DecodedData> task 
+              = new FutureTask<OggDecode.DecodedData>(
+                  new Callable<OggDecode.DecodedData>() {
+                    public OggDecode.DecodedData call() throws IOException {
+                      return decodeSound(fileName);
+                    }
+                  });
+    future = mDecodedSounds.putIfAbsent(fileName, task);
+    if ( future != null ) return future;
+    
+    decodeThreads().execute(task);
+    return task;
+    
+  } // prefetchSound()
+  
+  // discard the decoded contents of an Ogg Vorbis file
+  // (effects already made from the data keep working)
+  public void forgetSound(String fileName) { mDecodedSounds.remove(fileName); }
+  
+  // the decoded contents of an Ogg Vorbis file (waiting if necessary)
+  private OggDecode.DecodedData decodedSound(String fileName) 
+                                                          throws IOException {
+    
+    try {
+      return prefetchSound(fileName).get();
+    } catch ( ExecutionException ex ) {
+      Throwable cause = ex.getCause();
+      if ( cause instanceof IOException ) throw (IOException)cause;
+      throw new IOException(String.valueOf(cause));
+    } catch ( InterruptedException ex ) {
+      Thread.currentThread().interrupt();
+      throw new IOException("interrupted while decoding " + fileName);
+    }
+    
+  } // decodedSound()
+  
+  // thread pool for decoding sound files
+  private synchronized ExecutorService decodeThreads() {
+    
+    if ( mDecodeThreads == null ) {
+      final int numThreads = Runtime.getRuntime().availableProcessors();
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                                    numThreads, numThreads, 
+                                    1, TimeUnit.SECONDS,
+                                    new LinkedBlockingQueue<Runnable>(),
+                                    new ThreadFactory() {
+                                      public Thread newThread(Runnable r) {
+                                        Thread t = new Thread(r, "SoundDecode");
+                                        t.setDaemon(true);
+                                        return t;
+                                      }
+                                    });
+      pool.allowCoreThreadTimeOut(true);
+      mDecodeThreads = pool;
+    }
+    return mDecodeThreads;
+    
+  } // decodeThreads()
+  
+  // decode an Ogg Vorbis file (or fetch the results from the sound cache)
+  // (if the file is to be streamed, just the header is read)
+  private OggDecode.DecodedData decodeSound(String fileName) 
+                                                          throws IOException {
+    
+    byte oggBytes[] = readResource(fileName);
+    
+    if ( mStreamingCutoff >= 0 ) {
+      OggDecode.DecodedData data = new OggDecode.DecodedData();
+      if ( OggDecode.readHeader(oggBytes, data) > mStreamingCutoff ) {
+        data.oggBytes = oggBytes;
+        return data;
+      }
+    }
+    
+    File cacheFile = null;
+    if ( mSoundCacheDir != null ) {
+      cacheFile = new File(mSoundCacheDir, hashString(oggBytes) + ".pcm");
+      OggDecode.DecodedData data = readCachedSound(cacheFile);
+      if ( data != null ) return data;
+    }
+    
+    OggDecode.DecodedData data 
+              = OggDecode.toPcm(new ByteArrayInputStream(oggBytes));
+    
+    if ( cacheFile != null ) writeCachedSound(cacheFile, data);
+    return data;
+    
+  } // decodeSound()
+  
+  // the complete contents of a resource file
+  private byte[] readResource(String fileName) throws IOException {
+    
+    InputStream inStream = openResourceStream(fileName);
+    try {
+      ByteArrayOutputStream outStream = new ByteArrayOutputStream(16384);
+      byte buffer[] = new byte[16384];
+      int numBytes;
+      while ( (numBytes = inStream.read(buffer)) > 0 ) {
+        outStream.write(buffer, 0, numBytes);
+      }
+      return outStream.toByteArray();
+    } finally {
+      inStream.close();
+    }
+    
+  } // readResource()
+  
+  // hex string of the SHA-1 hash of some data
+  private static String hashString(byte data[]) throws IOException {
+    
+    byte hash[];
+    try {
+      hash = MessageDigest.getInstance("SHA-1").digest(data);
+    } catch ( Exception ex ) {
+      throw new IOException("SHA-1 not available: " + ex.getMessage());
+    }
+    
+    final String hexDigits = "0123456789abcdef";
+    StringBuilder str = new StringBuilder(2*hash.length);
+    for ( byte b : hash ) {
+      str.append( hexDigits.charAt((b >> 4) & 0xF) );
+      str.append( hexDigits.charAt(b & 0xF) );
+    }
+    return str.toString();
+    
+  } // hashString()
+  
+  // load decoded sound data from the cache (or return null)
+  private OggDecode.DecodedData readCachedSound(File file) {
+    
+    if ( !file.isFile() ) return null;
+    
+    try {
+      DataInputStream inStream = new DataInputStream(
+                                   new BufferedInputStream(
+                                     new FileInputStream(file)));
+      try {
+        if ( inStream.readInt() != kSoundCacheMagic ) return null;
+        OggDecode.DecodedData data = new OggDecode.DecodedData();
+        data.rate = inStream.readInt();
+        data.channels = inStream.readInt();
+        data.bytes = new byte[inStream.readInt()];
+        inStream.readFully(data.bytes);
+        return data;
+      } finally {
+        inStream.close();
+      }
+    } catch ( Exception ex ) {
+      Env.debug("ResourcesApp: ignoring sound cache file " + file.getName() 
+                + ": " + ex.getMessage());
+      return null;
+    }
+    
+  } // readCachedSound()
+  
+  // save decoded sound data to the cache
+  // (written to a temporary file first so that a partial file is never seen)
+  private void writeCachedSound(File file, OggDecode.DecodedData data) {
+    
+    File tempFile = new File(file.getPath() + "." 
+                             + Thread.currentThread().getId() + ".tmp");
+    try {
+      DataOutputStream outStream = new DataOutputStream(
+                                     new BufferedOutputStream(
+                                       new FileOutputStream(tempFile)));
+      try {
+        outStream.writeInt(kSoundCacheMagic);
+        outStream.writeInt(data.rate);
+        outStream.writeInt(data.channels);
+        outStream.writeInt(data.bytes.length);
+        outStream.write(data.bytes);
+      } finally {
+        outStream.close();
+      }
+      if ( !tempFile.renameTo(file) ) tempFile.delete();
+    } catch ( Exception ex ) {
+      Env.debug("ResourcesApp: could not write sound cache file " 
+                + file.getName() + ": " + ex.getMessage());
+      tempFile.delete();
+    }
+    
+  } // writeCachedSound()
+  
 } // class ResourcesApp
@@ -14,6 +14,8 @@ import javax.sound.sampled.*;
 import com.dishmoth.miniquests.game.Env;
 
 // a single sound effect that tries to limit the number of open Clips
+// (if possible, effects made from PCM data are played through a shared
+// SoundMixer instead, which avoids opening Clips altogether)
 public class SoundEffect implements LineListener {
 
   // the source data for a Clip (if both are null then mClip must be defined)
@@ -26,6 +28,18 @@ public class SoundEffect implements LineListener {
   // the current clip (null if one needs to be generated)
   private Clip mClip;
 
+  // the data prepared for the mixer (null if Clips are used)
+  private SoundMixer.Sound mMixerSound;
+  
+  // whether the mixer has been told to loop this effect
+  private boolean mMixerLooping;
+  
+  // whether to try the software mixer before falling back on Clips
+  static private boolean kUseMixer = true;
+  
+  // the software mixer (or null if not in use)
+  static private SoundMixer kMixer = null;
+
   // details of the sound mixer being used
   static private Mixer.Info kMixerInfo = null;
 
@@ -36,10 +50,27 @@ public class SoundEffect implements LineListener {
   static private int     kMaxDeadClips         = 16;
   static private boolean kMaxClipsUnrestricted = false;
   
+  // choose whether sound effects go through a SoundMixer (true by default)
+  // (must be called before any effects are created)
+  static public void useMixer(boolean val) { kUseMixer = val; }
+  
+  // the software mixer (or null if Clips are being used)
+  static public SoundMixer mixer() { return kMixer; }
+  
   // check which mixer we are using and how many Clips it supports
   static private void initialize(AudioFormat format) throws IOException {
 
-    if ( kMixerInfo != null ) return;
+    if ( kMixerInfo != null || kMixer != null ) return;
+
+    if ( kUseMixer ) {
+      try {
+        kMixer = SoundMixer.open();
+        return;
+      } catch ( IOException ex ) {
+        Env.debug(ex.getMessage() + "; using Clips instead");
+        kUseMixer = false;
+      }
+    }
 
     Mixer.Info mixerInfo[] = AudioSystem.getMixerInfo();
     if ( mixerInfo.length == 0 ) {
@@ -94,6 +125,8 @@ public class SoundEffect implements LineListener {
     mData = null;
     mClip = clip;
     mLooped = false;
+    mMixerSound = null;
+    mMixerLooping = false;
     
   } // constructor (Clip)
   
@@ -109,15 +142,60 @@ public class SoundEffect implements LineListener {
     mData = pcmData;
     mClip = null;
     mLooped = false;
+    mMixerSound = null;
+    mMixerLooping = false;
+
+    if ( kMixer != null ) {
+      try {
+        mMixerSound = kMixer.newSound(format, pcmData);
+      } catch ( IOException ex ) {
+        Env.debug(ex.getMessage());
+      }
+    }
 
   } // constructor (bytes)
 
+  // constructor for a sound that the mixer decodes as it plays
+  private SoundEffect(SoundMixer.Sound mixerSound) {
+    
+    mFormat = null;
+    mData = null;
+    mClip = null;
+    mLooped = false;
+    mMixerSound = mixerSound;
+    mMixerLooping = false;
+    
+  } // constructor (streamed)
+  
+  // create an effect that streams Ogg Vorbis data (format is that of the
+  // decoded data), or return null if streaming is not possible (no mixer)
+  static public SoundEffect newStreamed(AudioFormat format, 
+                                        byte oggData[]) throws IOException {
+    
+    assert( oggData != null && format != null );
+    
+    initialize(format);
+    if ( kMixer == null ) return null;
+    return new SoundEffect(kMixer.newStreamedSound(format, oggData));
+    
+  } // newStreamed()
+
   // set the effect to loop forever when played
   public void setLooped(boolean val) { mLooped = val; }
   
   // start (or restart) the sound effect playing
   public void play() {
 
+    if ( mMixerSound != null ) {
+      if ( !mLooped ) {
+        kMixer.play(mMixerSound);
+      } else if ( !mMixerLooping ) {
+        kMixer.loop(mMixerSound);
+        mMixerLooping = true;
+      }
+      return;
+    }
+    
     if ( mClip == null ) {
     
       // create a new Clip from source data
@@ -166,6 +244,12 @@ public class SoundEffect implements LineListener {
   // stop the sound playing (in particular, looping)
   public void stop() {
     
+    if ( mMixerSound != null ) {
+      if ( !mLooped || mMixerLooping ) kMixer.stop(mMixerSound);
+      mMixerLooping = false;
+      return;
+    }
+    
     if ( mClip == null ) return;
     if ( mLooped && mClip.isRunning() ) {
       mClip.loop(0);
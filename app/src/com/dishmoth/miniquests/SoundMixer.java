@@ -0,0 +1,511 @@
+/*
+ *  SoundMixer.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.sound.sampled.*;
+
+import com.dishmoth.miniquests.game.Env;
+
+// mixes all of the sound effects into a single audio line
+// (the game thread posts commands to a lock-free queue, and a separate 
+// audio thread picks them up and mixes the voices from the shared PCM data)
+public class SoundMixer implements Runnable {
+
+  // output format (16-bit signed little-endian stereo)
+  private static final float kSampleRate    = 44100.0f;
+  private static final int   kNumChannels   = 2,
+                             kBytesPerFrame = 4;
+  
+  // number of frames mixed at a time, and number buffered by the line
+  private static final int kBlockFrames  = 512,
+                           kBufferFrames = 4*kBlockFrames;
+  
+  // maximum number of sounds playing at once
+  private static final int kMaxVoices = 16;
+  
+  // size of the buffer holding decoded data for a streamed sound
+  // (enough for a few blocks at the highest likely sample rate)
+  private static final int kRingFrames = 4096;
+  
+  // types of command
+  private static final int kPlay = 0,
+                           kLoop = 1,
+                           kStop = 2;
+  
+  // PCM data for a sound effect, ready for mixing
+  // (or Ogg Vorbis data, for a sound that is decoded as it plays)
+  public static class Sound {
+    
+    // source data (16-bit signed little-endian, shared, not changed)
+    // (null if the sound is streamed)
+    final private byte mData[];
+    
+    // encoded data for a streamed sound (or null)
+    final private byte mOggData[];
+    
+    // source format (number of frames is unknown if the sound is streamed)
+    final private int mNumChannels,
+                      mNumFrames;
+    
+    // source frames per output frame (16.16 fixed point)
+    final private long mStep;
+    
+    // constructor
+    private Sound(byte data[], byte oggData[], 
+                  int numChannels, float sampleRate) {
+      
+      mData = data;
+      mOggData = oggData;
+      mNumChannels = numChannels;
+      mNumFrames = ( data != null ) ? data.length/(2*numChannels) : -1;
+      mStep = Math.round( 65536.0*sampleRate/kSampleRate );
+      
+    } // constructor
+    
+  } // class SoundMixer.Sound
+  
+  // an instruction from the game thread
+  private static class Command {
+    
+    final private int   mType;
+    final private Sound mSound;
+    final private long  mNanos;
+    
+    // constructor
+    private Command(int type, Sound sound) {
+      
+      mType = type;
+      mSound = sound;
+      mNanos = System.nanoTime();
+      
+    } // constructor
+    
+  } // class SoundMixer.Command
+  
+  // a sound that is playing (or not, if the sound is null)
+  private static class Voice {
+    
+    private Sound   mSound   = null;
+    private long    mPos     = 0;     // source frame (16.16 fixed point)
+    private boolean mLooped  = false;
+    
+    // for streamed sounds, the decoder and a ring buffer of decoded data
+    // (the position is then relative to the start of the buffered data)
+    private OggDecode.PcmStream mStream = null;
+    private byte                mRing[] = null;
+    private int                 mRingStart,
+                                mRingFill;
+    
+  } // class SoundMixer.Voice
+  
+  // the output line
+  final private SourceDataLine mLine;
+  
+  // commands waiting for the audio thread
+  final private ConcurrentLinkedQueue<Command> mCommands;
+  
+  // voices (only touched by the audio thread)
+  final private Voice mVoices[];
+  
+  // statistics (written by the audio thread, read by anyone)
+  private volatile long mLatencyNanos    = 0,
+                        mMaxLatencyNanos = 0;
+  private volatile int  mNumUnderruns    = 0,
+                        mNumStolenVoices = 0;
+  
+  // open the audio line and start the audio thread
+  public static SoundMixer open() throws IOException {
+    
+    AudioFormat format = new AudioFormat(kSampleRate, 16, kNumChannels, 
+                                         true, false);
+    SourceDataLine line = null;
+    try {
+      line = AudioSystem.getSourceDataLine(format);
+      line.open(format, kBufferFrames*kBytesPerFrame);
+    } catch ( Exception ex ) {
+      throw new IOException("SoundMixer: could not open audio line (" 
+                            + ex.getMessage() + ")");
+    }
+    
+    SoundMixer mixer = new SoundMixer(line);
+    Thread thread = new Thread(mixer, "SoundMixer");
+    thread.setDaemon(true);
+    thread.setPriority(Thread.MAX_PRIORITY);
+    thread.start();
+    
+    Env.debug("SoundMixer: " + line.getFormat() + ", buffer " 
+              + line.getBufferSize()/kBytesPerFrame + " frames");
+    return mixer;
+    
+  } // open()
+  
+  // constructor
+  private SoundMixer(SourceDataLine line) {
+    
+    mLine = line;
+    mCommands = new ConcurrentLinkedQueue<Command>();
+    mVoices = new Voice[kMaxVoices];
+    for ( int k = 0 ; k < kMaxVoices ; k++ ) mVoices[k] = new Voice();
+    
+  } // constructor
+  
+  // prepare PCM data for mixing (must be 16-bit signed little-endian)
+  public Sound newSound(AudioFormat format, byte data[]) throws IOException {
+    
+    if ( format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED ||
+         format.getSampleSizeInBits() != 16 || format.isBigEndian() ||
+         format.getChannels() < 1 || format.getChannels() > 2 ) {
+      throw new IOException("SoundMixer: unsupported format " + format);
+    }
+    return new Sound(data, null, format.getChannels(), 
+                     format.getSampleRate());
+    
+  } // newSound()
+  
+  // prepare Ogg Vorbis data to be decoded while it plays
+  // (the format is what the data decodes to)
+  public Sound newStreamedSound(AudioFormat format, byte oggData[]) 
+                                                          throws IOException {
+    
+    if ( format.getChannels() < 1 || format.getChannels() > 2 ) {
+      throw new IOException("SoundMixer: unsupported format " + format);
+    }
+    return new Sound(null, oggData, format.getChannels(), 
+                     format.getSampleRate());
+    
+  } // newStreamedSound()
+  
+  // start a sound playing (alongside any other copies of it)
+  public void play(Sound sound) { mCommands.add(new Command(kPlay, sound)); }
+  
+  // start a sound looping (unless it is looping already)
+  public void loop(Sound sound) { mCommands.add(new Command(kLoop, sound)); }
+  
+  // stop all copies of a sound
+  public void stop(Sound sound) { mCommands.add(new Command(kStop, sound)); }
+  
+  // delay between the most recent command and its sound being heard 
+  public long latencyNanos() { return mLatencyNanos; }
+  
+  // worst delay so far between a command and its sound being heard
+  public long maxLatencyNanos() { return mMaxLatencyNanos; }
+  
+  // number of times the audio line has run out of data
+  public int numUnderruns() { return mNumUnderruns; }
+  
+  // number of sounds cut short to make room for new ones
+  public int numStolenVoices() { return mNumStolenVoices; }
+  
+  // summary of the statistics
+  @Override
+  public String toString() {
+    
+    return ("SoundMixer: latency " 
+            + (mLatencyNanos/1000000) + "ms (max " 
+            + (mMaxLatencyNanos/1000000) + "ms), underruns " 
+            + mNumUnderruns + ", stolen voices " + mNumStolenVoices);
+    
+  } // Object.toString()
+  
+  // the audio thread
+  public void run() {
+    
+    final int mix[] = new int[kBlockFrames*kNumChannels];
+    final byte out[] = new byte[kBlockFrames*kBytesPerFrame];
+    final int bufferSize = mLine.getBufferSize();
+    boolean started = false;
+    
+    mLine.start();
+    
+    while ( true ) {
+      
+      processCommands();
+      
+      Arrays.fill(mix, 0);
+      for ( Voice voice : mVoices ) {
+        if ( voice.mSound == null ) continue;
+        if ( voice.mStream != null ) mixStreamedVoice(voice, mix);
+        else                         mixVoice(voice, mix);
+      }
+      
+      for ( int k = 0, j = 0 ; k < mix.length ; k++, j += 2 ) {
+        final int val = Math.max(-32768, Math.min(32767, mix[k]));
+        out[j]   = (byte)val;
+        out[j+1] = (byte)(val >> 8);
+      }
+      
+      if ( started && mLine.available() >= bufferSize ) mNumUnderruns++;
+      started = true;
+      
+      mLine.write(out, 0, out.length);
+      
+    }
+    
+  } // Runnable.run()
+  
+  // act on commands from the game thread
+  private void processCommands() {
+    
+    Command command;
+    while ( (command = mCommands.poll()) != null ) {
+      
+      if ( command.mType == kStop ) {
+        for ( Voice voice : mVoices ) {
+          if ( voice.mSound == command.mSound ) endVoice(voice);
+        }
+        continue;
+      }
+      
+      final boolean looped = ( command.mType == kLoop );
+      if ( looped && findLoop(command.mSound) ) continue;
+      
+      Voice voice = freeVoice();
+      if ( voice == null ) continue;
+      if ( !startVoice(voice, command.mSound, looped) ) continue;
+      
+      final int bufferedFrames = (mLine.getBufferSize() - mLine.available())
+                                 / kBytesPerFrame;
+      final long latency = (System.nanoTime() - command.mNanos)
+                           + (long)(bufferedFrames*1.0e9/kSampleRate);
+      mLatencyNanos = latency;
+      if ( latency > mMaxLatencyNanos ) mMaxLatencyNanos = latency;
+      
+    }
+    
+  } // processCommands()
+  
+  // set a voice playing a sound (false if a streamed sound fails to open)
+  private static boolean startVoice(Voice voice, Sound sound, 
+                                    boolean looped) {
+    
+    endVoice(voice);
+    
+    if ( sound.mOggData != null ) {
+      try {
+        voice.mStream = OggDecode.openPcmStream(sound.mOggData);
+      } catch ( IOException ex ) {
+        Env.debug("SoundMixer: " + ex.getMessage());
+        return false;
+      }
+      if ( voice.mRing == null ) {
+        voice.mRing = new byte[kRingFrames*kBytesPerFrame];
+      }
+      voice.mRingStart = voice.mRingFill = 0;
+    }
+    
+    voice.mSound = sound;
+    voice.mPos = 0;
+    voice.mLooped = looped;
+    return true;
+    
+  } // startVoice()
+  
+  // stop a voice playing (the ring buffer is kept for reuse)
+  private static void endVoice(Voice voice) {
+    
+    voice.mSound = null;
+    voice.mStream = null;
+    
+  } // endVoice()
+  
+  // whether the sound is already looping
+  private boolean findLoop(Sound sound) {
+    
+    for ( Voice voice : mVoices ) {
+      if ( voice.mSound == sound && voice.mLooped ) return true;
+    }
+    return false;
+    
+  } // findLoop()
+  
+  // an unused voice, or else the non-looped voice that is nearest to 
+  // finishing (or null if all voices are looping)
+  private Voice freeVoice() {
+    
+    Voice oldest = null;
+    float oldestProgress = -1.0f;
+    for ( Voice voice : mVoices ) {
+      if ( voice.mSound == null ) return voice;
+      if ( voice.mLooped ) continue;
+      final float progress = ( voice.mStream != null ) ? 0.0f
+                             : (voice.mPos >> 16)
+                               / (float)voice.mSound.mNumFrames;
+      if ( progress > oldestProgress ) {
+        oldest = voice;
+        oldestProgress = progress;
+      }
+    }
+    if ( oldest != null ) mNumStolenVoices++;
+    return oldest;
+    
+  } // freeVoice()
+  
+  // add one block of a voice to the mix (linear interpolation between 
+  // source frames, and mono sounds are copied to both output channels)
+  private static void mixVoice(Voice voice, int mix[]) {
+    
+    final Sound   sound     = voice.mSound;
+    final byte    data[]    = sound.mData;
+    final int     numFrames = sound.mNumFrames;
+    final boolean stereo    = ( sound.mNumChannels == 2 );
+    final boolean looped    = voice.mLooped;
+    long pos = voice.mPos;
+    
+    for ( int k = 0 ; k < mix.length ; k += 2 ) {
+      
+      int index = (int)(pos >> 16);
+      if ( index >= numFrames ) {
+        if ( !looped || numFrames == 0 ) {
+          endVoice(voice);
+          return;
+        }
+        pos -= ((long)numFrames << 16);
+        index -= numFrames;
+      }
+      int next = index + 1;
+      if ( next >= numFrames ) next = ( looped ? 0 : index );
+      final int frac = (int)(pos & 0xFFFF) >> 1; // 15 bits to avoid overflow
+      
+      if ( stereo ) {
+        final int l0 = sample(data, 2*index),
+                  l1 = sample(data, 2*next),
+                  r0 = sample(data, 2*index+1),
+                  r1 = sample(data, 2*next+1);
+        mix[k]   += l0 + (((l1 - l0)*frac) >> 15);
+        mix[k+1] += r0 + (((r1 - r0)*frac) >> 15);
+      } else {
+        final int s0 = sample(data, index),
+                  s1 = sample(data, next);
+        final int s = s0 + (((s1 - s0)*frac) >> 15);
+        mix[k]   += s;
+        mix[k+1] += s;
+      }
+      
+      pos += sound.mStep;
+      
+    }
+    
+    voice.mPos = pos;
+    
+  } // mixVoice()
+  
+  // add one block of a streamed voice to the mix (as for mixVoice(), 
+  // except that data comes from the voice's ring buffer which is topped up 
+  // from the decoder first)
+  private static void mixStreamedVoice(Voice voice, int mix[]) {
+    
+    if ( !fillRing(voice) ) {
+      endVoice(voice);
+      return;
+    }
+    
+    final Sound   sound       = voice.mSound;
+    final byte    ring[]      = voice.mRing;
+    final int     ringSize    = ring.length,
+                  ringStart   = voice.mRingStart;
+    final int     frameBytes  = 2*sound.mNumChannels;
+    final int     numFrames   = voice.mRingFill/frameBytes;
+    final boolean stereo      = ( sound.mNumChannels == 2 );
+    long pos = voice.mPos;
+    
+    for ( int k = 0 ; k < mix.length ; k += 2 ) {
+      
+      final int index = (int)(pos >> 16);
+      if ( index >= numFrames ) {
+        if ( voice.mStream == null ) { // no more data to come
+          endVoice(voice);
+          return;
+        }
+        break; // decoder is lagging (should not happen)
+      }
+      final int next = Math.min(index+1, numFrames-1);
+      final int frac = (int)(pos & 0xFFFF) >> 1;
+      
+      final int i0 = (ringStart + index*frameBytes) % ringSize,
+                i1 = (ringStart + next*frameBytes) % ringSize;
+      final int s0 = sampleAt(ring, i0),
+                s1 = sampleAt(ring, i1);
+      final int s = s0 + (((s1 - s0)*frac) >> 15);
+      if ( stereo ) {
+        final int r0 = sampleAt(ring, i0+2),
+                  r1 = sampleAt(ring, i1+2);
+        mix[k]   += s;
+        mix[k+1] += r0 + (((r1 - r0)*frac) >> 15);
+      } else {
+        mix[k]   += s;
+        mix[k+1] += s;
+      }
+      
+      pos += sound.mStep;
+      
+    }
+    
+    // discard the frames that have been used
+    final int used = Math.min((int)(pos >> 16), numFrames);
+    voice.mRingStart = (ringStart + used*frameBytes) % ringSize;
+    voice.mRingFill -= used*frameBytes;
+    voice.mPos = pos - ((long)used << 16);
+    
+  } // mixStreamedVoice()
+  
+  // decode data into a voice's ring buffer until it is full or the stream
+  // ends (a looped stream restarts, a finished stream is set to null)
+  // (returns false if there is an error or no data left)
+  private static boolean fillRing(Voice voice) {
+    
+    final byte ring[]   = voice.mRing;
+    final int  ringSize = ring.length;
+    boolean restarted = false;
+    
+    try {
+      while ( voice.mStream != null && voice.mRingFill < ringSize ) {
+        final int end = (voice.mRingStart + voice.mRingFill) % ringSize;
+        final int space = ( end >= voice.mRingStart ) 
+                          ? ringSize - end
+                          : voice.mRingStart - end;
+        final int numBytes = voice.mStream.read(ring, end, space);
+        if ( numBytes > 0 ) {
+          voice.mRingFill += numBytes;
+          restarted = false;
+        } else if ( numBytes < 0 ) {
+          final boolean restart = ( voice.mLooped && !restarted );
+          voice.mStream = ( restart 
+                            ? OggDecode.openPcmStream(voice.mSound.mOggData)
+                            : null );
+          restarted = true;
+        } else {
+          break;
+        }
+      }
+    } catch ( IOException ex ) {
+      Env.debug("SoundMixer: " + ex.getMessage());
+      return false;
+    }
+    return ( voice.mRingFill > 0 );
+    
+  } // fillRing()
+  
+  // value of a 16-bit little-endian sample in a ring buffer
+  // (a frame is never split by the end of the buffer since the buffer 
+  // length is a multiple of the frame size)
+  private static int sampleAt(byte ring[], int index) {
+    
+    return ( (ring[index] & 0xFF) | (ring[index+1] << 8) );
+    
+  } // sampleAt()
+  
+  // value of a 16-bit little-endian sample
+  private static int sample(byte data[], int index) {
+    
+    return ( (data[2*index] & 0xFF) | (data[2*index+1] << 8) );
+    
+  } // sample()
+  
+} // class SoundMixer
@@ -20,6 +20,9 @@ public class SoundsApp extends Sounds {
   // index of the next version of a sound effect to play (usually zero)
   private int mNextVersion[];
   
+  // files for sounds that are still being decoded in the background
+  private String mPendingFiles[];
+  
   // constructor
   public SoundsApp() {
 
@@ -27,10 +30,13 @@ public class SoundsApp extends Sounds {
 
     mSounds = new SoundEffect[kNumSounds][];
     mNextVersion = new int[kNumSounds];
+    mPendingFiles = new String[kNumSounds];
     
   } // constructor
   
   // prepare a sound resource
+  // (ogg files are decoded in the background, and the sound is completed
+  // by finishSound() once all of the sounds have been started)
   @Override
   protected void loadSound(int id, String fileName, int numVersions) {
     
@@ -42,6 +48,22 @@ public class SoundsApp extends Sounds {
     mSounds[id] = new SoundEffect[numVersions];
     mNextVersion[id] = 0;
     
+    if ( fileName.endsWith(".ogg") ) {
+      ResourcesApp resources = (ResourcesApp)Env.resources();
+      resources.prefetchSound(fileName);
+      mPendingFiles[id] = fileName;
+    } else {
+      finishSound(id, fileName);
+    }
+    
+  } // Sounds.loadSound()
+
+  // create the versions of a sound effect
+  // (all versions share the same decoded data)
+  private void finishSound(int id, String fileName) {
+    
+    final int numVersions = mSounds[id].length;
+    
     ResourcesApp resources = (ResourcesApp)Env.resources();
     try {
 
@@ -62,16 +84,23 @@ public class SoundsApp extends Sounds {
       mSounds[id][0].setLooped(true);
     }
       
-  } // Sounds.loadSound()
+  } // finishSound()
 
   // check that all sounds have loaded
   @Override
   protected void checkSounds() {
 
+    for ( int id = 0 ; id < kNumSounds ; id++ ) {
+      if ( mPendingFiles[id] != null ) {
+        finishSound(id, mPendingFiles[id]);
+        mPendingFiles[id] = null;
+      }
+    }
+    
     mAvailable = true;
     
     for ( int id = 0 ; id < kNumSounds ; id++ ) {
-      if ( mSounds[id] == null ) {
+      if ( isLoaded(id) && mSounds[id] == null ) {
         mAvailable = false;
         return;
       }
@@ -87,6 +116,31 @@ public class SoundsApp extends Sounds {
       
   } // Sounds.checkSound()
 
+  // discard a sound resource (and its decoded data)
+  @Override
+  protected void unloadSound(int id, String fileName) {
+    
+    mSounds[id] = null;
+    mPendingFiles[id] = null;
+    
+    ResourcesApp resources = (ResourcesApp)Env.resources();
+    resources.forgetSound(fileName);
+    
+  } // Sounds.unloadSound()
+
+  // make sure a sound is ready to play (loading it if necessary)
+  // (returns false if the sound is not available)
+  private boolean ready(int id) {
+    
+    resolve(id);
+    if ( mPendingFiles[id] != null ) {
+      finishSound(id, mPendingFiles[id]);
+      mPendingFiles[id] = null;
+    }
+    return ( mSounds[id] != null );
+    
+  } // ready()
+
   // play a sound effect
   @Override
   public void play(int id) {
@@ -95,6 +149,7 @@ public class SoundsApp extends Sounds {
     
     assert( id >= 0 && id < kNumSounds );
     assert( !isLooped(id) );
+    if ( !ready(id) ) return;
     
     int version = mNextVersion[id];
     mSounds[id][version].play();
@@ -111,6 +166,7 @@ public class SoundsApp extends Sounds {
     
     assert( id >= 0 && id < kNumSounds );
     assert( isLooped(id) );
+    if ( !ready(id) ) return;
     
     mSounds[id][0].play();
         
@@ -124,6 +180,7 @@ public class SoundsApp extends Sounds {
     
     assert( id >= 0 && id < kNumSounds );
     assert( isLooped(id) );
+    if ( mSounds[id] == null || mPendingFiles[id] != null ) return;
     
     mSounds[id][0].stop();
     
@@ -7,6 +7,7 @@
 package com.dishmoth.miniquests;
 
 import com.dishmoth.miniquests.game.Env;
+import com.dishmoth.miniquests.game.Telemetry;
 
 
 // class for controlling frame rate
@@ -22,9 +23,6 @@ public class TimingControl {
   // game loop must yield to other threads eventually
   static private final int kMaxTicksWithoutYield = 10;
   
-  // number of seconds between progress reports on the console (0 to disable)
-  static private final long kReportProgressInterval = 10;
-  
   // don't collect stats until performance has settled down
   static private final int kNoStatsForEarlyTicks = 1*30;
   
@@ -37,10 +35,6 @@ public class TimingControl {
   private long[] mTickHistory      = null;
   private int    mTickHistoryIndex = 0;
   
-  // timing statistics
-  private TimingStats mTotalStats = null,
-                      mLocalStats = null;
-  
   // number of times we have skimped on yield
   private int mNumTicksWithoutYield;
   
@@ -50,8 +44,6 @@ public class TimingControl {
   // number of frames before stats start
   private int mSkipEarlyStats;
 
-  // time to display next report
-  private long mNextUpdateTime;  
   
   // time of previous tick
   private long mPrevTickNanos;
@@ -59,9 +51,6 @@ public class TimingControl {
   // constructor
   public TimingControl() {
     
-    mTotalStats = new TimingStats(kNanosPerTick);
-    mLocalStats = new TimingStats(kNanosPerTick);
-
     mTickHistory      = new long[kTickHistoryLength];
     mTickHistoryIndex = 0;
 
@@ -70,7 +59,10 @@ public class TimingControl {
   // display final progress report
   public void report() {
     
-    Env.debug("Overall: " + mTotalStats.toString());
+    Env.telemetry().report();
+    
+    SoundMixer mixer = SoundEffect.mixer();
+    if ( mixer != null ) Env.debug(mixer.toString());
     
   } // report()
   
@@ -83,9 +75,6 @@ public class TimingControl {
     mPrevTickNanos = System.nanoTime();
     prepareTickHistory(mPrevTickNanos);
 
-    mNextUpdateTime = mPrevTickNanos + kReportProgressInterval*1000000000;
-    mLocalStats.clear();
-
     mSkipEarlyStats = kNoStatsForEarlyTicks;
     
   } // reset()
@@ -104,15 +93,11 @@ public class TimingControl {
     if ( mSkipEarlyStats > 0 ) {
       mSkipEarlyStats--;
     } else {
-      updateProgress(newTickNanos - mPrevTickNanos,
+      updateProgress(newTickNanos,
+                     newTickNanos - mPrevTickNanos,
                      nanosAfterAdvance - mPrevTickNanos,
                      nanosAfterDraw - nanosAfterAdvance,
                      tickHasOverrun, tickSkipsDraw);
-      if ( kReportProgressInterval >= 0 && newTickNanos > mNextUpdateTime ) {
-        Env.debug(mLocalStats.toString());
-        mLocalStats.clear();
-        mNextUpdateTime = newTickNanos + kReportProgressInterval*1000000000;
-      }
     }
     mPrevTickNanos = newTickNanos;
 
@@ -197,17 +182,20 @@ public class TimingControl {
     
   } // gameRunningSlow()
   
-  // update the running statistics and the overall statistics
-  private void updateProgress(long    nanosInTick,
+  // pass the timings for the tick on to the game's statistics
+  private void updateProgress(long    currentNanos,
+                              long    nanosInTick,
                               long    nanosInAdvance,
                               long    nanosInDraw,
                               boolean tickHasOverrun,
                               boolean tickSkipsDraw) {
     
-    mTotalStats.update(nanosInTick, nanosInAdvance, 
-                       nanosInDraw, tickHasOverrun, tickSkipsDraw);
-    mLocalStats.update(nanosInTick, nanosInAdvance, 
-                       nanosInDraw, tickHasOverrun, tickSkipsDraw);
+    // (draw and upload times are recorded by MainWindow)
+    Telemetry telemetry = Env.telemetry();
+    telemetry.record(Telemetry.FRAME, nanosInTick);
+    telemetry.record(Telemetry.ADVANCE, nanosInAdvance);
+    if ( tickHasOverrun ) telemetry.overrun();
+    telemetry.frame(1, !tickSkipsDraw, currentNanos);
     
   } // updateProgress()
   
@@ -0,0 +1,95 @@
+/*
+ *  BenchmarkEnv.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.net.URL;
+import javax.imageio.ImageIO;
+
+// minimal Env set-up for the benchmarks (no display, audio or input)
+// (the random numbers are seeded so that every run sees the same game)
+public class BenchmarkEnv {
+
+  // fixed seed for the random numbers
+  static public final long kSeed = 1;
+  
+  // whether Env has been set up yet
+  static private boolean kInitialized = false;
+  
+  // prepare Env (repeated calls just reset the random numbers)
+  static public void initialize() {
+    
+    if ( !kInitialized ) {
+      Env.initialize(new Bits(), new ImageLoader(), new Silence());
+      Env.addKeyMonitor(new NoKeys());
+      kInitialized = true;
+    }
+    Env.setRandomSeed(kSeed);
+    
+  } // initialize()
+
+  // platform bits that do nothing
+  static private class Bits implements EnvBits {
+    public void initialize() {}
+    public void debug(String message) {}
+    public Env.Platform platform() { return Env.Platform.HEADLESS; }
+    public void exit() {}
+    public void save(byte data[]) {}
+    public void flushSave() {}
+    public byte[] load() { return null; }
+    public void report(String address, String message) {}
+  } // class BenchmarkEnv.Bits
+  
+  // images read from the assets folder
+  static private class ImageLoader implements Resources {
+    public EgaImage loadEgaImage(String resourceName) {
+      BufferedImage image = null;
+      try {
+        URL url = BenchmarkEnv.class.getClassLoader()
+                                    .getResource("data/" + resourceName);
+        InputStream in = url.openStream();
+        image = ImageIO.read(in);
+        in.close();
+      } catch ( Exception ex ) {
+        throw new RuntimeException("BenchmarkEnv: could not read " 
+                                   + resourceName + ": " + ex);
+      }
+      final int width = image.getWidth(),
+                height = image.getHeight();
+      byte pixels[] = new byte[width*height];
+      for ( int k = 0 ; k < pixels.length ; k++ ) {
+        pixels[k] = (byte)EgaTools.argbToEga(image.getRGB(k%width, k/width));
+      }
+      return new EgaImage(0, 0, width, height, pixels, 0.0f);
+    }
+  } // class BenchmarkEnv.ImageLoader
+  
+  // sounds that are never heard
+  static private class Silence extends Sounds {
+    protected void loadSound(int id, String fileName, int numVersions) {}
+    protected void checkSounds() { mAvailable = false; }
+    public void play(int id) {}
+    public void loop(int id) {}
+    public void stop(int id) {}
+  } // class BenchmarkEnv.Silence
+
+  // keys that are never pressed
+  static private class NoKeys implements KeyMonitor {
+    public void reset() {}
+    public boolean up() { return false; }
+    public boolean down() { return false; }
+    public boolean left() { return false; }
+    public boolean right() { return false; }
+    public boolean fire() { return false; }
+    public boolean escape() { return false; }
+    public boolean any() { return false; }
+    public void setMode(int mode) {}
+    public void setButtonDetails(int arrowStyle, int fireStyle) {}
+  } // class BenchmarkEnv.NoKeys
+  
+} // class BenchmarkEnv
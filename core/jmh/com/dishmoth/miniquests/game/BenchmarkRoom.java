@@ -0,0 +1,107 @@
+/*
+ *  BenchmarkRoom.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.util.LinkedList;
+
+// a single room of a quest, set up for benchmarking
+// (the player stands still at the room's first entry point)
+public class BenchmarkRoom extends Story {
+
+  // the room being run
+  private Room mRoom;
+  
+  // the game running the room
+  private GameManager mGameManager;
+  
+  // the sprites in the room (as passed to the story)
+  private SpriteManager mSpriteManager;
+  
+  // constructor (room name such as "RoomA01", ticks to run before use)
+  public BenchmarkRoom(String roomName, int numWarmUpTicks) {
+    
+    BenchmarkEnv.initialize();
+    
+    // rooms may refer to the other rooms in their quest, so create them all
+    // (named "RoomA01", "RoomA02", etc.)
+    LinkedList<Room> rooms = new LinkedList<Room>();
+    String prefix = roomName.substring(0, roomName.length()-2);
+    for ( int k = 1 ; k < 100 ; k++ ) {
+      Room room = makeRoom(prefix + (k<10 ? "0" : "") + k);
+      if ( room == null ) break;
+      rooms.add(room);
+      if ( room.name().equals(roomName.substring(4)) ) mRoom = room;
+    }
+    if ( mRoom == null ) {
+      throw new RuntimeException("BenchmarkRoom: no room " + roomName);
+    }
+    Room roomList[] = rooms.toArray(new Room[rooms.size()]);
+    for ( Room room : roomList ) room.setRoomList(roomList);
+    
+    mGameManager = new GameManager(this);
+    for ( int k = 0 ; k <= numWarmUpTicks ; k++ ) mGameManager.advance();
+    
+  } // constructor
+  
+  // create a room from its class name (or null if there is no such room)
+  static private Room makeRoom(String className) {
+    
+    try {
+      Class<?> roomClass = Class.forName("com.dishmoth.miniquests.rooms." 
+                                         + className);
+      return (Room)roomClass.getDeclaredConstructor().newInstance();
+    } catch ( ClassNotFoundException ex ) {
+      return null;
+    } catch ( Exception ex ) {
+      throw new RuntimeException("BenchmarkRoom: could not create " 
+                                 + className + ": " + ex);
+    }
+    
+  } // makeRoom()
+  
+  // access to the game
+  public GameManager gameManager() { return mGameManager; }
+
+  // set up the room on the first frame, then just let it run
+  @Override
+  public Story advance(LinkedList<StoryEvent> storyEvents,
+                       SpriteManager          spriteManager) {
+  
+    mSpriteManager = spriteManager;
+    
+    for ( StoryEvent event : storyEvents ) {
+      if ( event instanceof Story.EventGameBegins ) {
+        Camera camera = new Camera();
+        mRoom.setCamera(camera);
+        spriteManager.addSprite(camera);
+        mRoom.createSprites(spriteManager);
+        spriteManager.addSprite(mRoom.createPlayer(0));
+        storyEvents.clear();
+        return null;
+      }
+    }
+    
+    mRoom.advance(storyEvents, spriteManager);
+    storyEvents.clear();
+    return null;
+    
+  } // Story.advance()
+  
+  // all of the sprites in the room
+  public Iterable<Sprite> sprites() { return mSpriteManager.list(); }
+  
+  // find the first sprite of a given type (or null)
+  public Sprite findSprite(Class<?> spriteClass) {
+    
+    for ( Sprite s : mSpriteManager.list() ) {
+      if ( spriteClass.isInstance(s) ) return s;
+    }
+    return null;
+    
+  } // findSprite()
+  
+} // class BenchmarkRoom
@@ -0,0 +1,75 @@
+/*
+ *  EgaCanvasBenchmark.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// timings for the canvas operations that don't depend on a source image
+// (EgaCanvas.clear(), EgaImage.fill(), and the small player image)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EgaCanvasBenchmark {
+
+  // whether the drawing goes partly off the edge of the canvas
+  @Param({ "false", "true" })
+  public boolean mClipped;
+  
+  // the canvas being drawn on
+  private EgaCanvas mCanvas;
+  
+  // a player image (drawn through the normal player code)
+  private PlayerImage mPlayerImage;
+  
+  // prepare the canvas
+  @Setup(Level.Trial)
+  public void setup() {
+
+    BenchmarkEnv.initialize();
+    
+    mCanvas = new EgaCanvas(Env.screenWidth(), Env.screenHeight());
+    mPlayerImage = new PlayerImage(new char[]{ '9', '1' });
+    
+  } // setup()
+  
+  // clear the whole canvas
+  @Benchmark
+  public void clear() {
+    
+    mCanvas.clear();
+    
+  } // clear()
+  
+  // fill a rectangle ignoring depth
+  @Benchmark
+  public void fillNoDepth() {
+    
+    if ( mClipped ) mCanvas.fill(-10, 20, -10, 15, (byte)1);
+    else            mCanvas.fill(5, 35, 5, 25, (byte)1);
+    
+  } // fillNoDepth()
+  
+  // fill a rectangle with depth test
+  @Benchmark
+  public void fillDepth() {
+    
+    if ( mClipped ) mCanvas.fill(-10, 20, -10, 15, 0.0f, (byte)1);
+    else            mCanvas.fill(5, 35, 5, 25, 0.0f, (byte)1);
+    
+  } // fillDepth()
+  
+  // draw the player (small image, depth-tested)
+  @Benchmark
+  public void drawPlayer() {
+    
+    mPlayerImage.drawBasic(mCanvas, 4, 4, (mClipped ? -20 : 0), Env.RIGHT);
+    
+  } // drawPlayer()
+  
+} // class EgaCanvasBenchmark
@@ -0,0 +1,104 @@
+/*
+ *  EgaImageBenchmark.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// timings for the software rasterizer (EgaImage.draw(), fill(), etc.)
+// the source images are the real ones built by the game
+// (note: depth-tested draws repeatedly overwrite the same canvas pixels,
+// so every invocation after the first does the same amount of work)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EgaImageBenchmark {
+
+  // which image to draw
+  // "blocks"  - the largest BlockArray image in room A01
+  // "liquid"  - the Liquid image in room A02
+  // "picture" - the full-screen title picture
+  @Param({ "blocks", "liquid", "picture" })
+  public String mSource;
+  
+  // whether the image is drawn partly off the edge of the canvas
+  @Param({ "false", "true" })
+  public boolean mClipped;
+  
+  // the canvas being drawn on
+  private EgaCanvas mCanvas;
+  
+  // the image being drawn
+  private EgaImage mImage;
+  
+  // where to draw the image (pixels, relative to top-left of the canvas)
+  private int mXPos,
+              mYPos;
+  
+  // prepare the images
+  @Setup(Level.Trial)
+  public void setup() {
+
+    BenchmarkEnv.initialize();
+    
+    mCanvas = new EgaCanvas(Env.screenWidth(), Env.screenHeight());
+
+    if ( mSource.equals("blocks") ) {
+      BenchmarkRoom room = new BenchmarkRoom("RoomA01", 0);
+      for ( Sprite s : room.sprites() ) {
+        if ( !(s instanceof BlockArray) ) continue;
+        EgaImage image = ((BlockArray)s).getImage();
+        if ( mImage == null || image.width()*image.height() 
+                               > mImage.width()*mImage.height() ) {
+          mImage = image;
+        }
+      }
+    } else if ( mSource.equals("liquid") ) {
+      BenchmarkRoom room = new BenchmarkRoom("RoomA02", 0);
+      mImage = ((Liquid)room.findSprite(Liquid.class)).image();
+    } else if ( mSource.equals("picture") ) {
+      mImage = Env.resources().loadEgaImage("TitleScreen.png");
+    }
+    if ( mImage == null ) {
+      throw new RuntimeException("EgaImageBenchmark: no image " + mSource);
+    }
+
+    mXPos = mImage.refXPos();
+    mYPos = mImage.refYPos();
+    if ( mClipped ) {
+      mXPos -= mImage.width()/2;
+      mYPos += mImage.height()/2;
+    }
+    
+  } // setup()
+  
+  // depth-tested draw
+  @Benchmark
+  public void drawDepth() {
+    
+    mImage.draw(mCanvas, mXPos, mYPos, 0.0f);
+    
+  } // drawDepth()
+  
+  // draw ignoring depth
+  @Benchmark
+  public void drawNoDepth() {
+    
+    mImage.draw(mCanvas, mXPos, mYPos);
+    
+  } // drawNoDepth()
+  
+  // draw in isometric coordinates (as sprites do)
+  @Benchmark
+  public void draw3D() {
+    
+    mImage.draw3D(mCanvas, 0, 0, (mClipped ? mImage.height()/2 : 0));
+    
+  } // draw3D()
+  
+} // class EgaImageBenchmark
@@ -0,0 +1,54 @@
+/*
+ *  GameDrawBenchmark.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// timings for drawing a whole frame of the game (GameManager.draw())
+// the rooms are advanced a little first so that flames, particles, etc.
+// are in full flow, but the game is frozen while timing
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameDrawBenchmark {
+
+  // how many ticks the room runs before the timings start
+  static private final int kWarmUpTicks = 60;
+  
+  // which room to draw (start of quest A, dragon, triffid boss, 
+  // floor boss, end of quest D, snake boss)
+  @Param({ "RoomA01", "RoomA10", "RoomB13", "RoomC15", "RoomD19", "RoomE02" })
+  public String mRoomName;
+  
+  // the room
+  private BenchmarkRoom mRoom;
+  
+  // the canvas being drawn on
+  private EgaCanvas mCanvas;
+  
+  // prepare the room
+  @Setup(Level.Trial)
+  public void setup() {
+
+    mRoom = new BenchmarkRoom(mRoomName, kWarmUpTicks);
+    mCanvas = new EgaCanvas(Env.screenWidth(), Env.screenHeight());
+    
+  } // setup()
+  
+  // clear and draw the whole screen
+  @Benchmark
+  public EgaCanvas drawFrame() {
+    
+    mCanvas.clear();
+    mRoom.gameManager().draw(mCanvas);
+    return mCanvas;
+    
+  } // drawFrame()
+  
+} // class GameDrawBenchmark
@@ -6,22 +6,29 @@
 
 package com.dishmoth.miniquests;
 
+import java.nio.ByteBuffer;
+
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Version;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.dishmoth.miniquests.game.EgaCanvas;
 import com.dishmoth.miniquests.game.EgaTools;
 import com.dishmoth.miniquests.game.Env;
+import com.dishmoth.miniquests.game.FrameBuffers;
 import com.dishmoth.miniquests.game.GameManager;
+import com.dishmoth.miniquests.game.KeySampler;
 import com.dishmoth.miniquests.game.MapStory;
 import com.dishmoth.miniquests.game.MenuStory;
 import com.dishmoth.miniquests.game.QuestStory;
+import com.dishmoth.miniquests.game.Simulation;
+import com.dishmoth.miniquests.game.Telemetry;
 import com.dishmoth.miniquests.game.TitleStory;
 import com.dishmoth.miniquests.gdx.EnvBitsGdx;
 import com.dishmoth.miniquests.gdx.KeyMonitorAndroid;
@@ -33,18 +40,70 @@ import com.dishmoth.miniquests.gdx.ScreenScaleAndroid;
 import com.dishmoth.miniquests.gdx.SoundsGdx;
 
 // libgdx application wrapper for the game
+// (usually the game advances and draws during render(), but if the launcher
+// supplies a Simulation then that advances and draws the game on its own
+// thread, and render() just displays the newest frame)
 public class MiniQuestsGame extends ApplicationAdapter {
 
+  // EGA colours as RGB bytes (three per colour)
+  private static final byte kPaletteBytes[];
+  static {
+    kPaletteBytes = new byte[3*EgaTools.NUM_EGA_COLOURS];
+    for ( int k = 0 ; k < EgaTools.NUM_EGA_COLOURS ; k++ ) {
+      final int col = EgaTools.EGA_PALETTE[k];
+      kPaletteBytes[3*k  ] = (byte)(col >> 16);
+      kPaletteBytes[3*k+1] = (byte)(col >>  8);
+      kPaletteBytes[3*k+2] = (byte)(col      );
+    }
+  }
+  
   // assorted objects
-  private GameManager mGameManager   = null;
-  private EgaCanvas   mGameScreen    = null;
-  private SpriteBatch mScreenBatch   = null;
-  private Pixmap      mScreenPixmap  = null;
-  private Texture     mScreenTexture = null;
+  private GameManager   mGameManager   = null;
+  private SoundsGdx     mSounds        = null;
+  private KeyMonitorGdx mKeyMonitor    = null;
+  private EgaCanvas     mGameScreen    = null;
+  private SpriteBatch   mScreenBatch   = null;
+  private Texture       mScreenTexture = null;
+
+  // size of the screen texture (powers of two)
+  private int mTextureWidth,
+              mTextureHeight;
+  
+  // pixel data for the screen texture (RGB bytes) and one row of it as
+  // workspace
+  private ByteBuffer mScreenBytes = null;
+  private byte       mScreenRow[] = null;
 
   // seconds since the last advance
   private double mTimeSince;
   
+  // time that the previous frame started (or zero)
+  private long mPrevFrameNanos = 0;
+  
+  // runs the game on a separate thread (or null)
+  private final Simulation mSimulation;
+  
+  // frames passed from the simulation to render() (or null)
+  private FrameBuffers mFrames = null;
+  
+  // keys passed from render() to the simulation (or null)
+  // (the input may only be read on the display thread)
+  private KeySampler mKeySampler = null;
+  
+  // constructor (the game runs during render())
+  public MiniQuestsGame() {
+    
+    this(null);
+    
+  } // constructor
+  
+  // constructor (the game runs on a separate thread if not null)
+  public MiniQuestsGame(Simulation simulation) {
+    
+    mSimulation = simulation;
+    
+  } // constructor
+  
   // called when the application is first created
   @Override
   public void create() {
@@ -59,28 +118,39 @@ public class MiniQuestsGame extends ApplicationAdapter {
       envBits.debug("ApplicationListener.create()");      
     }
 
+    // sounds are loaded as needed rather than all at start-up
+    mSounds = new SoundsGdx();
+    mSounds.setLazy(true);
+    
     Env.initialize( envBits,
                     new ResourcesGdx(),
-                    new SoundsGdx() );
+                    mSounds );
     //envBits.setPlatform( Env.Platform.ANDROID ); //!!!
     
     Env.saveState().load();
     
-    Env.addKeyMonitor( 
+    mKeyMonitor = 
           (Env.platform() == Env.Platform.ANDROID) ? new KeyMonitorAndroid()
         : (Env.platform() == Env.Platform.IOS)     ? new KeyMonitorAndroid()
         : (Env.platform() == Env.Platform.OUYA)    ? new KeyMonitorOuya()
-                                                   : new KeyMonitorDesktop() );
+                                                   : new KeyMonitorDesktop();
+    if ( mSimulation != null ) {
+      mKeySampler = new KeySampler(mKeyMonitor);
+      Env.addKeyMonitor(mKeySampler);
+    } else {
+      Env.addKeyMonitor(mKeyMonitor);
+    }
 
     if ( Env.platform() == Env.Platform.ANDROID ||
          Env.platform() == Env.Platform.IOS ||
          Env.platform() == Env.Platform.OUYA ) {
       Env.setScreenScale( new ScreenScaleAndroid(Gdx.graphics.getWidth(),
-                                                 Gdx.graphics.getHeight()) );
+                                                 Gdx.graphics.getHeight(),
+                                                 mKeyMonitor) );
     }
     
     // enable physical controllers (if any)
-    ((KeyMonitorGdx)Env.keys()).useControllers();
+    mKeyMonitor.useControllers();
     
     mGameScreen = new EgaCanvas(Env.screenWidth(), Env.screenHeight());
     
@@ -89,15 +159,28 @@ public class MiniQuestsGame extends ApplicationAdapter {
     //mGameManager = new GameManager(new TrainingStory());
     //mGameManager = new GameManager(new MapStory(-1));
     //mGameManager = new GameManager(new QuestStory(4));
+    mGameManager.useStaticLayer(true);
     mGameManager.advance();
     
     mScreenBatch = new SpriteBatch();
-    mScreenPixmap = new Pixmap(MathUtils.nextPowerOfTwo(Env.screenWidth()), 
-                               MathUtils.nextPowerOfTwo(Env.screenHeight()),
-                               Format.RGB888);
+    
+    final int bytesPerPixel = 3;
+    mTextureWidth  = MathUtils.nextPowerOfTwo(Env.screenWidth());
+    mTextureHeight = MathUtils.nextPowerOfTwo(Env.screenHeight());
+    mScreenBytes = BufferUtils.newByteBuffer(bytesPerPixel*mTextureWidth
+                                                          *mTextureHeight);
+    mScreenRow = new byte[bytesPerPixel*mTextureWidth];
 
     mTimeSince = 0.0;
     
+    if ( mSimulation != null ) {
+      mFrames = new FrameBuffers(Env.screenWidth(), Env.screenHeight());
+      mGameManager.draw(mFrames.back());
+      mFrames.publish(1);
+      mSounds.setDeferred(true);
+      mSimulation.start(mGameManager, mFrames, mKeySampler);
+    }
+    
   } // ApplicationListener.create()
 
   // called when the application is resized
@@ -115,8 +198,12 @@ public class MiniQuestsGame extends ApplicationAdapter {
   public void pause() {
 
     Env.debug("ApplicationListener.pause()");
+    stopSimulation();
+    Env.telemetry().report();
+    
+    Env.saveState().flush();
     
-    Env.saveState().save();
+    mPrevFrameNanos = 0;
     
     if ( mScreenTexture != null ) {
       mScreenTexture.dispose();
@@ -130,6 +217,10 @@ public class MiniQuestsGame extends ApplicationAdapter {
   public void resume() {
 
     Env.debug("ApplicationListener.resume()");
+    if ( mSimulation != null ) {
+      mSounds.setDeferred(true);
+      mSimulation.start(mGameManager, mFrames, mKeySampler);
+    }
     
   } // ApplicationListener.resume()
 
@@ -139,73 +230,135 @@ public class MiniQuestsGame extends ApplicationAdapter {
 
     Env.debug("ApplicationListener.dispose()");
     
+    stopSimulation();
+    Env.saveState().flush();
+    
     mScreenBatch.dispose();
-    mScreenPixmap.dispose();
     Env.dispose();
 
   } // ApplicationListener.dispose()
 
+  // halt the simulation thread (if there is one)
+  // (audio commands are then run straight away rather than queued)
+  private void stopSimulation() {
+    
+    if ( mSimulation == null ) return;
+    mSimulation.stop();
+    mSounds.setDeferred(false);
+    
+  } // stopSimulation()
+  
   // called during the game loop
   @Override
   public void render() {
 
+    final Telemetry telemetry = Env.telemetry();
+    final long frameNanos = TimeUtils.nanoTime();
+    if ( mPrevFrameNanos != 0 ) {
+      telemetry.record(Telemetry.FRAME, frameNanos - mPrevFrameNanos);
+    }
+    mPrevFrameNanos = frameNanos;
+    
+    if ( mFrames != null ) {
+      renderFrame();
+      return;
+    }
+    
     double dt = Gdx.graphics.getDeltaTime();
     dt = Math.min(dt, 0.1);
     mTimeSince += dt;
 
-    boolean screenChanged = false;
+    int numTicks = 0;
     while ( mTimeSince > 1.0/Env.ticksPerSecond() ) {
+      final long nanosBefore = TimeUtils.nanoTime();
       mGameManager.advance();
+      telemetry.record(Telemetry.ADVANCE, TimeUtils.nanoTime() - nanosBefore);
       mTimeSince -= 1.0/Env.ticksPerSecond();
-      screenChanged = true;
+      numTicks++;
     }
+    final boolean screenChanged = ( numTicks > 0 );
     
     if ( screenChanged || mScreenTexture == null ) {
+      final long nanosBeforeDraw = TimeUtils.nanoTime();
       mGameScreen.clear();
       mGameManager.draw(mGameScreen);
-      drawScreenToTexture();
+      final long nanosAfterDraw = TimeUtils.nanoTime();
+      drawScreenToTexture(mGameScreen);
+      telemetry.record(Telemetry.DRAW, nanosAfterDraw - nanosBeforeDraw);
+      telemetry.record(Telemetry.UPLOAD, TimeUtils.nanoTime() - nanosAfterDraw);
       if ( Env.debugMode() ) mGameScreen.checkColourCount();
     }
     
     drawGameScreen();
+    
+    telemetry.frame(numTicks, screenChanged, TimeUtils.nanoTime());
 
   } // ApplicationListener.render()
 
-  // draw the game screen
-  private void drawScreenToTexture() {
+  // display the newest frame from the simulation thread
+  private void renderFrame() {
 
+    mSounds.runCommands();
+    mKeySampler.sample();
+    
+    final int numTicks = mFrames.acquire();
+    final boolean screenChanged = ( numTicks > 0 );
+    
+    if ( screenChanged || mScreenTexture == null ) {
+      final long nanosBefore = TimeUtils.nanoTime();
+      drawScreenToTexture(mFrames.front());
+      Env.telemetry().record(Telemetry.UPLOAD, 
+                             TimeUtils.nanoTime() - nanosBefore);
+      if ( Env.debugMode() ) mFrames.front().checkColourCount();
+    }
+    
+    drawGameScreen();
+    
+    Env.telemetry().frame(numTicks, screenChanged, TimeUtils.nanoTime());
+    
+  } // renderFrame()
+  
+  // copy the pixels of the game screen into the texture
+  private void drawScreenToTexture(EgaCanvas screen) {
+
+    final int width  = Env.screenWidth(),
+              height = Env.screenHeight();
+    
+    // convert the pixels (one row at a time) into the texture data
     int pixIndex = 0;
-    byte pixels[] = mGameScreen.pixels();
-    for ( int iy = 0 ; iy < Env.screenHeight() ; iy++ ) {
-      for ( int ix = 0 ; ix < Env.screenWidth() ; ix++ ) {
-        int col = EgaTools.EGA_PALETTE[ pixels[pixIndex++] ];
-        int r = (col >> 16) & 0xFF,
-            g = (col >>  8) & 0xFF,
-            b = (col      ) & 0xFF;
-        mScreenPixmap.setColor(r/255.0f, g/255.0f, b/255.0f, 1.0f);
-        mScreenPixmap.drawPixel(ix, iy);
+    final byte pixels[] = screen.pixels();
+    final byte row[] = mScreenRow;
+    mScreenBytes.position(0);
+    for ( int iy = 0 ; iy < height ; iy++ ) {
+      int rowIndex = 0;
+      for ( int ix = 0 ; ix < width ; ix++ ) {
+        final int col = 3*pixels[pixIndex++];
+        row[rowIndex++] = kPaletteBytes[col];
+        row[rowIndex++] = kPaletteBytes[col+1];
+        row[rowIndex++] = kPaletteBytes[col+2];
       }
+      mScreenBytes.put(row);
     }
+    mScreenBytes.position(0);
 
     if ( mScreenTexture == null ) {
-      mScreenTexture = new Texture( mScreenPixmap.getWidth(), 
-                                    mScreenPixmap.getHeight(),
-                                    Format.RGB888 );
+      mScreenTexture = new Texture(mTextureWidth, mTextureHeight,
+                                   Format.RGB888);
     }
 
+    final int format = GL20.GL_RGB;
+    mScreenTexture.bind();
+    Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
     if ( Env.platform() == Env.Platform.HTML ) {
-      // Texture.draw() uses glTexSubImage2D(), which won't run in WebGL
-      // for some reason, so we hack around it instead
-      mScreenTexture.bind();
-      Gdx.gl.glTexImage2D(GL20.GL_TEXTURE_2D, 0, 
-                          mScreenPixmap.getGLInternalFormat(), 
-                          mScreenPixmap.getWidth(), mScreenPixmap.getHeight(), 
-                          0,
-                          mScreenPixmap.getGLFormat(), 
-                          mScreenPixmap.getGLType(), 
-                          mScreenPixmap.getPixels());
+      // glTexSubImage2D() won't run in WebGL for some reason, 
+      // so we replace the whole texture instead
+      Gdx.gl.glTexImage2D(GL20.GL_TEXTURE_2D, 0, format, 
+                          mTextureWidth, mTextureHeight, 0,
+                          format, GL20.GL_UNSIGNED_BYTE, mScreenBytes);
     } else {
-      mScreenTexture.draw(mScreenPixmap, 0, 0);
+      Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, 0, 
+                             mTextureWidth, height,
+                             format, GL20.GL_UNSIGNED_BYTE, mScreenBytes);
     }
   
   } // drawScreenToTexture()
@@ -230,7 +383,7 @@ public class MiniQuestsGame extends ApplicationAdapter {
                       xOffset, yOffset, xSize, ySize,
                       0, 0, Env.screenWidth(), Env.screenHeight(), 
                       false, false);
-    ((KeyMonitorGdx)Env.keys()).displayButtons(mScreenBatch);
+    mKeyMonitor.displayButtons(mScreenBatch);
     mScreenBatch.end();
     
   } // drawGameScreen()
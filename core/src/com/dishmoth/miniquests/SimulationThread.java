@@ -0,0 +1,112 @@
+/*
+ *  SimulationThread.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests;
+
+import com.dishmoth.miniquests.game.EgaCanvas;
+import com.dishmoth.miniquests.game.Env;
+import com.dishmoth.miniquests.game.FrameBuffers;
+import com.dishmoth.miniquests.game.GameManager;
+import com.dishmoth.miniquests.game.KeySampler;
+import com.dishmoth.miniquests.game.Simulation;
+import com.dishmoth.miniquests.game.Telemetry;
+
+// advances the game on its own thread at a fixed rate, drawing each tick
+// into the frame buffers for the display thread to pick up
+// (not available for the HTML version, see MiniQuestsGame.gwt.xml)
+public class SimulationThread implements Simulation, Runnable {
+
+  // time between ticks
+  static private final long kNanosPerTick = 1000000000L/Env.ticksPerSecond();
+  
+  // if the game falls this far behind then the lost time is forgotten
+  // (rather than rushing through the missed ticks)
+  static private final long kMaxLagNanos = 3*kNanosPerTick;
+  
+  // the thread (or null if not running)
+  private volatile Thread mThread = null;
+  
+  // the game being advanced
+  private GameManager  mGameManager;
+  private FrameBuffers mFrames;
+  
+  // where the keys come from on each tick (or null)
+  private KeySampler mKeys;
+  
+  // constructor
+  public SimulationThread() {
+  } // constructor
+  
+  // begin advancing the game
+  public void start(GameManager gameManager, FrameBuffers frames, 
+                    KeySampler keys) {
+    
+    assert( mThread == null );
+    mGameManager = gameManager;
+    mFrames = frames;
+    mKeys = keys;
+    
+    mThread = new Thread(this, "Simulation");
+    mThread.start();
+    
+  } // Simulation.start()
+  
+  // stop advancing the game (and wait for the thread to finish)
+  public void stop() {
+    
+    Thread thread = mThread;
+    mThread = null;
+    if ( thread == null ) return;
+    
+    thread.interrupt();
+    try {
+      thread.join();
+    } catch ( InterruptedException ex ) {
+      Thread.currentThread().interrupt();
+    }
+    
+  } // Simulation.stop()
+  
+  // the game loop
+  public void run() {
+    
+    final Telemetry telemetry = Env.telemetry();
+    long nextTickNanos = System.nanoTime();
+    
+    while ( mThread == Thread.currentThread() ) {
+      
+      final long nanosBefore = System.nanoTime();
+      if ( mKeys != null ) mKeys.advance();
+      mGameManager.advance();
+      final long nanosAfterAdvance = System.nanoTime();
+      
+      EgaCanvas canvas = mFrames.back();
+      canvas.clear();
+      mGameManager.draw(canvas);
+      mFrames.publish(1);
+      final long nanosAfterDraw = System.nanoTime();
+      
+      telemetry.record(Telemetry.ADVANCE, nanosAfterAdvance - nanosBefore);
+      telemetry.record(Telemetry.DRAW, nanosAfterDraw - nanosAfterAdvance);
+
+      nextTickNanos += kNanosPerTick;
+      long waitNanos = nextTickNanos - System.nanoTime();
+      if ( waitNanos < -kMaxLagNanos ) {
+        telemetry.overrun();
+        nextTickNanos = System.nanoTime();
+      } else if ( waitNanos > 0 ) {
+        try {
+          Thread.sleep(waitNanos/1000000, (int)(waitNanos%1000000));
+        } catch ( InterruptedException ex ) {
+          break;
+        }
+      }
+      
+    }
+    
+  } // Runnable.run()
+  
+} // class SimulationThread
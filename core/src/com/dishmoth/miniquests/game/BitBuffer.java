@@ -9,12 +9,15 @@ package com.dishmoth.miniquests.game;
 import java.util.Arrays;
 
 // simple utility to pack small integers into a byte array
+// (bits are packed most significant first; values are read and written 
+// through a 64-bit accumulator a few bytes at a time rather than bit by bit)
 public class BitBuffer {
 
   // initial bytes in the buffer 
   private static final int kCapacity = 32;
   
   // buffer for storing the bits
+  // (any bits beyond the end of the data are always zero)
   private byte mBuffer[];
 
   // number of bits currently in the buffer (read or unread)
@@ -51,7 +54,8 @@ public class BitBuffer {
   // copy constructor
   public BitBuffer(BitBuffer other) {
     
-    mBuffer = other.toBytes();
+    mBuffer = new byte[ Math.max(kCapacity, numBytes(other.mNumBits)) ];
+    System.arraycopy(other.mBuffer, 0, mBuffer, 0, numBytes(other.mNumBits));
     mNumBits = other.mNumBits;
     mIndex = other.mIndex;
     
@@ -60,7 +64,7 @@ public class BitBuffer {
   // empty the buffer
   public void clear() {
     
-    Arrays.fill(mBuffer, (byte)0);
+    Arrays.fill(mBuffer, 0, numBytes(mNumBits), (byte)0);
     mNumBits = 0;
     mIndex = 0;
     
@@ -86,6 +90,21 @@ public class BitBuffer {
   // how many bits are in the buffer, read or unread
   public int numBits() { return mNumBits; }
   
+  // number of bytes needed to hold some bits
+  private static int numBytes(int numBits) { return ((numBits + 7) >> 3); }
+  
+  // make sure the buffer has space for the specified number of bytes
+  // (the buffer at least doubles in size each time it grows)
+  private void ensureCapacity(int numBytes) {
+    
+    if ( numBytes <= mBuffer.length ) return;
+    
+    byte buffer[] = new byte[ Math.max(numBytes, 2*mBuffer.length) ];
+    System.arraycopy(mBuffer, 0, buffer, 0, mBuffer.length);
+    mBuffer = buffer;
+    
+  } // ensureCapacity()
+  
   // reads a positive integer (of specified number of bits) from the buffer 
   // (returns -1 if the bits run out)
   public int read(int numBits) {
@@ -96,15 +115,17 @@ public class BitBuffer {
       return -1;
     }
     
-    int value = 0;
-    for ( int k = 0 ; k < numBits ; k++ ) {
-      int byteIndex = (mIndex >> 3),
-          bitIndex  = 7 - (mIndex & 0x07);
-      int b = (mBuffer[byteIndex] >> bitIndex) & 0x01;
-      value = ( (value<<1) | b );
-      mIndex++;
+    // gather the bytes holding the bits (at most five of them)
+    final int firstByte = (mIndex >> 3),
+              lastByte  = ((mIndex + numBits - 1) >> 3);
+    long bits = 0;
+    for ( int k = firstByte ; k <= lastByte ; k++ ) {
+      bits = (bits << 8) | (mBuffer[k] & 0xFF);
     }
-    return value;
+    
+    final int shift = 8*(lastByte + 1) - (mIndex + numBits);
+    mIndex += numBits;
+    return (int)( (bits >>> shift) & ((1L << numBits) - 1) );
     
   } // read()
   
@@ -118,19 +139,17 @@ public class BitBuffer {
     assert( mIndex == mNumBits );
     
     mNumBits += numBits;
-    if ( mNumBits > (mBuffer.length << 3) ) {
-      mBuffer = copyOf(mBuffer, mBuffer.length+kCapacity);
-    }
-    
-    for ( int k = 0 ; k < numBits ; k++ ) {
-      int b = (value >> (numBits-k-1)) & 0x01;
-      if ( b != 0 ) {
-        int byteIndex = (mIndex >> 3),
-            bitIndex  = 7 - (mIndex & 0x07);
-        mBuffer[byteIndex] |= (1<<bitIndex);
-      }
-      mIndex++;
+    ensureCapacity( numBytes(mNumBits) );
+    
+    // line the value up with the bytes it covers (at most five of them)
+    final int firstByte = (mIndex >> 3),
+              lastByte  = ((mIndex + numBits - 1) >> 3);
+    long bits = ((long)value) << ( 8*(lastByte + 1) - (mIndex + numBits) );
+    for ( int k = lastByte ; k >= firstByte ; k-- ) {
+      mBuffer[k] |= (byte)bits;
+      bits >>>= 8;
     }
+    mIndex += numBits;
     
   } // write()
 
@@ -146,49 +165,57 @@ public class BitBuffer {
   // write a single boolean value to the buffer
   public void writeBit(boolean value) { write( (value?1:0), 1); }
   
+  // write whole bytes to the end of the buffer (eight bits each)
+  public void writeBits(byte bytes[]) {
+    
+    assert( bytes != null );
+    assert( mIndex == mNumBits );
+    
+    if ( (mIndex & 0x07) == 0 ) {
+      ensureCapacity( numBytes(mNumBits) + bytes.length );
+      System.arraycopy(bytes, 0, mBuffer, (mIndex >> 3), bytes.length);
+      mNumBits += 8*bytes.length;
+      mIndex = mNumBits;
+    } else {
+      for ( int k = 0 ; k < bytes.length ; k++ ) write(bytes[k] & 0xFF, 8);
+    }
+    
+  } // writeBits()
+  
   // write the (unread) bits from another buffer onto the end of this one
   // (both buffers are left read to the end)
   public void append(BitBuffer other) {
 
     assert( mIndex == mNumBits );
 
-    int numBytes = (mNumBits + other.mNumBits + 7)/8;
-    if ( mBuffer.length < numBytes ) {
-      mBuffer = copyOf(mBuffer, numBytes+kCapacity);
-    }
-    
-    while ( other.numBitsToRead() > 0 ) {
-      int num = Math.min(other.numBitsToRead(), 16);
-      int val = other.read(num);
-      write(val, num);
+    final int numBits = other.numBitsToRead();
+    ensureCapacity( numBytes(mNumBits + numBits) );
+    
+    if ( (mIndex & 0x07) == 0 && (other.mIndex & 0x07) == 0 ) {
+      // byte-aligned, so copy directly (trailing bits are zero in both)
+      System.arraycopy(other.mBuffer, (other.mIndex >> 3), 
+                       mBuffer, (mIndex >> 3), numBytes(numBits));
+      mNumBits += numBits;
+      mIndex = mNumBits;
+      other.mIndex = other.mNumBits;
+    } else {
+      while ( other.numBitsToRead() > 0 ) {
+        int num = Math.min(other.numBitsToRead(), 24);
+        int val = other.read(num);
+        write(val, num);
+      }
     }
     
   } // append()
   
-  // copy the array, with truncation or zero-padding as needed
-  // (this is a function in Arrays in Java 1.6)
-  static private byte[] copyOf(byte[] original, int newLength) {
-    
-    assert( original != null );
-    assert( newLength > 0 );
-    
-    byte result[] = new byte[newLength];
-    Arrays.fill(result, (byte)0);
-    
-    int len = Math.min(newLength, original.length);
-    for ( int k = 0 ; k < len ; k++ ) result[k] = original[k];
-    
-    return result;
-    
-  } // copyOf()
-
   // return a copy of the current buffer
   public byte[] toBytes() {
 
     if ( mNumBits == 0 ) return null;
     
-    final int numBytes = (mNumBits+7)/8;
-    return copyOf(mBuffer, numBytes);
+    byte bytes[] = new byte[ numBytes(mNumBits) ];
+    System.arraycopy(mBuffer, 0, bytes, 0, bytes.length);
+    return bytes;
     
   } // toBytes()
 
@@ -196,7 +223,7 @@ public class BitBuffer {
   public void fromBytes(byte bytes[]) {
     
     mIndex = 0;
-    Arrays.fill(mBuffer, (byte)0);
+    Arrays.fill(mBuffer, 0, numBytes(mNumBits), (byte)0);
     
     if ( bytes == null ) {
       mNumBits = 0;
@@ -204,13 +231,8 @@ public class BitBuffer {
     }
     
     mNumBits = 8*bytes.length;
-    
-    if ( bytes.length > mBuffer.length ) {
-      mBuffer = copyOf(bytes, bytes.length);
-      return;
-    }
-    
-    for ( int k = 0 ; k < bytes.length ; k++ ) mBuffer[k] = bytes[k];
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, mBuffer, 0, bytes.length);
     
   } // fromBytes()
   
@@ -219,26 +241,30 @@ public class BitBuffer {
 
     if ( mNumBits == 0 ) return "";
     
-    final int numBytes = (mNumBits+7)/8;
-    StringBuilder str = new StringBuilder(numBytes);
+    final int numBytes = numBytes(mNumBits);
+    char chars[] = new char[2*numBytes];
     
-    for ( int k = 0 ; k < 2*numBytes ; k++ ) {
-      int val = mBuffer[k/2];
-      if ( k%2 == 0 ) val = (val>>4) & 0x0F;
-      else            val = val & 0x0F;
-      if ( val < 10 ) str.append((char)('0'+val));
-      else            str.append((char)('A'+(val-10)));
+    for ( int k = 0 ; k < numBytes ; k++ ) {
+      chars[2*k  ] = hexDigit( (mBuffer[k] >> 4) & 0x0F );
+      chars[2*k+1] = hexDigit( mBuffer[k] & 0x0F );
     }
     
-    return str.toString();
+    return new String(chars);
     
   } // toString()
   
+  // character for a hex digit (upper case)
+  private static char hexDigit(int val) {
+    
+    return (char)( (val < 10) ? ('0' + val) : ('A' + (val - 10)) );
+    
+  } // hexDigit()
+  
   // replace with the specified hex string
   public void fromString(String str) {
     
     mIndex = 0;
-    Arrays.fill(mBuffer, (byte)0);
+    Arrays.fill(mBuffer, 0, numBytes(mNumBits), (byte)0);
     
     if ( str == null || str.length() == 0) {
       mNumBits = 0;
@@ -246,10 +272,7 @@ public class BitBuffer {
     }
     
     mNumBits = 4*str.length();
-    
-    if ( str.length() > mBuffer.length ) {
-      mBuffer = new byte[ str.length() ];
-    }
+    ensureCapacity( numBytes(mNumBits) );
     
     for ( int k = 0 ; k < str.length() ; k++ ) {
       char ch = str.charAt(k);
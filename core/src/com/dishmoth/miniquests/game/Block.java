@@ -30,6 +30,22 @@ public class Block {
                           byte colourLeft, byte colourRight, 
                           byte colourTop, byte colourBottom, 
                           byte colourMiddle, int sideHeight) {
+
+    draw(image, x, y, depth, 
+         colourLeft, colourRight, colourTop, colourBottom, colourMiddle, 
+         sideHeight, 
+         Integer.MIN_VALUE, Integer.MAX_VALUE, 
+         Integer.MIN_VALUE, Integer.MAX_VALUE);
+    
+  } // draw() 
+  
+  // draw a block, only changing pixels inside a clipping rectangle
+  // (x0 to x1, y0 to y1 inclusive, relative to the image reference position)
+  public static void draw(EgaImage image, int x, int y, int depth,
+                          byte colourLeft, byte colourRight, 
+                          byte colourTop, byte colourBottom, 
+                          byte colourMiddle, int sideHeight,
+                          int x0, int x1, int y0, int y1) {
     
     assert( sideHeight >= 0 );
 
@@ -39,30 +55,46 @@ public class Block {
     assert( colourBottom >= 0 && colourBottom < 64 );
     assert( colourMiddle >= 0 && colourMiddle < 64 );
     
-    image.plot(x, y-1, depth+kDepthBack, colourTop);
-    image.plot(x+1, y-1, depth+kDepthBack, colourTop);
+    plot(image, x, y-1, depth+kDepthBack, colourTop, x0, x1, y0, y1);
+    plot(image, x+1, y-1, depth+kDepthBack, colourTop, x0, x1, y0, y1);
     
-    //image.plot(x, y, depth, colourLeft);
-    image.plot(x-1, y, depth, colourLeft);
-    image.plot(x, y, depth, colourMiddle);
-    image.plot(x+1, y, depth, colourMiddle);
-    image.plot(x+2, y, depth, colourRight);
-    //image.plot(x+3, y, depth, colourRight);
+    //plot(image, x, y, depth, colourLeft, x0, x1, y0, y1);
+    plot(image, x-1, y, depth, colourLeft, x0, x1, y0, y1);
+    plot(image, x, y, depth, colourMiddle, x0, x1, y0, y1);
+    plot(image, x+1, y, depth, colourMiddle, x0, x1, y0, y1);
+    plot(image, x+2, y, depth, colourRight, x0, x1, y0, y1);
+    //plot(image, x+3, y, depth, colourRight, x0, x1, y0, y1);
     
-    image.plot(x, y+1, depth+kDepthFront, colourBottom);
-    image.plot(x+1, y+1, depth+kDepthFront, colourBottom);
+    plot(image, x, y+1, depth+kDepthFront, colourBottom, x0, x1, y0, y1);
+    plot(image, x+1, y+1, depth+kDepthFront, colourBottom, x0, x1, y0, y1);
     
     for ( int k = 0 ; k < sideHeight ; k++ ) {
-      //image.plot(x-2, y+1+k, depth+kDepthBase, kColourLeftSide);
-      image.plot(x-1, y+1+k, depth+kDepthBase+kDepthSide, kColourLeftSide);
-      image.plot(x, y+2+k, depth+kDepthBase+kDepthFront, kColourLeftSide);
-      image.plot(x+1, y+2+k, depth+kDepthBase+kDepthFront, kColourRightSide);
-      image.plot(x+2, y+1+k, depth+kDepthBase+kDepthSide, kColourRightSide);
-      //image.plot(x+3, y+1+k, depth+kDepthBase, kColourRightSide);
+      //plot(image, x-2, y+1+k, depth+kDepthBase, kColourLeftSide, 
+      //     x0, x1, y0, y1);
+      plot(image, x-1, y+1+k, depth+kDepthBase+kDepthSide, kColourLeftSide,
+           x0, x1, y0, y1);
+      plot(image, x, y+2+k, depth+kDepthBase+kDepthFront, kColourLeftSide,
+           x0, x1, y0, y1);
+      plot(image, x+1, y+2+k, depth+kDepthBase+kDepthFront, kColourRightSide,
+           x0, x1, y0, y1);
+      plot(image, x+2, y+1+k, depth+kDepthBase+kDepthSide, kColourRightSide,
+           x0, x1, y0, y1);
+      //plot(image, x+3, y+1+k, depth+kDepthBase, kColourRightSide, 
+      //     x0, x1, y0, y1);
     }
         
   } // draw() 
   
+  // plot a pixel if it is inside the clipping rectangle
+  private static void plot(EgaImage image, int x, int y, 
+                           float depth, byte colour,
+                           int x0, int x1, int y0, int y1) {
+    
+    if ( x < x0 || x > x1 || y < y0 || y > y1 ) return;
+    image.plot(x, y, depth, colour);
+    
+  } // plot()
+  
   // draw a block (x, y in half-blocks, z in pixels)
   public static void draw3D(EgaCanvas canvas, int x, int y, int z,
                             byte colourLeft, byte colourRight, 
@@ -10,15 +10,15 @@ import java.util.Arrays;
 import java.util.LinkedList;
 
 // a three-dimensional array of block objects
-public class BlockArray extends Sprite3D implements Obstacle {
+public class BlockArray extends Sprite3D implements IndexedObstacle {
 
   // pixel height of a block
   private static final int kBlockHeight = 2; 
   
-  // array of blocks 
+  // array of blocks (or null)
   // (' ' for empty, '0' to '9' for different colours,
   // '-' for invisible platform, '*' for invisible barrier)
-  private String mBlocks[][];
+  private BlockGrid mBlocks;
 
   // colours for different block types (value pairs, middle and edge colours)
   private final byte mColours[][];
@@ -36,10 +36,33 @@ public class BlockArray extends Sprite3D implements Obstacle {
   // complete image (with depth)
   private EgaImage mImage;
   
-  // constructor
+  // whether the image has been painted on since it was built
+  private boolean mImagePainted;
+  
+  // workspace: pixel bounds of the image (x min/max, y min/max)
+  private final int mImageBounds[] = new int[4];
+  
+  // workspace: edge colours for one layer of blocks
+  private int mEdgeIndex[];
+  
+  // counts changes to the blocks' appearance (see Sprite.staticVersion())
+  private int mStaticVersion = 0;
+  
+  // index holding the shape of the blocks (or null)
+  private ObstacleIndex mObstacleIndex;
+  
+  // constructor (blocks as in the room data)
   public BlockArray(String blocks[][], String colours[], 
                     int x, int y, int z) {
 
+    this((blocks == null) ? null : new BlockGrid(blocks), colours, x, y, z);
+    
+  } // constructor
+  
+  // constructor
+  public BlockArray(BlockGrid blocks, String colours[], 
+                    int x, int y, int z) {
+
     assert( colours != null );
     assert( colours.length >= countColours(blocks) );
 
@@ -55,19 +78,15 @@ public class BlockArray extends Sprite3D implements Obstacle {
   } // constructor
 
   // number of colours used by the blocks (only used for sanity checking)
-  private int countColours(String[][] blocks) {
+  private int countColours(BlockGrid blocks) {
     
     if ( blocks == null ) return 0;
     
     int numColours = 0;
-    for ( int iz = 0 ; iz < blocks.length ; iz++ ) {
-      String zLayer[] = blocks[iz];
-      assert( zLayer != null );
-      for ( int iy = 0 ; iy < zLayer.length ; iy++ ) {
-        String yRow = zLayer[iy];
-        assert( yRow != null );
-        for ( int ix = 0 ; ix < yRow.length() ; ix++ ) {
-          char ch = yRow.charAt(ix);
+    for ( int iz = 0 ; iz < blocks.zSize() ; iz++ ) {
+      for ( int iy = 0 ; iy < blocks.ySize() ; iy++ ) {
+        for ( int ix = 0 ; ix < blocks.xSize() ; ix++ ) {
+          char ch = (char)blocks.get(ix, iy, iz);
           if ( ch == ' ' || ch == '-' || ch == '*' ) continue;
           assert( ch >= '0' && ch <= '9' );
           numColours = Math.max(numColours, (ch - '0')+1);
@@ -78,10 +97,22 @@ public class BlockArray extends Sprite3D implements Obstacle {
     
   } // countColours()
   
-  // define (or update) the block array
+  // define (or update) the block array (blocks as in the room data)
   protected void setBlocks(String blocks[][], int x, int y, int z) {
     
+    setBlocks((blocks == null) ? null : new BlockGrid(blocks), x, y, z);
+    
+  } // setBlocks(String[][])
+  
+  // define (or update) the block array
+  // (the grid must not be changed while the block array is holding it)
+  protected void setBlocks(BlockGrid blocks, int x, int y, int z) {
+    
+    if ( mObstacleIndex != null ) mObstacleIndex.changing(this);
+    
+    final BlockGrid oldBlocks = mBlocks;
     mBlocks = blocks;
+    mStaticVersion++;
     
     mXPos = x;
     mYPos = y;
@@ -90,26 +121,17 @@ public class BlockArray extends Sprite3D implements Obstacle {
     if ( mBlocks == null ) {
       mXSize = mYSize = mZSize = 0;
       mImage = null;
+      if ( mObstacleIndex != null ) mObstacleIndex.changed(this);
       return;
     }
     
-    assert( mBlocks[0] != null && mBlocks[0][0] != null );
-
-    mXSize = mBlocks[0][0].length();
-    mYSize = mBlocks[0].length;
-    mZSize = mBlocks.length;
-
-    assert( mXSize > 0 && mYSize > 0 && mZSize > 0 );
-    for ( int iz = 0 ; iz < mZSize ; iz++ ) {
-      String zLayer[] = blocks[iz];
-      assert( zLayer != null && zLayer.length == mYSize );
-      for ( int iy = 0 ; iy < mYSize ; iy++ ) {
-        String yRow = zLayer[iy];
-        assert( yRow != null && yRow.length() == mXSize );
-      }
-    }
+    mXSize = mBlocks.xSize();
+    mYSize = mBlocks.ySize();
+    mZSize = mBlocks.zSize();
     
-    buildImage();
+    updateImage(oldBlocks);
+    
+    if ( mObstacleIndex != null ) mObstacleIndex.changed(this);
     
   } // setBlocks()
   
@@ -121,34 +143,45 @@ public class BlockArray extends Sprite3D implements Obstacle {
   // shift position
   public void shiftPos(int dx, int dy, int dz) {
     
+    if ( mObstacleIndex != null ) mObstacleIndex.changing(this);
     mXPos += dx;
     mYPos += dy;
     mZPos += dz;
+    mStaticVersion++;
+    if ( mObstacleIndex != null ) mObstacleIndex.changed(this);
     
   } // shiftPos()
   
   // set position
   public void setPos(int x, int y, int z) {
     
+    if ( mObstacleIndex != null ) mObstacleIndex.changing(this);
     mXPos = x;
     mYPos = y;
     mZPos = z;
+    mStaticVersion++;
+    if ( mObstacleIndex != null ) mObstacleIndex.changed(this);
     
   } // setPos()
   
   // returns the block at the index position (or ' ' if out-of-range)
   private char getBlock(int x, int y, int z) {
 
-    if ( x < 0 || x >= mXSize || 
-         y < 0 || y >= mYSize || 
-         z < 0 || z >= mZSize ) return ' ';    
-    return mBlocks[z][mYSize-1-y].charAt(x);
+    if ( mBlocks == null ) return ' ';
+    return (char)mBlocks.get(x, y, z);
     
   } // getBlock()
 
   // access to the image data
+  // (changes to the image should be made before the blocks are first drawn)
   public EgaImage getImage() { return mImage; }
 
+  // the blocks only change when told to
+  @Override
+  public boolean isStatic() { return true; }
+  @Override
+  public int staticVersion() { return mStaticVersion; }
+
   // paint the image onto the blocks ignoring depths
   // the image's ref point applies to the (x,y,z) blocks 
   public void paint(EgaImage colours, int x, int y, int z) {
@@ -156,6 +189,8 @@ public class BlockArray extends Sprite3D implements Obstacle {
     int xPos = 2*( x - y ),
         yPos = -( x + y + z );
     colours.draw(mImage, xPos, yPos);
+    mImagePainted = true;
+    mStaticVersion++;
     
   } // paint()
   
@@ -194,6 +229,26 @@ public class BlockArray extends Sprite3D implements Obstacle {
   // whether the position is outside of the game world
   public boolean isVoid(int x, int y, int z) { return false; }
 
+  // range of positions covered by the blocks
+  // (note: each block also fills the position below its top surface)
+  public boolean getBounds(int bounds[]) {
+    
+    if ( mBlocks == null ) return false;
+    
+    bounds[0] = mXPos;
+    bounds[1] = mYPos;
+    bounds[2] = mZPos - (kBlockHeight - 1);
+    bounds[3] = mXPos + mXSize - 1;
+    bounds[4] = mYPos + mYSize - 1;
+    bounds[5] = mZPos + kBlockHeight*(mZSize - 1);
+    return true;
+    
+  } // IndexedObstacle.getBounds()
+  
+  // access to the index holding the shape of the blocks
+  public ObstacleIndex obstacleIndex() { return mObstacleIndex; }
+  public void setObstacleIndex(ObstacleIndex index) { mObstacleIndex = index; }
+
   // nothing to do here
   @Override
   public void advance(LinkedList<Sprite> addTheseSprites,
@@ -201,8 +256,15 @@ public class BlockArray extends Sprite3D implements Obstacle {
                       LinkedList<StoryEvent> newStoryEvents) {
   } // Sprite.advance()
 
-  // construct the image of the blocks
-  protected void buildImage() {
+  // whether a block is drawn
+  private static boolean isVisible(char ch) {
+    
+    return ( ch != ' ' && ch != '-' && ch != '*' );
+    
+  } // isVisible()
+  
+  // calculate the pixel bounds of the image (stored in mImageBounds)
+  private void findImageBounds() {
     
     int xMin = Integer.MAX_VALUE,
         xMax = Integer.MIN_VALUE,
@@ -225,57 +287,159 @@ public class BlockArray extends Sprite3D implements Obstacle {
     }
     assert( xMax >= xMin && yMax >= yMin );
 
+    mImageBounds[0] = xMin + Block.boundXMin();
+    mImageBounds[1] = xMax + Block.boundXMax();
+    mImageBounds[2] = yMin + Block.boundYMin();
+    mImageBounds[3] = yMax + Block.boundYMax() + kBlockHeight;
+    
+  } // findImageBounds()
+  
+  // whether the image matches the bounds in mImageBounds
+  private boolean imageMatchesBounds() {
+    
+    return ( mImage != null &&
+             mImage.refXPos() == -mImageBounds[0] &&
+             mImage.refYPos() == -mImageBounds[2] &&
+             mImage.width()  == mImageBounds[1] - mImageBounds[0] + 1 &&
+             mImage.height() == mImageBounds[3] - mImageBounds[2] + 1 );
+    
+  } // imageMatchesBounds()
+  
+  // construct the image of the blocks
+  // (the existing image is reused if it has the right size)
+  protected void buildImage() {
+    
+    findImageBounds();
+    
+    if ( imageMatchesBounds() ) {
+      mImage.clear(mImageBounds[0], mImageBounds[1], 
+                   mImageBounds[2], mImageBounds[3]);
+    } else {
+      final int xRef   = -mImageBounds[0],
+                yRef   = -mImageBounds[2],
+                width  = mImageBounds[1] - mImageBounds[0] + 1,
+                height = mImageBounds[3] - mImageBounds[2] + 1;
+      mImage = new EgaImage(xRef, yRef, width, height);
+    }
+    mImagePainted = false;
+
+    drawBlocks(Integer.MIN_VALUE, Integer.MAX_VALUE, 
+               Integer.MIN_VALUE, Integer.MAX_VALUE);
+    
+  } // buildImage()
+  
+  // update the image after the blocks have changed
+  // (if the grid and image sizes are unchanged then only the blocks that 
+  // differ, and their neighbours whose edge colours may differ, are redrawn)
+  private void updateImage(BlockGrid oldBlocks) {
+    
+    if ( mImage == null || mImagePainted || oldBlocks == null ||
+         oldBlocks.xSize() != mXSize || 
+         oldBlocks.ySize() != mYSize ||
+         oldBlocks.zSize() != mZSize ) {
+      buildImage();
+      return;
+    }
+    
+    findImageBounds();
+    if ( !imageMatchesBounds() ) {
+      buildImage();
+      return;
+    }
+    
+    int xMin = Integer.MAX_VALUE,
+        xMax = Integer.MIN_VALUE,
+        yMin = Integer.MAX_VALUE,
+        yMax = Integer.MIN_VALUE;
+    
+    for ( int iz = 0 ; iz < mZSize ; iz++ ) {
+      for ( int iy = 0 ; iy < mYSize ; iy++ ) {
+        for ( int ix = 0 ; ix < mXSize ; ix++ ) {
+          final char chOld = (char)oldBlocks.get(ix, iy, iz),
+                     chNew = getBlock(ix, iy, iz);
+          if ( chOld == chNew ) continue;
+          if ( !isVisible(chOld) && !isVisible(chNew) ) continue;
+          
+          // include the neighbouring blocks in the same layer
+          final int x = 2*ix - 2*iy,
+                    y = -( ix + iy + kBlockHeight*iz );
+          xMin = Math.min(xMin, x - 4);
+          xMax = Math.max(xMax, x + 4);
+          yMin = Math.min(yMin, y - 2);
+          yMax = Math.max(yMax, y + 2);
+        }
+      }
+    }
+    if ( xMax < xMin ) return;
+    
     xMin += Block.boundXMin();
     xMax += Block.boundXMax();
     yMin += Block.boundYMin();
     yMax += Block.boundYMax() + kBlockHeight;
     
-    final int xRef   = -xMin,
-              yRef   = -yMin,
-              width  = xMax - xMin + 1,
-              height = yMax - yMin + 1;
-    mImage = new EgaImage(xRef, yRef, width, height);
-
-    int edgeIndex[][] = new int[mYSize+1][mXSize+1]; 
+    mImage.clear(xMin, xMax, yMin, yMax);
+    drawBlocks(xMin, xMax, yMin, yMax);
+    
+  } // updateImage()
+  
+  // draw the blocks onto the image, only changing pixels in a rectangle
+  // (x0 to x1, y0 to y1 inclusive, relative to the image reference point)
+  private void drawBlocks(int x0, int x1, int y0, int y1) {
+    
+    final int edgeStride = mXSize + 1,
+              edgeSize   = (mYSize + 1)*edgeStride;
+    if ( mEdgeIndex == null || mEdgeIndex.length < edgeSize ) {
+      mEdgeIndex = new int[edgeSize];
+    }
+    final int edgeIndex[] = mEdgeIndex;
+    
     for ( int iz = 0 ; iz < mZSize ; iz++ ) {
       
-      for ( int iy = 0 ; iy < mYSize+1 ; iy++ ) Arrays.fill(edgeIndex[iy], -1);
+      Arrays.fill(edgeIndex, 0, edgeSize, -1);
       
       for ( int iy = 0 ; iy < mYSize ; iy++ ) {
         for ( int ix = 0 ; ix < mXSize ; ix++ ) {
           final char ch = getBlock(ix, iy, iz);
-          if ( ch == ' ' || ch == '-' || ch == '*' ) continue;
+          if ( !isVisible(ch) ) continue;
           final int colIndex = (ch - '0');
 
-          edgeIndex[iy  ][ix  ] = Math.max(edgeIndex[iy  ][ix  ], colIndex);
-          edgeIndex[iy  ][ix+1] = Math.max(edgeIndex[iy  ][ix+1], colIndex);
-          edgeIndex[iy+1][ix  ] = Math.max(edgeIndex[iy+1][ix  ], colIndex);
-          edgeIndex[iy+1][ix+1] = Math.max(edgeIndex[iy+1][ix+1], colIndex);
+          final int k = iy*edgeStride + ix;
+          edgeIndex[k] = Math.max(edgeIndex[k], colIndex);
+          edgeIndex[k+1] = Math.max(edgeIndex[k+1], colIndex);
+          edgeIndex[k+edgeStride] = Math.max(edgeIndex[k+edgeStride], 
+                                             colIndex);
+          edgeIndex[k+edgeStride+1] = Math.max(edgeIndex[k+edgeStride+1], 
+                                               colIndex);
         }
       }
       
       for ( int iy = 0 ; iy < mYSize ; iy++ ) {
         for ( int ix = 0 ; ix < mXSize ; ix++ ) {
           final char ch = getBlock(ix, iy, iz);
-          if ( ch == ' ' || ch == '-' || ch == '*' ) continue;
+          if ( !isVisible(ch) ) continue;
           final int colIndex = (ch - '0');
 
           final int depth = ix + iy;
           final int x = 2*ix - 2*iy,
                     y = -( depth + kBlockHeight*iz );
+          if ( x + Block.boundXMax() < x0 || x + Block.boundXMin() > x1 ||
+               y + Block.boundYMax() + kBlockHeight < y0 || 
+               y + Block.boundYMin() > y1 ) continue;
 
+          final int k = iy*edgeStride + ix;
           Block.draw(mImage, x, y, depth, 
-                     mColours[ edgeIndex[iy+1][ix  ] ][1],
-                     mColours[ edgeIndex[iy  ][ix+1] ][1],
-                     mColours[ edgeIndex[iy+1][ix+1] ][1],
-                     mColours[ edgeIndex[iy  ][ix  ] ][1],
+                     mColours[ edgeIndex[k+edgeStride] ][1],
+                     mColours[ edgeIndex[k+1] ][1],
+                     mColours[ edgeIndex[k+edgeStride+1] ][1],
+                     mColours[ edgeIndex[k] ][1],
                      mColours[colIndex][0],
-                     kBlockHeight);
+                     kBlockHeight,
+                     x0, x1, y0, y1);
         }
       }
     }
     
-  } // buildImage()
+  } // drawBlocks()
   
   // display the blocks
   @Override
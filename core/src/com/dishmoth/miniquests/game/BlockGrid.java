@@ -0,0 +1,100 @@
+/*
+ *  BlockGrid.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// a three-dimensional grid of blocks, as used by BlockArray
+// each block is a byte holding the same character as in the room data
+// (' ' for empty, '0' to '9' for different colours,
+// '-' for invisible platform, '*' for invisible barrier)
+public class BlockGrid {
+
+  // special block values
+  public static final byte EMPTY    = ' ',
+                           PLATFORM = '-',
+                           BARRIER  = '*';
+  
+  // size of the grid
+  private final int mXSize,
+                    mYSize,
+                    mZSize;
+  
+  // the blocks, indexed by (z*ySize + y)*xSize + x
+  // (note: y increases upwards, the reverse of the rows in the room data)
+  private final byte mBlocks[];
+  
+  // constructor (all blocks empty)
+  public BlockGrid(int xSize, int ySize, int zSize) {
+    
+    assert( xSize > 0 && ySize > 0 && zSize > 0 );
+    mXSize = xSize;
+    mYSize = ySize;
+    mZSize = zSize;
+    
+    mBlocks = new byte[xSize*ySize*zSize];
+    for ( int k = 0 ; k < mBlocks.length ; k++ ) mBlocks[k] = EMPTY;
+    
+  } // constructor
+  
+  // constructor (from room data, an array of z-layers each made of rows)
+  public BlockGrid(String blocks[][]) {
+    
+    assert( blocks != null && blocks.length > 0 );
+    assert( blocks[0] != null && blocks[0].length > 0 );
+    assert( blocks[0][0] != null && blocks[0][0].length() > 0 );
+    
+    mXSize = blocks[0][0].length();
+    mYSize = blocks[0].length;
+    mZSize = blocks.length;
+    
+    mBlocks = new byte[mXSize*mYSize*mZSize];
+    int index = 0;
+    for ( int iz = 0 ; iz < mZSize ; iz++ ) {
+      String zLayer[] = blocks[iz];
+      assert( zLayer != null && zLayer.length == mYSize );
+      for ( int iy = 0 ; iy < mYSize ; iy++ ) {
+        String yRow = zLayer[mYSize-1-iy];
+        assert( yRow != null && yRow.length() == mXSize );
+        for ( int ix = 0 ; ix < mXSize ; ix++ ) {
+          final char ch = yRow.charAt(ix);
+          assert( ch == EMPTY || ch == PLATFORM || ch == BARRIER ||
+                  (ch >= '0' && ch <= '9') );
+          mBlocks[index++] = (byte)ch;
+        }
+      }
+    }
+    
+  } // constructor
+  
+  // access to the size
+  public int xSize() { return mXSize; }
+  public int ySize() { return mYSize; }
+  public int zSize() { return mZSize; }
+  
+  // the block at a position (or EMPTY if out-of-range)
+  public byte get(int x, int y, int z) {
+    
+    if ( x < 0 || x >= mXSize || 
+         y < 0 || y >= mYSize || 
+         z < 0 || z >= mZSize ) return EMPTY;
+    return mBlocks[(z*mYSize + y)*mXSize + x];
+    
+  } // get()
+  
+  // change the block at a position
+  // (a grid must not be changed while a BlockArray is holding it)
+  public void set(int x, int y, int z, char block) {
+    
+    assert( x >= 0 && x < mXSize && 
+            y >= 0 && y < mYSize && 
+            z >= 0 && z < mZSize );
+    assert( block == EMPTY || block == PLATFORM || block == BARRIER ||
+            (block >= '0' && block <= '9') );
+    mBlocks[(z*mYSize + y)*mXSize + x] = (byte)block;
+    
+  } // set()
+  
+} // class BlockGrid
@@ -13,7 +13,18 @@ public class BlockPattern extends BlockArray {
 
   // pattern showing when blocks appear and disappear
   // character order: '0', ..., '9', 'A', ..., 'Z', 'a', ..., 'z'
-  private String[] mPattern;
+  // (stored as values, -1 for no block, indexed by row*width + column)
+  private byte mPattern[];
+  
+  // size of the pattern
+  private int mPatternWidth,
+              mPatternHeight;
+
+  // the blocks currently shown are copied into these grids in turn
+  // (BlockArray compares the new blocks with the previous ones, so the 
+  // grid it is holding is left alone)
+  private BlockGrid mGrids[];
+  private int       mGridIndex;
 
   // position for the pattern
   private int mXPosPattern,
@@ -40,7 +51,7 @@ public class BlockPattern extends BlockArray {
   public BlockPattern(String[] pattern, String blockColour,
                       int x, int y, int z) {
   
-    super(null, new String[]{blockColour}, x, y, z);
+    super((BlockGrid)null, new String[]{blockColour}, x, y, z);
     prepare(pattern, x, y, z);
     
     mStart = mEnd = -1;
@@ -54,15 +65,18 @@ public class BlockPattern extends BlockArray {
   // record the pattern and determine its minimum and maximum values
   private void prepare(String[] pattern, int x, int y, int z) {
     
-    assert( pattern != null );
-    mPattern = pattern;
+    assert( pattern != null && pattern.length > 0 && pattern[0] != null );
+    mPatternWidth = pattern[0].length();
+    mPatternHeight = pattern.length;
+    mPattern = new byte[mPatternWidth*mPatternHeight];
 
     mMinVal = mMaxVal = -1;
-    for ( int iy = 0 ; iy < mPattern.length ; iy++ ) {
-      String row = mPattern[iy];
-      assert( row != null && row.length() == mPattern[iy].length() );
-      for ( int ix = 0 ; ix < row.length() ; ix++ ) {
+    for ( int iy = 0 ; iy < mPatternHeight ; iy++ ) {
+      String row = pattern[iy];
+      assert( row != null && row.length() == mPatternWidth );
+      for ( int ix = 0 ; ix < mPatternWidth ; ix++ ) {
         int val = charValue( row.charAt(ix) );
+        mPattern[iy*mPatternWidth + ix] = (byte)val;
         if ( val >= 0 ) {
           if ( mMinVal == -1 || val < mMinVal ) mMinVal = val;
           if ( mMaxVal == -1 || val > mMaxVal ) mMaxVal = val;
@@ -71,6 +85,10 @@ public class BlockPattern extends BlockArray {
     }
     assert( mMinVal >= 0 && mMaxVal >= 0 );
     
+    mGrids = new BlockGrid[]{ new BlockGrid(mPatternWidth, mPatternHeight, 1),
+                              new BlockGrid(mPatternWidth, mPatternHeight, 1) };
+    mGridIndex = 0;
+    
     mXPosPattern = x;
     mYPosPattern = y;
     mZPosPattern = z;
@@ -81,49 +99,31 @@ public class BlockPattern extends BlockArray {
   public void updateBlocks() {
     
     if ( mStart > mEnd || mStart > mMaxVal || mEnd < mMinVal ) {
-      setBlocks(null, mXPosPattern, mYPosPattern, mZPosPattern);
+      setBlocks((BlockGrid)null, mXPosPattern, mYPosPattern, mZPosPattern);
       return;
     }
     
-    final int xSize = mPattern[0].length(), 
-              ySize = mPattern.length;
-    int xMin = xSize,
-        xMax = 0,
-        yMin = ySize,
-        yMax = 0;
+    final int xSize = mPatternWidth, 
+              ySize = mPatternHeight;
+    
+    // note: rows run down the pattern but up the block grid
+    mGridIndex = 1 - mGridIndex;
+    BlockGrid blocks = mGrids[mGridIndex];
+    boolean anyBlocks = false;
     for ( int iy = 0 ; iy < ySize ; iy++ ) {
-      StringBuilder row = new StringBuilder( mPattern[iy] );
       for ( int ix = 0 ; ix < xSize ; ix++ ) {
-        int val = charValue( row.charAt(ix) );
+        int val = mPattern[iy*xSize + ix];
         if ( val >= 0 && val >= mStart && val <= mEnd ) {
-          xMin = Math.min(xMin, ix);
-          xMax = Math.max(xMax, ix);
-          yMin = Math.min(yMin, iy);
-          yMax = Math.max(yMax, iy);
-        }
-      }
-    }
-    assert( xMin <= xMax && yMin <= yMax );
-    
-    String blocks[][] = new String[1][yMax-yMin+1];
-    for ( int iy = yMin ; iy <= yMax ; iy++ ) {
-      String str = mPattern[iy].substring(xMin,xMax+1);
-      StringBuilder row = new StringBuilder(str);
-      for ( int ix = xMin ; ix <= xMax ; ix++ ) {
-        int index = ix - xMin;
-        int val = charValue( row.charAt(index) );
-        if ( val >= 0 ) {
-          char ch = ( val >= mStart && val <= mEnd ) ? '0' : ' ';
-          row.setCharAt(index, ch);
+          blocks.set(ix, ySize-1-iy, 0, '0');
+          anyBlocks = true;
+        } else {
+          blocks.set(ix, ySize-1-iy, 0, ' ');
         }
       }
-      blocks[0][iy-yMin] = row.toString();
     }
+    assert( anyBlocks );
     
-    setBlocks(blocks, 
-              mXPosPattern + xMin,
-              mYPosPattern + (ySize-1-yMax),
-              mZPosPattern);
+    setBlocks(blocks, mXPosPattern, mYPosPattern, mZPosPattern);
     
   } // makeBlocks()
 
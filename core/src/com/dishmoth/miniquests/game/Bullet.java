@@ -85,6 +85,10 @@ public class Bullet extends Sprite3D {
     
   } // shiftPos();
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() { return kCategoryAll; }
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -93,22 +97,13 @@ public class Bullet extends Sprite3D {
     
     if ( newSprite == mSource ) return;
     
-    if ( newSprite instanceof Critter ||
-         newSprite instanceof Dragon ||
-         newSprite instanceof FloorBossHead ||
-         newSprite instanceof Player ||
-         newSprite instanceof PortalStone ||
-         newSprite instanceof Spinner ||
-         newSprite instanceof Snake ||
-         newSprite instanceof Spook ||
-         newSprite instanceof Statue ||
-         newSprite instanceof Triffid ||
-         newSprite instanceof TriffidBoss ||
-         newSprite instanceof WallSwitch ) {
+    if ( newSprite instanceof WallSwitch ) {
       mSpritesToWatch.add(newSprite);
     }
     
-    else if ( newSprite instanceof Obstacle ) {
+    // (targets are found through the collision grid, see interact())
+    else if ( newSprite instanceof Obstacle &&
+              !(newSprite instanceof Hittable) ) {
       if ( newSprite instanceof Barrier ) {
         if ( !((Barrier)newSprite).blocks(this) ) return;
       }
@@ -212,102 +207,16 @@ public class Bullet extends Sprite3D {
   @Override
   public void interact() { 
     
-    for ( Sprite sp : mSpritesToWatch ) {
-      
-      if ( sp instanceof Critter ) {
-        Critter target = (Critter)sp;
-        if ( target.hits(mXPos, mYPos, mZPos) ) {
-          mHitTarget = true;
-          target.stun(mDirec);
-        }
-      }
-      
-      else if ( sp instanceof Dragon ) {
-        Dragon target = (Dragon)sp;
-        if ( target.hits(mXPos, mYPos, mZPos) ) {
-          mHitTarget = true;
-          target.stun();
-        }
-      }
-      
-      else if ( sp instanceof FloorBossHead ) {
-        FloorBossHead target = (FloorBossHead)sp;
-        if ( target.hits(mXPos, mYPos, mZPos) ) {
-          mHitTarget = true;
-          target.stun();
-        }
-      }
-      
-      else if ( sp instanceof Player ) {
-        Player target = (Player)sp;
-        if ( target.hits(mXPos, mYPos, mZPos) ) {
-          mHitTarget = true;
-          target.destroy(mDirec);
-        }
-      }
-
-      else if ( sp instanceof PortalStone ) {
-        PortalStone target = (PortalStone)sp;
-        if ( !target.isEmpty(mXPos, mYPos, mZPos+1) ) {
-          mHitTarget = true;
-          Env.sounds().play(Sounds.ARROW_HIT);
-          target.hit();
-        }
-      }
-
-      else if ( sp instanceof Snake ) {
-        Snake target = (Snake)sp;
-        if ( target.hitsHead(mXPos, mYPos, mZPos) ) {
-          mHitTarget = true;
-          target.shotInHead();
-        } else if ( target.hitsBody(mXPos, mYPos, mZPos) ) {
-          mHitTarget = true;
-          target.shotInBody(mXPos, mYPos);
-        }
-      }
-      
-      else if ( sp instanceof Spinner ) {
-        Spinner target = (Spinner)sp;
-        if ( target.hits(mXPos, mYPos, mZPos) ) {
-          mHitTarget = true;
-          Env.sounds().play(Sounds.ARROW_HIT);
-        }
-      }
-      
-      else if ( sp instanceof Spook ) {
-        Spook target = (Spook)sp;
-        if ( target.hits(mXPos, mYPos, mZPos) ) {
-          target.destroy(mDirec);
-        }
-      }
-      
-      else if ( sp instanceof Statue ) {
-        Statue target = (Statue)sp;
-        if ( !target.isEmpty(mXPos, mYPos, mZPos+1) ) {
-          mHitTarget = true;
-          Env.sounds().play(Sounds.ARROW_HIT);
-          target.setHit(true);
-        }
-      }
-      
-      else if ( sp instanceof Triffid ) {
-        Triffid target = (Triffid)sp;
-        if ( target.hits(mXPos, mYPos, mZPos) ) {
-          mHitTarget = true;
-          boolean lethal = ( mSource instanceof Triffid );
-          target.stun(mDirec, lethal);
-        }
-      }
-      
-      else if ( sp instanceof TriffidBoss ) {
-        TriffidBoss target = (TriffidBoss)sp;
-        if ( target.hits(mXPos, mYPos, mZPos) ) {
-          mHitTarget = true;
-          boolean lethal = ( mSource instanceof Triffid );
-          target.stun(mDirec, lethal);
-        }
+    final CollisionGrid grid = mCollisionGrid;
+    final int numTargets = grid.find(CollisionGrid.kTarget, 
+                                     mXPos, mYPos, mZPos,
+                                     mXPos, mYPos, mZPos+1);
+    for ( int k = 0 ; k < numTargets ; k++ ) {
+      if ( grid.sprite(k) == mSource ) continue;
+      if ( grid.target(k).hitByBullet(mXPos, mYPos, mZPos, 
+                                      mDirec, mSource) ) {
+        mHitTarget = true;
       }
-      
     }
     
   } // Sprite.interact()
@@ -16,10 +16,14 @@ public class Camera extends Sprite {
               mYPos,
               mZPos;
   
+  // counts changes of position (see Sprite.staticVersion())
+  private int mVersion;
+  
   // constructor
   public Camera() {
     
     mXPos = mYPos = mZPos = 0;
+    mVersion = 0;
     
   } // constructor
 
@@ -27,8 +31,20 @@ public class Camera extends Sprite {
   public int xPos() { return mXPos; }
   public int yPos() { return mYPos; }
   public int zPos() { return mZPos; }
-  public void set(int x, int y, int z) {mXPos=x; mYPos=y; mZPos=z;}
-  public void shift(int dx, int dy, int dz) {mXPos+=dx; mYPos+=dy; mZPos+=dz;}
+  public void set(int x, int y, int z) {
+    if ( x != mXPos || y != mYPos || z != mZPos ) mVersion++;
+    mXPos=x; mYPos=y; mZPos=z;
+  }
+  public void shift(int dx, int dy, int dz) {
+    if ( dx != 0 || dy != 0 || dz != 0 ) mVersion++;
+    mXPos+=dx; mYPos+=dy; mZPos+=dz;
+  }
+  
+  // the camera is static until it moves
+  @Override
+  public boolean isStatic() { return true; }
+  @Override
+  public int staticVersion() { return mVersion; }
   
   // update (does nothing)
   @Override
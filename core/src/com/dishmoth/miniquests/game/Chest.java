@@ -33,7 +33,7 @@ public class Chest extends Sprite3D implements Obstacle {
   private boolean mDirecDown;
   
   // prepare images
-  public static void initialize() {
+  public static synchronized void initialize() {
 
     if ( kImageOpenDown != null ) return;
     
@@ -0,0 +1,19 @@
+/*
+ *  Collider.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// a sprite of limited size that other sprites can collide with
+// (colliders are sorted into a CollisionGrid each tick, see Hazard and 
+// Hittable for the kinds of collision)
+public interface Collider {
+
+  // the range of positions where the sprite may collide with something
+  // (fills in {xMin, yMin, zMin, xMax, yMax, zMax}, returns false if none)
+  // (the range must not grow during the interact stage of a tick)
+  public boolean getCollisionBounds(int bounds[]);
+
+} // interface Collider
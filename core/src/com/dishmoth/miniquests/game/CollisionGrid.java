@@ -0,0 +1,254 @@
+/*
+ *  CollisionGrid.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// the Hazards and Hittables held by a SpriteManager, sorted into cells of a
+// uniform grid so that a moving sprite only needs to check the colliders 
+// that share its cells (see Player.interact() and Bullet.interact())
+// the SpriteManager rebuilds the grid at the start of each interact stage
+public class CollisionGrid {
+
+  // kinds of collider (values are bits since a sprite may be both)
+  static public final int kHazard = 1,
+                          kTarget = 2;
+  
+  // the cells are squares of this many positions (as a power of two)
+  private static final int kCellShift = 2;
+  
+  // number of hash buckets that the cells are spread over (power of two)
+  private static final int kNumBuckets = 64;
+  
+  // colliders spanning more cells than this are checked for every query
+  private static final int kMaxCells = 16;
+  
+  // marks the end of a linked list of entries
+  private static final int kNoEntry = -1;
+  
+  // the colliders for this tick (in update order) with their kinds and 
+  // bounds (six values per collider)
+  private Sprite mColliders[];
+  private int    mKinds[],
+                 mBounds[];
+  private int    mNumColliders;
+  
+  // for each entry, the collider index and the next entry in the list
+  private int mEntryColliders[],
+              mEntryNext[];
+  private int mNumEntries;
+  
+  // linked list of entries for each hash bucket
+  private int mBucketHeads[];
+  
+  // linked list of entries for colliders too big for the buckets
+  private int mWideHead;
+  
+  // the results of the last query (collider indices in update order)
+  private int mFound[];
+  private int mNumFound;
+  
+  // the last query to find each collider (so that it is only found once)
+  private int mMarks[];
+  private int mQuery;
+  
+  // temporary space for collider bounds
+  private int mTempBounds[];
+  
+  // constructor
+  public CollisionGrid() {
+    
+    mColliders = new Sprite[16];
+    mKinds = new int[16];
+    mBounds = new int[6*16];
+    mMarks = new int[16];
+    mFound = new int[16];
+    mEntryColliders = new int[32];
+    mEntryNext = new int[32];
+    mBucketHeads = new int[kNumBuckets];
+    mTempBounds = new int[6];
+    mQuery = 0;
+    clear();
+    
+  } // constructor
+  
+  // the kinds of collider a sprite is (zero if it isn't one)
+  static public int kindOf(Sprite sprite) {
+    
+    int kind = 0;
+    if ( sprite instanceof Hazard ) kind |= kHazard;
+    if ( sprite instanceof Hittable ) kind |= kTarget;
+    return kind;
+    
+  } // kindOf()
+  
+  // number of colliders in the grid
+  public int size() { return mNumColliders; }
+  
+  // remove all colliders from the grid
+  public void clear() {
+    
+    for ( int k = 0 ; k < mNumColliders ; k++ ) mColliders[k] = null;
+    mNumColliders = 0;
+    mNumEntries = 0;
+    mNumFound = 0;
+    for ( int k = 0 ; k < kNumBuckets ; k++ ) mBucketHeads[k] = kNoEntry;
+    mWideHead = kNoEntry;
+    
+  } // clear()
+  
+  // add a collider to the grid (see kindOf())
+  // (colliders must be added in update order, which queries then follow)
+  public void add(Sprite sprite, int kind) {
+    
+    assert( kind != 0 && (kind & ~(kHazard|kTarget)) == 0 );
+    final int bounds[] = mTempBounds;
+    if ( !((Collider)sprite).getCollisionBounds(bounds) ) return;
+    assert( bounds[0] <= bounds[3] && bounds[1] <= bounds[4] && 
+            bounds[2] <= bounds[5] );
+    
+    if ( mNumColliders == mColliders.length ) {
+      final int size = 2*mNumColliders;
+      Sprite colliders[] = new Sprite[size];
+      System.arraycopy(mColliders, 0, colliders, 0, mNumColliders);
+      mColliders = colliders;
+      mKinds = grow(mKinds, size);
+      mBounds = grow(mBounds, 6*size);
+      mMarks = grow(mMarks, size);
+      mFound = grow(mFound, size);
+    }
+    
+    final int index = mNumColliders++;
+    mColliders[index] = sprite;
+    mKinds[index] = kind;
+    mMarks[index] = mQuery;
+    System.arraycopy(bounds, 0, mBounds, 6*index, 6);
+    
+    final int cx0 = (bounds[0] >> kCellShift),
+              cy0 = (bounds[1] >> kCellShift),
+              cx1 = (bounds[3] >> kCellShift),
+              cy1 = (bounds[4] >> kCellShift);
+    if ( (cx1-cx0+1)*(cy1-cy0+1) > kMaxCells ) {
+      mWideHead = addEntry(index, mWideHead);
+      return;
+    }
+    
+    for ( int cy = cy0 ; cy <= cy1 ; cy++ ) {
+      for ( int cx = cx0 ; cx <= cx1 ; cx++ ) {
+        final int bucket = bucket(cx, cy);
+        mBucketHeads[bucket] = addEntry(index, mBucketHeads[bucket]);
+      }
+    }
+    
+  } // add()
+  
+  // find colliders of the specified kinds whose bounds overlap a range of
+  // positions (returns the number found, see hazard() and target())
+  public int find(int kind, int x0, int y0, int z0, int x1, int y1, int z1) {
+    
+    assert( x0 <= x1 && y0 <= y1 && z0 <= z1 );
+    
+    mQuery++;
+    mNumFound = 0;
+    
+    final int cx0 = (x0 >> kCellShift),
+              cy0 = (y0 >> kCellShift),
+              cx1 = (x1 >> kCellShift),
+              cy1 = (y1 >> kCellShift);
+    if ( (cx1-cx0+1)*(cy1-cy0+1) > kMaxCells ) {
+      for ( int k = 0 ; k < mNumColliders ; k++ ) {
+        check(k, kind, x0, y0, z0, x1, y1, z1);
+      }
+      return mNumFound;
+    }
+    
+    for ( int e = mWideHead ; e != kNoEntry ; e = mEntryNext[e] ) {
+      check(mEntryColliders[e], kind, x0, y0, z0, x1, y1, z1);
+    }
+    for ( int cy = cy0 ; cy <= cy1 ; cy++ ) {
+      for ( int cx = cx0 ; cx <= cx1 ; cx++ ) {
+        final int bucket = bucket(cx, cy);
+        for ( int e = mBucketHeads[bucket] ; e != kNoEntry ; 
+              e = mEntryNext[e] ) {
+          check(mEntryColliders[e], kind, x0, y0, z0, x1, y1, z1);
+        }
+      }
+    }
+    
+    // keep the results in update order (insertion sort, lists are short)
+    for ( int k = 1 ; k < mNumFound ; k++ ) {
+      final int index = mFound[k];
+      int j = k;
+      while ( j > 0 && mFound[j-1] > index ) {
+        mFound[j] = mFound[j-1];
+        j--;
+      }
+      mFound[j] = index;
+    }
+    return mNumFound;
+    
+  } // find()
+  
+  // access the results of the last query
+  public Sprite sprite(int k) { return mColliders[found(k)]; }
+  public Hazard hazard(int k) { return (Hazard)mColliders[found(k)]; }
+  public Hittable target(int k) { return (Hittable)mColliders[found(k)]; }
+  
+  // index of a collider found by the last query
+  private int found(int k) {
+    
+    assert( k >= 0 && k < mNumFound );
+    return mFound[k];
+    
+  } // found()
+  
+  // add a collider to the query results if it matches
+  private void check(int index, int kind, 
+                     int x0, int y0, int z0, int x1, int y1, int z1) {
+    
+    if ( mMarks[index] == mQuery ) return;
+    mMarks[index] = mQuery;
+    
+    if ( (mKinds[index] & kind) == 0 ) return;
+    final int b = 6*index;
+    if ( x1 < mBounds[b]   || x0 > mBounds[b+3] ||
+         y1 < mBounds[b+1] || y0 > mBounds[b+4] ||
+         z1 < mBounds[b+2] || z0 > mBounds[b+5] ) return;
+    mFound[mNumFound++] = index;
+    
+  } // check()
+  
+  // add an entry to the front of a linked list (returns the new head)
+  private int addEntry(int index, int head) {
+    
+    if ( mNumEntries == mEntryColliders.length ) {
+      mEntryColliders = grow(mEntryColliders, 2*mNumEntries);
+      mEntryNext = grow(mEntryNext, 2*mNumEntries);
+    }
+    
+    final int entry = mNumEntries++;
+    mEntryColliders[entry] = index;
+    mEntryNext[entry] = head;
+    return entry;
+    
+  } // addEntry()
+  
+  // hash bucket for a grid cell
+  static private int bucket(int cx, int cy) {
+    
+    return ( (cx*73856093) ^ (cy*19349663) ) & (kNumBuckets-1);
+    
+  } // bucket()
+  
+  // copy an array into a larger one
+  static private int[] grow(int array[], int size) {
+    
+    int newArray[] = new int[size];
+    System.arraycopy(array, 0, newArray, 0, array.length);
+    return newArray;
+    
+  } // grow()
+  
+} // class CollisionGrid
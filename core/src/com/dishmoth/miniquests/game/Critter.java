@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a monster
-public class Critter extends Sprite3D implements Obstacle {
+public class Critter extends Sprite3D implements Obstacle, Hazard, Hittable {
 
   // time to take various actions
   private static final int kTurnTime      = 3,
@@ -91,10 +91,17 @@ public class Critter extends Sprite3D implements Obstacle {
   private Track mTrack;
   
   // list of objects to navigate around
-  private LinkedList<Obstacle> mObstacles = new LinkedList<Obstacle>();
+  private ObstacleSet mObstacles = new ObstacleSet();
+
+  // internal arrays used by advance() to avoid memory allocation
+  // (end z-position of a step in each direction, whether the step is valid,
+  // and a list of directions to choose from)
+  private int     mStepHeights[]     = new int[4];
+  private boolean mValidDirections[] = new boolean[4];
+  private int     mRandomDirecs[]    = new int[4];
 
   // prepare the images
-  static public void initialize() {
+  static public synchronized void initialize() {
 
     if ( kCritterImages != null ) return;
     
@@ -236,6 +243,12 @@ public class Critter extends Sprite3D implements Obstacle {
   // set whether the critter makes any sound
   public void setSilent(boolean v) { mSilent = v; }
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryObstacle | kCategoryCritter);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -246,7 +259,7 @@ public class Critter extends Sprite3D implements Obstacle {
       if ( newSprite instanceof Barrier ) {
         if ( !((Barrier)newSprite).blocks(this) ) return;
       }
-      mObstacles.add((Obstacle)newSprite);
+      mObstacles.add(newSprite);
     }
     
   } // Sprite.observeArrival()
@@ -311,27 +324,29 @@ public class Critter extends Sprite3D implements Obstacle {
     } else {
 
       // try stepping
-      Integer zDests[] = checkDirections(mXPos, mYPos, mZPos);
+      final boolean validDirecs[] = checkDirections(mXPos, mYPos, mZPos);
       
       int direc = mDirec;
-      if ( !mTurning || zDests[mDirec] == null ) {
-        LinkedList<Integer> randomDirec = new LinkedList<Integer>();
+      if ( !mTurning || !validDirecs[mDirec] ) {
+        int numDirecs = 0;
         for ( int dir = 0 ; dir < 4 ; dir++ ) {
-          if ( dir != mDirecFrom && zDests[dir] != null ) randomDirec.add(dir);
+          if ( dir != mDirecFrom && validDirecs[dir] ) {
+            mRandomDirecs[numDirecs++] = dir;
+          }
         }
-        Env.shuffle(randomDirec);
-        if ( zDests[mDirecFrom] != null ) randomDirec.add(mDirecFrom);
-        if ( randomDirec.size() > 0 ) {
-          direc = randomDirec.getFirst();          
+        Env.shuffle(mRandomDirecs, numDirecs);
+        if ( validDirecs[mDirecFrom] ) mRandomDirecs[numDirecs++] = mDirecFrom;
+        if ( numDirecs > 0 ) {
+          direc = mRandomDirecs[0];
         } else {
           direc = (mDirec + Env.randomInt(3)) % 4;
         }
       }
 
-      if ( direc == mDirec && zDests[direc] != null ) {
+      if ( direc == mDirec && validDirecs[direc] ) {
         mStepXPos = mXPos + Env.STEP_X[mDirec]; 
         mStepYPos = mYPos + Env.STEP_Y[mDirec];
-        mStepZPos = zDests[direc];
+        mStepZPos = mStepHeights[direc];
         mDirecFrom = ((mDirec+2) % 4);
         mStepping = true;
         mTurning = false;
@@ -380,42 +395,31 @@ public class Critter extends Sprite3D implements Obstacle {
   // check isPlatform() on all obstacles
   private boolean checkIsPlatform(int x, int y, int z) {
     
-    for ( Obstacle ob : mObstacles ) {
-      if ( ob.isPlatform(x, y, z) ) return true;
-    }
-    return false;
+    return mObstacles.isPlatform(x, y, z);
     
   } // isPlatform()
   
-  // check isEmpty() on all obstacles
-  private boolean checkIsEmpty(int x, int y, int z) {
+  // check isEmpty() on all obstacles for a column of positions
+  private boolean checkIsClear(int x, int y, int z, int height) {
     
-    for ( Obstacle ob : mObstacles ) {
-      if ( !ob.isEmpty(x, y, z) ) return false;
-    }
-    return true;
+    return mObstacles.isClear(x, y, z, height);
     
-  } // checkIsEmpty()
+  } // checkIsClear()
   
   // whether it's possible for the critter to be at the specified position
   private boolean standingPosition(int x, int y, int z) {
     
-    if ( !checkIsPlatform(x, y, z) ) return false;
-    
-    for ( int k = 1 ; k <= kHeight ; k++ ) {
-      if ( !checkIsEmpty(x, y, z+k) ) return false;
-    }
-
-    return true;
+    return ( checkIsPlatform(x, y, z) && checkIsClear(x, y, z+1, kHeight) );
     
   } // standingPosition()
 
   // which directions are possible to step in from here 
-  // (returns array of step end z-positions, or null if direction invalid)
-  private Integer[] checkDirections(int x, int y, int z) {
+  // (the step end z-positions are stored in mStepHeights)
+  private boolean[] checkDirections(int x, int y, int z) {
 
-    Integer zResults[] = new Integer[4];
     for ( int direc = 0 ; direc < 4 ; direc++ ) {
+      mValidDirections[direc] = false;
+      
       if ( mTrack != null && !mTrack.canMove(x, y, z, direc) ) continue;
       
       final int xDest = x + Env.STEP_X[direc],
@@ -424,12 +428,13 @@ public class Critter extends Sprite3D implements Obstacle {
       for ( int k = 0 ; k < 5 ; k++ ) {
         final int zDest = z + ((k<=2) ? k : (2-k));
         if ( standingPosition(xDest, yDest, zDest) ) {
-          zResults[direc] = zDest;
+          mStepHeights[direc] = zDest;
+          mValidDirections[direc] = true;
           break;
         }
       }
     }
-    return zResults;
+    return mValidDirections;
         
   } // checkDirections()
   
@@ -440,17 +445,11 @@ public class Critter extends Sprite3D implements Obstacle {
 
     for ( int dz = +1 ; dz >= -1 ; dz-- ) {
       if ( checkIsPlatform(x, y, z+dz) ) {
-        for ( int k = 1 ; k <= kHeight ; k++ ) {
-          if ( !checkIsEmpty(x, y, z+dz+k) ) return +2;
-        }
-        return dz;
+        return ( checkIsClear(x, y, z+dz+1, kHeight) ? dz : +2 );
       }
     }
     
-    for ( int k = 0 ; k <= kHeight ; k++ ) {
-      if ( !checkIsEmpty(x, y, z+k) ) return +2;
-    }
-    return -2;
+    return ( checkIsClear(x, y, z, kHeight+1) ? -2 : +2 );
     
   } // checkPosition()
 
@@ -480,6 +479,41 @@ public class Critter extends Sprite3D implements Obstacle {
     
   } // hits()
   
+  // range of positions the critter may occupy
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    bounds[0] = bounds[3] = mXPos;
+    bounds[1] = bounds[4] = mYPos;
+    if ( mStepping ) {
+      bounds[0] = Math.min(bounds[0], mStepXPos);
+      bounds[1] = Math.min(bounds[1], mStepYPos);
+      bounds[3] = Math.max(bounds[3], mStepXPos);
+      bounds[4] = Math.max(bounds[4], mStepYPos);
+    }
+    bounds[2] = mZPos;
+    bounds[5] = mZPos + kHeight - 1;
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // whether the critter touches the player
+  public boolean hitsPlayer(int x, int y, int z, 
+                            int stepX, int stepY, int stepZ, int height) {
+    
+    return ( hits(x, x, y, y, z, z+height-1) ||
+             hits(stepX, stepX, stepY, stepY, stepZ, stepZ+height-1) );
+    
+  } // Hazard.hitsPlayer()
+  
+  // the critter is stunned by a bullet
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source) {
+    
+    if ( !hits(x, y, z) ) return false;
+    stun(direc);
+    return true;
+    
+  } // Hittable.hitByBullet()
+  
   // handle consequences of collisions
   @Override
   public void aftermath(LinkedList<Sprite>     addTheseSprites, 
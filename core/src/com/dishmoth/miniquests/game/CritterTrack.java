@@ -17,6 +17,10 @@ public class CritterTrack implements Track {
   // array with non-spaces in positions where the Critter can go
   final private String mTrackData[];
   
+  // for each position (counting rows from the bottom), bits for the 
+  // directions that lead to another position on the track
+  final private byte mMoves[][];
+  
   // constructor (default ref position)
   public CritterTrack(String trackData[]) {
     
@@ -25,6 +29,8 @@ public class CritterTrack implements Track {
     
     mXRef = mYRef = 0;
     
+    mMoves = buildMoves();
+    
   } // constructor
   
   // constructor (with ref position)
@@ -36,6 +42,8 @@ public class CritterTrack implements Track {
     mXRef = xRef;
     mYRef = yRef;
     
+    mMoves = buildMoves();
+    
   } // constructor
 
   // whether the Critter can move in the specified direction
@@ -45,10 +53,38 @@ public class CritterTrack implements Track {
     
     assert( direc >= 0 && direc < 4 );
     assert( trackAt(xPos, yPos) );
+    
+    final int dx = xPos - mXRef,
+              dy = yPos - mYRef;
+    if ( dy >= 0 && dy < mMoves.length && dx >= 0 && dx < mMoves[dy].length ) {
+      return ( (mMoves[dy][dx] & (1 << direc)) != 0 );
+    }
     return trackAt(xPos + Env.STEP_X[direc], yPos + Env.STEP_Y[direc]);
     
   } // canMove()
   
+  // work out the possible moves from each position on the track
+  private byte[][] buildMoves() {
+    
+    final int numRows = mTrackData.length;
+    byte moves[][] = new byte[numRows][];
+    for ( int dy = 0 ; dy < numRows ; dy++ ) {
+      final int numCols = mTrackData[numRows-1-dy].length();
+      moves[dy] = new byte[numCols];
+      for ( int dx = 0 ; dx < numCols ; dx++ ) {
+        final int x = mXRef + dx,
+                  y = mYRef + dy;
+        for ( int direc = 0 ; direc < 4 ; direc++ ) {
+          if ( trackAt(x + Env.STEP_X[direc], y + Env.STEP_Y[direc]) ) {
+            moves[dy][dx] |= (1 << direc);
+          }
+        }
+      }
+    }
+    return moves;
+    
+  } // buildMoves()
+  
   // whether the track is defined at the specified position 
   private boolean trackAt(int x, int y) {
     
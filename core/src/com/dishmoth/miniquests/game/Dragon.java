@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a big enemy
-public class Dragon extends Sprite3D implements Obstacle {
+public class Dragon extends Sprite3D implements Obstacle, Hittable {
 
   // details of the basic image
   private static final int   kWidth      = 8,
@@ -201,7 +201,7 @@ public class Dragon extends Sprite3D implements Obstacle {
   private boolean mKillable;
   
   // prepare resources
-  static public void initialize() {
+  static public synchronized void initialize() {
     
     if ( kBasicImages != null ) return;
     
@@ -332,6 +332,27 @@ public class Dragon extends Sprite3D implements Obstacle {
   
   } // hits()
 
+  // range of positions where the dragon can be hit
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    if ( mHeight <= 0 ) return false;
+    bounds[0] = bounds[3] = mXPos;
+    bounds[1] = bounds[4] = mYPos;
+    bounds[2] = mZPos;
+    bounds[5] = mZPos + mHeight - 1;
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // the dragon is stunned by a bullet
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source) {
+    
+    if ( !hits(x, y, z) ) return false;
+    stun();
+    return true;
+    
+  } // Hittable.hitByBullet()
+
   // the dragon takes a hit
   public void stun() {
     
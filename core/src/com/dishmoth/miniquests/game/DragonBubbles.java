@@ -38,7 +38,7 @@ public class DragonBubbles extends Flame {
       setFlame(false);
     }
 
-    if ( !isOn() && mParticles.size() == 0 ) {
+    if ( !isOn() && mNumParticles == 0 ) {
       killTheseSprites.add(this);
     }
     
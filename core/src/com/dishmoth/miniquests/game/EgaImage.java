@@ -181,6 +181,32 @@ public class EgaImage {
     
   } // plot()
   
+  // colour a batch of individual pixels (dependent on depth)
+  // (coords holds (x,y) pairs, and each pixel is plotted as above)
+  public void plot(int coords[], float depths[], byte colours[], int num) {
+    
+    assert( coords.length >= 2*num );
+    assert( depths.length >= num && colours.length >= num );
+    
+    final byte  pixels[]    = mPixels;
+    final float pixDepths[] = mDepths;
+    final int   width       = mWidth,
+                height      = mHeight;
+    
+    for ( int k = 0, j = 0 ; k < num ; k++, j += 2 ) {
+      final int x = coords[j] + mRefXPos,
+                y = coords[j+1] + mRefYPos;
+      if ( x < 0 || x >= width || y < 0 || y >= height ) continue;
+      final int index = x + y*width;
+      final float depth = depths[k];
+      if ( depth > pixDepths[index] ) continue;
+      assert( colours[k] >= 0 && colours[k] < 64 );
+      pixels[index] = colours[k];
+      pixDepths[index] = depth;
+    }
+    
+  } // plot()
+  
   // colour a rectangle of pixels (ignoring depth)
   public void fill(int x0, int x1, int y0, int y1, byte colour) {
     
@@ -243,6 +269,28 @@ public class EgaImage {
     
   } // fill()
   
+  // make a rectangle of pixels transparent (and reset their depths)
+  public void clear(int x0, int x1, int y0, int y1) {
+    
+    x0 += mRefXPos;
+    y0 += mRefYPos;
+    x1 += mRefXPos;
+    y1 += mRefYPos;
+
+    x0 = Math.max(x0, 0);
+    x1 = Math.min(x1, mWidth-1);
+    y0 = Math.max(y0, 0);
+    y1 = Math.min(y1, mHeight-1);
+    if ( x1 < x0 || y1 < y0 ) return;
+    
+    for ( int iy = y0 ; iy <= y1 ; iy++ ) {
+      final int index = x0 + iy*mWidth;
+      Arrays.fill(mPixels, index, index + (x1-x0+1), (byte)-1);
+      Arrays.fill(mDepths, index, index + (x1-x0+1), 1.0e6f);
+    }
+    
+  } // clear()
+  
   // display the image with its reference point at the specified position
   // (xy in pixels, origin top-left) 
   public void draw(EgaImage canvas, int xPos, int yPos, float depth) {
@@ -54,6 +54,19 @@ public class EntranceStory extends Story {
   // constructor
   public EntranceStory(int questNum) {
 
+    prepareImages();
+    
+    mQuestNum = questNum;
+    
+    mTextPic = null;
+    mArrows  = null;
+    mFadeOut = null;
+    
+  } // constructor
+  
+  // load the images (shared by all instances of the story)
+  static private synchronized void prepareImages() {
+    
     if ( kMissionText == null ) {
       kMissionText = Env.resources().loadEgaImage("MissionText.png");
     }
@@ -66,13 +79,7 @@ public class EntranceStory extends Story {
       kFireText = Env.resources().loadEgaImage("FireText"+gdxText+".png");
     }
     
-    mQuestNum = questNum;
-    
-    mTextPic = null;
-    mArrows  = null;
-    mFadeOut = null;
-    
-  } // constructor
+  } // prepareImages()
   
   // process events and advance 
   @Override
@@ -23,12 +23,13 @@ public class Env {
                           STEP_Y[] = { 0, +1, 0, -1 };
 
   // different platforms we might be running on
-  public enum Platform { APP,     // pure java (non-libgdx) application 
-                         DESKTOP, // libgdx, PC application
-                         ANDROID, // libgdx, Android phone or tablet
-                         OUYA,    // libgdx, Android console
-                         IOS,     // libgdx, iOS phone or tablet
-                         HTML }   // HTML5/WebGL through GWT
+  public enum Platform { APP,      // pure java (non-libgdx) application 
+                         DESKTOP,  // libgdx, PC application
+                         ANDROID,  // libgdx, Android phone or tablet
+                         OUYA,     // libgdx, Android console
+                         IOS,      // libgdx, iOS phone or tablet
+                         HTML,     // HTML5/WebGL through GWT
+                         HEADLESS } // pure java, no display/audio/input
   
   // whether to display debug messages, timing statistics, etc.
   static private boolean kDebugMode = true;
@@ -44,66 +45,95 @@ public class Env {
   // frame rate
   static private final int kTicksPerSecond = 30;
   
-  // frames since the game was initialized
-  static private long kTicks;
+  // keeps track of the current context for each thread
+  // (platforms that run several games at once supply one of these, 
+  // otherwise a single context is current everywhere)
+  public interface ContextBinding {
+    public GameContext current();
+    public void setCurrent(GameContext context);
+  } // interface Env.ContextBinding
+  
+  // the current context (if there is no binding)
+  static private GameContext kContext;
 
-  // assorted helper objects
-  static private Random      kRandom;
-  static private EnvBits     kEnvBits;
-  static private KeyMonitor  kKeyMonitor;
-  static private Resources   kResources;
-  static private Sounds      kSounds;
-  static private SaveState   kSaveState;
-  static private ScreenScale kScreenScale;
+  // the current context for each thread (or null)
+  static private ContextBinding kBinding;
   
   // this sets up a global Env for the application
+  // (or a new context for the calling thread if there is a binding)
   static public void initialize(EnvBits envBits,
                                 Resources resources, 
                                 Sounds sounds) {
 
-    kTicks = 0;
-    
-    kRandom      = new Random();
-    kEnvBits     = envBits;
-    kKeyMonitor  = null;
-    kResources   = resources;
-    kSounds      = sounds;
-    kSaveState   = new SaveState();
-    kScreenScale = new ScreenScale();
-    
-    kEnvBits.initialize();
-    kSounds.initialize();
+    GameContext context = new GameContext(envBits, resources, sounds);
+    useContext(context);
+    context.initialize();
     
   } // initialize()
 
+  // supply a per-thread current context (before calling initialize())
+  static public void setContextBinding(ContextBinding binding) {
+    
+    kBinding = binding;
+    
+  } // setContextBinding()
+  
+  // the context that the functions below act on
+  static public GameContext context() { 
+    
+    return ( kBinding != null ) ? kBinding.current() : kContext;
+    
+  } // context()
+  
+  // change the current context (for the calling thread if there's a binding)
+  static public void useContext(GameContext context) {
+    
+    if ( kBinding != null ) kBinding.setCurrent(context);
+    else                    kContext = context;
+    
+  } // useContext()
+  
+  // restart the random number sequence from a known seed
+  // (for repeatable runs of the game, e.g., headless testing)
+  static public void setRandomSeed(long seed) {
+    
+    context().setRandomSeed(seed);
+    
+  } // setRandomSeed()
+  
+  // the current state of the random number sequence (see GameRandom)
+  static public long randomState() { return context().random().state(); }
+  
+  // continue the random number sequence from a recorded state
+  static public void setRandomState(long state) { 
+    context().random().setState(state); 
+  }
+  
   // add the key/mouse/etc controller after initialization
   static public void addKeyMonitor(KeyMonitor keyMonitor) {
     
-    assert( kKeyMonitor == null && keyMonitor != null );
-    kKeyMonitor = keyMonitor;
+    context().addKeyMonitor(keyMonitor);
     
   } // addKeyMonitor()
   
   // replace the default screen-scale controller after initialization
   static public void setScreenScale(ScreenScale scale) {
     
-    assert( scale != null );
-    kScreenScale = scale;
+    context().setScreenScale(scale);
     
   } // setScreenScale()
   
   // discard resources
   static public void dispose() {
     
-    kRandom = null;
-    kKeyMonitor = null;
-    kResources = null;
-    kSounds = null;
+    context().dispose();
     
   } // dispose()
 
   // which device we're running on
-  static public Platform platform() { return kEnvBits.platform(); }
+  static public Platform platform() { 
+    return context().envBits().platform(); 
+  }
   
   // size of screen (pixels)
   static public int screenWidth() { return kScreenWidth; }
@@ -126,38 +156,51 @@ public class Env {
   static public int ticksPerSecond() { return kTicksPerSecond; }
   
   // frames since the start of the game
-  static public long ticks() { return kTicks; }
+  static public long ticks() { return context().ticks(); }
   
   // note that the game has advanced by one frame
-  static public void incrementTicks() { ++kTicks; }
+  static public void incrementTicks() { context().incrementTicks(); }
+  
+  // reset the frame count (when restoring a snapshot of the game)
+  static public void setTicks(long ticks) { context().setTicks(ticks); }
   
   // display debug text
   static public boolean debugMode() { return kDebugMode; }
-  static public void debug(String s) { if (kDebugMode) kEnvBits.debug(s); }
+  static public void debug(String s) { 
+    if (kDebugMode) context().envBits().debug(s); 
+  }
   
   // terminate the game
-  static public void exit() { kEnvBits.exit(); }
+  static public void exit() { context().envBits().exit(); }
   
   // save some game data
-  static public void save(byte data[]) { kEnvBits.save(data); }
+  static public void save(byte data[]) { context().envBits().save(data); }
+  
+  // finish writing any saved game data
+  static public void flushSave() { context().envBits().flushSave(); }
   
   // load the game data
-  static public byte[] load() { return kEnvBits.load(); }
+  static public byte[] load() { return context().envBits().load(); }
 
   // return reference to keyboard and mouse monitors
-  static public KeyMonitor keys()  { return kKeyMonitor; }
+  static public KeyMonitor keys()  { return context().keys(); }
   
   // return reference to game resources
-  static public Resources resources() { return kResources; }
+  static public Resources resources() { return context().resources(); }
   
   // return reference to game audio
-  static public Sounds sounds() { return kSounds; }
+  static public Sounds sounds() { return context().sounds(); }
 
   // return reference to game's save state
-  static public SaveState saveState() { return kSaveState; }
+  static public SaveState saveState() { return context().saveState(); }
 
   // return reference to game's screen scale helper
-  static public ScreenScale screenScale() { return kScreenScale; }
+  static public ScreenScale screenScale() { 
+    return context().screenScale(); 
+  }
+  
+  // return reference to game loop timing statistics
+  static public Telemetry telemetry() { return context().telemetry(); }
   
   // send a log message back to HQ (for beta testing only)
   static public void report(String message) {
@@ -166,27 +209,27 @@ public class Env {
   
   // assorted functions for returning random numbers
   static public float randomFloat() { // in range [0,1]
-    return kRandom.nextFloat(); 
+    return context().random().nextFloat(); 
   } // randomFloat()
   static public float randomFloat(float a, float b) { // in range [a,b] 
-    return ( a + (b-a)*kRandom.nextFloat() ); 
+    return ( a + (b-a)*context().random().nextFloat() ); 
   } // randomFloat()
   static public double randomDouble() { // in range [0,1]
-    return kRandom.nextDouble(); 
+    return context().random().nextDouble(); 
   } // randomDouble()
   static public double randomDouble(double a, double b) { // in range [a,b] 
-    return ( a + (b-a)*kRandom.nextDouble() ); 
+    return ( a + (b-a)*context().random().nextDouble() ); 
   } // randomDouble()
   static public int randomInt(int n) { // in range [0,n-1] 
-    return kRandom.nextInt(n); 
+    return context().random().nextInt(n); 
   } // randomInt()
   static public int randomInt(int a, int b) { // in range [a,b]
-    if ( a > b )      return ( b + kRandom.nextInt(a-b+1) );
-    else if ( a < b ) return ( a + kRandom.nextInt(b-a+1) );
+    if ( a > b )      return ( b + context().random().nextInt(a-b+1) );
+    else if ( a < b ) return ( a + context().random().nextInt(b-a+1) );
     else              return a;
   } // randomInt()
   static public boolean randomBoolean() { 
-    return kRandom.nextBoolean(); 
+    return context().random().nextBoolean(); 
   } // randomBoolean()
 
   // assorted modulo-type functions
@@ -260,4 +303,17 @@ public class Env {
     
   } // shuffle()
 
+  // rearrange the first 'num' values of an array (as for the list version)
+  static public void shuffle(int array[], int num) {
+
+    assert( num >= 0 && num <= array.length );
+    for ( int k = num - 1 ; k >= 0 ; k-- ) {
+      int i = Env.randomInt(k+1);
+      int temp = array[k];
+      array[k] = array[i];
+      array[i] = temp;
+    }
+    
+  } // shuffle(array)
+
 } // class Env
@@ -21,9 +21,12 @@ public interface EnvBits {
   // terminate the program (on Android there may be a delay)
   public void exit();
   
-  // save some game data
+  // save some game data (may be written in the background)
   public void save(byte data[]);
   
+  // wait until any saved game data has actually been written
+  public void flushSave();
+  
   // load the game data
   public byte[] load();
   
@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a simple barrier
-public class Fence extends Sprite3D implements Obstacle {
+public class Fence extends Sprite3D implements IndexedObstacle {
 
   // colour schemes for the fence
   private static final byte kColours[] = { 48, 0 };
@@ -27,6 +27,9 @@ public class Fence extends Sprite3D implements Obstacle {
 
   // index of the colour to use
   final private int mColourScheme;
+
+  // index holding the shape of the fence (or null)
+  private ObstacleIndex mObstacleIndex = null;
   
   // constructor
   public Fence(int xPos, int yPos, int zPos, 
@@ -74,6 +77,29 @@ public class Fence extends Sprite3D implements Obstacle {
     
   } // Obstacle.isVoid()
 
+  // range of positions covered by the fence
+  public boolean getBounds(int bounds[]) {
+
+    if ( mDirec == Env.RIGHT ) {
+      bounds[0] = mXPos;
+      bounds[1] = mYPos;
+      bounds[3] = mXPos + mLength - 1;
+      bounds[4] = mYPos;
+    } else {
+      bounds[0] = mXPos;
+      bounds[1] = mYPos;
+      bounds[3] = mXPos;
+      bounds[4] = mYPos + mLength - 1;
+    }
+    bounds[2] = bounds[5] = mZPos + 1;
+    return true;
+    
+  } // IndexedObstacle.getBounds()
+
+  // access to the index holding the shape of the fence
+  public ObstacleIndex obstacleIndex() { return mObstacleIndex; }
+  public void setObstacleIndex(ObstacleIndex index) { mObstacleIndex = index; }
+
   // nothing to do here
   @Override
   public void advance(LinkedList<Sprite> addTheseSprites,
@@ -82,6 +108,10 @@ public class Fence extends Sprite3D implements Obstacle {
 
   } // Sprite.advance()
 
+  // the image never changes
+  @Override
+  public boolean isStatic() { return true; }
+
   // display the object
   @Override
   public void draw(EgaCanvas canvas) {
@@ -88,7 +88,7 @@ public class FenceGate extends Sprite3D implements Obstacle {
   private boolean mIsClosed;
 
   // prepare image
-  public static void initialize() {
+  public static synchronized void initialize() {
     
     if ( kImageRightClosed != null ) return;
 
@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a deadly patch of fire
-public class Flame extends FlameParticles {
+public class Flame extends FlameParticles implements Hazard {
 
   // particle dynamics (different physics modes)
   private static final float kSpeeds[]    = { 0.06f, 0.08f },
@@ -130,6 +130,29 @@ public class Flame extends FlameParticles {
     
   } // hits()
   
+  // range of positions within a unit distance of the flame
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    if ( !mIsOn || !mIsLethal ) return false;
+    
+    bounds[0] = (int)Math.floor(mXPos - 1.0f);
+    bounds[1] = (int)Math.floor(mYPos - 1.0f);
+    bounds[2] = (int)Math.floor(mZPos - 1.0f);
+    bounds[3] = (int)Math.ceil(mXPos + 1.0f);
+    bounds[4] = (int)Math.ceil(mYPos + 1.0f);
+    bounds[5] = (int)Math.ceil(mZPos + 1.0f);
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // whether the flame touches the player
+  public boolean hitsPlayer(int x, int y, int z, 
+                            int stepX, int stepY, int stepZ, int height) {
+    
+    return hits(x, y, z+0.5f*height, 1.0f, 0.5f*height);
+    
+  } // Hazard.hitsPlayer()
+  
   // display the particles
   @Override
   public void draw(EgaCanvas canvas) {
@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // flames over a rectangular area
-public class FlameArea extends FlameParticles {
+public class FlameArea extends FlameParticles implements Hazard {
 
   // number of new particles per frame per area
   private static final float kParticleDensity = 0.2f;
@@ -238,6 +238,29 @@ public class FlameArea extends FlameParticles {
     return ( ch == 'O' || ch == '.' );
     
   } // hits()
+  
+  // range of positions covered by the flames
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    if ( !mIsOn || !mIsLethal ) return false;
+    
+    bounds[0] = mXPos;
+    bounds[1] = mYPos;
+    bounds[2] = mZPos;
+    bounds[3] = mXPos + mXSize - 1;
+    bounds[4] = mYPos + mYSize - 1;
+    bounds[5] = mZPos + (int)kFlameHeight;
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // whether the flames touch the player
+  public boolean hitsPlayer(int x, int y, int z, 
+                            int stepX, int stepY, int stepZ, int height) {
+    
+    return hits(x, y, z+height/2);
+    
+  } // Hazard.hitsPlayer()
 
   // display the particles
   @Override
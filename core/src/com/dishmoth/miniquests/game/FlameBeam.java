@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a deadly line of fire
-public class FlameBeam extends FlameParticles {
+public class FlameBeam extends FlameParticles implements Hazard {
 
   // particle dynamics (different physics modes)
   private static final float kSpeeds[]    = { 0.03f, 0.06f, 0.06f },
@@ -161,6 +161,29 @@ public class FlameBeam extends FlameParticles {
     
   } // hits()
   
+  // range of positions within a unit distance of the beam
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    if ( !mIsOn || !mIsLethal ) return false;
+    
+    bounds[0] = (int)Math.floor(Math.min(mXPos0, mXPos1) - 1.0f);
+    bounds[1] = (int)Math.floor(Math.min(mYPos0, mYPos1) - 1.0f);
+    bounds[2] = (int)Math.floor(Math.min(mZPos0, mZPos1) - 1.0f);
+    bounds[3] = (int)Math.ceil(Math.max(mXPos0, mXPos1) + 1.0f);
+    bounds[4] = (int)Math.ceil(Math.max(mYPos0, mYPos1) + 1.0f);
+    bounds[5] = (int)Math.ceil(Math.max(mZPos0, mZPos1) + 1.0f);
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // whether the beam touches the player
+  public boolean hitsPlayer(int x, int y, int z, 
+                            int stepX, int stepY, int stepZ, int height) {
+    
+    return hits(x, y, z+0.5f*height, 1.0f, 0.5f*height);
+    
+  } // Hazard.hitsPlayer()
+  
   // display the particles
   @Override
   public void draw(EgaCanvas canvas) {
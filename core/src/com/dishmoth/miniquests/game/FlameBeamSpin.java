@@ -117,32 +117,35 @@ public class FlameBeamSpin extends FlameBeam {
                 cth = (float)Math.cos(dAng);
     switch ( mAxis ) {
       case 0: {
-        for ( Particle p : mParticles ) {
-          final float yOld = p.getYPos() - mYPos0,
-                      zOld = p.getZPos() - mZPos0;
+        for ( int k = 0 ; k < mNumParticles ; k++ ) {
+          final float yOld = mParticleYPos[k] - mYPos0,
+                      zOld = mParticleZPos[k] - mZPos0;
           final float yNew = yOld*cth - zOld*sth,
                       zNew = yOld*sth + zOld*cth;
-          p.setPos(p.getXPos(), mYPos0+yNew, mZPos0+zNew);
+          mParticleYPos[k] = mYPos0 + yNew;
+          mParticleZPos[k] = mZPos0 + zNew;
         }
       } break;
       
       case 1: {
-        for ( Particle p : mParticles ) {
-          final float zOld = p.getZPos() - mZPos0,
-                      xOld = p.getXPos() - mXPos0;
+        for ( int k = 0 ; k < mNumParticles ; k++ ) {
+          final float zOld = mParticleZPos[k] - mZPos0,
+                      xOld = mParticleXPos[k] - mXPos0;
           final float zNew = zOld*cth - xOld*sth,
                       xNew = zOld*sth + xOld*cth;
-          p.setPos(mXPos0+xNew, p.getYPos(), mZPos0+zNew);
+          mParticleXPos[k] = mXPos0 + xNew;
+          mParticleZPos[k] = mZPos0 + zNew;
         }
       } break;
       
       case 2: {
-        for ( Particle p : mParticles ) {
-          final float xOld = p.getXPos() - mXPos0,
-                      yOld = p.getYPos() - mYPos0;
+        for ( int k = 0 ; k < mNumParticles ; k++ ) {
+          final float xOld = mParticleXPos[k] - mXPos0,
+                      yOld = mParticleYPos[k] - mYPos0;
           final float xNew = xOld*cth - yOld*sth,
                       yNew = xOld*sth + yOld*cth;
-          p.setPos(mXPos0+xNew, mYPos0+yNew, p.getZPos());
+          mParticleXPos[k] = mXPos0 + xNew;
+          mParticleYPos[k] = mYPos0 + yNew;
         }
       } break;
     }
@@ -73,7 +73,7 @@ public class FlameBolt extends FlameBeam {
     super.advance(addTheseSprites, killTheseSprites, newStoryEvents);
 
     if ( !isOn() ) {
-      if ( mParticles.size() == 0 ) killTheseSprites.add(this);
+      if ( mNumParticles == 0 ) killTheseSprites.add(this);
       return;
     }
     
@@ -33,6 +33,10 @@ abstract public class FlameParticles extends Particles {
   // whether the flame is dangerous
   protected boolean mIsLethal;
 
+  // scratch space for positioning new particles
+  private float mNewPos[]   = new float[3],
+                mNewDirec[] = new float[3];
+
   // constructor
   public FlameParticles() {
 
@@ -105,8 +109,8 @@ abstract public class FlameParticles extends Particles {
   // create a new particle
   protected void addParticle() {
 
-    float pos[] = new float[3];
-    float direc[] = new float[3];
+    final float pos[] = mNewPos,
+                direc[] = mNewDirec;
 
     newParticlePosAndDirec(pos, direc);
     
@@ -114,12 +118,11 @@ abstract public class FlameParticles extends Particles {
     float yVel = mSpeed*direc[1];
     float zVel = mSpeed*direc[2];
     
-    Particle particle = new Particle(pos[0], pos[1], pos[2], 
-                                     xVel, yVel, zVel, 
-                                     mGravity, 
-                                     Env.randomInt(mLifeTimeMin, mLifeTimeMax),
-                                     mColours[0]);
-    add(particle);
+    add(pos[0], pos[1], pos[2], 
+        xVel, yVel, zVel, 
+        mGravity, 
+        Env.randomInt(mLifeTimeMin, mLifeTimeMax),
+        mColours[0]);
     
   } // addParticle()
   
@@ -140,11 +143,11 @@ abstract public class FlameParticles extends Particles {
     
     super.advance(addTheseSprites, killTheseSprites, newStoryEvents);
 
-    for ( Particle p : mParticles ) {
-      final float age = p.age() / (float)p.lifeTime();
+    for ( int k = 0 ; k < mNumParticles ; k++ ) {
+      final float age = mParticleAge[k] / (float)mParticleLifeTime[k];
       assert( age >= 0.0f && age < 1.0f );
       final int colIndex = (int)Math.floor( age*mColours.length );
-      p.setColour( mColours[colIndex] );
+      mParticleColour[k] = mColours[colIndex];
     }
     
   } // Sprite3D.advance()
@@ -143,6 +143,12 @@ public class FloorBoss extends BlockArray {
   // whether the boss has been killed
   public boolean isDead() { return (mState == State.kDead); } 
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryPlayer);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -195,10 +201,9 @@ public class FloorBoss extends BlockArray {
     float cth = (float)Math.cos(2.0*Math.PI*th);
     float mouthRadius = 0.5f*(1.0f-cth)*mFullSize;
     
-    String blocks[][] = new String[1][Room.kSize];
+    BlockGrid blocks = new BlockGrid(Room.kSize, Room.kSize, 1);
     
     for ( int iy = 0 ; iy < Room.kSize ; iy++ ) {
-      StringBuilder row = new StringBuilder();
       float y = Room.kSize - (iy + 0.5f);
       for ( int ix = 0 ; ix < Room.kSize ; ix++ ) {
         float x = ix + 0.5f;
@@ -212,9 +217,8 @@ public class FloorBoss extends BlockArray {
         
         if ( mState == State.kBlasting) ch = '2';
         
-        row.append(ch);
+        blocks.set(ix, Room.kSize-1-iy, 0, ch);
       }
-      blocks[0][iy] = row.toString();
     }
     
     setBlocks(blocks, super.getXPos(), super.getYPos(), super.getZPos());
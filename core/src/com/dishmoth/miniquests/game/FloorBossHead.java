@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // part of the FloorBoss come up to take a look around
-public class FloorBossHead extends Sprite3D implements Obstacle {
+public class FloorBossHead extends Sprite3D implements Obstacle, Hittable {
 
   // details of the basic image
   private static final int   kWidth      = 6,
@@ -86,7 +86,7 @@ public class FloorBossHead extends Sprite3D implements Obstacle {
   private boolean mKillable;
   
   // prepare resources
-  static public void initialize() {
+  static public synchronized void initialize() {
     
     if ( kBasicImages != null ) return;
 
@@ -177,6 +177,28 @@ public class FloorBossHead extends Sprite3D implements Obstacle {
   
   } // hits()
 
+  // range of positions where the head can be hit
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    bounds[0] = mXPos;
+    bounds[1] = mYPos;
+    bounds[2] = mZPos;
+    bounds[3] = mXPos + 1;
+    bounds[4] = mYPos + 1;
+    bounds[5] = mZPos + kZSize - 1;
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // the head is stunned by a bullet
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source) {
+    
+    if ( !hits(x, y, z) ) return false;
+    stun();
+    return true;
+    
+  } // Hittable.hitByBullet()
+
   // the head takes a hit
   public void stun() {
 
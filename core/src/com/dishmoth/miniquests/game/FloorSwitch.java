@@ -88,6 +88,13 @@ public class FloorSwitch extends Sprite3D {
   public int getYPos() { return mYPos; }
   public int getZPos() { return mZPos; }
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() |
+            kCategoryObstacle | kCategoryCritter | kCategoryPlayer);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -27,6 +27,9 @@ public class Fountain extends Sprite3D implements Obstacle {
   // new particles per frame
   private static final float kParticleRate = 2.0f;
 
+  // room needed for the particles
+  private static final int kMaxParticles = 2*(kLifeTimeMax + 1);
+
   // details of the image
   private static final int   kWidth      = 4,
                              kHeight     = 4;
@@ -75,7 +78,7 @@ public class Fountain extends Sprite3D implements Obstacle {
     mZPos = zPos;
 
     if ( on ) {
-      mParticles = new Particles(-1);
+      mParticles = new Particles(-1, kMaxParticles);
     } else {
       mParticles = null;
     }
@@ -152,11 +155,10 @@ public class Fountain extends Sprite3D implements Obstacle {
     float yVel = kSpeedXY*(float)Math.sin(ang);
     float zVel = kSpeedZ;
     
-    Particle particle = new Particle(x, y, z, xVel, yVel, zVel, 
-                                     kGravity, 
-                                     Env.randomInt(kLifeTimeMin, kLifeTimeMax),
-                                     kColours[Env.randomInt(kColours.length)]);
-    mParticles.add(particle);
+    mParticles.add(x, y, z, xVel, yVel, zVel, 
+                   kGravity, 
+                   Env.randomInt(kLifeTimeMin, kLifeTimeMax),
+                   kColours[Env.randomInt(kColours.length)]);
     
   } // addParticle()
   
@@ -0,0 +1,85 @@
+/*
+ *  FrameBuffers.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// three canvases for passing finished frames from the thread that draws
+// them to the thread that displays them, without either waiting on a lock
+// (the drawing thread owns the back canvas, the display thread owns the 
+// front canvas, and the third holds the newest finished frame)
+public class FrameBuffers {
+
+  // the state holds the index of the spare canvas, plus a flag that is set
+  // when it holds a frame that the display thread hasn't taken yet
+  private static final int kIndexMask = 3,
+                           kFresh     = 4;
+  
+  // the canvases
+  private final EgaCanvas mCanvases[];
+  
+  // number of ticks that each canvas's frame covers
+  private final int mNumTicks[];
+  
+  // index of the spare canvas (with the fresh flag)
+  private final AtomicInteger mState;
+  
+  // index of the canvas being drawn (only used by the drawing thread)
+  private int mBack;
+  
+  // ticks from frames that were replaced before being displayed
+  // (only used by the drawing thread)
+  private int mSkippedTicks;
+  
+  // index of the canvas being displayed (only used by the display thread)
+  private int mFront;
+  
+  // constructor
+  public FrameBuffers(int width, int height) {
+    
+    mCanvases = new EgaCanvas[3];
+    for ( int k = 0 ; k < mCanvases.length ; k++ ) {
+      mCanvases[k] = new EgaCanvas(width, height);
+    }
+    mNumTicks = new int[3];
+    
+    mFront = 0;
+    mState = new AtomicInteger(1);
+    mBack = 2;
+    mSkippedTicks = 0;
+    
+  } // constructor
+  
+  // the canvas to draw the next frame on (drawing thread)
+  public EgaCanvas back() { return mCanvases[mBack]; }
+  
+  // hand over the back canvas as the newest frame (drawing thread)
+  public void publish(int numTicks) {
+    
+    mNumTicks[mBack] = mSkippedTicks + numTicks;
+    final int state = mState.getAndSet(mBack | kFresh);
+    mBack = ( state & kIndexMask );
+    mSkippedTicks = ( (state & kFresh) != 0 ) ? mNumTicks[mBack] : 0;
+    
+  } // publish()
+  
+  // take the newest frame, if there is one (display thread)
+  // (returns the number of ticks since the previous frame taken, or zero 
+  // if there's nothing new, in which case the front canvas is unchanged)
+  public int acquire() {
+    
+    if ( (mState.get() & kFresh) == 0 ) return 0;
+    final int state = mState.getAndSet(mFront);
+    mFront = ( state & kIndexMask );
+    return mNumTicks[mFront];
+    
+  } // acquire()
+  
+  // the canvas holding the frame to display (display thread)
+  public EgaCanvas front() { return mCanvases[mFront]; }
+  
+} // class FrameBuffers
@@ -0,0 +1,116 @@
+/*
+ *  GameContext.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// the services used by one running game (frame count, random numbers, 
+// input, audio, saved data, etc.)
+// usually there is just one context, but several games can run at once 
+// (e.g., headless games on different threads) if each has its own context
+// the static functions in Env act on the current context, see Env.context()
+public class GameContext {
+
+  // frames since the game was initialized
+  private long mTicks;
+
+  // assorted helper objects
+  private GameRandom  mRandom;
+  private EnvBits     mEnvBits;
+  private KeyMonitor  mKeyMonitor;
+  private Resources   mResources;
+  private Sounds      mSounds;
+  private SaveState   mSaveState;
+  private ScreenScale mScreenScale;
+  private Telemetry   mTelemetry;
+  
+  // constructor (see also initialize())
+  public GameContext(EnvBits envBits, Resources resources, Sounds sounds) {
+    
+    assert( envBits != null && resources != null && sounds != null );
+    
+    mTicks = 0;
+    
+    mRandom      = new GameRandom();
+    mEnvBits     = envBits;
+    mKeyMonitor  = null;
+    mResources   = resources;
+    mSounds      = sounds;
+    mSaveState   = new SaveState();
+    mScreenScale = new ScreenScale();
+    mTelemetry   = new Telemetry();
+    
+  } // constructor
+  
+  // prepare the platform objects (once the context is current)
+  void initialize() {
+    
+    mEnvBits.initialize();
+    mSounds.initialize();
+    
+  } // initialize()
+  
+  // discard resources
+  void dispose() {
+    
+    mRandom = null;
+    mKeyMonitor = null;
+    mResources = null;
+    mSounds = null;
+    
+  } // dispose()
+  
+  // frames since the start of the game
+  public long ticks() { return mTicks; }
+  void incrementTicks() { ++mTicks; }
+  void setTicks(long ticks) { mTicks = ticks; }
+  
+  // the random number sequence
+  public GameRandom random() { return mRandom; }
+  
+  // restart the random number sequence from a known seed
+  public void setRandomSeed(long seed) {
+    
+    assert( mRandom != null );
+    mRandom = new GameRandom(seed);
+    
+  } // setRandomSeed()
+  
+  // platform-specific functions
+  public EnvBits envBits() { return mEnvBits; }
+  
+  // keyboard and mouse monitor (null until one is added)
+  public KeyMonitor keys() { return mKeyMonitor; }
+  
+  // add the key/mouse/etc controller after initialization
+  public void addKeyMonitor(KeyMonitor keyMonitor) {
+    
+    assert( mKeyMonitor == null && keyMonitor != null );
+    mKeyMonitor = keyMonitor;
+    
+  } // addKeyMonitor()
+  
+  // game resources and audio
+  public Resources resources() { return mResources; }
+  public Sounds sounds() { return mSounds; }
+  
+  // the game's save state
+  public SaveState saveState() { return mSaveState; }
+  
+  // screen-scale controller
+  public ScreenScale screenScale() { return mScreenScale; }
+  
+  // replace the default screen-scale controller
+  public void setScreenScale(ScreenScale scale) {
+    
+    assert( scale != null );
+    mScreenScale = scale;
+    
+  } // setScreenScale()
+  
+  // game loop timing statistics
+  public Telemetry telemetry() { return mTelemetry; }
+  
+} // class GameContext
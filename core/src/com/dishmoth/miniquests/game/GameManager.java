@@ -12,6 +12,9 @@ import java.util.*;
 // basically comprises a Story object and a list of Sprite objects
 public class GameManager {
 
+  // the services used by this game (made current whenever it advances)
+  private GameContext mContext = null;
+  
   // the current story controller
   // different Story objects will be used during the coarse of a game 
   private Story mStory = null;
@@ -24,9 +27,22 @@ public class GameManager {
   // generated by the sprites to be processed by the current story
   private LinkedList<StoryEvent> mStoryEvents = null;
   
+  // cached image of the static scenery (or null if not being used)
+  private StaticLayer mStaticLayer = null;
+  
   // constructor (Agency may be null)
+  // (the game uses the current context, see Env.context())
   public GameManager(Story  startingStory) {
     
+    this(Env.context(), startingStory);
+    
+  } // constructor
+  
+  // constructor (for a game using a specific context)
+  public GameManager(GameContext context, Story startingStory) {
+    
+    assert( context != null );
+    mContext       = context;
     mStory         = startingStory;
     mSpriteManager = new SpriteManager();
 
@@ -38,6 +54,9 @@ public class GameManager {
   // advance the game (story and sprites) by one frame
   public void advance() {
 
+    // other games may be using different contexts
+    Env.useContext(mContext);
+    
     // advance the story (possibly replace with a new story; advance that too)
     while (true) {
       Story changeOfStory = mStory.advance(mStoryEvents, mSpriteManager);
@@ -56,10 +75,44 @@ public class GameManager {
     
   } // advance()
 
+  // the services used by this game
+  public GameContext context() { return mContext; }
+
+  // snapshot of the game as the current room was entered, or null if no
+  // quest is in progress (see QuestStory.snapshot(); to restore, pass the 
+  // snapshot to QuestStory.restoreSnapshot() and start a new GameManager)
+  public BitBuffer snapshot() {
+    
+    if ( !(mStory instanceof QuestStory) ) return null;
+    return ((QuestStory)mStory).snapshot();
+    
+  } // snapshot()
+  
+  // start or stop timing the Sprites by class and phase (null to stop)
+  public void setProfiler(SpriteProfiler profiler) {
+    
+    mSpriteManager.setProfiler(profiler);
+    
+  } // setProfiler()
+  
+  // whether to keep the image of the static scenery between frames
+  // (only worthwhile if the canvas is cleared and redrawn every frame)
+  public void useStaticLayer(boolean on) {
+    
+    mStaticLayer = ( on ? new StaticLayer() : null );
+    
+  } // useStaticLayer()
+  
   // draw the current game screen
   public void draw(EgaCanvas canvas) {
 
-    mSpriteManager.draw(canvas);
+    Env.useContext(mContext);
+    
+    if ( mStaticLayer != null ) {
+      mSpriteManager.draw(canvas, mStaticLayer);
+    } else {
+      mSpriteManager.draw(canvas);
+    }
     
   } // draw()
   
@@ -0,0 +1,57 @@
+/*
+ *  GameRandom.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.util.Random;
+
+// random number generator whose state can be saved and restored
+// (gives exactly the same numbers as java.util.Random for the same seed)
+public class GameRandom extends Random {
+
+  // unused, but required by Serializable
+  private static final long serialVersionUID = 1L;
+  
+  // parameters of the linear congruential generator (as java.util.Random)
+  private static final long kMultiplier = 0x5DEECE66DL,
+                            kAddend     = 0xBL,
+                            kMask       = (1L << 48) - 1;
+  
+  // the generator's state (48 bits)
+  // (no initializer since it is set by the base class constructor)
+  private long mState;
+  
+  // constructor (unpredictable seed)
+  public GameRandom() { super(); }
+  
+  // constructor (known seed)
+  public GameRandom(long seed) { super(seed); }
+  
+  // restart the sequence from a seed
+  @Override
+  public synchronized void setSeed(long seed) {
+    
+    super.setSeed(seed);
+    mState = (seed ^ kMultiplier) & kMask;
+    
+  } // Random.setSeed()
+  
+  // generate the next random bits
+  @Override
+  protected synchronized int next(int bits) {
+    
+    mState = (mState * kMultiplier + kAddend) & kMask;
+    return (int)(mState >>> (48 - bits));
+    
+  } // Random.next()
+  
+  // the current state of the generator (48 bits)
+  public synchronized long state() { return mState; }
+  
+  // continue the sequence from a previously recorded state
+  public synchronized void setState(long state) { mState = state & kMask; }
+  
+} // class GameRandom
@@ -125,6 +125,12 @@ public class GlowPath extends Sprite3D {
     
   } // includes()
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryPlayer);
+  } // Sprite.observedCategories()
+  
   // keep track of the player object appearing
   @Override
   public void observeArrival(Sprite newSprite) { 
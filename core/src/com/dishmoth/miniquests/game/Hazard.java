@@ -0,0 +1,19 @@
+/*
+ *  Hazard.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// a sprite that kills the player on contact (see Player.interact())
+public interface Hazard extends Collider {
+
+  // whether the hazard touches the player, who fills a column of positions
+  // from (x,y,z) up to (x,y,z+height-1)
+  // (if the player is stepping then the column being stepped into starts at
+  // (stepX,stepY,stepZ), otherwise the step position equals the first one)
+  public boolean hitsPlayer(int x, int y, int z, 
+                            int stepX, int stepY, int stepZ, int height);
+  
+} // interface Hazard
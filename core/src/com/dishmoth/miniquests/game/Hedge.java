@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a low wall
-public class Hedge extends Sprite3D implements Obstacle {
+public class Hedge extends Sprite3D implements IndexedObstacle {
 
   // colour schemes for the wall
   private static final byte kColours[][] = { { 16, 2 },   // hedge
@@ -32,6 +32,9 @@ public class Hedge extends Sprite3D implements Obstacle {
   // index of the colours to use
   final private int mColourScheme;
 
+  // index holding the shape of the hedge (or null)
+  private ObstacleIndex mObstacleIndex = null;
+
   // constructor for a straight wall section (all blocks the same style)
   public Hedge(int xPos, int yPos, int zPos, 
                int length, int direc, int colourScheme) {
@@ -132,6 +135,23 @@ public class Hedge extends Sprite3D implements Obstacle {
     
   } // Obstacle.isVoid()
 
+  // range of positions covered by the hedge
+  public boolean getBounds(int bounds[]) {
+
+    bounds[0] = mXPos;
+    bounds[1] = mYPos;
+    bounds[2] = mZPos + 1;
+    bounds[3] = mXPos + mPattern[0].length - 1;
+    bounds[4] = mYPos + mPattern.length - 1;
+    bounds[5] = mZPos + 1;
+    return true;
+    
+  } // IndexedObstacle.getBounds()
+
+  // access to the index holding the shape of the hedge
+  public ObstacleIndex obstacleIndex() { return mObstacleIndex; }
+  public void setObstacleIndex(ObstacleIndex index) { mObstacleIndex = index; }
+
   // nothing to do here
   @Override
   public void advance(LinkedList<Sprite> addTheseSprites,
@@ -140,6 +160,10 @@ public class Hedge extends Sprite3D implements Obstacle {
 
   } // Sprite.advance()
 
+  // the image never changes
+  @Override
+  public boolean isStatic() { return true; }
+
   // display the object
   @Override
   public void draw(EgaCanvas canvas) {
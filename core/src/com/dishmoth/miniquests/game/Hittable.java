@@ -0,0 +1,17 @@
+/*
+ *  Hittable.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// a sprite that reacts to being shot (see Bullet.interact())
+public interface Hittable extends Collider {
+
+  // check for a bullet at position (x,y,z) moving in direction 'direc'
+  // (the bullet was fired by the 'source' sprite)
+  // (returns true if the bullet hits the sprite and is stopped)
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source);
+  
+} // interface Hittable
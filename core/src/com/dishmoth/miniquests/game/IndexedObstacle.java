@@ -0,0 +1,24 @@
+/*
+ *  IndexedObstacle.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// an obstacle of limited size whose shape can be stored in an ObstacleIndex
+// (if the shape changes then the obstacle must inform the index, see 
+// ObstacleIndex.changing() and ObstacleIndex.changed())
+public interface IndexedObstacle extends Obstacle {
+
+  // the range of positions that may be platforms or not empty
+  // (fills in {xMin, yMin, zMin, xMax, yMax, zMax}, returns false if none)
+  public boolean getBounds(int bounds[]);
+
+  // the index holding the obstacle's shape (or null)
+  public ObstacleIndex obstacleIndex();
+  
+  // set by the ObstacleIndex when the obstacle is added or removed
+  public void setObstacleIndex(ObstacleIndex index);
+  
+} // interface IndexedObstacle
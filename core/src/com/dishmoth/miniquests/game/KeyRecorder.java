@@ -0,0 +1,80 @@
+/*
+ *  KeyRecorder.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// wraps another key monitor and records the keys it reports on each tick
+// (the keys are sampled once per tick, and the game sees the sampled keys, 
+// so that what is recorded is exactly what the game responded to)
+public class KeyRecorder implements KeyMonitor {
+
+  // where the keys really come from
+  private final KeyMonitor mSource;
+  
+  // where the keys are recorded
+  private final KeyRecording mRecording;
+  
+  // state of the keys on this tick (see KeyRecording)
+  private int mKeys;
+  
+  // constructor
+  public KeyRecorder(KeyMonitor source, KeyRecording recording) {
+    
+    assert( source != null && recording != null );
+    mSource = source;
+    mRecording = recording;
+    mKeys = 0;
+    
+  } // constructor
+  
+  // the keys recorded so far
+  public KeyRecording recording() { return mRecording; }
+  
+  // sample and record the keys (called once per tick before the game 
+  // advances)
+  public void advance() {
+    
+    mKeys = ( (mSource.up()     ? KeyRecording.UP     : 0)
+            | (mSource.down()   ? KeyRecording.DOWN   : 0)
+            | (mSource.left()   ? KeyRecording.LEFT   : 0)
+            | (mSource.right()  ? KeyRecording.RIGHT  : 0)
+            | (mSource.fire()   ? KeyRecording.FIRE   : 0)
+            | (mSource.escape() ? KeyRecording.ESCAPE : 0)
+            | (mSource.any()    ? KeyRecording.ANY    : 0) );
+    mRecording.add(mKeys);
+    
+  } // advance()
+  
+  // assert that all keys are currently not pressed
+  public void reset() {
+    
+    mSource.reset();
+    mKeys = 0;
+    
+  } // KeyMonitor.reset()
+  
+  // check whether any of a group of keys is currently pressed
+  public boolean up()     { return ( (mKeys & KeyRecording.UP)     != 0 ); }
+  public boolean down()   { return ( (mKeys & KeyRecording.DOWN)   != 0 ); }
+  public boolean left()   { return ( (mKeys & KeyRecording.LEFT)   != 0 ); }
+  public boolean right()  { return ( (mKeys & KeyRecording.RIGHT)  != 0 ); }
+  public boolean fire()   { return ( (mKeys & KeyRecording.FIRE)   != 0 ); }
+  public boolean escape() { return ( (mKeys & KeyRecording.ESCAPE) != 0 ); }
+  
+  // check whether any key is currently pressed
+  public boolean any() { return ( (mKeys & KeyRecording.ANY) != 0 ); }
+  
+  // how the touch screen maps to controls
+  public void setMode(int mode) { mSource.setMode(mode); }
+  
+  // set details of the on-screen buttons
+  public void setButtonDetails(int arrowStyle, int fireStyle) {
+    
+    mSource.setButtonDetails(arrowStyle, fireStyle);
+    
+  } // KeyMonitor.setButtonDetails()
+  
+} // class KeyRecorder
@@ -0,0 +1,231 @@
+/*
+ *  KeyRecording.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// the keys pressed during a game, tick by tick, plus the random seed,
+// starting story and saved game data, so that the game can be played back 
+// exactly
+// (see KeyRecorder and KeyReplay; stored as runs of unchanging keys)
+public class KeyRecording {
+
+  // format version for encoded recordings
+  // (version 2 adds the saved game data)
+  private static final int kVersion = 2;
+  
+  // initial number of runs that can be stored
+  private static final int kCapacity = 64;
+  
+  // the state of the keys on one tick is a combination of these bits
+  public static final int UP     = 1,
+                          DOWN   = 2,
+                          LEFT   = 4,
+                          RIGHT  = 8,
+                          FIRE   = 16,
+                          ESCAPE = 32,
+                          ANY    = 64;
+  private static final int kNumKeyBits = 7;
+  
+  // which story the game starts with (otherwise it's a quest number)
+  public static final int STORY_TITLE    = -2,
+                          STORY_TRAINING = -1;
+  
+  // random number seed and starting story
+  private final long mSeed;
+  private final int  mStory;
+  
+  // the saved game data when the game started (or null if none)
+  // (the title screen and menus depend on the restart data and scores)
+  private byte mSaveData[];
+  
+  // runs of unchanging key states
+  private int mRunKeys[],
+              mRunLengths[];
+  private int mNumRuns;
+  
+  // total number of ticks recorded
+  private long mNumTicks;
+  
+  // state of the game at the end of the recording (see stateHash())
+  private long mHash;
+  
+  // constructor
+  public KeyRecording(long seed, int story) {
+    
+    assert( story >= STORY_TITLE && story < QuestStory.NUM_QUESTS );
+    mSeed = seed;
+    mStory = story;
+    mSaveData = null;
+    
+    mRunKeys = new int[kCapacity];
+    mRunLengths = new int[kCapacity];
+    mNumRuns = 0;
+    mNumTicks = 0;
+    mHash = 0;
+    
+  } // constructor
+  
+  // accessors
+  public long seed() { return mSeed; }
+  public int story() { return mStory; }
+  public long numTicks() { return mNumTicks; }
+  public int numRuns() { return mNumRuns; }
+  public int runKeys(int index) { return mRunKeys[index]; }
+  public int runLength(int index) { return mRunLengths[index]; }
+  public long hash() { return mHash; }
+  public void setHash(long hash) { mHash = hash; }
+  public byte[] saveData() { return mSaveData; }
+  public void setSaveData(byte data[]) { mSaveData = data; }
+  
+  // the story that the recorded game starts with
+  public Story startingStory() {
+    
+    if ( mStory == STORY_TITLE )    return new TitleStory();
+    if ( mStory == STORY_TRAINING ) return new TrainingStory();
+    return new QuestStory(mStory);
+    
+  } // startingStory()
+  
+  // add the keys for the next tick
+  public void add(int keys) {
+    
+    assert( keys >= 0 && keys < (1 << kNumKeyBits) );
+    
+    mNumTicks++;
+    if ( mNumRuns > 0 && mRunKeys[mNumRuns-1] == keys
+                      && mRunLengths[mNumRuns-1] < Integer.MAX_VALUE ) {
+      mRunLengths[mNumRuns-1]++;
+      return;
+    }
+    
+    if ( mNumRuns == mRunKeys.length ) {
+      int runKeys[] = new int[2*mNumRuns],
+          runLengths[] = new int[2*mNumRuns];
+      System.arraycopy(mRunKeys, 0, runKeys, 0, mNumRuns);
+      System.arraycopy(mRunLengths, 0, runLengths, 0, mNumRuns);
+      mRunKeys = runKeys;
+      mRunLengths = runLengths;
+    }
+    mRunKeys[mNumRuns] = keys;
+    mRunLengths[mNumRuns] = 1;
+    mNumRuns++;
+    
+  } // add()
+
+  // summary of the game's state (based on the tick count, the random number
+  // sequence, and the image of the game screen, which must be drawn first)
+  public static long stateHash(EgaCanvas canvas) {
+    
+    long hash = 31*Env.ticks() + Env.randomState();
+    for ( byte pixel : canvas.pixels() ) hash = 31*hash + pixel;
+    return hash;
+    
+  } // stateHash()
+  
+  // convert the recording to a hex string
+  public String encode() {
+    
+    BitBuffer buffer = new BitBuffer();
+    
+    buffer.write(kVersion, 8);
+    writeLong(buffer, mSeed);
+    buffer.write(mStory - STORY_TITLE, 8);
+    writeLong(buffer, mHash);
+    writeLong(buffer, mNumTicks);
+    
+    // saved game data (16-bit length, or zero if none, then the bytes)
+    final int numBytes = ( (mSaveData == null) ? 0 : mSaveData.length );
+    assert( numBytes <= 0xFFFF );
+    buffer.write(numBytes, 16);
+    for ( int k = 0 ; k < numBytes ; k++ ) buffer.write(mSaveData[k] & 0xFF, 8);
+    
+    // each run is the keys followed by its length in 7-bit chunks 
+    // (each chunk preceded by a bit saying whether another chunk follows)
+    for ( int k = 0 ; k < mNumRuns ; k++ ) {
+      buffer.write(mRunKeys[k], kNumKeyBits);
+      int length = mRunLengths[k];
+      while ( length >= 0x80 ) {
+        buffer.write(0x80 | (length & 0x7F), 8);
+        length >>>= 7;
+      }
+      buffer.write(length, 8);
+    }
+    
+    return buffer.toString();
+    
+  } // encode()
+  
+  // restore a recording from a hex string (returns null if it can't be read)
+  public static KeyRecording decode(String str) {
+    
+    BitBuffer buffer = new BitBuffer(str.trim());
+    
+    int version = buffer.read(8);
+    if ( version < 1 || version > kVersion ) return null;
+    
+    long seed = readLong(buffer);
+    int story = buffer.read(8) + STORY_TITLE;
+    if ( story < STORY_TITLE || story >= QuestStory.NUM_QUESTS ) return null;
+    long hash = readLong(buffer);
+    long numTicks = readLong(buffer);
+    if ( numTicks < 0 ) return null;
+    
+    KeyRecording recording = new KeyRecording(seed, story);
+    recording.mHash = hash;
+    if ( version >= 2 ) {
+      int numBytes = buffer.read(16);
+      if ( numBytes < 0 ) return null;
+      if ( numBytes > 0 ) {
+        recording.mSaveData = new byte[numBytes];
+        for ( int k = 0 ; k < numBytes ; k++ ) {
+          int val = buffer.read(8);
+          if ( val < 0 ) return null;
+          recording.mSaveData[k] = (byte)val;
+        }
+      }
+    }
+    while ( recording.mNumTicks < numTicks ) {
+      int keys = buffer.read(kNumKeyBits);
+      if ( keys < 0 ) return null;
+      int length = 0;
+      for ( int shift = 0 ; ; shift += 7 ) {
+        int chunk = buffer.read(8);
+        if ( chunk < 0 || shift > 28 ) return null;
+        length |= (chunk & 0x7F) << shift;
+        if ( (chunk & 0x80) == 0 ) break;
+      }
+      if ( length <= 0 ) return null;
+      for ( int k = 0 ; k < length ; k++ ) recording.add(keys);
+    }
+    if ( recording.mNumTicks != numTicks ) return null;
+    
+    return recording;
+    
+  } // decode()
+  
+  // write a 64-bit value as four 16-bit chunks
+  private static void writeLong(BitBuffer buffer, long value) {
+    
+    for ( int shift = 48 ; shift >= 0 ; shift -= 16 ) {
+      buffer.write((int)(value >>> shift) & 0xFFFF, 16);
+    }
+    
+  } // writeLong()
+  
+  // read a 64-bit value (see writeLong(); returns -1 if the bits run out)
+  private static long readLong(BitBuffer buffer) {
+    
+    long value = 0;
+    for ( int k = 0 ; k < 4 ; k++ ) {
+      int chunk = buffer.read(16);
+      if ( chunk < 0 ) return -1;
+      value = (value << 16) | chunk;
+    }
+    return value;
+    
+  } // readLong()
+  
+} // class KeyRecording
@@ -0,0 +1,78 @@
+/*
+ *  KeyReplay.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// plays back the keys from a recording, one tick at a time
+// (no keys are pressed once the recording runs out)
+public class KeyReplay implements KeyMonitor {
+
+  // the keys to play back
+  private final KeyRecording mRecording;
+  
+  // current run in the recording, and ticks remaining in it
+  private int mRunIndex,
+              mRunRemaining;
+  
+  // state of the keys on this tick (see KeyRecording)
+  private int mKeys;
+  
+  // constructor
+  public KeyReplay(KeyRecording recording) {
+    
+    assert( recording != null );
+    mRecording = recording;
+    mRunIndex = -1;
+    mRunRemaining = 0;
+    mKeys = 0;
+    
+  } // constructor
+  
+  // whether the whole recording has been played back
+  public boolean finished() {
+    
+    return ( mRunRemaining == 0 && mRunIndex+1 >= mRecording.numRuns() );
+    
+  } // finished()
+  
+  // move on to the keys for the next tick (called once per tick before the 
+  // game advances)
+  public void advance() {
+    
+    if ( mRunRemaining == 0 ) {
+      if ( mRunIndex+1 >= mRecording.numRuns() ) {
+        mKeys = 0;
+        return;
+      }
+      mRunIndex++;
+      mRunRemaining = mRecording.runLength(mRunIndex);
+    }
+    mKeys = mRecording.runKeys(mRunIndex);
+    mRunRemaining--;
+    
+  } // advance()
+  
+  // assert that all keys are currently not pressed
+  public void reset() { mKeys = 0; }
+  
+  // check whether any of a group of keys is currently pressed
+  public boolean up()     { return ( (mKeys & KeyRecording.UP)     != 0 ); }
+  public boolean down()   { return ( (mKeys & KeyRecording.DOWN)   != 0 ); }
+  public boolean left()   { return ( (mKeys & KeyRecording.LEFT)   != 0 ); }
+  public boolean right()  { return ( (mKeys & KeyRecording.RIGHT)  != 0 ); }
+  public boolean fire()   { return ( (mKeys & KeyRecording.FIRE)   != 0 ); }
+  public boolean escape() { return ( (mKeys & KeyRecording.ESCAPE) != 0 ); }
+  
+  // check whether any key is currently pressed
+  public boolean any() { return ( (mKeys & KeyRecording.ANY) != 0 ); }
+  
+  // how the touch screen maps to controls (not relevant here)
+  public void setMode(int mode) {}
+  
+  // set details of the on-screen buttons (not relevant here)
+  public void setButtonDetails(int arrowStyle, int fireStyle) {}
+  
+} // class KeyReplay
@@ -0,0 +1,127 @@
+/*
+ *  KeySampler.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// wraps another key monitor so that the game can run on a different thread
+// (the display thread samples the real keys, which may only be read there,
+// and the game thread takes the latest sample once per tick; requests 
+// from the game are passed back and applied at the next sample)
+public class KeySampler implements KeyMonitor {
+
+  // where the keys really come from (only touched by the display thread)
+  private final KeyMonitor mSource;
+  
+  // state of the keys on this tick (see KeyRecording)
+  private int mKeys;
+  
+  // the most recent sample, and every key pressed since the last tick
+  // (so that a brief tap between ticks is not lost)
+  // (the remaining fields are guarded by the object's lock)
+  private int mLatestKeys,
+              mHeldKeys;
+  
+  // requests from the game waiting to be passed to the source
+  private boolean mResetPending;
+  private int     mModePending;
+  private int     mArrowStylePending,
+                  mFireStylePending;
+  
+  // constructor
+  public KeySampler(KeyMonitor source) {
+    
+    assert( source != null );
+    mSource = source;
+    mKeys = mLatestKeys = mHeldKeys = 0;
+    mResetPending = false;
+    mModePending = -1;
+    mArrowStylePending = mFireStylePending = -1;
+    
+  } // constructor
+  
+  // the key monitor being sampled
+  public KeyMonitor source() { return mSource; }
+  
+  // read the keys from the source (called by the display thread)
+  public void sample() {
+    
+    boolean reset;
+    int mode, arrowStyle, fireStyle;
+    synchronized ( this ) {
+      reset = mResetPending;
+      mode = mModePending;
+      arrowStyle = mArrowStylePending;
+      fireStyle = mFireStylePending;
+      mResetPending = false;
+      mModePending = mArrowStylePending = mFireStylePending = -1;
+    }
+    
+    if ( reset ) mSource.reset();
+    if ( mode >= 0 ) mSource.setMode(mode);
+    if ( arrowStyle >= 0 ) mSource.setButtonDetails(arrowStyle, fireStyle);
+    
+    final int keys = ( (mSource.up()     ? KeyRecording.UP     : 0)
+                     | (mSource.down()   ? KeyRecording.DOWN   : 0)
+                     | (mSource.left()   ? KeyRecording.LEFT   : 0)
+                     | (mSource.right()  ? KeyRecording.RIGHT  : 0)
+                     | (mSource.fire()   ? KeyRecording.FIRE   : 0)
+                     | (mSource.escape() ? KeyRecording.ESCAPE : 0)
+                     | (mSource.any()    ? KeyRecording.ANY    : 0) );
+    synchronized ( this ) {
+      if ( !mResetPending ) {
+        mLatestKeys = keys;
+        mHeldKeys |= keys;
+      }
+    }
+    
+  } // sample()
+  
+  // take the keys for this tick (called by the game thread before the 
+  // game advances)
+  public synchronized void advance() {
+    
+    mKeys = mHeldKeys;
+    mHeldKeys = mLatestKeys;
+    
+  } // advance()
+  
+  // assert that all keys are currently not pressed
+  public synchronized void reset() {
+    
+    mKeys = mLatestKeys = mHeldKeys = 0;
+    mResetPending = true;
+    
+  } // KeyMonitor.reset()
+  
+  // check whether any of a group of keys is currently pressed
+  public boolean up()     { return ( (mKeys & KeyRecording.UP)     != 0 ); }
+  public boolean down()   { return ( (mKeys & KeyRecording.DOWN)   != 0 ); }
+  public boolean left()   { return ( (mKeys & KeyRecording.LEFT)   != 0 ); }
+  public boolean right()  { return ( (mKeys & KeyRecording.RIGHT)  != 0 ); }
+  public boolean fire()   { return ( (mKeys & KeyRecording.FIRE)   != 0 ); }
+  public boolean escape() { return ( (mKeys & KeyRecording.ESCAPE) != 0 ); }
+  
+  // check whether any key is currently pressed
+  public boolean any() { return ( (mKeys & KeyRecording.ANY) != 0 ); }
+  
+  // how the touch screen maps to controls
+  public synchronized void setMode(int mode) {
+    
+    assert( mode >= MODE_GAME && mode <= MODE_QUERY );
+    mModePending = mode;
+    
+  } // KeyMonitor.setMode()
+  
+  // set details of the on-screen buttons
+  public synchronized void setButtonDetails(int arrowStyle, int fireStyle) {
+    
+    assert( arrowStyle >= 0 && fireStyle >= 0 );
+    mArrowStylePending = arrowStyle;
+    mFireStylePending = fireStyle;
+    
+  } // KeyMonitor.setButtonDetails()
+  
+} // class KeySampler
@@ -27,6 +27,12 @@ public class Ladder extends Sprite3D implements Obstacle {
     
   } // constructor
 
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryPlayer);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
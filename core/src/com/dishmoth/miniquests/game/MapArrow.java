@@ -52,7 +52,7 @@ public class MapArrow extends Sprite {
   private int mTimer;
   
   // prepare images
-  public static void initialize() {
+  public static synchronized void initialize() {
 
     if ( kImages != null ) return;
     
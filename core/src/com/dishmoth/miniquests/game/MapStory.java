@@ -6,7 +6,6 @@
 
 package com.dishmoth.miniquests.game;
 
-import java.util.Iterator;
 import java.util.LinkedList;
 
 // the main game class
@@ -55,8 +54,11 @@ public class MapStory extends Story {
   // keep track of whether the escape key is held down
   private boolean mEscPressed;
   
+  // responses to the story events
+  private StoryEventBus mEvents;
+  
   // load resources
-  static public void initialize() {
+  static public synchronized void initialize() {
     
     if ( kQuestImages != null ) return;
     
@@ -98,6 +100,8 @@ public class MapStory extends Story {
     
     mTimer = 0;
     
+    makeEventHandlers();
+    
   } // constructor
   
   // constructor
@@ -111,20 +115,17 @@ public class MapStory extends Story {
     
     mTimer = 0;
     
+    makeEventHandlers();
+    
   } // constructor
   
-  // process events and advance 
-  @Override
-  public Story advance(LinkedList<StoryEvent> storyEvents,
-                       SpriteManager          spriteManager) {
-
-    Story newStory = null;
+  // set up the responses to story events
+  private void makeEventHandlers() {
     
-    // process the story event list
-    for ( Iterator<StoryEvent> it = storyEvents.iterator() ; it.hasNext() ; ) {
-      StoryEvent event = it.next();
+    mEvents = new StoryEventBus();
 
-      if ( event instanceof Story.EventGameBegins ) {
+    mEvents.register(Story.EventGameBegins.class, new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
         // first frame of the story, so set everything up
         mText = null;
         mStones = null;
@@ -144,10 +145,11 @@ public class MapStory extends Story {
         mEscPressed = true;
         Env.keys().setMode(KeyMonitor.MODE_MAP);
         Env.saveState().newGameDone();
-        it.remove();
-      } // Story.EventGameBegins
+      }
+    }); // Story.EventGameBegins
 
-      else if ( event instanceof MapData.EventAtDungeon ) {
+    mEvents.register(MapData.EventAtDungeon.class, new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
         // the player has reached a dungeon entrance
         mQuest = ((MapData.EventAtDungeon)event).mNum;
         int score = Env.saveState().questScore(mQuest);
@@ -162,10 +164,12 @@ public class MapStory extends Story {
         mMap.pause(kQuestMapPause);
         mMap.dungeonEntrance();
         Env.sounds().play(Sounds.DUNGEON, kQuestIntroDelay);
-        it.remove();
-      } // MapData.EventAtDungeon
-        
-      else if ( event instanceof MapDataMain.EventAtStones ) {
+      }
+    }); // MapData.EventAtDungeon
+
+    mEvents.register(MapDataMain.EventAtStones.class, 
+                     new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
         // the player is at the stones
         boolean questsComplete[] = new boolean[QuestStory.NUM_QUESTS];
         for ( int k = 0 ; k < QuestStory.NUM_QUESTS ; k++ ) {
@@ -173,10 +177,11 @@ public class MapStory extends Story {
         }
         mStones = new MapStones(questsComplete);
         spriteManager.addSprite(mStones);
-        it.remove();
-      } // MapDataMain.EventAtStones
-      
-      else if ( event instanceof Map.EventLeftLocation ) {
+      }
+    }); // MapDataMain.EventAtStones
+
+    mEvents.register(Map.EventLeftLocation.class, new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
         // the player has left a new map location
         mQuest = -1;
         if ( mText != null ) {
@@ -187,10 +192,11 @@ public class MapStory extends Story {
           spriteManager.removeSprite(mStones);
           mStones = null;
         }
-        it.remove();
-      } // Map.EventLeftLocation
+      }
+    }); // Map.EventLeftLocation
 
-      else if ( event instanceof Map.EventEnterDungeon ) {
+    mEvents.register(Map.EventEnterDungeon.class, new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
         // the player has entered a dungeon
         assert( mQuest != -1 );
         if ( mText != null ) {
@@ -202,15 +208,26 @@ public class MapStory extends Story {
           mStones = null;
         }
         mTimer = kBeginDelay;
-        it.remove();
-      } // Map.EventEnterDungeon
-      
-      else {
+      }
+    }); // Map.EventEnterDungeon
+
+    mEvents.registerDefault(new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
         Env.debug("event ignored: " + event.getClass());
-        it.remove();
       }
-      
-    } // for each story event
+    });
+    
+  } // makeEventHandlers()
+  
+  // process events and advance 
+  @Override
+  public Story advance(LinkedList<StoryEvent> storyEvents,
+                       SpriteManager          spriteManager) {
+
+    Story newStory = null;
+    
+    // process the story event list
+    mEvents.dispatch(storyEvents, spriteManager);
 
     // enter a dungeon
     if ( mTimer > 0 ) {
@@ -24,7 +24,7 @@ public class MenuControls extends MenuPanel {
   private MapArrow mArrows[];
 
   // prepare resources
-  static void initialize() {
+  static synchronized void initialize() {
     
     MenuPanel.initialize();
     
@@ -26,7 +26,7 @@ abstract public class MenuPanel {
   protected Picture mBackground = null;
   
   // load resources
-  static void initialize() {
+  static synchronized void initialize() {
     
     if ( kBeginText == null ) {
       String gdxText = ( Env.platform()==Env.Platform.OUYA    ? "Controller" 
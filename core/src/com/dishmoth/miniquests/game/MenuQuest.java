@@ -26,7 +26,7 @@ public class MenuQuest extends MenuPanel {
   private boolean mReady;
   
   // prepare resources
-  static void initialize() {
+  static synchronized void initialize() {
     
     MenuPanel.initialize();
 
@@ -72,6 +72,7 @@ public class MenuQuest extends MenuPanel {
       mRestartSprites = new SpriteManager();
       mRestartEvents.add(new Story.EventGameBegins());
       mRestartStory.advance(mRestartEvents, mRestartSprites);
+      Env.sounds().prefetchQuest(-1); // not needed unless the quest resumes
     }
 
     EgaCanvas oldScreen = new EgaCanvas(Env.screenWidth(), Env.screenHeight());
@@ -23,7 +23,7 @@ public class MenuResize extends MenuPanel {
   private MapArrow mArrows[];
   
   // prepare resources
-  static void initialize() {
+  static synchronized void initialize() {
     
     MenuPanel.initialize();
     
@@ -69,11 +69,11 @@ public class MenuResize extends MenuPanel {
     
     if ( keyLeft && mReady && size > minSize ) {
       size -= 1;
-      Env.saveState().setScreenSize(size);
+      Env.screenScale().setSizeVal(size);
       Env.sounds().play(Sounds.MENU_2);
     } else if ( keyRight && mReady && size < maxSize ) {
       size += 1;
-      Env.saveState().setScreenSize(size);
+      Env.screenScale().setSizeVal(size);
       Env.sounds().play(Sounds.MENU_2);
     }
     mReady = (!keyLeft && !keyRight);
@@ -113,6 +113,10 @@ public class Mural extends Sprite3D {
                       LinkedList<StoryEvent> newStoryEvents) {
   } // Sprite.advance()
 
+  // the image never changes
+  @Override
+  public boolean isStatic() { return true; }
+
   // display the picture
   @Override
   public void draw(EgaCanvas canvas) {
@@ -0,0 +1,323 @@
+/*
+ *  ObstacleIndex.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+
+// a grid recording which positions are platforms or are not empty for a 
+// collection of obstacles (so that checking a position is an array lookup)
+// each SpriteManager keeps one of these for the IndexedObstacles it holds
+// the grid also records the free space above each position, which is 
+// recalculated for a column of positions when an obstacle in it changes
+public class ObstacleIndex {
+
+  // extra space added around the grid when it has to grow
+  private static final int kMargin = 4;
+  
+  // free space above a position is recorded up to this height
+  private static final int kMaxClearance = 127;
+  
+  // the grid isn't allowed to grow beyond this number of positions
+  private static final int kMaxVolume = (1 << 20);
+  
+  // the obstacles in the index
+  private LinkedList<IndexedObstacle> mObstacles;
+  
+  // obstacles in the index that have moved too far to fit in the grid
+  // (these are checked one by one, until they move back again)
+  private LinkedList<IndexedObstacle> mUnindexed;
+  
+  // position and size of the grid
+  private int mXMin,
+              mYMin,
+              mZMin,
+              mXSize,
+              mYSize,
+              mZSize;
+  
+  // for each grid position, the number of obstacles for which the position
+  // is a platform, and the number for which it is not empty
+  private byte mPlatforms[],
+               mSolids[];
+  
+  // for each grid position, the number of empty positions starting there 
+  // and going up (up to kMaxClearance, the space above the grid is empty)
+  private byte mClearances[];
+  
+  // for each (x,y) column, whether its clearances need recalculating
+  private boolean mDirtyColumns[];
+  
+  // temporary space for obstacle bounds
+  private int mBounds[];
+  
+  // constructor
+  public ObstacleIndex() {
+    
+    mObstacles = new LinkedList<IndexedObstacle>();
+    mUnindexed = new LinkedList<IndexedObstacle>();
+    mXMin = mYMin = mZMin = 0;
+    mXSize = mYSize = mZSize = 0;
+    mPlatforms = mSolids = mClearances = new byte[0];
+    mDirtyColumns = new boolean[0];
+    mBounds = new int[6];
+    
+  } // constructor
+  
+  // number of obstacles in the index
+  public int size() { return mObstacles.size() + mUnindexed.size(); }
+  
+  // the index holding a sprite's shape (null if the sprite isn't indexed)
+  static public ObstacleIndex indexFor(Sprite sprite) {
+    
+    if ( !(sprite instanceof IndexedObstacle) ) return null;
+    return ((IndexedObstacle)sprite).obstacleIndex();
+    
+  } // indexFor()
+  
+  // add an obstacle to the index
+  // (returns false if the obstacle is too far from the others to be added)
+  public boolean add(IndexedObstacle ob) {
+
+    assert( !mObstacles.contains(ob) );
+    if ( ob.getBounds(mBounds) && !contains(mBounds) ) {
+      if ( !grow(mBounds, kMaxVolume) ) {
+        ob.setObstacleIndex(null);
+        return false;
+      }
+    }
+    
+    mObstacles.add(ob);
+    ob.setObstacleIndex(this);
+    stamp(ob, +1);
+    return true;
+    
+  } // add()
+  
+  // remove an obstacle from the index
+  public void remove(IndexedObstacle ob) {
+    
+    assert( ob.obstacleIndex() == this );
+    ob.setObstacleIndex(null);
+    if ( mUnindexed.remove(ob) ) return;
+    stamp(ob, -1);
+    mObstacles.remove(ob);
+    
+  } // remove()
+  
+  // must be called by an obstacle before its shape or position changes
+  public void changing(IndexedObstacle ob) {
+    
+    assert( ob.obstacleIndex() == this );
+    if ( !mUnindexed.contains(ob) ) stamp(ob, -1);
+    
+  } // changing()
+  
+  // must be called by an obstacle after its shape or position has changed
+  public void changed(IndexedObstacle ob) {
+    
+    assert( ob.obstacleIndex() == this );
+    if ( ob.getBounds(mBounds) && !contains(mBounds) ) {
+      // the grid is rebuilt to include the obstacle's new shape, unless
+      // that makes it too big, in which case the obstacle is unindexed
+      mObstacles.remove(ob);
+      mUnindexed.remove(ob);
+      if ( grow(mBounds, kMaxVolume) ) {
+        mObstacles.add(ob);
+        stamp(ob, +1);
+      } else {
+        mUnindexed.add(ob);
+      }
+    } else {
+      if ( mUnindexed.remove(ob) ) mObstacles.add(ob);
+      stamp(ob, +1);
+    }
+    
+  } // changed()
+  
+  // whether the player can stand at the specified position
+  public boolean isPlatform(int x, int y, int z) {
+    
+    final int index = gridIndex(x, y, z);
+    if ( index >= 0 && mPlatforms[index] != 0 ) return true;
+    if ( mUnindexed.isEmpty() ) return false;
+    
+    for ( IndexedObstacle ob : mUnindexed ) {
+      if ( ob.isPlatform(x, y, z) ) return true;
+    }
+    return false;
+    
+  } // isPlatform()
+  
+  // whether there is space at the specified position
+  public boolean isEmpty(int x, int y, int z) {
+    
+    final int index = gridIndex(x, y, z);
+    if ( index >= 0 && mSolids[index] != 0 ) return false;
+    if ( mUnindexed.isEmpty() ) return true;
+    
+    for ( IndexedObstacle ob : mUnindexed ) {
+      if ( !ob.isEmpty(x, y, z) ) return false;
+    }
+    return true;
+    
+  } // isEmpty()
+  
+  // whether there is space at all the positions from (x,y,z) up to
+  // (x,y,z+height-1)
+  public boolean isClear(int x, int y, int z, int height) {
+    
+    assert( height > 0 && height <= kMaxClearance );
+    
+    if ( !isGridClear(x, y, z, height) ) return false;
+    if ( mUnindexed.isEmpty() ) return true;
+    
+    for ( IndexedObstacle ob : mUnindexed ) {
+      for ( int k = 0 ; k < height ; k++ ) {
+        if ( !ob.isEmpty(x, y, z+k) ) return false;
+      }
+    }
+    return true;
+    
+  } // isClear()
+  
+  // whether the grid has space at the positions from (x,y,z) up to
+  // (x,y,z+height-1)
+  private boolean isGridClear(int x, int y, int z, int height) {
+    
+    final int ix = x - mXMin,
+              iy = y - mYMin;
+    if ( ix < 0 || ix >= mXSize || iy < 0 || iy >= mYSize ) return true;
+    
+    int iz = z - mZMin;
+    if ( iz < 0 ) {
+      height += iz;
+      if ( height <= 0 ) return true;
+      iz = 0;
+    }
+    if ( iz >= mZSize ) return true;
+    
+    final int column = iy*mXSize + ix;
+    if ( mDirtyColumns[column] ) updateClearances(column);
+    return ( mClearances[iz*mXSize*mYSize + column] >= height );
+    
+  } // isGridClear()
+  
+  // recalculate the free space above each position in a column
+  private void updateClearances(int column) {
+    
+    final int layer = mXSize*mYSize;
+    int clearance = kMaxClearance;
+    for ( int index = (mZSize-1)*layer + column ; index >= 0 ; 
+          index -= layer ) {
+      clearance = ( mSolids[index] != 0 ) 
+                  ? 0 : Math.min(clearance+1, kMaxClearance);
+      mClearances[index] = (byte)clearance;
+    }
+    mDirtyColumns[column] = false;
+    
+  } // updateClearances()
+  
+  // position in the grid arrays (or -1 if outside the grid)
+  private int gridIndex(int x, int y, int z) {
+    
+    final int ix = x - mXMin,
+              iy = y - mYMin,
+              iz = z - mZMin;
+    if ( ix < 0 || ix >= mXSize || 
+         iy < 0 || iy >= mYSize ||
+         iz < 0 || iz >= mZSize ) return -1;
+    return ( (iz*mYSize + iy)*mXSize + ix );
+    
+  } // gridIndex()
+  
+  // whether the bounds lie inside the grid
+  private boolean contains(int bounds[]) {
+    
+    return ( bounds[0] >= mXMin && bounds[3] < mXMin + mXSize &&
+             bounds[1] >= mYMin && bounds[4] < mYMin + mYSize &&
+             bounds[2] >= mZMin && bounds[5] < mZMin + mZSize );
+    
+  } // contains()
+  
+  // enlarge the grid to include the bounds, then rebuild it
+  // (returns false, and does nothing, if the grid would be too big)
+  private boolean grow(int bounds[], int maxVolume) {
+    
+    int xMin = bounds[0] - kMargin, 
+        yMin = bounds[1] - kMargin,
+        zMin = bounds[2] - kMargin,
+        xMax = bounds[3] + kMargin,
+        yMax = bounds[4] + kMargin,
+        zMax = bounds[5] + kMargin;
+    if ( mXSize > 0 ) {
+      xMin = Math.min(xMin, mXMin);
+      yMin = Math.min(yMin, mYMin);
+      zMin = Math.min(zMin, mZMin);
+      xMax = Math.max(xMax, mXMin + mXSize - 1);
+      yMax = Math.max(yMax, mYMin + mYSize - 1);
+      zMax = Math.max(zMax, mZMin + mZSize - 1);
+    }
+
+    final long volume = (long)(xMax - xMin + 1) 
+                      * (long)(yMax - yMin + 1) 
+                      * (long)(zMax - zMin + 1);
+    if ( volume > maxVolume ) {
+      Env.debug("Obstacle index too large (" + volume + " positions)");
+      return false;
+    }
+    
+    mXMin = xMin;
+    mYMin = yMin;
+    mZMin = zMin;
+    mXSize = xMax - xMin + 1;
+    mYSize = yMax - yMin + 1;
+    mZSize = zMax - zMin + 1;
+    mPlatforms = new byte[(int)volume];
+    mSolids = new byte[(int)volume];
+    mClearances = new byte[(int)volume];
+    mDirtyColumns = new boolean[mXSize*mYSize];
+    Arrays.fill(mDirtyColumns, true);
+    
+    for ( IndexedObstacle ob : mObstacles ) stamp(ob, +1);
+    return true;
+    
+  } // grow()
+  
+  // add (delta = +1) or remove (delta = -1) the shape of an obstacle
+  private void stamp(IndexedObstacle ob, int delta) {
+    
+    final int bounds[] = mBounds;
+    if ( !ob.getBounds(bounds) ) return;
+    assert( contains(bounds) );
+    
+    for ( int y = bounds[1] ; y <= bounds[4] ; y++ ) {
+      final int column = (y - mYMin)*mXSize + (bounds[0] - mXMin);
+      for ( int x = bounds[0] ; x <= bounds[3] ; x++ ) {
+        mDirtyColumns[column + x - bounds[0]] = true;
+      }
+    }
+    
+    for ( int z = bounds[2] ; z <= bounds[5] ; z++ ) {
+      for ( int y = bounds[1] ; y <= bounds[4] ; y++ ) {
+        int index = gridIndex(bounds[0], y, z);
+        for ( int x = bounds[0] ; x <= bounds[3] ; x++, index++ ) {
+          if ( ob.isPlatform(x, y, z) ) {
+            mPlatforms[index] += delta;
+            assert( mPlatforms[index] >= 0 && mPlatforms[index] < 127 );
+          }
+          if ( !ob.isEmpty(x, y, z) ) {
+            mSolids[index] += delta;
+            assert( mSolids[index] >= 0 && mSolids[index] < 127 );
+          }
+        }
+      }
+    }
+    
+  } // stamp()
+  
+} // class ObstacleIndex
@@ -0,0 +1,113 @@
+/*
+ *  ObstacleSet.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.util.LinkedList;
+
+// the obstacles observed by a sprite, treated as a single obstacle
+// obstacles held in an ObstacleIndex are checked using the index, while 
+// any others are kept in a list and checked one by one
+public class ObstacleSet implements Obstacle {
+
+  // obstacles that are not in the index
+  private LinkedList<Obstacle> mObstacles;
+  
+  // the index shared by the indexed obstacles (or null)
+  private ObstacleIndex mIndex;
+  
+  // number of indexed obstacles that have arrived but not departed
+  private int mNumIndexed;
+  
+  // constructor
+  public ObstacleSet() {
+    
+    mObstacles = new LinkedList<Obstacle>();
+    mIndex = null;
+    mNumIndexed = 0;
+    
+  } // constructor
+  
+  // include an obstacle (called from Sprite.observeArrival())
+  public void add(Sprite sprite) {
+    
+    assert( sprite instanceof Obstacle );
+    
+    ObstacleIndex index = ObstacleIndex.indexFor(sprite);
+    if ( index != null ) {
+      if ( mIndex != index ) {
+        // any previous index belongs to a discarded set of sprites
+        mIndex = index;
+        mNumIndexed = 0;
+      }
+      mNumIndexed++;
+    } else {
+      mObstacles.add((Obstacle)sprite);
+    }
+    
+  } // add()
+  
+  // forget about an obstacle (called from Sprite.observeDeparture())
+  public void remove(Sprite sprite) {
+    
+    ObstacleIndex index = ObstacleIndex.indexFor(sprite);
+    if ( index != null && index == mIndex ) {
+      assert( mNumIndexed > 0 );
+      if ( --mNumIndexed == 0 ) mIndex = null;
+    } else {
+      mObstacles.remove(sprite);
+    }
+    
+  } // remove()
+  
+  // whether the player can stand at the specified position
+  public boolean isPlatform(int x, int y, int z) {
+    
+    if ( mIndex != null && mIndex.isPlatform(x, y, z) ) return true;
+    for ( Obstacle ob : mObstacles ) {
+      if ( ob.isPlatform(x, y, z) ) return true;
+    }
+    return false;
+    
+  } // Obstacle.isPlatform()
+  
+  // whether there is space at the specified position
+  public boolean isEmpty(int x, int y, int z) {
+    
+    if ( mIndex != null && !mIndex.isEmpty(x, y, z) ) return false;
+    for ( Obstacle ob : mObstacles ) {
+      if ( !ob.isEmpty(x, y, z) ) return false;
+    }
+    return true;
+    
+  } // Obstacle.isEmpty()
+  
+  // whether there is space at all the positions from (x,y,z) up to
+  // (x,y,z+height-1)
+  public boolean isClear(int x, int y, int z, int height) {
+    
+    if ( mIndex != null && !mIndex.isClear(x, y, z, height) ) return false;
+    for ( Obstacle ob : mObstacles ) {
+      for ( int k = 0 ; k < height ; k++ ) {
+        if ( !ob.isEmpty(x, y, z+k) ) return false;
+      }
+    }
+    return true;
+    
+  } // isClear()
+  
+  // whether the position is outside of the game world
+  // (indexed obstacles are never void)
+  public boolean isVoid(int x, int y, int z) {
+    
+    for ( Obstacle ob : mObstacles ) {
+      if ( ob.isVoid(x, y, z) ) return true;
+    }
+    return false;
+    
+  } // Obstacle.isVoid()
+
+} // class ObstacleSet
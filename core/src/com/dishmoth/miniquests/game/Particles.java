@@ -6,33 +6,148 @@
 
 package com.dishmoth.miniquests.game;
 
-import java.util.Iterator;
 import java.util.LinkedList;
 
 // a collection of animated particles
+// (each particle is a simple animated pixel, stored as a slot in parallel
+// arrays so that no objects are created as particles come and go)
 public class Particles extends Sprite3D {
 
-  // active particles
-  protected LinkedList<Particle> mParticles;
+  // number of particle slots if no capacity is specified
+  private static final int kDefaultCapacity = 32;
+  
+  // number of active particles (occupying the first slots of the arrays)
+  protected int mNumParticles;
+  
+  // particle positions (x, y in blocks, z in pixels)
+  protected float mParticleXPos[],
+                  mParticleYPos[],
+                  mParticleZPos[];
+  
+  // particle velocities
+  protected float mParticleXVel[],
+                  mParticleYVel[],
+                  mParticleZVel[];
+
+  // particle accelerations (z only)
+  protected float mParticleZAccel[];
+  
+  // time each particle has existed for, and age at which it expires
+  protected int mParticleAge[],
+                mParticleLifeTime[];
+  
+  // particle pixel colours
+  protected byte mParticleColour[];
+  
+  // scratch space for screen positions and depths when drawing
+  private int   mDrawCoords[];
+  private float mDrawDepths[];
   
   // time remaining before the particles collide with objects
   private int mCollisionCountDown;
   
   // list of objects that the particles may collide with
-  private LinkedList<Obstacle> mObstacles = new LinkedList<Obstacle>();
+  private ObstacleSet mObstacles = new ObstacleSet();
   
   // constructor (collisionDelay = -1 for no collisions)
   public Particles(int collisionDelay) {
     
-    mParticles = new LinkedList<Particle>();
+    this(collisionDelay, kDefaultCapacity);
+    
+  } // constructor
+
+  // constructor, specifying the expected maximum number of particles
+  public Particles(int collisionDelay, int capacity) {
     
     assert( collisionDelay >= -1 );
     mCollisionCountDown = collisionDelay;
     
+    assert( capacity > 0 );
+    allocate(capacity);
+    mNumParticles = 0;
+    
   } // constructor
 
+  // create the particle arrays (preserving any existing particles)
+  private void allocate(int capacity) {
+    
+    assert( capacity >= mNumParticles );
+    mParticleXPos     = resize(mParticleXPos, capacity);
+    mParticleYPos     = resize(mParticleYPos, capacity);
+    mParticleZPos     = resize(mParticleZPos, capacity);
+    mParticleXVel     = resize(mParticleXVel, capacity);
+    mParticleYVel     = resize(mParticleYVel, capacity);
+    mParticleZVel     = resize(mParticleZVel, capacity);
+    mParticleZAccel   = resize(mParticleZAccel, capacity);
+    mParticleAge      = resize(mParticleAge, capacity);
+    mParticleLifeTime = resize(mParticleLifeTime, capacity);
+    mParticleColour   = resize(mParticleColour, capacity);
+    
+    mDrawCoords = new int[2*capacity];
+    mDrawDepths = new float[capacity];
+    
+  } // allocate()
+  
+  // copy the active part of an array into a new array
+  private float[] resize(float array[], int capacity) {
+    
+    float newArray[] = new float[capacity];
+    if ( array != null ) System.arraycopy(array, 0, newArray, 0, mNumParticles);
+    return newArray;
+    
+  } // resize()
+  
+  // copy the active part of an array into a new array
+  private int[] resize(int array[], int capacity) {
+    
+    int newArray[] = new int[capacity];
+    if ( array != null ) System.arraycopy(array, 0, newArray, 0, mNumParticles);
+    return newArray;
+    
+  } // resize()
+  
+  // copy the active part of an array into a new array
+  private byte[] resize(byte array[], int capacity) {
+    
+    byte newArray[] = new byte[capacity];
+    if ( array != null ) System.arraycopy(array, 0, newArray, 0, mNumParticles);
+    return newArray;
+    
+  } // resize()
+  
+  // number of particles currently active
+  public int numParticles() { return mNumParticles; }
+  
   // add a particle to the set
-  public void add(Particle p) { mParticles.add(p); }
+  // (the arrays only grow if the emitter outruns its capacity, which 
+  // normally happens at most a couple of times while it warms up)
+  public void add(float xPos, float yPos, float zPos,
+                  float xVel, float yVel, float zVel,
+                  float zAcc, int life, byte colour) {
+    
+    assert( colour >= 0 && colour < 64 );
+    
+    if ( mNumParticles == mParticleXPos.length ) allocate(2*mNumParticles);
+    
+    final int k = mNumParticles++;
+    mParticleXPos[k]     = xPos;
+    mParticleYPos[k]     = yPos;
+    mParticleZPos[k]     = zPos;
+    mParticleXVel[k]     = xVel;
+    mParticleYVel[k]     = yVel;
+    mParticleZVel[k]     = zVel;
+    mParticleZAccel[k]   = zAcc;
+    mParticleAge[k]      = 0;
+    mParticleLifeTime[k] = life;
+    mParticleColour[k]   = colour;
+    
+  } // add()
+  
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryObstacle | kCategoryCritter);
+  } // Sprite.observedCategories()
   
   // check for Sprites we want to keep track of
   @Override
@@ -44,7 +159,7 @@ public class Particles extends Sprite3D {
       if ( newSprite instanceof Barrier ) {
         if ( !((Barrier)newSprite).blocks(this) ) return;
       }
-      mObstacles.add((Obstacle)newSprite);
+      mObstacles.add(newSprite);
     }
     
   } // Sprite.observeArrival()
@@ -62,38 +177,86 @@ public class Particles extends Sprite3D {
   } // Sprite.observeDeparture()
   
   // move and animate the particles
+  // (dead particles are removed by shuffling the survivors down, which
+  // keeps the particles in the order they were created)
   @Override
   public void advance(LinkedList<Sprite>     addTheseSprites,
                       LinkedList<Sprite>     killTheseSprites,
                       LinkedList<StoryEvent> newStoryEvents) {
 
-    for ( Iterator<Particle> it = mParticles.iterator() ; it.hasNext() ; ) {
-      Particle p = it.next();
-      p.advance();
-      if ( deadParticle(p) ) it.remove();
+    int num = 0;
+    for ( int k = 0 ; k < mNumParticles ; k++ ) {
+      mParticleXPos[k] += mParticleXVel[k];
+      mParticleYPos[k] += mParticleYVel[k];
+      mParticleZPos[k] += mParticleZVel[k];
+      mParticleZVel[k] += mParticleZAccel[k];
+      if ( mParticleAge[k] < mParticleLifeTime[k] ) mParticleAge[k]++;
+      
+      if ( deadParticle(k) ) continue;
+      if ( num < k ) {
+        mParticleXPos[num]     = mParticleXPos[k];
+        mParticleYPos[num]     = mParticleYPos[k];
+        mParticleZPos[num]     = mParticleZPos[k];
+        mParticleXVel[num]     = mParticleXVel[k];
+        mParticleYVel[num]     = mParticleYVel[k];
+        mParticleZVel[num]     = mParticleZVel[k];
+        mParticleZAccel[num]   = mParticleZAccel[k];
+        mParticleAge[num]      = mParticleAge[k];
+        mParticleLifeTime[num] = mParticleLifeTime[k];
+        mParticleColour[num]   = mParticleColour[k];
+      }
+      num++;
     }
+    mNumParticles = num;
 
     if ( mCollisionCountDown > 0 ) mCollisionCountDown -= 1;
     
   } // Sprite.advance()
 
   // whether the particle is finished with (due to old age or collision)
-  protected boolean deadParticle(Particle p) {
+  protected boolean deadParticle(int index) {
     
-    if ( !p.alive() ) return true;
+    if ( mParticleAge[index] >= mParticleLifeTime[index] ) return true;
     if ( mCollisionCountDown != 0 ) return false;
-    for ( Obstacle ob : mObstacles ) {
-      if ( p.hits(ob) ) return true;
-    }  
-    return false;
+    return !mObstacles.isEmpty(Math.round(mParticleXPos[index]), 
+                               Math.round(mParticleYPos[index]), 
+                               Math.round(mParticleZPos[index]+1));
       
   } // deadParticle()
   
   // display the particles
+  // (screen positions are worked out for all of the particles first, then
+  // they are plotted in one go)
   @Override
   public void draw(EgaCanvas canvas) {
 
-    for ( Particle p : mParticles ) p.draw(canvas, mCamera);
+    final float xCamera = mCamera.xPos(),
+                yCamera = mCamera.yPos(),
+                zCamera = mCamera.zPos();
+    final int xOrigin = Env.originXPixel(),
+              yOrigin = Env.originYPixel();
+    
+    final int   coords[] = mDrawCoords;
+    final float depths[] = mDrawDepths;
+    for ( int k = 0, j = 0 ; k < mNumParticles ; k++, j += 2 ) {
+      final float xPos = mParticleXPos[k] - xCamera,
+                  yPos = mParticleYPos[k] - yCamera,
+                  zPos = mParticleZPos[k] - zCamera;
+      
+      // integer ceil() and floor() (same results as Math versions)
+      final float xPix = 2.0f*(xPos - yPos),
+                  yPix = xPos + yPos + zPos + 0.2f;
+      int x = (int)xPix,
+          y = (int)yPix;
+      if ( x < xPix ) x++;
+      if ( y > yPix ) y--;
+      
+      coords[j]   = xOrigin + x;
+      coords[j+1] = yOrigin - y;
+      depths[k]   = xPos + yPos - 0.25f;
+    }
+    
+    canvas.plot(coords, depths, mParticleColour, mNumParticles);
     
   } // Sprite.draw()
 
@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // the player's character
-public class Player extends Sprite3D {
+public class Player extends Sprite3D implements Hittable {
 
   // story event: the player has been destroyed
   public class EventKilled extends StoryEvent {
@@ -94,7 +94,7 @@ public class Player extends Sprite3D {
   private Brain mBrain = new Brain();
   
   // list of objects to navigate around
-  private LinkedList<Obstacle> mObstacles = new LinkedList<Obstacle>();
+  private ObstacleSet mObstacles = new ObstacleSet();
   
   // constructor
   public Player(int x, int y, int z, int direc) {
@@ -194,6 +194,13 @@ public class Player extends Sprite3D {
   // cancel the player's last instructions
   public void removeBrain() { mBrain.remove(); }
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() |
+            kCategoryObstacle | kCategoryCritter | kCategoryOther);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -204,16 +211,10 @@ public class Player extends Sprite3D {
       if ( newSprite instanceof Barrier ) {
         if ( !((Barrier)newSprite).blocks(this) ) return;
       }
-      mObstacles.add((Obstacle)newSprite);
+      mObstacles.add(newSprite);
     }
     
-    if ( newSprite instanceof Critter ||
-         newSprite instanceof Flame ||
-         newSprite instanceof FlameArea ||
-         newSprite instanceof FlameBeam ||
-         newSprite instanceof Liquid ||
-         newSprite instanceof Snake ||
-         newSprite instanceof Spook ) {
+    if ( newSprite instanceof Liquid ) {
       mSpritesToWatch.add(newSprite);
     }
     
@@ -383,20 +384,14 @@ public class Player extends Sprite3D {
   // check isPlatform() on all obstacles
   private boolean isPlatform(int x, int y, int z) {
     
-    for ( Obstacle ob : mObstacles ) {
-      if ( ob.isPlatform(x, y, z) ) return true;
-    }
-    return false;
+    return mObstacles.isPlatform(x, y, z);
     
   } // isPlatform()
   
   // check isEmpty() on all obstacles
   private boolean isEmpty(int x, int y, int z) {
     
-    for ( Obstacle ob : mObstacles ) {
-      if ( !ob.isEmpty(x, y, z) ) return false;
-    }
-    return true;
+    return mObstacles.isEmpty(x, y, z);
     
   } // isEmpty()
   
@@ -460,6 +455,32 @@ public class Player extends Sprite3D {
     
   } // hits()
   
+  // range of positions the player occupies
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    bounds[0] = bounds[3] = mXPos;
+    bounds[1] = bounds[4] = mYPos;
+    if ( mStepping ) {
+      bounds[0] = Math.min(bounds[0], mStepXPos);
+      bounds[1] = Math.min(bounds[1], mStepYPos);
+      bounds[3] = Math.max(bounds[3], mStepXPos);
+      bounds[4] = Math.max(bounds[4], mStepYPos);
+    }
+    bounds[2] = mZPos;
+    bounds[5] = mZPos + kPlayerHeight - 1;
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // the player is killed by a bullet
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source) {
+    
+    if ( !hits(x, y, z) ) return false;
+    destroy(direc);
+    return true;
+    
+  } // Hittable.hitByBullet()
+  
   // check for collisions, etc.
   @Override
   public void interact() {
@@ -467,80 +488,36 @@ public class Player extends Sprite3D {
     mLiquidSubmersion = 0;
     boolean stepInWater = false;
     
-    for ( Sprite sp : mSpritesToWatch ) {
-      
-      if ( sp instanceof Critter ) {
-        Critter cr = (Critter)sp;
-        for ( int dz = 0 ; dz < kPlayerHeight ; dz++ ) {
-          if ( cr.hits(mXPos, mYPos, mZPos+dz) ||
-               (mStepping && cr.hits(mStepXPos, mStepYPos, mStepZPos+dz)) ) {
-            mKilled = true;
-            break;
-          }
-        }
+    final int stepX = ( mStepping ? mStepXPos : mXPos ),
+              stepY = ( mStepping ? mStepYPos : mYPos ),
+              stepZ = ( mStepping ? mStepZPos : mZPos );
+    final CollisionGrid grid = mCollisionGrid;
+    final int numHazards = grid.find(CollisionGrid.kHazard,
+                                     Math.min(mXPos, stepX),
+                                     Math.min(mYPos, stepY),
+                                     Math.min(mZPos, stepZ),
+                                     Math.max(mXPos, stepX),
+                                     Math.max(mYPos, stepY),
+                                     Math.max(mZPos, stepZ)+kPlayerHeight-1);
+    for ( int k = 0 ; k < numHazards ; k++ ) {
+      if ( grid.hazard(k).hitsPlayer(mXPos, mYPos, mZPos, 
+                                     stepX, stepY, stepZ, kPlayerHeight) ) {
+        mKilled = true;
+        break;
       }
-
-      else if ( sp instanceof Flame ) {
-        Flame f = (Flame)sp;
-        if ( f.hits(mXPos, mYPos, mZPos+0.5f*kPlayerHeight,
-                    1.0f, 0.5f*kPlayerHeight) ) {
-          mKilled = true;
-          break;
-        }
-      }
-      
-      else if ( sp instanceof FlameArea ) {
-        FlameArea fa = (FlameArea)sp;
-        if ( fa.hits(mXPos, mYPos, mZPos+kPlayerHeight/2) ) {
-          mKilled = true;
-          break;
-        }
-      }
-      
-      else if ( sp instanceof FlameBeam ) {
-        FlameBeam fb = (FlameBeam)sp;
-        if ( fb.hits(mXPos, mYPos, mZPos+0.5f*kPlayerHeight,
-                     1.0f, 0.5f*kPlayerHeight) ) {
-          mKilled = true;
-          break;
-        }
-      }
-      
-      else if ( sp instanceof Liquid ) {
-        Liquid liquid = (Liquid)sp;
-        int submersion = liquid.depth(mXPos, mYPos, mZPos);
-        if ( mStepping && liquid.isWater() &&
-             liquid.depth(mStepXPos, mStepYPos, mStepZPos) > 0 ) {
-          stepInWater = true;
-        }
-        if ( submersion >= liquid.lethalDepth() ) {
-          mKilled = true;
-        }
-        mLiquidSubmersion = Math.max(mLiquidSubmersion, submersion);
-      }
-      
-      else if ( sp instanceof Snake ) {
-        Snake s = (Snake)sp;
-        for ( int dz = 0 ; dz < kPlayerHeight ; dz++ ) {
-          if ( s.hits(mXPos, mYPos, mZPos+dz) ||
-               (mStepping && s.hits(mStepXPos, mStepYPos, mStepZPos+dz)) ) {
-            mKilled = true;
-            break;
-          }
-        }
+    }
+    
+    for ( Sprite sp : mSpritesToWatch ) {
+      Liquid liquid = (Liquid)sp;
+      int submersion = liquid.depth(mXPos, mYPos, mZPos);
+      if ( mStepping && liquid.isWater() &&
+           liquid.depth(mStepXPos, mStepYPos, mStepZPos) > 0 ) {
+        stepInWater = true;
       }
-      
-      else if ( sp instanceof Spook ) {
-        Spook s = (Spook)sp;
-        for ( int dz = 0 ; dz < kPlayerHeight ; dz++ ) {
-          if ( s.hits(mXPos, mYPos, mZPos+dz) ||
-               (mStepping && s.hits(mStepXPos, mStepYPos, mStepZPos+dz)) ) {
-            mKilled = true;
-            break;
-          }
-        }
+      if ( submersion >= liquid.lethalDepth() ) {
+        mKilled = true;
       }
-
+      mLiquidSubmersion = Math.max(mLiquidSubmersion, submersion);
     }
 
     // play sound effect, now we know what the player is walking on
@@ -66,6 +66,12 @@ abstract public class PortalSightBase extends Sprite3D {
 
   } // constructor
 
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryPlayer);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) {
@@ -124,11 +130,7 @@ abstract public class PortalSightBase extends Sprite3D {
   // HACK: ensure this sprite is always the last drawn
   public void checkSpriteOrder(SpriteManager spriteManager) {
 
-    LinkedList<Sprite> sprites = spriteManager.list();
-    if ( sprites.getLast() != this ) {
-      sprites.remove(this);
-      sprites.addLast(this);
-    }
+    spriteManager.moveToEnd(this);
 
   } // checkSpriteOrder()
 
@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a mysterious standing stone
-public class PortalStone extends Sprite3D implements Obstacle {
+public class PortalStone extends Sprite3D implements Obstacle, Hittable {
 
   // story event: stone has been activated
   public class EventActivated extends StoryEvent {
@@ -96,7 +96,7 @@ public class PortalStone extends Sprite3D implements Obstacle {
   private FlameBeam mParticles;
 
   // prepare image
-  public static void initialize(int colour) {
+  public static synchronized void initialize(int colour) {
 
     if ( kImages == null ) {
       kImages         = new EgaImage[kColourSchemes.length];
@@ -225,6 +225,27 @@ public class PortalStone extends Sprite3D implements Obstacle {
 
   } // hit()
 
+  // range of positions covered by the stone
+  public boolean getCollisionBounds(int bounds[]) {
+
+    bounds[0] = bounds[3] = mXPos;
+    bounds[1] = bounds[4] = mYPos;
+    bounds[2] = mZPos;
+    bounds[5] = mZPos + kHeight - 1;
+    return true;
+
+  } // Collider.getCollisionBounds()
+
+  // the stone registers a hit by a bullet
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source) {
+
+    if ( isEmpty(x, y, z+1) ) return false;
+    Env.sounds().play(Sounds.ARROW_HIT);
+    hit();
+    return true;
+
+  } // Hittable.hitByBullet()
+
   // advance timers, etc.
   @Override
   public void advance(LinkedList<Sprite> addTheseSprites,
@@ -20,9 +20,11 @@ public class QuestStory extends Story {
   } // class QuestStory.EventPlayerWins
 
   // story event: something has happened that makes it worth saving
+  // (the event carries no details, so one shared object is used for all)
   public static class EventSaveGame extends StoryEvent {
-    public EventSaveGame() {}
+    private EventSaveGame() {}
   } // class QuestStory.EventSaveGame
+  public static final EventSaveGame kSaveGameEvent = new EventSaveGame();
   
   // how many quests there are
   public static final int NUM_QUESTS = 5;
@@ -58,6 +60,23 @@ public class QuestStory extends Story {
   // keep track of whether the escape key is held down
   private boolean mEscPressed;
 
+  // responses to the story events
+  private StoryEventBus mEvents;
+  
+  // results of the story events during an advance
+  private Story   mNewStory;
+  private boolean mQuestComplete,
+                  mSaveGame;
+
+  // the camera shared by all of the rooms
+  private Camera mCamera;
+  
+  // state of the quest as the current room was entered (see snapshot())
+  private BitBuffer mEntrySnapshot;
+  
+  // camera position to use when restoring from a snapshot (or null)
+  private int mSnapshotCamera[];
+
   // constructor (for a specific quest)
   public QuestStory(int questNum) {
 
@@ -67,7 +86,12 @@ public class QuestStory extends Story {
 
     mCurrentRoom = null;
     mPlayer = null;
+    mCamera = null;
+    mEntrySnapshot = null;
+    mSnapshotCamera = null;
 
+    makeEventHandlers();
+    
     Env.saveState().setQuestStats( new QuestStats(mQuestNum) );
 
   } // constructor
@@ -79,6 +103,11 @@ public class QuestStory extends Story {
     mRoomList = null;
     mCurrentRoom = null;
     mPlayer = null;
+    mCamera = null;
+    mEntrySnapshot = null;
+    mSnapshotCamera = null;
+    
+    makeEventHandlers();
     
     Env.saveState().setQuestStats(null);
 
@@ -184,123 +213,151 @@ public class QuestStory extends Story {
     
   } // makeRoomList()
   
-  // which quest we're playing
-  public int questNumber() { return mQuestNum; }
-  
-  // process events and advance 
-  @Override
-  public Story advance(LinkedList<StoryEvent> storyEvents,
-                       SpriteManager          spriteManager) {
-
-    // check for a story restart (skip this advance in such cases)
-    boolean firstAdvanceOfGame = false;
-    for ( Iterator<StoryEvent> it = storyEvents.iterator() ; it.hasNext() ; ) {
-      StoryEvent event = it.next();
-      if ( event instanceof Story.EventStoryContinue ) {
-        Env.keys().setMode(KeyMonitor.MODE_GAME);
-        it.remove();
-        return null;
-      }
-      if ( event instanceof Story.EventGameBegins ) {
-        firstAdvanceOfGame = true;
-      }
-    }
+  // set up the responses to story events
+  private void makeEventHandlers() {
     
-    // update the current room
-    if ( !firstAdvanceOfGame ) {
-      mCurrentRoom.advance(storyEvents, spriteManager);
-    }
-
-    Story newStory = null;
-    boolean questComplete = false;
-    boolean saveGame = false;
+    mEvents = new StoryEventBus();
     
-    // process the story event list
-    for ( Iterator<StoryEvent> it = storyEvents.iterator() ; it.hasNext() ; ) {
-      StoryEvent event = it.next();
-
-      if ( event instanceof Story.EventGameBegins ) {
-        // first frame of the story, so set everything up
-        assert( firstAdvanceOfGame );
-        Camera camera = new Camera();
-        for ( Room room : mRoomList ) room.setCamera(camera);
-        spriteManager.addSprite(camera);
+    // first frame of the story, so set everything up
+    mEvents.register(Story.EventGameBegins.class, 
+                     new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
+        mCamera = new Camera();
+        if ( mSnapshotCamera != null ) {
+          mCamera.set(mSnapshotCamera[0], mSnapshotCamera[1], 
+                      mSnapshotCamera[2]);
+          mSnapshotCamera = null;
+        }
+        for ( Room room : mRoomList ) room.setCamera(mCamera);
+        spriteManager.addSprite(mCamera);
         if ( mCurrentRoom == null ) {
           Env.debug("New game started");
           mCurrentRoom = mRoomList[0];
           //mCurrentRoom = findRoom( RoomE01.NAME ); //!!!
           mLastEntryPoint = 0; //0; //!!!
         }
+        spriteManager.setProfileSection(mCurrentRoom.name());
+        recordEntrySnapshot();
         mCurrentRoom.createSprites(spriteManager);
         mPlayer = mCurrentRoom.createPlayer(mLastEntryPoint);
         spriteManager.addSprite(mPlayer);
         Env.saveState().questStats().newRoom( currentRoomIndex() );
         mPlayerDeathTimer = 0;
-        saveGame = true;
+        mSaveGame = true;
         Env.keys().setMode(KeyMonitor.MODE_GAME);
         Env.keys().setButtonDetails(1, 1);
         mEscPressed = true;
-        it.remove();
-      } // Story.EventGameBegins
-
-      else if ( event instanceof Room.EventRoomChange ) {
+        Env.sounds().prefetchQuest(mQuestNum);
+      }
+    }); // Story.EventGameBegins
+    
+    mEvents.register(Room.EventRoomChange.class, new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
         Room.EventRoomChange e = (Room.EventRoomChange)event;
         mCurrentRoom.removePlayer();
         mCurrentRoom.discardResources();
         clearRoom(spriteManager);
         mCurrentRoom = findRoom(e.mNewRoom);
-        mCurrentRoom.createSprites(spriteManager);
+        spriteManager.setProfileSection(mCurrentRoom.name());
         mLastEntryPoint = e.mEntryPoint;
+        recordEntrySnapshot();
+        mCurrentRoom.createSprites(spriteManager);
         mPlayer = mCurrentRoom.createPlayer(mLastEntryPoint);
         spriteManager.addSprite(mPlayer);
         mPlayerDeathTimer = 0; // in case respawning in a different room
         Env.saveState().questStats().newRoom( currentRoomIndex() );
-        if ( e.mSavePoint ) saveGame = true;
-        it.remove();
-      } // Room.EventRoomChange 
-      
-      else if ( event instanceof Room.EventRoomScroll ) {
+        if ( e.mSavePoint ) mSaveGame = true;
+      }
+    }); // Room.EventRoomChange 
+    
+    mEvents.register(Room.EventRoomScroll.class, new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
         Room.EventRoomScroll e = (Room.EventRoomScroll)event;
-        newStory = new ScrollStory(this, e.mShiftX, e.mShiftY, e.mShiftZ);
-        it.remove();
-      } // Room.EventRoomScroll
-      
-      else if ( event instanceof Room.EventNewEntryPoint ) {
+        mNewStory = new ScrollStory(QuestStory.this, 
+                                    e.mShiftX, e.mShiftY, e.mShiftZ);
+      }
+    }); // Room.EventRoomScroll
+    
+    mEvents.register(Room.EventNewEntryPoint.class, 
+                     new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
         Room.EventNewEntryPoint e = (Room.EventNewEntryPoint)event;
         mLastEntryPoint = e.mEntryPoint;
-        saveGame = true;
-        it.remove();
-      } // Room.EventNewEntryPoint
-      
-      else if ( event instanceof Player.EventKilled ) {
+        mSaveGame = true;
+      }
+    }); // Room.EventNewEntryPoint
+    
+    mEvents.register(Player.EventKilled.class, new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
         Player.EventKilled e = (Player.EventKilled)event;
         mCurrentRoom.removePlayer();
         mPlayer = null;
         mPlayerDeathTimer = kPlayerDeathTime;
         Env.sounds().play(Sounds.HERO_DEATH);
         Env.saveState().questStats().countDeath();
-        if ( e.mSavePoint ) saveGame = true;
-        it.remove();
-      } // Player.EventKilled
-      
-      else if ( event instanceof EventSaveGame ) {
-        saveGame = true;
-        it.remove();
-      } // EventSaveGame
-
-      else if ( event instanceof EventPlayerWins ) {
-        questComplete = true;
-        it.remove();
-      } // EventPlayerWins
-
-      else {
+        if ( e.mSavePoint ) mSaveGame = true;
+      }
+    }); // Player.EventKilled
+    
+    mEvents.register(EventSaveGame.class, new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
+        mSaveGame = true;
+      }
+    }); // EventSaveGame
+    
+    mEvents.register(EventPlayerWins.class, new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
+        mQuestComplete = true;
+      }
+    }); // EventPlayerWins
+    
+    mEvents.registerDefault(new StoryEventBus.Handler() {
+      public void handle(StoryEvent event, SpriteManager spriteManager) {
         Env.debug("event ignored: " + event.getClass());
+      }
+    });
+    
+  } // makeEventHandlers()
+  
+  // which quest we're playing
+  public int questNumber() { return mQuestNum; }
+  
+  // process events and advance 
+  @Override
+  public Story advance(LinkedList<StoryEvent> storyEvents,
+                       SpriteManager          spriteManager) {
+
+    // check for a story restart (skip this advance in such cases)
+    boolean firstAdvanceOfGame = false;
+    for ( Iterator<StoryEvent> it = storyEvents.iterator() ; it.hasNext() ; ) {
+      StoryEvent event = it.next();
+      if ( event instanceof Story.EventStoryContinue ) {
+        Env.keys().setMode(KeyMonitor.MODE_GAME);
+        Env.sounds().prefetchQuest(mQuestNum);
         it.remove();
+        return null;
       }
-      
-    } // for each story event
+      if ( event instanceof Story.EventGameBegins ) {
+        firstAdvanceOfGame = true;
+      }
+    }
+    
+    // update the current room
+    if ( !firstAdvanceOfGame ) {
+      mCurrentRoom.advance(storyEvents, spriteManager);
+    }
 
-    if ( saveGame ) recordRestartState();
+    mNewStory = null;
+    mQuestComplete = false;
+    mSaveGame = false;
+    
+    // process the story event list
+    mEvents.dispatch(storyEvents, spriteManager);
+    
+    Story newStory = mNewStory;
+    mNewStory = null;
+    
+    if ( mSaveGame ) recordRestartState();
     
     Env.saveState().questStats().countTime();
     
@@ -315,8 +372,9 @@ public class QuestStory extends Story {
     }
 
     // quest finished
-    if ( questComplete ) {
+    if ( mQuestComplete ) {
       Env.debug("Game finished");
+      Env.debug("Story events: " + mEvents.toString());
       Env.keys().setButtonDetails(0, 0);
       final int score = questScore();
       Env.saveState().updateQuestScore(mQuestNum, score);
@@ -324,6 +382,7 @@ public class QuestStory extends Story {
       Env.saveState().reportQuestStats();
       Env.saveState().setQuestStats(null);
       Env.saveState().save();
+      Env.sounds().prefetchQuest(-1);
       newStory = new EndStory(score, mQuestNum);
       storyEvents.add(new Story.EventGameBegins());
     }
@@ -332,6 +391,7 @@ public class QuestStory extends Story {
     if ( Env.keys().escape() ) {
       if ( !mEscPressed && newStory == null ) {
         Env.sounds().stopAll();
+        Env.sounds().prefetchQuest(-1);
         //newStory = new QuitStory(this);
         newStory = new MenuStory();
         ((MenuStory)newStory).startOnQuest(this);
@@ -375,12 +435,8 @@ public class QuestStory extends Story {
   // remove all of the sprites for the room
   private void clearRoom(SpriteManager spriteManager) {
 
-    LinkedList<Sprite> deadSprites = new LinkedList<Sprite>();
-    for (Sprite s : spriteManager.list()) {
-      if ( s instanceof Camera ) continue; 
-      deadSprites.add(s);
-    }
-    if (deadSprites.size() > 0) spriteManager.removeSprites(deadSprites);
+    spriteManager.removeSpritesInCategories(Sprite.kCategoryAll & 
+                                            ~Sprite.kCategoryCamera);
     
   } // clearRoom()
 
@@ -388,7 +444,16 @@ public class QuestStory extends Story {
   private void recordRestartState() {
     
     BitBuffer buffer = new BitBuffer();
+    writeQuestState(buffer);
+    
+    Env.saveState().setRestartData(buffer);
+    Env.saveState().saveMaybe();
+    
+  } // recordRestartState()
 
+  // encode the quest's progress (current room, entry point, room data)
+  private void writeQuestState(BitBuffer buffer) {
+    
     buffer.write(mQuestNum, 4);
     buffer.write(currentRoomIndex(), 8);
     buffer.write(mLastEntryPoint, 6);
@@ -397,11 +462,8 @@ public class QuestStory extends Story {
     
     for ( Room room : mRoomList ) room.save(buffer);
 
-    Env.saveState().setRestartData(buffer);
-    Env.saveState().saveMaybe();
-    
-  } // recordRestartState()
-
+  } // writeQuestState()
+  
   // restore the state of a quest from save data 
   public boolean restore() {
 
@@ -411,6 +473,13 @@ public class QuestStory extends Story {
     BitBuffer buffer = Env.saveState().restartData();
     buffer.toStart();
     
+    return readQuestState(version, buffer);
+    
+  } // restore()
+  
+  // decode the quest's progress (see writeQuestState())
+  private boolean readQuestState(int version, BitBuffer buffer) {
+    
     mQuestNum = buffer.read(4);
     if ( mQuestNum < 0 || mQuestNum >= NUM_QUESTS ) return false;
     
@@ -437,7 +506,68 @@ public class QuestStory extends Story {
     
     return true;
     
-  } // restore()
+  } // readQuestState()
+  
+  // record the state of the game as the current room is entered
+  // (called just before the room's sprites are created)
+  private void recordEntrySnapshot() {
+    
+    BitBuffer buffer = new BitBuffer();
+    
+    buffer.write(SaveState.currentVersion(), 8);
+    writeQuestState(buffer);
+    
+    final long ticks = Env.ticks(),
+               state = Env.randomState();
+    buffer.write((int)(ticks >>> 30) & 0x3FFFFFFF, 30);
+    buffer.write((int)ticks & 0x3FFFFFFF, 30);
+    buffer.write((int)(state >>> 24) & 0xFFFFFF, 24);
+    buffer.write((int)state & 0xFFFFFF, 24);
+
+    buffer.write(mCamera.xPos() & 0xFFFF, 16);
+    buffer.write(mCamera.yPos() & 0xFFFF, 16);
+    buffer.write(mCamera.zPos() & 0xFFFF, 16);
+    
+    mEntrySnapshot = buffer;
+    
+  } // recordEntrySnapshot()
+  
+  // a compact record of the game as the current room was entered
+  // (the room's sprites are rebuilt from it, and given the same key presses
+  // the game then plays out exactly as it did originally; returns null if 
+  // the quest hasn't started yet)
+  public BitBuffer snapshot() {
+    
+    return ( (mEntrySnapshot == null) ? null : new BitBuffer(mEntrySnapshot) );
+    
+  } // snapshot()
+  
+  // restore the game from a snapshot (the story should be new, and is 
+  // ready to go once it is given to a new GameManager)
+  // (returns false if the snapshot could not be read)
+  public boolean restoreSnapshot(BitBuffer snapshot) {
+    
+    BitBuffer buffer = new BitBuffer(snapshot);
+    buffer.toStart();
+    
+    int version = buffer.read(8);
+    if ( version < 0 || version > SaveState.currentVersion() ) return false;
+    if ( !readQuestState(version, buffer) ) return false;
+    
+    int vals[] = new int[7];
+    final int sizes[] = { 30, 30, 24, 24, 16, 16, 16 };
+    for ( int k = 0 ; k < vals.length ; k++ ) {
+      vals[k] = buffer.read(sizes[k]);
+      if ( vals[k] < 0 ) return false;
+    }
+    
+    Env.setTicks( (((long)vals[0]) << 30) | vals[1] );
+    Env.setRandomState( (((long)vals[2]) << 24) | vals[3] );
+    mSnapshotCamera = new int[]{ (short)vals[4], (short)vals[5], 
+                                 (short)vals[6] };
+    return true;
+    
+  } // restoreSnapshot()
   
   // returns a result in the range [0,1]
   private float interp(float val, float val0, float val1) {
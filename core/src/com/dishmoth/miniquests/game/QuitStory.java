@@ -66,7 +66,7 @@ public class QuitStory extends Story {
                             mDrawDisabledSprites = new ArrayList<Sprite>();
   
   // prepare resources
-  static void initialize() {
+  static synchronized void initialize() {
     
     if ( kQuitText != null ) return;
     
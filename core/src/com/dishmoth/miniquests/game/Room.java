@@ -30,6 +30,8 @@ abstract public class Room {
   } // class Room.EventNewEntryPoint
 
   // story event: the room scrolls
+  // (the story acts on the event straight away, so each room reuses one
+  // object, see scrollEvent())
   public class EventRoomScroll extends StoryEvent {
     public int mShiftX, mShiftY, mShiftZ;
     public EventRoomScroll(int dx, int dy, int dz) {
@@ -65,6 +67,9 @@ abstract public class Room {
   // references to the other rooms in the game
   protected Room mRoomList[];
   
+  // event for scrolling the room (reused, see scrollEvent())
+  private EventRoomScroll mScrollEvent;
+  
   // constructor
   public Room(String name) {
 
@@ -74,6 +79,7 @@ abstract public class Room {
     mCamera = null;
     mCameraLevel = -1;
     mRoomList = null;
+    mScrollEvent = null;
     
   } // constructor
 
@@ -284,6 +290,21 @@ abstract public class Room {
     
   } // checkExits()
 
+  // helper function:
+  // event to scroll the room (the same object is reused each time)
+  protected EventRoomScroll scrollEvent(int dx, int dy, int dz) {
+    
+    if ( mScrollEvent == null ) {
+      mScrollEvent = new EventRoomScroll(dx, dy, dz);
+    } else {
+      mScrollEvent.mShiftX = dx;
+      mScrollEvent.mShiftY = dy;
+      mScrollEvent.mShiftZ = dz;
+    }
+    return mScrollEvent;
+    
+  } // scrollEvent()
+  
   // helper function:
   // check whether the camera needs to move horizontally
   protected EventRoomScroll checkHorizontalScroll() {
@@ -301,7 +322,7 @@ abstract public class Room {
       case Env.LEFT:  { if ( x < 0 )      dx = -kSize; } break;
       case Env.DOWN:  { if ( y < 0 )      dy = -kSize; } break;
     }
-    if ( dx != 0 || dy != 0 ) return new EventRoomScroll(dx, dy, 0);
+    if ( dx != 0 || dy != 0 ) return scrollEvent(dx, dy, 0);
     
     return null;
     
@@ -328,7 +349,7 @@ abstract public class Room {
     }
     final int dz = cameraLevels[mCameraLevel].mCameraZPos - zOld;
     
-    if ( dz != 0 ) return new EventRoomScroll(0, 0, dz);
+    if ( dz != 0 ) return scrollEvent(0, 0, dz);
     
     return null;
     
@@ -341,7 +362,7 @@ abstract public class Room {
     final int dx = zoneX*Room.kSize - mCamera.xPos(),
               dy = zoneY*Room.kSize - mCamera.yPos();
     
-    if ( dx != 0 || dy != 0 ) return new EventRoomScroll(dx, dy, 0);
+    if ( dx != 0 || dy != 0 ) return scrollEvent(dx, dy, 0);
 
     return null;
     
@@ -363,7 +384,7 @@ abstract public class Room {
     while ( y-dy < 0 )      dy -= kSize;
     while ( y-dy >= kSize ) dy += kSize;
 
-    if ( dx != 0 || dy != 0 ) return new EventRoomScroll(dx, dy, 0);
+    if ( dx != 0 || dy != 0 ) return scrollEvent(dx, dy, 0);
     
     return null;
     
@@ -266,6 +266,16 @@ public class SaveState {
     
   } // save()
   
+  // save the game state and wait until it has been written
+  // (saves may otherwise be written in the background, so call this when 
+  // the game is paused or stopped)
+  public void flush() {
+    
+    save();
+    Env.flushSave();
+    
+  } // flush()
+  
   // save now if the platform needs it; otherwise only save when paused/stopped
   public void saveMaybe() {
     
@@ -368,6 +378,9 @@ public class SaveState {
   // version of the saved quest data
   public int restartVersion() { return mRestartVersion; }
 
+  // version of any quest data saved now
+  public static int currentVersion() { return kVersion; }
+
   // new saved data from the current quest 
   public void setRestartData(BitBuffer data) {
     
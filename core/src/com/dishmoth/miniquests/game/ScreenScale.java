@@ -7,6 +7,8 @@
 package com.dishmoth.miniquests.game;
 
 // class for keeping track of the pixel scaling factor (overridden for Android)
+// (the display refreshes the scale while the game may be reading it on
+// another thread, so access is synchronized)
 public class ScreenScale {
 
   // the current pixel scaling
@@ -20,7 +22,7 @@ public class ScreenScale {
   } // constructor
   
   // update the scale for the current screen size
-  public void refresh(int width, int height) {
+  public synchronized void refresh(int width, int height) {
     
     int xScale = (int)Math.floor( width / (float)Env.screenWidth() ),
         yScale = (int)Math.floor( height /(float)Env.screenHeight() );
@@ -29,10 +31,10 @@ public class ScreenScale {
   } // refresh()
   
   // the current pixel size for the game screen
-  public int scale() { return mScale; }
+  public synchronized int scale() { return mScale; }
   
   // the current pixel scale after updating the screen size
-  public int scale(int width, int height) {
+  public synchronized int scale(int width, int height) {
     
     refresh(width, height);
     return scale();
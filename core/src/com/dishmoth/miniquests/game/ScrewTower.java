@@ -63,6 +63,12 @@ public class ScrewTower extends BlockArray {
     
   } // constructor
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryCritter | kCategoryPlayer);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -32,7 +32,7 @@ public class Shrapnel extends Particles {
   public Shrapnel(int x, int y, int z, int direc, 
                   boolean isWall, byte colour) {
     
-    super(kCollisionDelay);
+    super(kCollisionDelay, kNumParticles);
     
     float xPos = x,
           yPos = y,
@@ -64,11 +64,11 @@ public class Shrapnel extends Particles {
         yVel = temp;
       }
       
-      add(new Particle(xPos, yPos, zPos, 
-                       xVel, yVel, zVel, 
-                       -kGravity, 
-                       Env.randomInt(kLifeTimeMin, kLifeTimeMax),
-                       colour));
+      add(xPos, yPos, zPos, 
+          xVel, yVel, zVel, 
+          -kGravity, 
+          Env.randomInt(kLifeTimeMin, kLifeTimeMax),
+          colour);
     }
     
   } // constructor
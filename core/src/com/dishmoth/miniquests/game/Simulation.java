@@ -0,0 +1,23 @@
+/*
+ *  Simulation.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// something that advances the game at a steady rate away from the display,
+// drawing a frame after every tick (see SimulationThread)
+// (only platforms that support threads supply one of these)
+public interface Simulation {
+
+  // begin advancing the game, handing the frames over through the buffers
+  // (if there is a key sampler then the keys are taken from it before each
+  // tick, otherwise the game reads its key monitor directly)
+  public void start(GameManager gameManager, FrameBuffers frames, 
+                    KeySampler keys);
+  
+  // stop advancing the game (once this returns the game is left alone)
+  public void stop();
+  
+} // interface Simulation
@@ -10,7 +10,8 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 
 // base class for snake bosses
-abstract public class Snake extends Sprite3D implements Obstacle {
+abstract public class Snake extends Sprite3D 
+                            implements Obstacle, Hazard, Hittable {
 
   // story event: the snake has been destroyed
   public class EventKilled extends StoryEvent {
@@ -91,7 +92,7 @@ abstract public class Snake extends Sprite3D implements Obstacle {
   protected Player mPlayer;
   
   // prepare the images
-  static public void initialize() {
+  static public synchronized void initialize() {
 
     if ( kSnakeImages != null ) return;
     
@@ -173,6 +174,13 @@ abstract public class Snake extends Sprite3D implements Obstacle {
   // returns the colour scheme number
   public int getColour() { return mColour; }
 
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() |
+            kCategoryObstacle | kCategoryCritter | kCategoryPlayer);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -455,6 +463,69 @@ abstract public class Snake extends Sprite3D implements Obstacle {
     
   } // hits()
   
+  // range of positions the snake's head and body may occupy
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    int xMin = mXPos,
+        yMin = mYPos,
+        xMax = mXPos,
+        yMax = mYPos;
+    if ( mStepping ) {
+      final int x = mXPos - Env.STEP_X[mDirec],
+                y = mYPos - Env.STEP_Y[mDirec];
+      xMin = Math.min(xMin, x);
+      yMin = Math.min(yMin, y);
+      xMax = Math.max(xMax, x);
+      yMax = Math.max(yMax, y);
+    }
+    
+    int xBody = mXPos,
+        yBody = mYPos;
+    for ( int k = mBody.size()-1 ; k >= 0 ; k-- ) {
+      final int direc = mBody.get(k);
+      xBody -= Env.STEP_X[direc];
+      yBody -= Env.STEP_Y[direc];
+      xMin = Math.min(xMin, xBody);
+      yMin = Math.min(yMin, yBody);
+      xMax = Math.max(xMax, xBody);
+      yMax = Math.max(yMax, yBody);
+    }
+    
+    bounds[0] = xMin;
+    bounds[1] = yMin;
+    bounds[2] = mZPos;
+    bounds[3] = xMax;
+    bounds[4] = yMax;
+    bounds[5] = mZPos + Math.max(kHeightHead, kHeightBody) - 1;
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // whether the snake touches the player
+  public boolean hitsPlayer(int x, int y, int z, 
+                            int stepX, int stepY, int stepZ, int height) {
+    
+    for ( int dz = 0 ; dz < height ; dz++ ) {
+      if ( hits(x, y, z+dz) || hits(stepX, stepY, stepZ+dz) ) return true;
+    }
+    return false;
+    
+  } // Hazard.hitsPlayer()
+  
+  // check whether a bullet hits the snake's head or body
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source) {
+    
+    if ( hitsHead(x, y, z) ) {
+      shotInHead();
+      return true;
+    } else if ( hitsBody(x, y, z) ) {
+      shotInBody(x, y);
+      return true;
+    }
+    return false;
+    
+  } // Hittable.hitByBullet()
+  
   // register a hit on the snake's body
   public void shotInBody(int x, int y) {}
   
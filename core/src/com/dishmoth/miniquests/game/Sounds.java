@@ -82,6 +82,23 @@ abstract public class Sounds {
                              VENTURE          = 66;
   protected static final int kNumSounds       = 67; 
  
+  // sounds that are only used in particular quests [quest][sounds]
+  // (in lazy mode, these are only loaded while their quest is playing)
+  private static final int kQuestSounds[][] 
+                          = { { DRAGON_HIT, DRAGON_FIRE, DRAGON_EMERGE,
+                                TBOSS_SPLAT },
+                              { TRIFFID_HIT, TRIFFID_DEATH, TRIFFID_FIRE, 
+                                TRIFFID_EMERGE, TBOSS_HIT, TBOSS_DEATH, 
+                                TBOSS_FIRE, TBOSS_EMERGE, TBOSS_SPLAT, 
+                                TBOSS_GRUNT },
+                              { FLOOR_MUNCH_A, FLOOR_MUNCH_B, FLOOR_BLAST, 
+                                FLOOR_PEEK, FLOOR_HIT, FLOOR_DEATH },
+                              { SPOOK_DEATH, SPOOK_EMERGE },
+                              { SNAKE_EGG, SNAKE_HATCH, SNAKE_HIT_0, 
+                                SNAKE_HIT_1, SNAKE_HIT_2, SNAKE_TRANSFORM, 
+                                SNAKE_REVENGE, SNAKE_DEATH },
+                              { } };
+  
   // true if sounds have been loaded and all is operational
   protected boolean mAvailable;
   
@@ -91,6 +108,17 @@ abstract public class Sounds {
   // queued sound effects [delay,id]
   protected LinkedList<int[]> mDelayedSounds;
   
+  // true if sounds are only loaded when they are needed
+  private boolean mLazy;
+  
+  // details of each sound (recorded by initialize())
+  private String mFileNames[];
+  private int    mNumVersions[];
+  
+  // which sounds have been loaded, and which should be (in lazy mode)
+  private boolean mLoaded[],
+                  mWanted[];
+  
   // constructor
   public Sounds() {
     
@@ -99,8 +127,23 @@ abstract public class Sounds {
 
     mDelayedSounds = new LinkedList<int[]>();
     
+    mLazy = false;
+    mFileNames = new String[kNumSounds];
+    mNumVersions = new int[kNumSounds];
+    mLoaded = new boolean[kNumSounds];
+    mWanted = new boolean[kNumSounds];
+    
   } // constructor
   
+  // choose lazy loading, in which initialize() loads nothing, sounds not
+  // tied to a quest are loaded a frame at a time by advance(), and quest 
+  // sounds are loaded by prefetchQuest() (must be called before initialize())
+  // (any sound not yet loaded is loaded when it is played)
+  public void setLazy(boolean lazy) { mLazy = lazy; }
+  
+  // whether lazy loading is switched on
+  public boolean isLazy() { return mLazy; }
+  
   // mute or unmute the sound
   public void mute() { mMuted = true; }
   public void unmute() { mMuted = false; }
@@ -116,80 +159,155 @@ abstract public class Sounds {
     // hack around a bug in libgdx (some ogg files crash when loading)
     String gdxType = "wav";
     
-    loadSound(STEP, "steps.ogg", 3);
-    loadSound(SPLASH, "splash.ogg", 2);
-    loadSound(ARROW, "arrow.ogg", 1);
-    loadSound(ARROW_HIT, "arrow_hit.ogg", 1);
-    loadSound(HERO_GRUNT, "hmmph.ogg", 1);
-    loadSound(HERO_DEATH, "death.ogg", 1);
-    loadSound(SWITCH_ON, "switch_on.ogg", 1);
-    loadSound(SWITCH_OFF, "switch_off.ogg", 2);
-    loadSound(SWITCH_DEEP, "switch_deep.ogg", 1);
-    loadSound(GRIND, "grind.ogg", 1);
-    loadSound(CHEST, "chest_open.ogg", 1);
-    loadSound(GATE, "gate.ogg", 1);
-    loadSound(TICK, "tick."+gdxType, 1); 
-    loadSound(TOCK, "tock."+gdxType, 1);
-    loadSound(FLAME, "flame.ogg", 1);
-    loadSound(FLAME_WHOOSH, "whoosh.ogg", 1);
-    loadSound(MATERIALIZE, "pop.ogg", 1);
-    loadSound(WRENCH, "wrench.ogg", 1);
-    loadSound(TREE_TWIST, "tree_twist.ogg", 1);
-    loadSound(FOUNTAIN, "fountain.ogg", 1);
-    loadSound(FOUNTAIN_TWIST, "fountain_twist.ogg", 1);
-    loadSound(FOUNTAIN_UNTWIST, "fountain_untwist.ogg", 1);
-    loadSound(PUZZLE_ON, "puzzle_on.ogg", 1);
-    loadSound(PUZZLE_OFF, "puzzle_off.ogg", 1);
-    loadSound(PUZZLE_CHANGE, "puzzle_change.ogg", 1);
-    loadSound(CRITTER_DEATH, "critter_death.ogg", 1);
-    loadSound(CRITTER_STUN, "critter_stun.ogg", 1);
-    loadSound(SPINNER_STOP, "spinner_stop.ogg", 1);
-    loadSound(SPIKES, "spikes.wav", 1);
-    loadSound(SPIKES_QUIET, "spikes_quiet.wav", 1);
-    loadSound(TRIFFID_HIT, "triffid_hit.ogg", 1);
-    loadSound(TRIFFID_DEATH, "triffid_death.ogg", 1);
-    loadSound(TRIFFID_FIRE, "triffid_fire.ogg", 1);
-    loadSound(TRIFFID_EMERGE, "triffid_emerge.ogg", 1);
-    loadSound(SPOOK_DEATH, "spook_death.ogg", 1);
-    loadSound(SPOOK_EMERGE, "spook_emerge.ogg", 1);
-    loadSound(TBOSS_HIT, "tboss_hit.ogg", 1);
-    loadSound(TBOSS_DEATH, "tboss_death.ogg", 1);
-    loadSound(TBOSS_FIRE, "tboss_fire.ogg", 1);
-    loadSound(TBOSS_EMERGE, "tboss_emerge.ogg", 1);
-    loadSound(TBOSS_SPLAT, "tboss_splat.ogg", 1);
-    loadSound(TBOSS_GRUNT, "tboss_grunt.ogg", 1);
-    loadSound(DRAGON_HIT, "dragon_hit.ogg", 1);
-    loadSound(DRAGON_FIRE, "dragon_fire.ogg", 1);
-    loadSound(DRAGON_EMERGE, "dragon_emerge.ogg", 1);
-    loadSound(FLOOR_MUNCH_A, "floor_munch_A.ogg", 1);
-    loadSound(FLOOR_MUNCH_B, "floor_munch_B.ogg", 1);
-    loadSound(FLOOR_BLAST, "floor_blast.ogg", 1);
-    loadSound(FLOOR_PEEK, "floor_peek.ogg", 1);
-    loadSound(FLOOR_HIT, "floor_hit.ogg", 1);
-    loadSound(FLOOR_DEATH, "floor_death.ogg", 1);
-    loadSound(SNAKE_EGG, "snake_egg.ogg", 1);
-    loadSound(SNAKE_HATCH, "snake_hatch.ogg", 1);
-    loadSound(SNAKE_HIT_0, "snake_hit_0.ogg", 1);
-    loadSound(SNAKE_HIT_1, "snake_hit_1.ogg", 1);
-    loadSound(SNAKE_HIT_2, "snake_hit_2.ogg", 1);
-    loadSound(SNAKE_TRANSFORM, "snake_transform.ogg", 1);
-    loadSound(SNAKE_REVENGE, "snake_revenge.ogg", 1);
-    loadSound(SNAKE_DEATH, "snake_death.ogg", 1);
-    loadSound(SUCCESS, "chimes.ogg", 1);
-    loadSound(QUEST_DONE, "big_chimes.ogg", 1);
-    loadSound(MENU_1, "menu1."+gdxType, 1);
-    loadSound(MENU_2, "menu2.ogg", 1);
-    loadSound(MAP, "map.ogg", 1);
-    loadSound(DUNGEON, "dungeon.ogg", 1);
-    loadSound(VENTURE, "salute_far.ogg", 1);
-    loadSound(TITLE, "salute.ogg", 1);
+    addSound(STEP, "steps.ogg", 3);
+    addSound(SPLASH, "splash.ogg", 2);
+    addSound(ARROW, "arrow.ogg", 1);
+    addSound(ARROW_HIT, "arrow_hit.ogg", 1);
+    addSound(HERO_GRUNT, "hmmph.ogg", 1);
+    addSound(HERO_DEATH, "death.ogg", 1);
+    addSound(SWITCH_ON, "switch_on.ogg", 1);
+    addSound(SWITCH_OFF, "switch_off.ogg", 2);
+    addSound(SWITCH_DEEP, "switch_deep.ogg", 1);
+    addSound(GRIND, "grind.ogg", 1);
+    addSound(CHEST, "chest_open.ogg", 1);
+    addSound(GATE, "gate.ogg", 1);
+    addSound(TICK, "tick."+gdxType, 1); 
+    addSound(TOCK, "tock."+gdxType, 1);
+    addSound(FLAME, "flame.ogg", 1);
+    addSound(FLAME_WHOOSH, "whoosh.ogg", 1);
+    addSound(MATERIALIZE, "pop.ogg", 1);
+    addSound(WRENCH, "wrench.ogg", 1);
+    addSound(TREE_TWIST, "tree_twist.ogg", 1);
+    addSound(FOUNTAIN, "fountain.ogg", 1);
+    addSound(FOUNTAIN_TWIST, "fountain_twist.ogg", 1);
+    addSound(FOUNTAIN_UNTWIST, "fountain_untwist.ogg", 1);
+    addSound(PUZZLE_ON, "puzzle_on.ogg", 1);
+    addSound(PUZZLE_OFF, "puzzle_off.ogg", 1);
+    addSound(PUZZLE_CHANGE, "puzzle_change.ogg", 1);
+    addSound(CRITTER_DEATH, "critter_death.ogg", 1);
+    addSound(CRITTER_STUN, "critter_stun.ogg", 1);
+    addSound(SPINNER_STOP, "spinner_stop.ogg", 1);
+    addSound(SPIKES, "spikes.wav", 1);
+    addSound(SPIKES_QUIET, "spikes_quiet.wav", 1);
+    addSound(TRIFFID_HIT, "triffid_hit.ogg", 1);
+    addSound(TRIFFID_DEATH, "triffid_death.ogg", 1);
+    addSound(TRIFFID_FIRE, "triffid_fire.ogg", 1);
+    addSound(TRIFFID_EMERGE, "triffid_emerge.ogg", 1);
+    addSound(SPOOK_DEATH, "spook_death.ogg", 1);
+    addSound(SPOOK_EMERGE, "spook_emerge.ogg", 1);
+    addSound(TBOSS_HIT, "tboss_hit.ogg", 1);
+    addSound(TBOSS_DEATH, "tboss_death.ogg", 1);
+    addSound(TBOSS_FIRE, "tboss_fire.ogg", 1);
+    addSound(TBOSS_EMERGE, "tboss_emerge.ogg", 1);
+    addSound(TBOSS_SPLAT, "tboss_splat.ogg", 1);
+    addSound(TBOSS_GRUNT, "tboss_grunt.ogg", 1);
+    addSound(DRAGON_HIT, "dragon_hit.ogg", 1);
+    addSound(DRAGON_FIRE, "dragon_fire.ogg", 1);
+    addSound(DRAGON_EMERGE, "dragon_emerge.ogg", 1);
+    addSound(FLOOR_MUNCH_A, "floor_munch_A.ogg", 1);
+    addSound(FLOOR_MUNCH_B, "floor_munch_B.ogg", 1);
+    addSound(FLOOR_BLAST, "floor_blast.ogg", 1);
+    addSound(FLOOR_PEEK, "floor_peek.ogg", 1);
+    addSound(FLOOR_HIT, "floor_hit.ogg", 1);
+    addSound(FLOOR_DEATH, "floor_death.ogg", 1);
+    addSound(SNAKE_EGG, "snake_egg.ogg", 1);
+    addSound(SNAKE_HATCH, "snake_hatch.ogg", 1);
+    addSound(SNAKE_HIT_0, "snake_hit_0.ogg", 1);
+    addSound(SNAKE_HIT_1, "snake_hit_1.ogg", 1);
+    addSound(SNAKE_HIT_2, "snake_hit_2.ogg", 1);
+    addSound(SNAKE_TRANSFORM, "snake_transform.ogg", 1);
+    addSound(SNAKE_REVENGE, "snake_revenge.ogg", 1);
+    addSound(SNAKE_DEATH, "snake_death.ogg", 1);
+    addSound(SUCCESS, "chimes.ogg", 1);
+    addSound(QUEST_DONE, "big_chimes.ogg", 1);
+    addSound(MENU_1, "menu1."+gdxType, 1);
+    addSound(MENU_2, "menu2.ogg", 1);
+    addSound(MAP, "map.ogg", 1);
+    addSound(DUNGEON, "dungeon.ogg", 1);
+    addSound(VENTURE, "salute_far.ogg", 1);
+    addSound(TITLE, "salute.ogg", 1);
 
+    if ( mLazy ) prefetchQuest(-1);
+    
     checkSounds();
     if ( mAvailable ) Env.debug("Sounds loaded successfully");
     else              Env.debug("Sound disabled; effects failed to load");
     
   } // initialize()
 
+  // record the details of a sound resource (and load it unless lazy)
+  private void addSound(int id, String fileName, int numVersions) {
+    
+    assert( id >= 0 && id < kNumSounds );
+    mFileNames[id] = fileName;
+    mNumVersions[id] = numVersions;
+    if ( !mLazy ) resolve(id);
+    
+  } // addSound()
+  
+  // make sure a sound has been loaded
+  protected void resolve(int id) {
+    
+    if ( mLoaded[id] || mFileNames[id] == null ) return;
+    loadSound(id, mFileNames[id], mNumVersions[id]);
+    mLoaded[id] = true;
+    
+  } // resolve()
+  
+  // whether a sound has been loaded (it may have failed though)
+  protected boolean isLoaded(int id) { return mLoaded[id]; }
+  
+  // whether a sound belongs to the specified quest
+  private static boolean isQuestSound(int id, int quest) {
+    
+    for ( int questId : kQuestSounds[quest] ) {
+      if ( questId == id ) return true;
+    }
+    return false;
+    
+  } // isQuestSound()
+  
+  // whether a sound is not tied to any quest
+  private static boolean isCommonSound(int id) {
+    
+    for ( int quest = 0 ; quest < kQuestSounds.length ; quest++ ) {
+      if ( isQuestSound(id, quest) ) return false;
+    }
+    return true;
+    
+  } // isCommonSound()
+  
+  // in lazy mode, start loading the sounds needed for a quest and discard
+  // the sounds for any other quest (quest -1 if no quest is being played)
+  public void prefetchQuest(int quest) {
+    
+    if ( !mLazy ) return;
+    assert( quest >= -1 && quest < kQuestSounds.length );
+    
+    for ( int id = 0 ; id < kNumSounds ; id++ ) {
+      mWanted[id] = ( isCommonSound(id) ||
+                      ( quest >= 0 && isQuestSound(id, quest) ) );
+      if ( mLoaded[id] && !mWanted[id] ) {
+        if ( isLooped(id) ) stop(id);
+        unloadSound(id, mFileNames[id]);
+        mLoaded[id] = false;
+      }
+    }
+    
+  } // prefetchQuest()
+  
+  // in lazy mode, load one sound that will be needed soon
+  private void prefetchNext() {
+    
+    for ( int id = 0 ; id < kNumSounds ; id++ ) {
+      if ( mWanted[id] && !mLoaded[id] ) {
+        resolve(id);
+        return;
+      }
+    }
+    
+  } // prefetchNext()
+
   // identify which sounds must be looped
   protected boolean isLooped(int id) {
     
@@ -200,6 +318,9 @@ abstract public class Sounds {
   // prepare a sound resource
   abstract protected void loadSound(int id, String fileName, int numVersions);
 
+  // discard a sound resource (only in lazy mode; nothing by default)
+  protected void unloadSound(int id, String fileName) { }
+
   // check that all sounds have loaded
   abstract protected void checkSounds();
   
@@ -217,6 +338,8 @@ abstract public class Sounds {
       }
     }
     
+    if ( mLazy ) prefetchNext();
+    
   } // advance()
   
   // play a sound effect
@@ -88,6 +88,12 @@ public class Spikes extends Sprite3D {
   // control the sound effect
   public void setSilent(boolean silent) { mSilent = silent; }
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryCritter | kCategoryPlayer);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
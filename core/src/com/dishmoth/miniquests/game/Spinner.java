@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a dangerous obstacle
-public class Spinner extends Sprite3D {
+public class Spinner extends Sprite3D implements Hittable {
 
   // details of the image
   private static final int   kImageWidth   = 3,
@@ -161,6 +161,26 @@ public class Spinner extends Sprite3D {
     
   } // hits()
   
+  // range of positions where the spinner can be hit
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    bounds[0] = bounds[3] = mXPos;
+    bounds[1] = bounds[4] = mYPos;
+    bounds[2] = mZPos;
+    bounds[5] = mZPos + 2;
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // bullets bounce off the spinner
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source) {
+    
+    if ( !hits(x, y, z) ) return false;
+    Env.sounds().play(Sounds.ARROW_HIT);
+    return true;
+    
+  } // Hittable.hitByBullet()
+  
   // specify a list of points to visit (triplets [x,y,wait])
   public void setTargets(int targets[][], boolean repeat) {
     
@@ -181,6 +201,12 @@ public class Spinner extends Sprite3D {
   // briefly flash the image
   public void flash() { mFlashTimer = kFlashDelay; }
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryCritter | kCategoryPlayer);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -29,7 +29,7 @@ public class Splatter extends Particles {
   public Splatter(int x, int y, int z, int stepDirec, 
                   int height, byte colour, int hitDirec) {
     
-    super(kCollisionDelay);
+    super(kCollisionDelay, 4*height);
     
     assert( stepDirec >= -1 && stepDirec < 4 );
     assert( height > 0 );
@@ -79,11 +79,11 @@ public class Splatter extends Particles {
           case Env.DOWN:  { yVel-=v1; xVel+=v2; } break;
         }
         
-        add(new Particle(xPos, yPos, zPos, 
-                         xVel, yVel, zVel, 
-                         -kGravity, 
-                         Env.randomInt(kLifeTimeMin, kLifeTimeMax),
-                         colour));
+        add(xPos, yPos, zPos, 
+            xVel, yVel, zVel, 
+            -kGravity, 
+            Env.randomInt(kLifeTimeMin, kLifeTimeMax),
+            colour);
         
       }
     }
@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a monster
-public class Spook extends Sprite3D {
+public class Spook extends Sprite3D implements Hazard, Hittable {
 
   // story event: the monster has been destroyed
   public class EventKilled extends StoryEvent {
@@ -85,11 +85,12 @@ public class Spook extends Sprite3D {
   // list of objects to navigate around
   private LinkedList<Obstacle> mObstacles = new LinkedList<Obstacle>();
 
-  // internal array used by checkDirections() to avoid memory allocation
+  // internal arrays used by advance() to avoid memory allocation
   private boolean mValidDirections[] = new boolean[4];
+  private int     mRandomDirecs[]    = new int[4];
   
   // prepare the images
-  static public void initialize() {
+  static public synchronized void initialize() {
 
     if ( kSpookImages != null ) return;
     
@@ -207,6 +208,12 @@ public class Spook extends Sprite3D {
 
   } // destroy()
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryObstacle | kCategoryCritter);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -271,14 +278,16 @@ public class Spook extends Sprite3D {
       
       int direc = mDirec;
       if ( !mTurning || !validDirecs[mDirec] ) {
-        LinkedList<Integer> randomDirec = new LinkedList<Integer>();
+        int numDirecs = 0;
         for ( int dir = 0 ; dir < 4 ; dir++ ) {
-          if ( dir != mDirecFrom && validDirecs[dir] ) randomDirec.add(dir);
+          if ( dir != mDirecFrom && validDirecs[dir] ) {
+            mRandomDirecs[numDirecs++] = dir;
+          }
         }
-        Env.shuffle(randomDirec);
-        if ( validDirecs[mDirecFrom] ) randomDirec.add(mDirecFrom);
-        if ( randomDirec.size() > 0 ) {
-          direc = randomDirec.getFirst();          
+        Env.shuffle(mRandomDirecs, numDirecs);
+        if ( validDirecs[mDirecFrom] ) mRandomDirecs[numDirecs++] = mDirecFrom;
+        if ( numDirecs > 0 ) {
+          direc = mRandomDirecs[0];
         } else {
           direc = (mDirec + Env.randomInt(3)) % 4;
         }
@@ -358,6 +367,40 @@ public class Spook extends Sprite3D {
     
   } // hits()
   
+  // range of positions the spook may occupy
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    bounds[0] = bounds[3] = mXPos;
+    bounds[1] = bounds[4] = mYPos;
+    if ( mStepping ) {
+      bounds[0] = Math.min(bounds[0], mStepXPos);
+      bounds[1] = Math.min(bounds[1], mStepYPos);
+      bounds[3] = Math.max(bounds[3], mStepXPos);
+      bounds[4] = Math.max(bounds[4], mStepYPos);
+    }
+    bounds[2] = mZPos;
+    bounds[5] = mZPos + kHeight - 1;
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // whether the spook touches the player
+  public boolean hitsPlayer(int x, int y, int z, 
+                            int stepX, int stepY, int stepZ, int height) {
+    
+    return ( hits(x, x, y, y, z, z+height-1) ||
+             hits(stepX, stepX, stepY, stepY, stepZ, stepZ+height-1) );
+    
+  } // Hazard.hitsPlayer()
+  
+  // the spook is destroyed by a bullet (which carries on through it)
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source) {
+    
+    if ( hits(x, y, z) ) destroy(direc);
+    return false;
+    
+  } // Hittable.hitByBullet()
+  
   // handle consequences of collisions
   @Override
   public void aftermath(LinkedList<Sprite>     addTheseSprites, 
@@ -25,9 +25,27 @@ import java.util.*;
 // see the SpriteManager class for more details
 abstract public class Sprite {
 
+  // the SpriteManager sorts Sprites into these categories, and only tells 
+  // a Sprite about arrivals and departures in the categories it observes
+  // (values are bits so that categories can be combined)
+  static public final int kCategoryCamera   = 1,  // Camera
+                          kCategoryPlayer   = 2,  // Player
+                          kCategoryCritter  = 4,  // Critter (and subclasses)
+                          kCategoryObstacle = 8,  // other Obstacle objects
+                          kCategoryOther    = 16, // everything else
+                          kCategoryAll      = 31;
+  static public final int kNumCategories    = 5;
+  
   // in general a Sprite will keep track of other Sprites it may interact with
   protected LinkedList<Sprite> mSpritesToWatch;
   
+  // position in the SpriteManager's arrays (only used by the SpriteManager)
+  int mSlot;
+  
+  // colliders near the Sprite (set by the SpriteManager, only valid during
+  // the interact stage, see CollisionGrid)
+  CollisionGrid mCollisionGrid;
+  
   // flags set by Story and read by SpriteManager
   // advance(), interact() and aftermath() are switched off by the first flag
   // draw() is switched off by the second flag
@@ -40,9 +58,25 @@ abstract public class Sprite {
     mSpritesToWatch  = new LinkedList<Sprite>();
     mAdvanceDisabled = false;
     mDrawDisabled    = false;
+    mSlot            = -1;
+    mCollisionGrid   = null;
     
   } // constructor
 
+  // which categories of Sprite (see above) this Sprite observes
+  // (any Sprite that observeArrival() may act on must be covered by this)
+  // (by default no categories are observed)
+  public int observedCategories() { return 0; }
+
+  // whether this Sprite is unchanging scenery, so that it draws the same 
+  // image every frame unless the camera moves or staticVersion() changes
+  // (static Sprites at the start of the draw order can be cached, see 
+  // StaticLayer) (by default Sprites are not static)
+  public boolean isStatic() { return false; }
+  
+  // a value that changes whenever the image of a static Sprite changes
+  public int staticVersion() { return 0; }
+
   // when a new Sprite is introduced into the game, each existing Sprite
   // has the option of whether or not to add it to their mSpritesToWatch list
   // (by default all new Sprites are ignored)
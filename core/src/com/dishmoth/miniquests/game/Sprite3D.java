@@ -12,6 +12,10 @@ abstract public class Sprite3D extends Sprite {
   // reference to the game's Camera object
   protected Camera mCamera = null;
   
+  // Sprite3D objects observe the Camera by default
+  @Override
+  public int observedCategories() { return kCategoryCamera; }
+  
   // maintain a reference to the game's Camera sprite
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -11,10 +11,70 @@ import java.util.*;
 // all of the active Sprites in the game are under the care of this manager
 // the SpriteManager's main functions are to update and draw all of Sprites
 // the SpriteManager itself is under the control of the GameManager
+//
+// Sprites are held in arrays indexed by slot, with the update/draw order
+// kept as a linked list running through the slots
+// each Sprite is sorted into one of the categories defined in Sprite, and
+// is only told about the arrivals and departures of Sprites in the 
+// categories it observes (see Sprite.observedCategories())
 public class SpriteManager {
 
-  // the Sprites we are managing
-  private LinkedList<Sprite> mSpriteList;
+  // marks the end of a linked list of slots
+  private static final int kNoSlot = -1;
+  
+  // initial number of slots (more are added as needed)
+  private static final int kInitialSlots = 64;
+  
+  // the Sprites we are managing (null for unused slots)
+  private Sprite mSprites[];
+  private int    mNumSprites;
+  
+  // category index for each slot, and the categories it observes (bit mask)
+  private int mCategories[],
+              mObserves[];
+  
+  // the kinds of collider in each slot (see CollisionGrid.kindOf())
+  private int mCollisionKinds[];
+  
+  // position of each slot in the update/draw order (increases along the list)
+  private long mOrder[];
+  private long mNextOrder;
+  
+  // linked list of slots in update/draw order
+  private int mNext[],
+              mPrev[];
+  private int mHead,
+              mTail;
+  
+  // unused slots (linked through mNext)
+  private int mFreeHead;
+  
+  // linked lists of the slots in each category (in update/draw order)
+  private int mCatNext[],
+              mCatPrev[];
+  private int mCatHead[],
+              mCatTail[];
+  
+  // linked lists of the slots observing each category (in update/draw order)
+  private int mObsNext[][],
+              mObsPrev[][];
+  private int mObsHead[],
+              mObsTail[];
+  
+  // shapes of the IndexedObstacle sprites
+  private ObstacleIndex mObstacleIndex;
+  
+  // positions of the colliders (rebuilt for each interact stage)
+  private CollisionGrid mCollisionGrid;
+  
+  // current positions when merging category lists (see startMerge())
+  private int mMergeSlots[];
+  
+  // read-only view of the Sprites (for use in for-each loops)
+  private Iterable<Sprite> mView;
+  
+  // timing of the Sprites' work (or null if not profiling)
+  private SpriteProfiler mProfiler = null;
   
   // objects local to advance() (create here to reduce garbage collection)
   private LinkedList<Sprite> mAddTheseSprites  = new LinkedList<Sprite>(),
@@ -24,29 +84,109 @@ public class SpriteManager {
   // constructor
   public SpriteManager() {
     
-    mSpriteList = new LinkedList<Sprite>();
+    final int num = Sprite.kNumCategories;
+    mCatHead    = new int[num];
+    mCatTail    = new int[num];
+    mObsHead    = new int[num];
+    mObsTail    = new int[num];
+    mObsNext    = new int[num][];
+    mObsPrev    = new int[num][];
+    mMergeSlots = new int[num];
+    
+    mCollisionGrid = new CollisionGrid();
+    
+    mSprites = new Sprite[0];
+    mFreeHead = kNoSlot;
+    resize(kInitialSlots);
+    removeAllSprites();
+    
+    mView = new Iterable<Sprite>() {
+      @Override
+      public Iterator<Sprite> iterator() { return new SpriteIterator(); }
+    };
     
   } // constructor
 
-  // allow access to the Sprite list (the list itself should not be modified)
-  public LinkedList<Sprite> list() { return mSpriteList; }
+  // steps through the Sprites in update/draw order
+  private class SpriteIterator implements Iterator<Sprite> {
+    private int mSlot = mHead;
+    @Override
+    public boolean hasNext() { return (mSlot != kNoSlot); }
+    @Override
+    public Sprite next() {
+      if ( mSlot == kNoSlot ) throw new NoSuchElementException();
+      Sprite s = mSprites[mSlot];
+      mSlot = mNext[mSlot];
+      return s;
+    }
+    @Override
+    public void remove() { throw new UnsupportedOperationException(); }
+  } // class SpriteIterator
+  
+  // allow access to the Sprites (the SpriteManager must not be modified 
+  // while iterating through them)
+  public Iterable<Sprite> list() { return mView; }
+
+  // number of Sprites being managed
+  public int size() { return mNumSprites; }
+  
+  // whether a Sprite is being managed
+  public boolean contains(Sprite sprite) {
+    
+    return ( findSlot(sprite) != kNoSlot );
+    
+  } // contains()
+  
+  // which category a Sprite belongs to (index, not bit mask)
+  private static int categoryIndex(Sprite sprite) {
+    
+    if ( sprite instanceof Camera )   return 0;
+    if ( sprite instanceof Player )   return 1;
+    if ( sprite instanceof Critter )  return 2;
+    if ( sprite instanceof Obstacle ) return 3;
+    return 4;
+    
+  } // categoryIndex()
 
   // add a new Sprite to the list we are managing
   // order within the list is maintained
-  // Sprites already in the list are alerted to the presence of the new Sprite
+  // Sprites already in the list that observe the new Sprite's category are
+  // alerted to its presence (and vice versa)
   public void addSprite(Sprite newSprite) {
     
-    if ( mSpriteList.isEmpty() ) {
-      mSpriteList.add(newSprite);
-      return;
+    assert( newSprite != null );
+    assert( !contains(newSprite) );
+    
+    final int category = categoryIndex(newSprite);
+    final int observes = newSprite.observedCategories();
+    assert( (observes & ~Sprite.kCategoryAll) == 0 );
+    
+    if ( newSprite instanceof IndexedObstacle ) {
+      mObstacleIndex.add((IndexedObstacle)newSprite);
     }
-
-    for ( Sprite s : mSpriteList ) {
-      s.observeArrival(newSprite);
-      newSprite.observeArrival(s);
+    
+    final int obsNext[] = mObsNext[category];
+    for ( int k = mObsHead[category] ; k != kNoSlot ; k = obsNext[k] ) {
+      mSprites[k].observeArrival(newSprite);
+    }
+    
+    startMerge(observes);
+    for ( int k = nextMerge() ; k != kNoSlot ; k = nextMerge() ) {
+      newSprite.observeArrival(mSprites[k]);
     }
     
-    mSpriteList.add(newSprite);
+    if ( mFreeHead == kNoSlot ) resize(2*mSprites.length);
+    final int slot = mFreeHead;
+    mFreeHead = mNext[slot];
+    
+    mSprites[slot]    = newSprite;
+    mCategories[slot] = category;
+    mObserves[slot]   = observes;
+    mCollisionKinds[slot] = CollisionGrid.kindOf(newSprite);
+    newSprite.mSlot   = slot;
+    newSprite.mCollisionGrid = mCollisionGrid;
+    mNumSprites++;
+    linkSlot(slot);
   
   } // addSprite()
 
@@ -59,14 +199,12 @@ public class SpriteManager {
   } // addSprites()
 
   // we are no longer managing a Sprite
-  // inform the remaining Sprites of this
+  // inform the remaining Sprites that observe its category of this
+  // (nothing happens if the Sprite is not being managed)
   public void removeSprite(Sprite deadSprite) {
     
-    mSpriteList.remove(deadSprite);
-    for ( Sprite s : mSpriteList ) {
-      s.observeDeparture(deadSprite);
-      deadSprite.observeDeparture(s);
-    }
+    final int slot = findSlot(deadSprite);
+    if ( slot != kNoSlot ) removeSlot(slot);
     
   } // removeSprite()
   
@@ -77,26 +215,95 @@ public class SpriteManager {
     
   } // removeSprites()
 
+  // remove every Sprite whose category is in the bit mask
+  // (the remaining Sprites are informed as for removeSprite())
+  public void removeSpritesInCategories(int categories) {
+    
+    int slot = mHead;
+    while ( slot != kNoSlot ) {
+      final int next = mNext[slot];
+      if ( (categories & (1 << mCategories[slot])) != 0 ) removeSlot(slot);
+      slot = next;
+    }
+    
+  } // removeSpritesInCategories()
+  
   // all existing Sprites are removed from the game
+  // (no Sprites are informed of this)
+  // (the obstacle index is replaced since a copy may still be using it)
   public void removeAllSprites() {
     
-    mSpriteList.clear();
+    mObstacleIndex = new ObstacleIndex();
+    
+    Arrays.fill(mSprites, null);
+    mNumSprites = 0;
+    mNextOrder = 0;
+    
+    mHead = mTail = kNoSlot;
+    Arrays.fill(mCatHead, kNoSlot);
+    Arrays.fill(mCatTail, kNoSlot);
+    Arrays.fill(mObsHead, kNoSlot);
+    Arrays.fill(mObsTail, kNoSlot);
+    
+    mFreeHead = kNoSlot;
+    for ( int slot = mSprites.length-1 ; slot >= 0 ; slot-- ) {
+      mNext[slot] = mFreeHead;
+      mFreeHead = slot;
+    }
     
   } // removeAll()
 
   // copy the sprites from another SpriteManager object
+  // (the slots are copied exactly so that a Sprite's slot is valid for both)
+  // (the obstacle index is shared, see removeAllSprites())
+  // (the collision grid is shared too, it is rebuilt whenever it is used)
   public void copySprites(SpriteManager source) {
 
-    mSpriteList.clear();
-    mSpriteList.addAll(source.mSpriteList);
+    mObstacleIndex = source.mObstacleIndex;
+    mCollisionGrid = source.mCollisionGrid;
+    mSprites    = copyOf(source.mSprites);
+    mNumSprites = source.mNumSprites;
+    mCategories = Env.copyOf(source.mCategories);
+    mObserves   = Env.copyOf(source.mObserves);
+    mCollisionKinds = Env.copyOf(source.mCollisionKinds);
+    mOrder      = copyOf(source.mOrder);
+    mNextOrder  = source.mNextOrder;
+    mNext       = Env.copyOf(source.mNext);
+    mPrev       = Env.copyOf(source.mPrev);
+    mHead       = source.mHead;
+    mTail       = source.mTail;
+    mFreeHead   = source.mFreeHead;
+    mCatNext    = Env.copyOf(source.mCatNext);
+    mCatPrev    = Env.copyOf(source.mCatPrev);
+    mCatHead    = Env.copyOf(source.mCatHead);
+    mCatTail    = Env.copyOf(source.mCatTail);
+    mObsHead    = Env.copyOf(source.mObsHead);
+    mObsTail    = Env.copyOf(source.mObsTail);
+    for ( int c = 0 ; c < Sprite.kNumCategories ; c++ ) {
+      mObsNext[c] = Env.copyOf(source.mObsNext[c]);
+      mObsPrev[c] = Env.copyOf(source.mObsPrev[c]);
+    }
     
   } // copySprites()
   
+  // move a Sprite to the end of the update/draw order
+  public void moveToEnd(Sprite sprite) {
+    
+    final int slot = findSlot(sprite);
+    assert( slot != kNoSlot );
+    if ( slot == mTail ) return;
+    unlinkSlot(slot);
+    linkSlot(slot);
+    
+  } // moveToEnd()
+  
   // return a Sprite of the specified type, or null if none present
   // Sprite returned is the first in the manager's list
   public Sprite findSpriteOfType(Class<?> cl) {
 
-    for ( Sprite s : mSpriteList ) if ( s.getClass() == cl ) return s;
+    for ( int k = mHead ; k != kNoSlot ; k = mNext[k] ) {
+      if ( mSprites[k].getClass() == cl ) return mSprites[k];
+    }
     return null;
         
   } // findSpriteOfType()
@@ -105,14 +312,18 @@ public class SpriteManager {
   public void disableAdvanceForAll() { setAdvanceDisabledFlag(true); }
   public void enableAdvanceForAll() { setAdvanceDisabledFlag(false); }
   protected void setAdvanceDisabledFlag(boolean val) {
-    for ( Sprite s : mSpriteList ) s.mAdvanceDisabled = val;
+    for ( int k = mHead ; k != kNoSlot ; k = mNext[k] ) {
+      mSprites[k].mAdvanceDisabled = val;
+    }
   }
   
   // set or reset the "draw" behaviour for all Sprites
   public void disableDrawForAll() { setDrawDisabledFlag(true); }
   public void enableDrawForAll() { setDrawDisabledFlag(false); }
   protected void setDrawDisabledFlag(boolean val) {
-    for ( Sprite s : mSpriteList ) s.mDrawDisabled = val;
+    for ( int k = mHead ; k != kNoSlot ; k = mNext[k] ) {
+      mSprites[k].mDrawDisabled = val;
+    }
   }
 
   // update all of the Sprites in our list
@@ -124,27 +335,62 @@ public class SpriteManager {
     mAddTheseSprites.clear();
     mKillTheseSprites.clear();
     mNewStoryEvents.clear();
-    for ( Sprite s : mSpriteList ) {
-      if ( s.mAdvanceDisabled ) continue;
-      s.advance(mAddTheseSprites, mKillTheseSprites, mNewStoryEvents);
+    if ( mProfiler == null ) {
+      for ( int k = mHead ; k != kNoSlot ; k = mNext[k] ) {
+        Sprite s = mSprites[k];
+        if ( s.mAdvanceDisabled ) continue;
+        s.advance(mAddTheseSprites, mKillTheseSprites, mNewStoryEvents);
+      }
+    } else {
+      for ( int k = mHead ; k != kNoSlot ; k = mNext[k] ) {
+        Sprite s = mSprites[k];
+        if ( s.mAdvanceDisabled ) continue;
+        mProfiler.start();
+        s.advance(mAddTheseSprites, mKillTheseSprites, mNewStoryEvents);
+        mProfiler.stop(s, SpriteProfiler.ADVANCE);
+      }
     }
     addSprites(mAddTheseSprites);
     removeSprites(mKillTheseSprites);
     addedStoryEvents.addAll(mNewStoryEvents);
     
     // stage 2: allow sprites to interact with each other
-    for ( Sprite s : mSpriteList ) {
-      if ( s.mAdvanceDisabled ) continue;
-      s.interact();
+    buildCollisionGrid();
+    if ( mProfiler == null ) {
+      for ( int k = mHead ; k != kNoSlot ; k = mNext[k] ) {
+        Sprite s = mSprites[k];
+        if ( s.mAdvanceDisabled ) continue;
+        s.interact();
+      }
+    } else {
+      for ( int k = mHead ; k != kNoSlot ; k = mNext[k] ) {
+        Sprite s = mSprites[k];
+        if ( s.mAdvanceDisabled ) continue;
+        mProfiler.start();
+        s.interact();
+        mProfiler.stop(s, SpriteProfiler.INTERACT);
+      }
     }
+    mCollisionGrid.clear();
 
     // stage 3: aftermath of the interactions
     mAddTheseSprites.clear();
     mKillTheseSprites.clear();
     mNewStoryEvents.clear();
-    for ( Sprite s : mSpriteList ) {
-      if ( s.mAdvanceDisabled ) continue;
-      s.aftermath(mAddTheseSprites, mKillTheseSprites, mNewStoryEvents);
+    if ( mProfiler == null ) {
+      for ( int k = mHead ; k != kNoSlot ; k = mNext[k] ) {
+        Sprite s = mSprites[k];
+        if ( s.mAdvanceDisabled ) continue;
+        s.aftermath(mAddTheseSprites, mKillTheseSprites, mNewStoryEvents);
+      }
+    } else {
+      for ( int k = mHead ; k != kNoSlot ; k = mNext[k] ) {
+        Sprite s = mSprites[k];
+        if ( s.mAdvanceDisabled ) continue;
+        mProfiler.start();
+        s.aftermath(mAddTheseSprites, mKillTheseSprites, mNewStoryEvents);
+        mProfiler.stop(s, SpriteProfiler.AFTERMATH);
+      }
     }
     addSprites(mAddTheseSprites);
     removeSprites(mKillTheseSprites);    
@@ -152,14 +398,280 @@ public class SpriteManager {
 
   } // advance()
   
+  // sort the colliders into the grid, in update order
+  private void buildCollisionGrid() {
+    
+    mCollisionGrid.clear();
+    for ( int k = mHead ; k != kNoSlot ; k = mNext[k] ) {
+      final int kind = mCollisionKinds[k];
+      if ( kind != 0 ) mCollisionGrid.add(mSprites[k], kind);
+    }
+    
+  } // buildCollisionGrid()
+  
   // display the Sprites
   public void draw(EgaCanvas canvas) {
     
-    for ( Sprite s : mSpriteList ) {
+    drawSlots(canvas, mHead, kNoSlot);
+    
+  } // draw()
+
+  // display the Sprites, reusing the image of the static Sprites at the 
+  // start of the draw order if they and the cameras have not changed
+  // (the canvas should be cleared before this is called)
+  public void draw(EgaCanvas canvas, StaticLayer staticLayer) {
+    
+    staticLayer.begin(canvas);
+    
+    for ( int k = mCatHead[0] ; k != kNoSlot ; k = mCatNext[k] ) {
+      staticLayer.add(mSprites[k]);
+    }
+    
+    int first = mHead;
+    for ( ; first != kNoSlot ; first = mNext[first] ) {
+      Sprite s = mSprites[first];
       if ( s.mDrawDisabled ) continue;
-      s.draw(canvas);
+      if ( !s.isStatic() ) break;
+      staticLayer.add(s);
     }
     
-  } // draw()
+    if ( staticLayer.finish() ) {
+      staticLayer.restore(canvas);
+    } else {
+      drawSlots(canvas, mHead, first);
+      staticLayer.store(canvas);
+    }
+    
+    drawSlots(canvas, first, kNoSlot);
+    
+  } // draw(StaticLayer)
+
+  // display the Sprites in update/draw order from one slot up to another
+  // (the second slot is not drawn, and may be kNoSlot)
+  private void drawSlots(EgaCanvas canvas, int first, int last) {
+    
+    if ( mProfiler == null ) {
+      for ( int k = first ; k != last ; k = mNext[k] ) {
+        Sprite s = mSprites[k];
+        if ( s.mDrawDisabled ) continue;
+        s.draw(canvas);
+      }
+    } else {
+      for ( int k = first ; k != last ; k = mNext[k] ) {
+        Sprite s = mSprites[k];
+        if ( s.mDrawDisabled ) continue;
+        mProfiler.start();
+        s.draw(canvas);
+        mProfiler.stop(s, SpriteProfiler.DRAW);
+      }
+    }
+    
+  } // drawSlots()
+  
+  // start or stop timing the Sprites (null to stop)
+  public void setProfiler(SpriteProfiler profiler) { mProfiler = profiler; }
+  public SpriteProfiler profiler() { return mProfiler; }
+  
+  // label the following timings (if profiling), e.g., with the room name
+  public void setProfileSection(String name) {
+    
+    if ( mProfiler != null ) mProfiler.setSection(name);
+    
+  } // setProfileSection()
+
+  // the slot holding a Sprite, or kNoSlot if it isn't being managed
+  // (the Sprite's own record is checked first, then all slots are searched)
+  private int findSlot(Sprite sprite) {
+    
+    final int slot = sprite.mSlot;
+    if ( slot >= 0 && slot < mSprites.length && mSprites[slot] == sprite ) {
+      return slot;
+    }
+    
+    for ( int k = mHead ; k != kNoSlot ; k = mNext[k] ) {
+      if ( mSprites[k] == sprite ) return k;
+    }
+    return kNoSlot;
+    
+  } // findSlot()
+  
+  // remove the Sprite in a slot, informing any observers
+  private void removeSlot(int slot) {
+    
+    final Sprite deadSprite = mSprites[slot];
+    final int category = mCategories[slot];
+    final int observes = mObserves[slot];
+    
+    unlinkSlot(slot);
+    mSprites[slot] = null;
+    mNext[slot] = mFreeHead;
+    mFreeHead = slot;
+    mNumSprites--;
+    
+    final int obsNext[] = mObsNext[category];
+    for ( int k = mObsHead[category] ; k != kNoSlot ; k = obsNext[k] ) {
+      mSprites[k].observeDeparture(deadSprite);
+    }
+    
+    startMerge(observes);
+    for ( int k = nextMerge() ; k != kNoSlot ; k = nextMerge() ) {
+      deadSprite.observeDeparture(mSprites[k]);
+    }
+    
+    if ( ObstacleIndex.indexFor(deadSprite) == mObstacleIndex ) {
+      mObstacleIndex.remove((IndexedObstacle)deadSprite);
+    }
+    
+  } // removeSlot()
+  
+  // add a slot to the ends of all the linked lists it belongs to
+  private void linkSlot(int slot) {
+    
+    mOrder[slot] = mNextOrder++;
+    
+    mPrev[slot] = mTail;
+    mNext[slot] = kNoSlot;
+    if ( mTail == kNoSlot ) mHead = slot;
+    else                    mNext[mTail] = slot;
+    mTail = slot;
+    
+    linkLast(slot, mCategories[slot], mCatNext, mCatPrev, mCatHead, mCatTail);
+    
+    final int observes = mObserves[slot];
+    for ( int c = 0 ; c < Sprite.kNumCategories ; c++ ) {
+      if ( (observes & (1 << c)) == 0 ) continue;
+      linkLast(slot, c, mObsNext[c], mObsPrev[c], mObsHead, mObsTail);
+    }
+    
+  } // linkSlot()
+  
+  // remove a slot from all the linked lists it belongs to
+  private void unlinkSlot(int slot) {
+    
+    final int prev = mPrev[slot],
+              next = mNext[slot];
+    if ( prev == kNoSlot ) mHead = next;
+    else                   mNext[prev] = next;
+    if ( next == kNoSlot ) mTail = prev;
+    else                   mPrev[next] = prev;
+    
+    unlink(slot, mCategories[slot], mCatNext, mCatPrev, mCatHead, mCatTail);
+    
+    final int observes = mObserves[slot];
+    for ( int c = 0 ; c < Sprite.kNumCategories ; c++ ) {
+      if ( (observes & (1 << c)) == 0 ) continue;
+      unlink(slot, c, mObsNext[c], mObsPrev[c], mObsHead, mObsTail);
+    }
+    
+  } // unlinkSlot()
+  
+  // add a slot to the end of one of several linked lists
+  private static void linkLast(int slot, int list, int next[], int prev[],
+                               int heads[], int tails[]) {
+    
+    final int tail = tails[list];
+    prev[slot] = tail;
+    next[slot] = kNoSlot;
+    if ( tail == kNoSlot ) heads[list] = slot;
+    else                   next[tail] = slot;
+    tails[list] = slot;
+    
+  } // linkLast()
+  
+  // remove a slot from one of several linked lists
+  private static void unlink(int slot, int list, int next[], int prev[],
+                             int heads[], int tails[]) {
+    
+    final int p = prev[slot],
+              n = next[slot];
+    if ( p == kNoSlot ) heads[list] = n;
+    else                next[p] = n;
+    if ( n == kNoSlot ) tails[list] = p;
+    else                prev[n] = p;
+    
+  } // unlink()
+  
+  // prepare to step through the slots in several categories (bit mask)
+  // in update/draw order (by merging the category lists)
+  private void startMerge(int categories) {
+    
+    for ( int c = 0 ; c < Sprite.kNumCategories ; c++ ) {
+      mMergeSlots[c] = ( (categories & (1 << c)) != 0 ) ? mCatHead[c] 
+                                                         : kNoSlot;
+    }
+    
+  } // startMerge()
+  
+  // the next slot in the merged category lists (or kNoSlot at the end)
+  private int nextMerge() {
+    
+    int best = kNoSlot,
+        bestCategory = 0;
+    for ( int c = 0 ; c < Sprite.kNumCategories ; c++ ) {
+      final int slot = mMergeSlots[c];
+      if ( slot == kNoSlot ) continue;
+      if ( best == kNoSlot || mOrder[slot] < mOrder[best] ) {
+        best = slot;
+        bestCategory = c;
+      }
+    }
+    if ( best != kNoSlot ) mMergeSlots[bestCategory] = mCatNext[best];
+    return best;
+    
+  } // nextMerge()
+  
+  // change the number of slots (new slots are added to the free list)
+  private void resize(int numSlots) {
+    
+    final int oldNum = mSprites.length;
+    assert( numSlots > oldNum );
+    
+    Sprite sprites[] = new Sprite[numSlots];
+    System.arraycopy(mSprites, 0, sprites, 0, oldNum);
+    mSprites = sprites;
+    
+    long order[] = new long[numSlots];
+    if ( oldNum > 0 ) System.arraycopy(mOrder, 0, order, 0, oldNum);
+    mOrder = order;
+
+    mCategories = resize(mCategories, numSlots);
+    mObserves   = resize(mObserves, numSlots);
+    mCollisionKinds = resize(mCollisionKinds, numSlots);
+    mNext       = resize(mNext, numSlots);
+    mPrev       = resize(mPrev, numSlots);
+    mCatNext    = resize(mCatNext, numSlots);
+    mCatPrev    = resize(mCatPrev, numSlots);
+    for ( int c = 0 ; c < Sprite.kNumCategories ; c++ ) {
+      mObsNext[c] = resize(mObsNext[c], numSlots);
+      mObsPrev[c] = resize(mObsPrev[c], numSlots);
+    }
+    
+    for ( int slot = numSlots-1 ; slot >= oldNum ; slot-- ) {
+      mNext[slot] = mFreeHead;
+      mFreeHead = slot;
+    }
+    
+  } // resize()
+  
+  // copy an array into a longer one (the array may be null)
+  private static int[] resize(int array[], int length) {
+    
+    int newArray[] = new int[length];
+    if ( array != null ) System.arraycopy(array, 0, newArray, 0, array.length);
+    return newArray;
+    
+  } // resize()
+  
+  // array copies not covered by Env.copyOf()
+  private static Sprite[] copyOf(Sprite array[]) {
+    Sprite newArray[] = new Sprite[array.length];
+    System.arraycopy(array, 0, newArray, 0, array.length);
+    return newArray;
+  }
+  private static long[] copyOf(long array[]) {
+    long newArray[] = new long[array.length];
+    System.arraycopy(array, 0, newArray, 0, array.length);
+    return newArray;
+  }
     
 } // class SpriteManager
@@ -0,0 +1,182 @@
+/*
+ *  SpriteProfiler.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.util.*;
+
+// optional timing of the SpriteManager's work, broken down by Sprite class,
+// by phase (advance, interact, aftermath, draw) and by section of the game
+// (normally the name of the current room)
+// (see SpriteManager.setProfiler(), nothing is timed if there's no profiler)
+public class SpriteProfiler {
+
+  // the phases that are timed
+  public static final int ADVANCE   = 0,
+                          INTERACT  = 1,
+                          AFTERMATH = 2,
+                          DRAW      = 3;
+  public static final int NUM_PHASES = 4;
+  private static final String kPhaseNames[] = { "advance", "interact", 
+                                                "aftermath", "draw" };
+  
+  // platform-dependent measurements (supplied by the launcher)
+  public interface Clock {
+    
+    // current time in nanoseconds (from any fixed origin)
+    public long nanoTime();
+    
+    // bytes allocated by the current thread so far (or -1 if not known)
+    public long allocatedBytes();
+    
+  } // interface SpriteProfiler.Clock
+  
+  // totals for one class of Sprite
+  private static class Entry {
+    
+    final String mName;
+    final long   mNanos[] = new long[NUM_PHASES],
+                 mCalls[] = new long[NUM_PHASES],
+                 mBytes[] = new long[NUM_PHASES];
+    
+    Entry(String name) { mName = name; }
+    
+    long totalNanos() {
+      long total = 0;
+      for ( long n : mNanos ) total += n;
+      return total;
+    }
+    
+  } // class SpriteProfiler.Entry
+  
+  // most expensive first
+  private static final Comparator<Entry> kEntryOrder = 
+                                                  new Comparator<Entry>() {
+    public int compare(Entry a, Entry b) {
+      final long ta = a.totalNanos(),
+                 tb = b.totalNanos();
+      return ( (ta > tb) ? -1 : (ta < tb) ? +1 : 0 );
+    }
+  };
+  
+  // source of measurements
+  private final Clock   mClock;
+  private final boolean mCountBytes;
+  
+  // entries for each section of the game (in order of first appearance)
+  private final LinkedHashMap<String, HashMap<Class<?>,Entry>> mSections;
+  
+  // the current section, and its entries
+  private String                  mSectionName;
+  private HashMap<Class<?>,Entry> mEntries;
+  
+  // measurements when the current timing started
+  private long mStartNanos,
+               mStartBytes;
+  
+  // constructor
+  public SpriteProfiler(Clock clock) {
+    
+    mClock = clock;
+    mCountBytes = ( clock.allocatedBytes() >= 0 );
+    mSections = new LinkedHashMap<String, HashMap<Class<?>,Entry>>();
+    setSection("-");
+    
+  } // constructor
+  
+  // forget all timings
+  public void clear() {
+    
+    mSections.clear();
+    setSection(mSectionName);
+    
+  } // clear()
+  
+  // following timings are for a different section of the game
+  public void setSection(String name) {
+    
+    mSectionName = name;
+    mEntries = mSections.get(name);
+    if ( mEntries == null ) {
+      mEntries = new HashMap<Class<?>,Entry>();
+      mSections.put(name, mEntries);
+    }
+    
+  } // setSection()
+  
+  // begin timing a call to a Sprite
+  public void start() {
+
+    if ( mCountBytes ) mStartBytes = mClock.allocatedBytes();
+    mStartNanos = mClock.nanoTime();
+    
+  } // start()
+  
+  // finish timing a call to a Sprite
+  public void stop(Sprite sprite, int phase) {
+
+    final long nanos = mClock.nanoTime() - mStartNanos;
+    final long bytes = ( mCountBytes 
+                         ? mClock.allocatedBytes() - mStartBytes : 0 );
+    
+    Entry entry = mEntries.get(sprite.getClass());
+    if ( entry == null ) {
+      entry = new Entry(className(sprite));
+      mEntries.put(sprite.getClass(), entry);
+    }
+    entry.mNanos[phase] += nanos;
+    entry.mCalls[phase] += 1;
+    entry.mBytes[phase] += bytes;
+    
+  } // stop()
+  
+  // Sprite class name without the package
+  private static String className(Sprite sprite) {
+    
+    final String name = sprite.getClass().getName();
+    return name.substring(name.lastIndexOf('.') + 1);
+    
+  } // className()
+  
+  // display a table for each section, with the most expensive Sprite 
+  // classes first (time and number of calls, plus allocations if known)
+  public void report() {
+    
+    for ( String name : mSections.keySet() ) {
+      HashMap<Class<?>,Entry> section = mSections.get(name);
+      if ( section.isEmpty() ) continue;
+      
+      ArrayList<Entry> entries = new ArrayList<Entry>(section.values());
+      Collections.sort(entries, kEntryOrder);
+      
+      Env.debug("Sprite profile: " + name);
+      for ( Entry entry : entries ) {
+        StringBuilder s = new StringBuilder("  ");
+        s.append(pad(entry.mName, 16));
+        s.append(pad(TimingHistogram.formatTime(entry.totalNanos()), 8));
+        for ( int phase = 0 ; phase < NUM_PHASES ; phase++ ) {
+          if ( entry.mCalls[phase] == 0 ) continue;
+          s.append(" | " + kPhaseNames[phase] + " "
+                   + TimingHistogram.formatTime(entry.mNanos[phase]) 
+                   + " / " + entry.mCalls[phase]);
+          if ( mCountBytes ) s.append(" (" + entry.mBytes[phase] + "B)");
+        }
+        Env.debug(s.toString());
+      }
+    }
+    
+  } // report()
+  
+  // add spaces to the end of a string (String.format() isn't in GWT)
+  private static String pad(String s, int length) {
+    
+    StringBuilder padded = new StringBuilder(s);
+    while ( padded.length() < length ) padded.append(' ');
+    return padded.toString();
+    
+  } // pad()
+  
+} // class SpriteProfiler
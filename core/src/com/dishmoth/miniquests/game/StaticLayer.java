@@ -0,0 +1,127 @@
+/*
+ *  StaticLayer.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// a cached copy of the canvas after the static Sprites have been drawn
+// (only the unbroken run of static Sprites at the start of the draw order 
+// is cached, so that the final image is the same as drawing every Sprite)
+// (see Sprite.isStatic() and SpriteManager.draw(EgaCanvas, StaticLayer))
+public class StaticLayer {
+
+  // the Sprites (and their versions) that the cached image depends on
+  private Sprite mSprites[];
+  private int    mVersions[];
+  private int    mNumSprites;
+  
+  // number of Sprites added so far for the current frame
+  private int mNumAdded;
+  
+  // whether the Sprites added so far match those of the cached image
+  private boolean mMatching;
+  
+  // size of the canvas that the cached image came from
+  // (the frames may be drawn on several canvases in turn, see FrameBuffers)
+  private int mWidth,
+              mHeight;
+  
+  // cached pixels and depths (or null)
+  private byte  mPixels[];
+  private float mDepths[];
+  
+  // constructor
+  public StaticLayer() {
+    
+    mSprites = new Sprite[16];
+    mVersions = new int[16];
+    mNumSprites = 0;
+    mNumAdded = 0;
+    mMatching = false;
+    mWidth = mHeight = 0;
+    mPixels = null;
+    mDepths = null;
+    
+  } // constructor
+  
+  // discard the cached image
+  public void invalidate() {
+    
+    for ( int k = 0 ; k < mNumSprites ; k++ ) mSprites[k] = null;
+    mNumSprites = 0;
+    mWidth = mHeight = 0;
+    
+  } // invalidate()
+  
+  // start checking the Sprites for a new frame
+  public void begin(EgaCanvas canvas) {
+    
+    mNumAdded = 0;
+    mMatching = ( canvas.width() == mWidth && canvas.height() == mHeight && 
+                  mPixels != null );
+    
+  } // begin()
+  
+  // a Sprite that the image depends on (in draw order)
+  public void add(Sprite sprite) {
+
+    final int version = sprite.staticVersion();
+    
+    if ( mNumAdded == mSprites.length ) {
+      Sprite sprites[] = new Sprite[2*mNumAdded];
+      int versions[] = new int[2*mNumAdded];
+      System.arraycopy(mSprites, 0, sprites, 0, mNumAdded);
+      System.arraycopy(mVersions, 0, versions, 0, mNumAdded);
+      mSprites = sprites;
+      mVersions = versions;
+    }
+    
+    if ( mNumAdded >= mNumSprites || 
+         mSprites[mNumAdded] != sprite || 
+         mVersions[mNumAdded] != version ) mMatching = false;
+    
+    mSprites[mNumAdded] = sprite;
+    mVersions[mNumAdded] = version;
+    mNumAdded += 1;
+    
+  } // add()
+  
+  // whether the cached image can be used for the Sprites added this frame
+  public boolean finish() {
+    
+    final boolean matching = ( mMatching && mNumAdded == mNumSprites );
+    
+    for ( int k = mNumAdded ; k < mNumSprites ; k++ ) mSprites[k] = null;
+    mNumSprites = mNumAdded;
+    
+    return matching;
+    
+  } // finish()
+  
+  // copy the cached image onto the canvas
+  public void restore(EgaCanvas canvas) {
+    
+    assert( canvas.width() == mWidth && canvas.height() == mHeight );
+    System.arraycopy(mPixels, 0, canvas.pixels(), 0, mPixels.length);
+    System.arraycopy(mDepths, 0, canvas.depths(), 0, mDepths.length);
+    
+  } // restore()
+  
+  // take a copy of the canvas as the cached image
+  public void store(EgaCanvas canvas) {
+    
+    final int size = canvas.width()*canvas.height();
+    if ( mPixels == null || mPixels.length != size ) {
+      mPixels = new byte[size];
+      mDepths = new float[size];
+    }
+    System.arraycopy(canvas.pixels(), 0, mPixels, 0, size);
+    System.arraycopy(canvas.depths(), 0, mDepths, 0, size);
+    mWidth = canvas.width();
+    mHeight = canvas.height();
+    
+  } // store()
+  
+} // class StaticLayer
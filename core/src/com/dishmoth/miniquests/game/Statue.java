@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a stationary figure 
-public class Statue extends Sprite3D implements Obstacle {
+public class Statue extends Sprite3D implements Obstacle, Hittable {
 
   // images in different colour schemes
   private static final PlayerImage kImages[] = 
@@ -87,6 +87,27 @@ public class Statue extends Sprite3D implements Obstacle {
   
   } // Obstacle.isEmpty()
 
+  // range of positions covered by the statue
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    bounds[0] = bounds[3] = mXPos;
+    bounds[1] = bounds[4] = mYPos;
+    bounds[2] = mZPos;
+    bounds[5] = mZPos + 3;
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // the statue registers a hit by a bullet
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source) {
+    
+    if ( isEmpty(x, y, z+1) ) return false;
+    Env.sounds().play(Sounds.ARROW_HIT);
+    setHit(true);
+    return true;
+    
+  } // Hittable.hitByBullet()
+
   // whether the position is outside of the game world
   public boolean isVoid(int x, int y, int z) { 
 
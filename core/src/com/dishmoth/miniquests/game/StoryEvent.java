@@ -6,7 +6,51 @@
 
 package com.dishmoth.miniquests.game;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+
 // base class for a general announcement within the game
 // a Sprite informs its Story that something has happened by returning 
 // an object derived from this class 
-abstract public class StoryEvent { }
+// (each class of event has a small integer id, see StoryEventBus)
+abstract public class StoryEvent {
+
+  // ids assigned to the classes of event, in order of first use
+  // (shared by all games, so only touched while holding the lock)
+  private static final HashMap<Class<?>,Integer> kTypeIds = 
+                                           new HashMap<Class<?>,Integer>();
+  private static final ArrayList<String>         kTypeNames = 
+                                           new ArrayList<String>();
+  
+  // id for the class of this event (or -1 if not looked up yet)
+  private int mTypeId = -1;
+  
+  // id for the class of this event
+  public final int typeId() {
+    
+    if ( mTypeId < 0 ) mTypeId = typeId(getClass());
+    return mTypeId;
+    
+  } // typeId()
+  
+  // id for a class of event (assigned the first time the class is seen)
+  public static synchronized int typeId(Class<? extends StoryEvent> type) {
+    
+    Integer id = kTypeIds.get(type);
+    if ( id == null ) {
+      id = kTypeIds.size();
+      kTypeIds.put(type, id);
+      kTypeNames.add(type.getName());
+    }
+    return id;
+    
+  } // typeId()
+  
+  // name of the class of event with the given id
+  public static synchronized String typeName(int id) { 
+    
+    return kTypeNames.get(id); 
+    
+  } // typeName()
+  
+} // class StoryEvent
@@ -0,0 +1,135 @@
+/*
+ *  StoryEventBus.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+// passes each story event to the handler registered for its class
+// (a lookup by the event's type id, rather than a chain of instanceof tests)
+// (also counts the events, to show how many are raised each tick)
+public class StoryEventBus {
+
+  // response to a class of story event
+  public interface Handler {
+    
+    // act on the event (which has already been removed from the list)
+    public void handle(StoryEvent event, SpriteManager spriteManager);
+    
+  } // interface StoryEventBus.Handler
+  
+  // handlers indexed by event type id (entries may be null)
+  private Handler mHandlers[];
+  
+  // handler for any events without one of their own (or null to drop them)
+  private Handler mDefaultHandler;
+  
+  // number of events of each type dispatched, indexed by type id
+  private long mCounts[];
+  
+  // number of calls to dispatch() (usually once per tick), total number
+  // of events dispatched, and most events in a single call
+  private long mNumDispatches,
+               mNumEvents;
+  private int  mMaxEvents;
+  
+  // constructor
+  public StoryEventBus() {
+    
+    mHandlers = new Handler[0];
+    mDefaultHandler = null;
+    mCounts = new long[0];
+    mNumDispatches = mNumEvents = 0;
+    mMaxEvents = 0;
+    
+  } // constructor
+  
+  // set the handler for a class of event (exact class, not subclasses)
+  public void register(Class<? extends StoryEvent> type, Handler handler) {
+    
+    final int id = StoryEvent.typeId(type);
+    reserve(id);
+    assert( mHandlers[id] == null );
+    mHandlers[id] = handler;
+    
+  } // register()
+  
+  // set the handler for events that have no handler of their own
+  public void registerDefault(Handler handler) { mDefaultHandler = handler; }
+  
+  // make sure the arrays cover the type id
+  private void reserve(int id) {
+    
+    if ( id < mHandlers.length ) return;
+    
+    final int size = Math.max(id+1, 2*mHandlers.length);
+    Handler handlers[] = new Handler[size];
+    System.arraycopy(mHandlers, 0, handlers, 0, mHandlers.length);
+    mHandlers = handlers;
+    long counts[] = new long[size];
+    System.arraycopy(mCounts, 0, counts, 0, mCounts.length);
+    mCounts = counts;
+    
+  } // reserve()
+  
+  // remove each event from the list in turn and pass it to its handler
+  // (handlers must not add events to the list while this is going on)
+  public void dispatch(LinkedList<StoryEvent> storyEvents,
+                       SpriteManager          spriteManager) {
+    
+    int numEvents = 0;
+    for ( Iterator<StoryEvent> it = storyEvents.iterator() ; it.hasNext() ; ) {
+      StoryEvent event = it.next();
+      it.remove();
+      
+      final int id = event.typeId();
+      reserve(id);
+      mCounts[id]++;
+      numEvents++;
+      
+      Handler handler = mHandlers[id];
+      if ( handler == null ) handler = mDefaultHandler;
+      if ( handler != null ) handler.handle(event, spriteManager);
+    }
+    
+    mNumDispatches++;
+    mNumEvents += numEvents;
+    mMaxEvents = Math.max(mMaxEvents, numEvents);
+    
+  } // dispatch()
+
+  // statistics about the events dispatched so far
+  public long numDispatches() { return mNumDispatches; }
+  public long numEvents() { return mNumEvents; }
+  public int maxEventsPerDispatch() { return mMaxEvents; }
+  
+  // number of events of a particular class dispatched so far
+  public long numEvents(Class<? extends StoryEvent> type) {
+    
+    final int id = StoryEvent.typeId(type);
+    return ( (id < mCounts.length) ? mCounts[id] : 0 );
+    
+  } // numEvents()
+  
+  // summary of the events dispatched so far
+  @Override
+  public String toString() {
+    
+    StringBuilder s = new StringBuilder();
+    s.append(mNumEvents + " events in " + mNumDispatches + " ticks" 
+             + " (max " + mMaxEvents + " per tick)");
+    for ( int id = 0 ; id < mCounts.length ; id++ ) {
+      if ( mCounts[id] == 0 ) continue;
+      String name = StoryEvent.typeName(id);
+      name = name.substring(name.lastIndexOf('.') + 1);
+      s.append("; " + name + " " + mCounts[id]);
+    }
+    return s.toString();
+    
+  } // toString()
+  
+} // class StoryEventBus
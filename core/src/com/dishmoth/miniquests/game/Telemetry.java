@@ -0,0 +1,155 @@
+/*
+ *  Telemetry.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+// timing statistics for the game loop, shared by all of the launchers
+// (times are measured by the launcher, in nanoseconds from its own clock,
+// and a summary is displayed as debug output every few seconds)
+// (the game may be advanced and displayed on different threads, so the 
+// statistics are only touched while holding the lock)
+public class Telemetry {
+
+  // the parts of a frame that are timed
+  public static final int ADVANCE = 0, // one tick of GameManager.advance()
+                          DRAW    = 1, // GameManager.draw()
+                          UPLOAD  = 2, // copying the canvas to the display
+                          FRAME   = 3; // time between frames
+  public static final int NUM_STAGES = 4;
+  private static final String kStageNames[] = { "advance", "draw", 
+                                                "upload", "frame" };
+  
+  // number of seconds between progress reports (0 to disable)
+  private static final long kReportInterval = 10;
+  
+  // statistics collected over a period of time
+  private static class Period {
+    
+    final TimingHistogram mStages[] = new TimingHistogram[NUM_STAGES];
+    long mNumFrames,      // frames displayed (or skipped)
+         mNumTicks,       // ticks advanced during those frames
+         mNumBursts,      // frames that advanced more than one tick
+         mNumUndisplayed, // ticks that never reached the screen
+         mNumOverruns;    // frames that finished late
+    int  mMaxBurst;       // most ticks advanced in one frame
+    
+    Period() {
+      for ( int k = 0 ; k < NUM_STAGES ; k++ ) {
+        mStages[k] = new TimingHistogram();
+      }
+    }
+    
+    void clear() {
+      for ( TimingHistogram h : mStages ) h.clear();
+      mNumFrames = mNumTicks = mNumBursts = mNumUndisplayed = 0;
+      mNumOverruns = 0;
+      mMaxBurst = 0;
+    }
+    
+    void frame(int numTicks, boolean drawn) {
+      mNumFrames++;
+      mNumTicks += numTicks;
+      if ( numTicks > 1 ) mNumBursts++;
+      mMaxBurst = Math.max(mMaxBurst, numTicks);
+      if ( numTicks > 0 ) mNumUndisplayed += ( drawn ? numTicks-1 : numTicks );
+    }
+    
+    public String toString() {
+      StringBuilder s = new StringBuilder();
+      s.append(mNumFrames + " frames, " + mNumTicks + " ticks");
+      if ( mNumBursts > 0 ) {
+        s.append(" (" + mNumBursts + " catch-up, max " + mMaxBurst + ")");
+      }
+      s.append(", " + mNumUndisplayed + " undisplayed");
+      if ( mNumOverruns > 0 ) s.append(", " + mNumOverruns + " overrun");
+      for ( int k = 0 ; k < NUM_STAGES ; k++ ) {
+        if ( mStages[k].numValues() == 0 ) continue;
+        s.append("; " + kStageNames[k] + " " + mStages[k].toString());
+      }
+      return s.toString();
+    }
+    
+  } // class Telemetry.Period
+  
+  // statistics since the start, and since the last progress report
+  private final Period mTotal,
+                       mLocal;
+  
+  // time of the next progress report (or zero if not decided yet)
+  private long mNextReportNanos;
+  
+  // constructor
+  public Telemetry() {
+    
+    mTotal = new Period();
+    mLocal = new Period();
+    reset();
+    
+  } // constructor
+  
+  // forget all statistics
+  public synchronized void reset() {
+    
+    mTotal.clear();
+    mLocal.clear();
+    mNextReportNanos = 0;
+    
+  } // reset()
+  
+  // record the time taken by part of a frame
+  public synchronized void record(int stage, long nanos) {
+    
+    assert( stage >= 0 && stage < NUM_STAGES );
+    mTotal.mStages[stage].add(nanos);
+    mLocal.mStages[stage].add(nanos);
+    
+  } // record()
+  
+  // note that a frame finished late (according to the launcher)
+  public synchronized void overrun() {
+    
+    mTotal.mNumOverruns++;
+    mLocal.mNumOverruns++;
+    
+  } // overrun()
+  
+  // note the end of a frame, during which the game advanced some number of
+  // ticks (possibly none) and the screen was or wasn't redrawn
+  // (this also displays a progress report if one is due)
+  public synchronized void frame(int numTicks, boolean drawn, 
+                                 long nowNanos) {
+    
+    mTotal.frame(numTicks, drawn);
+    mLocal.frame(numTicks, drawn);
+    
+    if ( kReportInterval <= 0 ) return;
+    if ( mNextReportNanos == 0 ) {
+      mNextReportNanos = nowNanos + kReportInterval*1000000000L;
+    } else if ( nowNanos - mNextReportNanos >= 0 ) {
+      Env.debug(mLocal.toString());
+      mLocal.clear();
+      mNextReportNanos = nowNanos + kReportInterval*1000000000L;
+    }
+    
+  } // frame()
+  
+  // access to the statistics since the start
+  public TimingHistogram histogram(int stage) { return mTotal.mStages[stage]; }
+  public long numFrames() { return mTotal.mNumFrames; }
+  public long numTicks() { return mTotal.mNumTicks; }
+  public long numCatchUpFrames() { return mTotal.mNumBursts; }
+  public int maxCatchUpTicks() { return mTotal.mMaxBurst; }
+  public long numUndisplayedTicks() { return mTotal.mNumUndisplayed; }
+  public long numOverruns() { return mTotal.mNumOverruns; }
+  
+  // display the statistics since the start
+  public synchronized void report() {
+    
+    Env.debug("Overall: " + mTotal.toString());
+    
+  } // report()
+  
+} // class Telemetry
@@ -63,6 +63,10 @@ public class TerrainPath extends Sprite3D {
                       LinkedList<Sprite> killTheseSprites,
                       LinkedList<StoryEvent> newStoryEvents) {}
 
+  // the image never changes
+  @Override
+  public boolean isStatic() { return true; }
+
   // whether a path position has the expected value
   public boolean onPath(int x, int y) {
 
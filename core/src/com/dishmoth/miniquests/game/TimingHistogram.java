@@ -0,0 +1,129 @@
+/*
+ *  TimingHistogram.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests.game;
+
+import java.util.Arrays;
+
+// collects a distribution of durations so that percentiles can be reported
+// (durations are counted in buckets of microseconds, exact up to 16us and 
+// then eight buckets per doubling, so percentiles are accurate to 12.5%)
+public class TimingHistogram {
+
+  // bucket layout (see bucketIndex())
+  private static final int kNumLinearBuckets = 16,
+                           kBucketsPerOctave = 8,
+                           kNumBuckets       = 
+                               kNumLinearBuckets + (31-4)*kBucketsPerOctave;
+  
+  // number of durations in each bucket
+  private final int mCounts[];
+  
+  // summary values (nanoseconds)
+  private int  mNumValues;
+  private long mTotalNanos,
+               mMaxNanos;
+  
+  // constructor
+  public TimingHistogram() {
+    
+    mCounts = new int[kNumBuckets];
+    clear();
+    
+  } // constructor
+  
+  // forget all durations
+  public void clear() {
+    
+    Arrays.fill(mCounts, 0);
+    mNumValues = 0;
+    mTotalNanos = 0;
+    mMaxNanos = 0;
+    
+  } // clear()
+  
+  // record a duration
+  public void add(long nanos) {
+    
+    if ( nanos < 0 ) nanos = 0;
+    mCounts[ bucketIndex(nanos) ]++;
+    mNumValues++;
+    mTotalNanos += nanos;
+    mMaxNanos = Math.max(mMaxNanos, nanos);
+    
+  } // add()
+  
+  // summary values
+  public int numValues() { return mNumValues; }
+  public long totalNanos() { return mTotalNanos; }
+  public long maxNanos() { return mMaxNanos; }
+  public long meanNanos() { 
+    return ( (mNumValues > 0) ? mTotalNanos/mNumValues : 0 ); 
+  }
+  
+  // the duration that the fraction p (0 to 1) of the values do not exceed
+  // (the top of the bucket containing the percentile, or the maximum value)
+  public long percentile(float p) {
+    
+    if ( mNumValues == 0 ) return 0;
+    
+    final int target = Math.max(1, (int)Math.ceil(p*mNumValues));
+    int count = 0;
+    for ( int k = 0 ; k < kNumBuckets ; k++ ) {
+      count += mCounts[k];
+      if ( count >= target ) {
+        return Math.min(mMaxNanos, 1000L*bucketTop(k));
+      }
+    }
+    return mMaxNanos;
+    
+  } // percentile()
+  
+  // which bucket a duration falls in
+  private static int bucketIndex(long nanos) {
+    
+    final int micros = (int)Math.min(nanos/1000, Integer.MAX_VALUE);
+    if ( micros < kNumLinearBuckets ) return micros;
+    
+    final int exponent = 31 - Integer.numberOfLeadingZeros(micros);
+    final int fraction = (micros >> (exponent-3)) & (kBucketsPerOctave-1);
+    return ( kNumLinearBuckets 
+             + (exponent-4)*kBucketsPerOctave + fraction );
+    
+  } // bucketIndex()
+  
+  // the (exclusive) upper limit of a bucket in microseconds
+  private static long bucketTop(int index) {
+    
+    if ( index < kNumLinearBuckets ) return index+1;
+    
+    final int exponent = 4 + (index - kNumLinearBuckets)/kBucketsPerOctave,
+              fraction = (index - kNumLinearBuckets)%kBucketsPerOctave;
+    return ( (long)(kBucketsPerOctave + fraction + 1) << (exponent-3) );
+    
+  } // bucketTop()
+  
+  // text output (e.g., "p50 850us p95 3.4ms p99 5.6ms max 7.8ms")
+  public String toString() {
+    
+    return ( "p50 " + formatTime(percentile(0.50f)) 
+           + " p95 " + formatTime(percentile(0.95f)) 
+           + " p99 " + formatTime(percentile(0.99f)) 
+           + " max " + formatTime(mMaxNanos) );
+    
+  } // toString()
+  
+  // display nanoseconds as whole microseconds, or as milliseconds to one
+  // decimal place (String.format() is not available in GWT)
+  public static String formatTime(long nanos) {
+    
+    if ( nanos < 999500 ) return ( ((nanos + 500)/1000) + "us" );
+    final long tenths = (nanos + 50000)/100000;
+    return ( (tenths/10) + "." + (tenths%10) + "ms" );
+    
+  } // formatTime()
+  
+} // class TimingHistogram
@@ -49,6 +49,15 @@ public class TitleStory extends Story {
   // constructor
   public TitleStory() {
 
+    prepareImages();
+    
+    mTextPic = null;
+    
+  } // constructor
+  
+  // load the images (shared by all instances of the story)
+  static private synchronized void prepareImages() {
+    
     if ( kTitleImage == null ) {
       kTitleImage = Env.resources().loadEgaImage("TitleScreen.png");
       EgaTools.limitColours(kTitleImage, 14);
@@ -62,9 +71,7 @@ public class TitleStory extends Story {
       kBeginText = Env.resources().loadEgaImage("BeginText"+gdxText+".png");
     }
     
-    mTextPic = null;
-    
-  } // constructor
+  } // prepareImages()
   
   // process events and advance 
   @Override
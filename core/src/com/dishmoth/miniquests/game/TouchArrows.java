@@ -61,7 +61,7 @@ public class TouchArrows extends Sprite {
   private int mOffset;
   
   // prepare images
-  public static void initialize() {
+  public static synchronized void initialize() {
     
     if ( kMoveImages != null ) return;
     
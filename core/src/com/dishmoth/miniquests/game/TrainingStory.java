@@ -80,6 +80,22 @@ public class TrainingStory extends Story {
   // constructor
   public TrainingStory() {
 
+    prepareImages();
+    
+    mRoomList = new Room[]{ new RoomZ01(),
+                            new RoomZ02(),
+                            new RoomZ03() };
+    
+    for ( Room room : mRoomList ) room.setRoomList(mRoomList);
+    
+    mCurrentRoom = null;
+    mPlayer = null;
+
+  } // constructor
+
+  // load the images (shared by all instances of the story)
+  static private synchronized void prepareImages() {
+    
     if ( kStartPic == null ) {
       String gdxText = ( Env.platform()==Env.Platform.OUYA    ? "Controller" 
                        : Env.platform()==Env.Platform.ANDROID ? "Android" 
@@ -95,16 +111,7 @@ public class TrainingStory extends Story {
       kAnyKeyText  = Env.resources().loadEgaImage("StartText"+gdxText+".png");
     }
     
-    mRoomList = new Room[]{ new RoomZ01(),
-                            new RoomZ02(),
-                            new RoomZ03() };
-    
-    for ( Room room : mRoomList ) room.setRoomList(mRoomList);
-    
-    mCurrentRoom = null;
-    mPlayer = null;
-
-  } // constructor
+  } // prepareImages()
 
   // process events and advance
   @Override
@@ -142,6 +149,7 @@ public class TrainingStory extends Story {
         for ( Room room : mRoomList ) room.setCamera(camera);
         spriteManager.addSprite(camera);
         mCurrentRoom = mRoomList[0];
+        spriteManager.setProfileSection(mCurrentRoom.name());
         mCurrentRoom.createSprites(spriteManager);
         mPlayer = mCurrentRoom.createPlayer(0);
         spriteManager.addSprite(mPlayer);
@@ -171,6 +179,7 @@ public class TrainingStory extends Story {
           mCurrentRoom.discardResources();
           clearRoom(spriteManager);
           mCurrentRoom = findRoom(e.mNewRoom);
+          spriteManager.setProfileSection(mCurrentRoom.name());
           mCurrentRoom.createSprites(spriteManager);
           mPlayer = mCurrentRoom.createPlayer(e.mEntryPoint);
           spriteManager.addSprite(mPlayer);
@@ -370,12 +379,8 @@ public class TrainingStory extends Story {
   // remove all of the sprites for the room
   private void clearRoom(SpriteManager spriteManager) {
 
-    LinkedList<Sprite> deadSprites = new LinkedList<Sprite>();
-    for (Sprite s : spriteManager.list()) {
-      if ( s instanceof Camera ) continue; 
-      deadSprites.add(s);
-    }
-    if (deadSprites.size() > 0) spriteManager.removeSprites(deadSprites);
+    spriteManager.removeSpritesInCategories(Sprite.kCategoryAll & 
+                                            ~Sprite.kCategoryCamera);
     
   } // clearRoom()
 
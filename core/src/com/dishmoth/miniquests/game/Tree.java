@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a decorative obstacle
-public class Tree extends Sprite3D implements Obstacle {
+public class Tree extends Sprite3D implements IndexedObstacle {
 
   // details of the image
   private static final int   kWidth   = 5,
@@ -77,9 +77,12 @@ public class Tree extends Sprite3D implements Obstacle {
   
   // colour type
   final private int mColour;
+
+  // index holding the shape of the tree (or null)
+  private ObstacleIndex mObstacleIndex = null;
   
   // prepare image
-  public static void initialize(int type, int colour) {
+  public static synchronized void initialize(int type, int colour) {
     
     if ( kImages == null ) {
       kImages = new EgaImage[kPixels.length][kColourSchemes.length];
@@ -139,6 +142,21 @@ public class Tree extends Sprite3D implements Obstacle {
     
   } // Obstacle.isVoid()
 
+  // range of positions covered by the tree
+  public boolean getBounds(int bounds[]) {
+
+    bounds[0] = bounds[3] = mXPos;
+    bounds[1] = bounds[4] = mYPos;
+    bounds[2] = mZPos;
+    bounds[5] = mZPos + 1;
+    return true;
+    
+  } // IndexedObstacle.getBounds()
+
+  // access to the index holding the shape of the tree
+  public ObstacleIndex obstacleIndex() { return mObstacleIndex; }
+  public void setObstacleIndex(ObstacleIndex index) { mObstacleIndex = index; }
+
   // nothing to do here
   @Override
   public void advance(LinkedList<Sprite> addTheseSprites,
@@ -147,6 +165,10 @@ public class Tree extends Sprite3D implements Obstacle {
 
   } // Sprite.advance()
 
+  // the image never changes
+  @Override
+  public boolean isStatic() { return true; }
+
   // display the object
   @Override
   public void draw(EgaCanvas canvas) {
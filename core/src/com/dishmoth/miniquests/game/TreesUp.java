@@ -31,7 +31,7 @@ public class TreesUp extends Wall {
   } // constructor
 
   // load all of the tree images
-  static private void prepareImages() {
+  static private synchronized void prepareImages() {
     
     if ( kImages != null ) return;
     kImages = new EgaImage[kImageNames.length];
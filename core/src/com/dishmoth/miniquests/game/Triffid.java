@@ -9,7 +9,7 @@ package com.dishmoth.miniquests.game;
 import java.util.LinkedList;
 
 // a shooting turret
-public class Triffid extends Sprite3D implements Obstacle {
+public class Triffid extends Sprite3D implements Obstacle, Hittable {
 
   // story event: the triffid has been killed
   public class EventKilled extends StoryEvent {
@@ -200,6 +200,12 @@ public class Triffid extends Sprite3D implements Obstacle {
   // set how far the triffid looks for targets
   public void setFireRange(int d) { assert(d >= 0); mFireRange = d; }
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryPlayer | kCategoryOther);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -247,6 +253,26 @@ public class Triffid extends Sprite3D implements Obstacle {
     
   } // hits()
   
+  // range of positions where the triffid may be hit
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    bounds[0] = bounds[3] = mXPos;
+    bounds[1] = bounds[4] = mYPos;
+    bounds[2] = mZPos;
+    bounds[5] = mZPos + 3;
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // the triffid is stunned by a bullet (or killed by a triffid's bullet)
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source) {
+    
+    if ( !hits(x, y, z) ) return false;
+    stun(direc, (source instanceof Triffid));
+    return true;
+    
+  } // Hittable.hitByBullet()
+  
   // report that the triffid has been shot
   public void stun(int direc, boolean lethal) {
 
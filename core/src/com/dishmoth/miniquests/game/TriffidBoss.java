@@ -10,7 +10,7 @@ import java.util.Arrays;
 import java.util.LinkedList;
 
 // a big enemy
-public class TriffidBoss extends Sprite3D implements Obstacle {
+public class TriffidBoss extends Sprite3D implements Obstacle, Hittable {
 
   // story event: the boss has been killed
   public class EventKilled extends StoryEvent {
@@ -360,7 +360,7 @@ public class TriffidBoss extends Sprite3D implements Obstacle {
   private boolean mDeathNotice;
   
   // prepare resources
-  static public void initialize() {
+  static public synchronized void initialize() {
     
     if ( kBasicImages != null ) return;
     
@@ -432,6 +432,12 @@ public class TriffidBoss extends Sprite3D implements Obstacle {
   // current height of the triffid
   public int height() { return Math.max(0, Math.min(12,mGrowth)-5);  }
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryPlayer);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -482,6 +488,28 @@ public class TriffidBoss extends Sprite3D implements Obstacle {
     
   } // hits()
   
+  // range of positions where the triffid may be hit
+  public boolean getCollisionBounds(int bounds[]) {
+    
+    bounds[0] = mXPos;
+    bounds[1] = mYPos;
+    bounds[2] = mZPos;
+    bounds[3] = mXPos + 1;
+    bounds[4] = mYPos + 1;
+    bounds[5] = mZPos + 7;
+    return true;
+    
+  } // Collider.getCollisionBounds()
+  
+  // the triffid is stunned by a bullet (or hurt by a triffid's bullet)
+  public boolean hitByBullet(int x, int y, int z, int direc, Sprite source) {
+    
+    if ( !hits(x, y, z) ) return false;
+    stun(direc, (source instanceof Triffid));
+    return true;
+    
+  } // Hittable.hitByBullet()
+  
   // report that the triffid has been shot
   public void stun(int direc, boolean lethal) {
 
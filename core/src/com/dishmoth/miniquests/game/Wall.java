@@ -98,4 +98,14 @@ abstract public class Wall extends Sprite3D implements Obstacle {
                       LinkedList<StoryEvent> newStoryEvents) {
   } // Sprite.advance()
 
+  // the wall only changes when its doors open or close
+  @Override
+  public boolean isStatic() { return true; }
+  @Override
+  public int staticVersion() {
+    int version = mDoors.size();
+    for ( Door door : mDoors ) version = 2*version + (door.closed() ? 1 : 0);
+    return version;
+  }
+
 } // class Wall
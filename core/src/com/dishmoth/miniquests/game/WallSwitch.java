@@ -140,6 +140,12 @@ public class WallSwitch extends Sprite3D {
   public int getYPos() { return mYPos; }
   public int getZPos() { return mZPos; }
   
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryOther);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
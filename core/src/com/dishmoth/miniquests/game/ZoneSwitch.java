@@ -86,6 +86,12 @@ public class ZoneSwitch extends Sprite3D {
   // unfreeze the state of the switch
   public void unfreezeState() { mIsOn = false; mStateFrozen = false; }
 
+  // categories of Sprite that we may want to keep track of
+  @Override
+  public int observedCategories() {
+    return (super.observedCategories() | kCategoryPlayer | kCategoryCritter);
+  } // Sprite.observedCategories()
+  
   // check for Sprites we want to keep track of
   @Override
   public void observeArrival(Sprite newSprite) { 
@@ -16,6 +16,9 @@ import com.badlogic.gdx.Net.HttpRequest;
 import com.badlogic.gdx.Net.HttpResponse;
 import com.badlogic.gdx.Net.HttpResponseListener;
 import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 // platform-dependent code for Env (libgdx version)
 public class EnvBitsGdx implements EnvBits {
@@ -30,6 +33,22 @@ public class EnvBitsGdx implements EnvBits {
   // which platform we're running on
   private Env.Platform mPlatform;
   
+  // saved data is written by a background thread (created when first needed)
+  // (under GWT the executor runs each task straight away instead)
+  private AsyncExecutor     mSaveExecutor = null;
+  private AsyncResult<Void> mSaveResult   = null;
+  
+  // latest saved data waiting to be written (or null), and whether the
+  // background thread is busy writing (both guarded by 'this')
+  // (requests that arrive while a write is in progress replace each other, 
+  // so only the most recent one gets written)
+  private byte    mPendingSave[] = null;
+  private boolean mSaveWriting   = false;
+  
+  // number of saves requested and number actually written
+  private int mNumSavesRequested = 0,
+              mNumSavesWritten   = 0;
+  
   // prepare before use
   public void initialize() {
     
@@ -92,7 +111,7 @@ public class EnvBitsGdx implements EnvBits {
     
   } // EnvBits.exit()
 
-  // save some game data (on Android devices only)
+  // save some game data (written in the background)
   public void save(byte data[]) {
 
     assert ( data != null );
@@ -101,19 +120,82 @@ public class EnvBitsGdx implements EnvBits {
     //  return;
     //}
 
-    BitBuffer converter = new BitBuffer(data);
-    String str = converter.toString();
+    boolean startWriting = false;
+    synchronized ( this ) {
+      mNumSavesRequested++;
+      mPendingSave = Env.copyOf(data);
+      if ( !mSaveWriting ) {
+        mSaveWriting = startWriting = true;
+      }
+    }
+    if ( !startWriting ) return;
     
-    try {
-      Preferences pref = Gdx.app.getPreferences(kPreferencesName);
-      pref.putString(kSaveName, str);
-      pref.flush();
-    } catch ( Exception ex ) {
-      Gdx.app.log(kLogTag, "Error trying to save preferences", ex);
+    if ( mSaveExecutor == null ) {
+      mSaveExecutor = new AsyncExecutor(1, "MiniQuestsSave");
     }
+    mSaveResult = mSaveExecutor.submit(new AsyncTask<Void>() {
+      public Void call() {
+        writePendingSaves();
+        return null;
+      }
+    });
     
   } // EnvBits.save()
   
+  // write saved data until there is none left (on the background thread)
+  private void writePendingSaves() {
+    
+    while ( true ) {
+      byte data[];
+      synchronized ( this ) {
+        data = mPendingSave;
+        mPendingSave = null;
+        if ( data == null ) {
+          mSaveWriting = false;
+          return;
+        }
+      }
+      
+      BitBuffer converter = new BitBuffer(data);
+      String str = converter.toString();
+      
+      // the string is stored and flushed in one go, so the preferences 
+      // always hold a complete save (never a mix of old and new data)
+      try {
+        Preferences pref = Gdx.app.getPreferences(kPreferencesName);
+        pref.putString(kSaveName, str);
+        pref.flush();
+        synchronized ( this ) { mNumSavesWritten++; }
+      } catch ( Exception ex ) {
+        Gdx.app.log(kLogTag, "Error trying to save preferences", ex);
+      }
+    }
+    
+  } // writePendingSaves()
+  
+  // wait until any saved game data has been written
+  public void flushSave() {
+    
+    if ( mSaveResult != null ) {
+      try {
+        mSaveResult.get();
+      } catch ( Exception ex ) {
+        Gdx.app.log(kLogTag, "Error waiting for save to finish", ex);
+      }
+      mSaveResult = null;
+    }
+    
+    Gdx.app.log(kLogTag, "Saves: " + numSavesRequested() + " requested, "
+                         + numSavesWritten() + " written");
+    
+  } // EnvBits.flushSave()
+  
+  // number of saves requested so far
+  public synchronized int numSavesRequested() { return mNumSavesRequested; }
+  
+  // number of saves actually written so far (rapid saves are combined)
+  public synchronized int numSavesWritten() { return mNumSavesWritten; }
+  
   // load the game data (on Android devices only)
   public byte[] load() {
     
@@ -33,7 +33,7 @@ public class ScreenScaleAndroid extends ScreenScale {
               mStepBig;
   
   // constructor
-  public ScreenScaleAndroid(int width, int height) {
+  public ScreenScaleAndroid(int width, int height, KeyMonitorGdx keyMonitor) {
     
     assert( Env.platform() == Env.Platform.ANDROID ||
             Env.platform() == Env.Platform.IOS ||
@@ -42,7 +42,7 @@ public class ScreenScaleAndroid extends ScreenScale {
     refresh(width, height);
     
     if ( Env.saveState().screenSize() < 0 ) {
-      int size = defaultSizeVal();
+      int size = defaultSizeVal(keyMonitor);
       setSizeVal(size);
       Env.debug("Pixel scale: default " + scale() + " (size val " + size + ")");
     }
@@ -51,7 +51,7 @@ public class ScreenScaleAndroid extends ScreenScale {
   
   // update the factors for conversion from size value to pixel scale
   @Override
-  public void refresh(int width, int height) {
+  public synchronized void refresh(int width, int height) {
     
     int xScale = (int)Math.floor( width / (float)Env.screenWidth() ),
         yScale = (int)Math.floor( height / (float)Env.screenHeight() );
@@ -91,17 +91,17 @@ public class ScreenScaleAndroid extends ScreenScale {
   
   // the current pixel size for the game screen
   @Override
-  public int scale() { return scale( sizeVal() ); }
+  public synchronized int scale() { return scale( sizeVal() ); }
   
   // return the range that the screen size value can take
   @Override
-  public int maxSizeVal() { return mMaxSizeVal; }
+  public synchronized int maxSizeVal() { return mMaxSizeVal; }
   @Override
-  public int minSizeVal() { return mMinSizeVal; }
+  public synchronized int minSizeVal() { return mMinSizeVal; }
 
   // return the current screen size value
   @Override
-  public int sizeVal() {
+  public synchronized int sizeVal() {
     
     int size = Env.saveState().screenSize();
     assert( size >= 0 );
@@ -115,7 +115,7 @@ public class ScreenScaleAndroid extends ScreenScale {
 
   // change the size value
   @Override
-  public void setSizeVal(int size) {
+  public synchronized void setSizeVal(int size) {
 
     size = Math.max(mMinSizeVal, Math.min(mMaxSizeVal, size));
     Env.saveState().setScreenSize( size );
@@ -123,7 +123,7 @@ public class ScreenScaleAndroid extends ScreenScale {
   } // setSizeVal()
   
   // choose the default pixel scaling
-  private float defaultScale() {
+  private float defaultScale(KeyMonitorGdx keys) {
 
     final float shrink =
                   (Env.platform()==Env.Platform.ANDROID) ? kShrinkTouchscreen
@@ -134,8 +134,8 @@ public class ScreenScaleAndroid extends ScreenScale {
 
     if ( Env.platform() == Env.Platform.ANDROID ||
          Env.platform() == Env.Platform.IOS ) {
-      assert( Env.keys() != null );
-      KeyMonitorAndroid keyMonitor = (KeyMonitorAndroid)Env.keys();
+      assert( keys != null );
+      KeyMonitorAndroid keyMonitor = (KeyMonitorAndroid)keys;
       int maxWidth  = Gdx.graphics.getWidth() - 2*keyMonitor.buttonsXMargin(),
           maxHeight = Gdx.graphics.getHeight() - 2*keyMonitor.buttonsYMargin();
       maxWidth = Math.max(maxWidth, Gdx.graphics.getWidth()/3);
@@ -150,9 +150,9 @@ public class ScreenScaleAndroid extends ScreenScale {
   } // defaultScale()
   
   // choose the default size value
-  private int defaultSizeVal() {
+  private int defaultSizeVal(KeyMonitorGdx keys) {
     
-    final float targetScale = defaultScale();
+    final float targetScale = defaultScale(keys);
 
     for ( int size = mMinSizeVal ; size < mMaxSizeVal ; size++ ) {
       int scale0 = scale(size),
@@ -15,11 +15,21 @@ import com.dishmoth.miniquests.game.Sounds;
 import java.util.Arrays;
 
 // class for controlling audio
+// (libGDX audio is not thread-safe, so if the game advances on a separate 
+// thread the audio commands are queued up and run during render(), see 
+// setDeferred())
 public class SoundsGdx extends Sounds {
 
   // where the sound files live
   private static final String kFileRoot = "data/";
   
+  // commands for the libGDX audio
+  private static final int kLoad   = 0,
+                           kUnload = 1,
+                           kPlay   = 2,
+                           kLoop   = 3,
+                           kStop   = 4;
+  
   // the sound clips
   private Sound mSounds[];
   private Music mLongSounds[];
@@ -27,6 +37,19 @@ public class SoundsGdx extends Sounds {
   // libGDX codes for the looping sounds (-1 if not looping/playing)
   private long mLoopId[];
   
+  // names of the sound files (recorded by loadSound())
+  private String mFiles[];
+  
+  // whether audio commands wait for runCommands() (only touched while 
+  // holding the lock)
+  private boolean mDeferred;
+  
+  // queued audio commands, as [command,id] pairs, and a second array that
+  // is swapped with the first while the commands are run
+  private int mCommands[],
+              mRunning[];
+  private int mNumCommands;
+  
   // constructor
   public SoundsGdx() {
 
@@ -36,9 +59,95 @@ public class SoundsGdx extends Sounds {
     mLongSounds  = new Music[kNumSounds];
     mLoopId      = new long[kNumSounds];
     Arrays.fill(mLoopId, -1);
+    mFiles       = new String[kNumSounds];
 
+    mDeferred    = false;
+    mCommands    = new int[64];
+    mRunning     = new int[64];
+    mNumCommands = 0;
+    
   } // constructor
   
+  // whether the game is being advanced on a thread other than the render 
+  // thread, in which case audio commands are queued until runCommands()
+  // (any queued commands are run when this is switched off)
+  public void setDeferred(boolean deferred) {
+    
+    synchronized ( this ) { mDeferred = deferred; }
+    if ( !deferred ) runCommands();
+    
+  } // setDeferred()
+  
+  // carry out any queued audio commands (call from the render thread)
+  public void runCommands() {
+    
+    int commands[];
+    int numCommands;
+    synchronized ( this ) {
+      commands = mCommands;
+      numCommands = mNumCommands;
+      mCommands = mRunning;
+      mRunning = commands;
+      mNumCommands = 0;
+    }
+    
+    for ( int k = 0 ; k < numCommands ; k += 2 ) {
+      perform(commands[k], commands[k+1]);
+    }
+    
+  } // runCommands()
+  
+  // carry out an audio command now, or queue it if deferred
+  private void command(int command, int id) {
+    
+    synchronized ( this ) {
+      if ( mDeferred ) {
+        if ( mNumCommands == mCommands.length ) {
+          int commands[] = new int[2*mCommands.length];
+          System.arraycopy(mCommands, 0, commands, 0, mNumCommands);
+          mCommands = commands;
+          mRunning = new int[commands.length];
+        }
+        mCommands[mNumCommands++] = command;
+        mCommands[mNumCommands++] = id;
+        return;
+      }
+    }
+    
+    perform(command, id);
+    
+  } // command()
+  
+  // carry out an audio command
+  private void perform(int command, int id) {
+    
+    switch ( command ) {
+      case kLoad: {
+        loadNow(id, mFiles[id]);
+      } break;
+      case kUnload: {
+        unloadNow(id);
+      } break;
+      case kPlay: {
+        if      ( mSounds[id]     != null ) mSounds[id].play();
+        else if ( mLongSounds[id] != null ) mLongSounds[id].play();
+      } break;
+      case kLoop: {
+        if ( mSounds[id] == null ) return;
+        if ( mLoopId[id] == -1 ) mLoopId[id] = mSounds[id].loop();
+      } break;
+      case kStop: {
+        if ( mSounds[id] == null ) return; // not loaded (lazy mode)
+        mSounds[id].stop();
+        mLoopId[id] = -1;
+      } break;
+      default: {
+        assert( false );
+      } break;
+    }
+    
+  } // perform()
+  
   // treat the sound effect as a Music object 
   private boolean playAsMusic(int id) {
     
@@ -56,6 +165,14 @@ public class SoundsGdx extends Sounds {
     assert( id >= 0 && id < kNumSounds );
     assert( fileName != null );
     
+    mFiles[id] = fileName;
+    command(kLoad, id);
+    
+  } // Sounds.loadSound()
+  
+  // prepare a sound resource (render thread only)
+  private void loadNow(int id, String fileName) {
+    
     String file = kFileRoot + fileName;
 
     try {
@@ -75,7 +192,7 @@ public class SoundsGdx extends Sounds {
       mLongSounds[id] = null;
     }
 
-  } // Sounds.loadSound()
+  } // loadNow()
 
   // check that all sounds have loaded
   @Override
@@ -84,7 +201,7 @@ public class SoundsGdx extends Sounds {
     mAvailable = true;
     
     for ( int id = 0 ; id < kNumSounds ; id++ ) {
-      if ( mSounds[id] == null && mLongSounds[id] == null ) {
+      if ( isLoaded(id) && mSounds[id] == null && mLongSounds[id] == null ) {
         mAvailable = false;
         return;
       }
@@ -92,6 +209,29 @@ public class SoundsGdx extends Sounds {
     
   } // Sounds.checkSound()
 
+  // discard a sound resource
+  @Override
+  protected void unloadSound(int id, String fileName) {
+    
+    command(kUnload, id);
+    
+  } // Sounds.unloadSound()
+  
+  // discard a sound resource (render thread only)
+  private void unloadNow(int id) {
+    
+    if ( mSounds[id] != null ) {
+      mSounds[id].dispose();
+      mSounds[id] = null;
+    }
+    if ( mLongSounds[id] != null ) {
+      mLongSounds[id].dispose();
+      mLongSounds[id] = null;
+    }
+    mLoopId[id] = -1;
+    
+  } // unloadNow()
+
   // play a (non-looping) sound effect
   @Override
   public void play(int id) {
@@ -100,9 +240,8 @@ public class SoundsGdx extends Sounds {
     
     assert( id >= 0 && id < kNumSounds );
     assert( !isLooped(id) );
-
-    if      ( mSounds[id]     != null ) mSounds[id].play();
-    else if ( mLongSounds[id] != null ) mLongSounds[id].play();
+    resolve(id);
+    command(kPlay, id);
     
   } // Sounds.play()
 
@@ -114,9 +253,8 @@ public class SoundsGdx extends Sounds {
     
     assert( id >= 0 && id < kNumSounds );
     assert( isLooped(id) );
-    assert( mSounds[id] != null );
-    
-    if ( mLoopId[id] == -1 ) mLoopId[id] = mSounds[id].loop();
+    resolve(id);
+    command(kLoop, id);
     
   } // Sounds.loop()
   
@@ -128,10 +266,7 @@ public class SoundsGdx extends Sounds {
     
     assert( id >= 0 && id < kNumSounds );
     assert( isLooped(id) );
-    assert( mSounds[id] != null );
-
-    mSounds[id].stop();
-    mLoopId[id] = -1;
+    command(kStop, id);
     
   } // Sounds.stop()
 
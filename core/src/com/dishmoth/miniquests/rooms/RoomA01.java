@@ -151,7 +151,7 @@ public class RoomA01 extends Room {
   private static final String kBlockColours[] = { "td" }; // pink 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { // note: dummy exit at index 0
               new Exit(Env.LEFT, 4,0, "td",0, -1, RoomA02.NAME, 0) };
 
@@ -167,7 +167,7 @@ public class RoomA01 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length+1 );
+    assert( entryPoint >= 0 && entryPoint < mExits.length+1 );
     
     if ( entryPoint == 0 ) {
       // special case: start of game
@@ -177,7 +177,7 @@ public class RoomA01 extends Room {
       mCameraLevel = -1;
       mCamera.set(0, 0, 0);
     } else {
-      setPlayerAtExit(kExits[entryPoint-1]);
+      setPlayerAtExit(mExits[entryPoint-1]);
     }
     
     return mPlayer;
@@ -190,7 +190,7 @@ public class RoomA01 extends Room {
 
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,0) );
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
     
     spriteManager.addSprite( new Ladder() );
     
@@ -215,10 +215,10 @@ public class RoomA01 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -100,7 +100,7 @@ public class RoomA02 extends Room {
                                                   "#S" }; // red
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 3,6, "#c",1, -1, RoomA01.NAME, 1),
               new Exit(Env.UP,    4,0, "#c",1, -1, RoomA03.NAME, 0) };
 
@@ -156,8 +156,8 @@ public class RoomA02 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -168,8 +168,8 @@ public class RoomA02 extends Room {
 
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,-4) );
 
-    addBasicWalls(kExits, spriteManager);
-    if ( !mSwitchDone ) kExits[1].mDoor.setClosed(true);
+    addBasicWalls(mExits, spriteManager);
+    if ( !mSwitchDone ) mExits[1].mDoor.setClosed(true);
     
     WallSwitch ws = new WallSwitch(Env.RIGHT, 6, -2, 
                                    new String[]{"Iu","7u"}, false);
@@ -196,10 +196,10 @@ public class RoomA02 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -210,7 +210,7 @@ public class RoomA02 extends Room {
       
       if ( event instanceof WallSwitch.EventStateChange ) {
         assert( !mSwitchDone );
-        kExits[1].mDoor.setClosed(false);
+        mExits[1].mDoor.setClosed(false);
         mSwitchDone = true;
         saveGameEvent = true;
         Env.sounds().play(Sounds.SUCCESS, 3);
@@ -218,7 +218,7 @@ public class RoomA02 extends Room {
       }
       
     }
-    if ( saveGameEvent ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( saveGameEvent ) storyEvents.add(QuestStory.kSaveGameEvent);
     
     // animate the lava
     mLavaCounter = (mLavaCounter+1) % kLavaPeriod;
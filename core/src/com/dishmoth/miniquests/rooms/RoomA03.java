@@ -83,7 +83,7 @@ public class RoomA03 extends Room {
                                                   "BV" }; // blue 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(0,0, Env.DOWN,  1,0, "#k",0, -1, RoomA02.NAME, 1), 
               new Exit(0,0, Env.LEFT,  3,0, "#k",0, -1, RoomA04.NAME, 0), 
               new Exit(1,0, Env.RIGHT, 5,6, "#V",2, -1, RoomA08.NAME, 1), 
@@ -147,14 +147,20 @@ public class RoomA03 extends Room {
   // time during which all sprites are frozen
   private int mCutSceneTimer;
   
+  // prepare resources
+  static public synchronized void initialize() {
+    
+    if ( kMuralImage != null ) return;
+    kMuralImage = Env.resources().loadEgaImage("MuralX03.png");
+    
+  } // initialize()
+  
   // constructor
   public RoomA03() {
     
     super(NAME);
 
-    if ( kMuralImage == null ) {
-      kMuralImage = Env.resources().loadEgaImage("MuralX03.png");
-    }
+    initialize();
     
     mSwitchesDone = false;
     mFirstStairsDone = false;
@@ -196,8 +202,8 @@ public class RoomA03 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -229,7 +235,7 @@ public class RoomA03 extends Room {
                                 -2*(kBlocks.length-1)) );
     addBasicZone(zoneX, zoneY, 
                  false, false, true, true, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
     
     // zone (1,0)
     
@@ -240,7 +246,7 @@ public class RoomA03 extends Room {
                                 zoneX*Room.kSize+7, zoneY*Room.kSize+2, 2 ));
     addBasicZone(zoneX, zoneY, 
                  true, false, false, true, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
     mStairBlocks10 = new BlockArray[2];
     for ( int k = 0 ; k < 2 ; k++ ) {
@@ -265,7 +271,7 @@ public class RoomA03 extends Room {
                                 zoneX*Room.kSize, zoneY*Room.kSize+5, 8));
     addBasicZone(zoneX, zoneY, 
                  false, true, true, false, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
     mStairBlocks01 = new BlockArray[3];
     for ( int k = 0 ; k < 3 ; k++ ) {
@@ -287,7 +293,7 @@ public class RoomA03 extends Room {
                                 zoneX*Room.kSize+9, zoneY*Room.kSize+2, 8));
     addBasicZone(zoneX, zoneY, 
                  true, true, false, false, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
     mStairBlocks11 = new BlockArray[3];
     for ( int k = 0 ; k < 3 ; k++ ) {
@@ -336,7 +342,7 @@ public class RoomA03 extends Room {
                          new FloorSwitch(15,15, 0, "#a", "#2") };
       for ( FloorSwitch s : mSwitches ) spriteManager.addSprite(s);
 
-      kExits[1].mDoor.setClosed(true);
+      mExits[1].mDoor.setClosed(true);
     }
 
     // final switch
@@ -346,7 +352,7 @@ public class RoomA03 extends Room {
     if ( mFinalSwitchDone ) {
       mFinalSwitch.freezeState(true);
     } else {
-      kExits[5].mDoor.setClosed(true);
+      mExits[5].mDoor.setClosed(true);
     }
         
     mStairTimer = 0;
@@ -373,10 +379,10 @@ public class RoomA03 extends Room {
     
     // check exits
     
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       Env.sounds().stop(Sounds.FLAME);
       return;
     }
@@ -424,11 +430,11 @@ public class RoomA03 extends Room {
       if ( done ) {
         mSwitchesDone = true;
         for ( FloorSwitch s : mSwitches ) spriteManager.removeSprite(s);
-        storyEvents.add(new QuestStory.EventSaveGame());
+        storyEvents.add(QuestStory.kSaveGameEvent);
         mSwitches = null;
         scroll = scrollToZone(0, 0);
         if ( scroll == null ) {
-          kExits[1].mDoor.setClosed(false);
+          mExits[1].mDoor.setClosed(false);
           Env.sounds().play(Sounds.SUCCESS, 0);
         } else {
           storyEvents.add(scroll);
@@ -475,7 +481,7 @@ public class RoomA03 extends Room {
         scroll = scrollToZone(1, 1);
         assert( scroll != null );
         storyEvents.add(scroll);
-        storyEvents.add(new QuestStory.EventSaveGame());
+        storyEvents.add(QuestStory.kSaveGameEvent);
         mCutSceneTimer = kTimeScene2;
         Env.sounds().stop(Sounds.FLAME);
       }
@@ -490,7 +496,7 @@ public class RoomA03 extends Room {
         for ( Sprite s : spriteManager.list() ) {
           if ( s instanceof FlameBeam ) ((FlameBeam)s).setFlame(false);
         }
-        storyEvents.add(new QuestStory.EventSaveGame());
+        storyEvents.add(QuestStory.kSaveGameEvent);
         Env.sounds().stop(Sounds.FLAME);
         Env.sounds().play(Sounds.SUCCESS, 3);
       }
@@ -509,11 +515,11 @@ public class RoomA03 extends Room {
     }
     if ( mFinalSwitchDone && mFinalSwitchTimer > 0 ) {
       if ( --mFinalSwitchTimer == 0 ) {
-        kExits[5].mDoor.setClosed(false);
+        mExits[5].mDoor.setClosed(false);
         int delay = ( mPlayer.getDirec() == Env.RIGHT || 
                       mPlayer.getDirec() == Env.UP ) ? 0 : 5;
         Env.sounds().play(Sounds.SUCCESS, delay);
-        storyEvents.add(new QuestStory.EventSaveGame());
+        storyEvents.add(QuestStory.kSaveGameEvent);
       }
     }
     
@@ -563,7 +569,7 @@ public class RoomA03 extends Room {
     // first cut scene (door opens)
     else if ( mSwitchesDone ) {
       if ( mCutSceneTimer == kTimeOpenDoor ) {
-        kExits[1].mDoor.setClosed(false);
+        mExits[1].mDoor.setClosed(false);
         Env.sounds().play(Sounds.SUCCESS, 0);
       }
     }
@@ -79,7 +79,7 @@ public class RoomA04 extends Room {
                                                   "#k" }; // brown
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 3,4, "#w",2, -1, RoomA03.NAME, 1), 
               new Exit(Env.UP,    6,4, "#w",2, -1, RoomA05.NAME, 0) };
 
@@ -171,8 +171,8 @@ public class RoomA04 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -183,7 +183,7 @@ public class RoomA04 extends Room {
 
     spriteManager.addSprite( new BlockArray(kBlocks,kBlockColours, 0,0,-2) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
     
     if ( mDoorOpen ) {
       mCritters = new Critter[] 
@@ -197,7 +197,7 @@ public class RoomA04 extends Room {
         spriteManager.addSprite(mCritters[k]);
       }
     } else {
-      kExits[1].mDoor.setClosed(true);
+      mExits[1].mDoor.setClosed(true);
       spriteManager.addSprite( new FloorSwitch(0,0,0, "#z", "#w") );
     }
 
@@ -218,10 +218,10 @@ public class RoomA04 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -235,7 +235,7 @@ public class RoomA04 extends Room {
           s.freezeState(true);
           assert( !mDoorOpen );
           mDoorOpen = true;
-          kExits[1].mDoor.setClosed(false);
+          mExits[1].mDoor.setClosed(false);
           mCritterTimer = kCritterDelay;
           Env.sounds().play(Sounds.SWITCH_ON);
         }
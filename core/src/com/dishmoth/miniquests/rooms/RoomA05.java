@@ -75,7 +75,7 @@ public class RoomA05 extends Room {
                                                   "#h" }; // blue
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.DOWN,  6,0, "#h",0, -1, RoomA04.NAME, 1), 
               new Exit(Env.RIGHT, 6,8, "#h",1, -1, RoomA03.NAME, 3) };
 
@@ -130,8 +130,8 @@ public class RoomA05 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -146,7 +146,7 @@ public class RoomA05 extends Room {
     
     spriteManager.addSprite(mCompleted ? mTrueBlocks : mAllBlocks);
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite( new BlockArray(kBlocksStairs, kBlockColours,
                                             9, 3, 2) );
@@ -181,10 +181,10 @@ public class RoomA05 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -220,7 +220,7 @@ public class RoomA05 extends Room {
       }
       
     }
-    if ( saveGameEvent ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( saveGameEvent ) storyEvents.add(QuestStory.kSaveGameEvent);
 
     // replace the death blocks
     if ( mDeathTimer > 0 ) {
@@ -90,7 +90,7 @@ public class RoomA06 extends Room {
   private static final String kBlockColours[] = { "#h" };   // blue 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.LEFT,  5,0, "#h",0, -1, RoomA03.NAME, 4), 
               new Exit(Env.RIGHT, 5,2, "#h",2, -1, RoomA07.NAME, 0) };
 
@@ -177,8 +177,8 @@ public class RoomA06 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -189,8 +189,8 @@ public class RoomA06 extends Room {
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0, 0, 0) );
     
-    addBasicWalls(kExits, spriteManager);
-    if ( !mButtonsDone ) kExits[1].mDoor.setClosed(true);
+    addBasicWalls(mExits, spriteManager);
+    if ( !mButtonsDone ) mExits[1].mDoor.setClosed(true);
 
     int x1 = 1,
         x2 = 8;
@@ -235,10 +235,10 @@ public class RoomA06 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -268,7 +268,7 @@ public class RoomA06 extends Room {
     if ( !mSwitchesDone && mSwitch1.isOn() && mSwitch2.isOn() ) {
       mSwitchesDone = true;
       switchesTriggered(spriteManager, false);
-      storyEvents.add(new QuestStory.EventSaveGame());
+      storyEvents.add(QuestStory.kSaveGameEvent);
       Env.sounds().play(Sounds.SUCCESS, 3);
     }
 
@@ -276,8 +276,8 @@ public class RoomA06 extends Room {
     if ( mSwitchesDone && !mButtonsDone && 
          mButton1.getState() > 0 && mButton2.getState() > 0 ) {
       mButtonsDone = true;
-      kExits[1].mDoor.setClosed(false);
-      storyEvents.add(new QuestStory.EventSaveGame());
+      mExits[1].mDoor.setClosed(false);
+      storyEvents.add(QuestStory.kSaveGameEvent);
       Env.sounds().play(Sounds.SUCCESS, 3);
     }
     
@@ -58,7 +58,7 @@ public class RoomA07 extends Room {
                                                   "#g" }; 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.LEFT, 7,2, "Ng",1, -1, RoomA06.NAME, 1), 
               new Exit(Env.LEFT, 1,2, "Ng",1, -1, RoomA08.NAME, 0) };
 
@@ -119,8 +119,8 @@ public class RoomA07 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -131,7 +131,7 @@ public class RoomA07 extends Room {
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,0) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     Liquid lava = new Liquid(0,0,-1, 1);
     spriteManager.addSprite(lava);
@@ -190,10 +190,10 @@ public class RoomA07 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
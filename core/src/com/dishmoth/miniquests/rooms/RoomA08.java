@@ -78,7 +78,7 @@ public class RoomA08 extends Room {
                                                   "#h" }; // blue 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 6,6, "#h",0, -1, RoomA07.NAME, 1), 
               new Exit(Env.LEFT,  4,0, "Vh",0, -1, RoomA03.NAME, 2) };
 
@@ -114,8 +114,8 @@ public class RoomA08 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -126,7 +126,7 @@ public class RoomA08 extends Room {
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,0) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     // lava (the second small patch tidies the effect at the room's edge)
     spriteManager.addSprite( new Liquid(0,0,0, 1) );
@@ -147,10 +147,10 @@ public class RoomA08 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -88,7 +88,7 @@ public class RoomA09 extends Room {
   private static final String kBlockColours[] = { "VB" }; 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.DOWN, 6, 0, "VB",0, -1, RoomA03.NAME, 5),
               new Exit(Env.UP,   8,-8, "#B",1, -1, RoomA10.NAME, 0) };
 
@@ -161,8 +161,8 @@ public class RoomA09 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -173,8 +173,8 @@ public class RoomA09 extends Room {
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,-8) );
     
-    addBasicWalls(kExits, spriteManager);
-    if ( !mLavaDone ) kExits[1].mDoor.setClosed(true);
+    addBasicWalls(mExits, spriteManager);
+    if ( !mLavaDone ) mExits[1].mDoor.setClosed(true);
 
     mLavaLevel = ( mLavaDone ? kLavaLevelLow : kLavaLevelHigh );
     mLava = new Liquid(0,0,Math.round(mLavaLevel), 1);
@@ -255,10 +255,10 @@ public class RoomA09 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -327,8 +327,8 @@ public class RoomA09 extends Room {
       if ( done ) {
         mLavaDone = true;
         Env.sounds().play(Sounds.SUCCESS, 3);
-        kExits[1].mDoor.setClosed(false);
-        storyEvents.add(new QuestStory.EventSaveGame());
+        mExits[1].mDoor.setClosed(false);
+        storyEvents.add(QuestStory.kSaveGameEvent);
       }
     }
     
@@ -58,7 +58,7 @@ public class RoomA10 extends Room {
   private static final String kBlockColours[] = { "#c" }; // orange
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit( 0,0, Env.DOWN,  1,0, "#c",0, -1, RoomA09.NAME, 1),
               new Exit( 0,0, Env.LEFT,  4,0, "#c",0, -1, RoomA12.NAME, 1),
               new Exit( 0,0, Env.RIGHT, 4,0, "#c",1, -1, RoomA11.NAME, 0),
@@ -211,23 +211,23 @@ public class RoomA10 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
     
     // special behaviour
     if ( mMode == 2 ) {
       if ( entryPoint == 0 ) {
-        kExits[5].mDoor.setClosed(true);
+        mExits[5].mDoor.setClosed(true);
       } else {
         assert( entryPoint == 2 || entryPoint == 5 );
-        kExits[5].mDoor.setClosed(false);
+        mExits[5].mDoor.setClosed(false);
         mMode = 3;
         mTimer = 0;
       }
     } else if ( mMode == 5 ) {
       if ( entryPoint == 1 || entryPoint == 3 ) {
         assert( mWallSwitchesDone );
-        kExits[1].mDoor.setClosed(false);
-        kExits[3].mDoor.setClosed(false);
+        mExits[1].mDoor.setClosed(false);
+        mExits[3].mDoor.setClosed(false);
         mMode = 6;
         mTimer = 0;
       } else {
@@ -238,7 +238,7 @@ public class RoomA10 extends Room {
       }
     }
     
-    setPlayerAtExit(kExits[entryPoint]);
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -272,9 +272,9 @@ public class RoomA10 extends Room {
                                         -1, 1) );
     addBasicZone(zoneX, zoneY, 
                  true, false, true, true, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
-    if ( mNumSwitchesDone < 3 ) kExits[1].mDoor.setClosed(true);
+    if ( mNumSwitchesDone < 3 ) mExits[1].mDoor.setClosed(true);
     
     mRightBridge = new BlockArray(kBridgeBlocks, kBlockColours,
                                   zoneX*Room.kSize+9, zoneY*Room.kSize+1, 0);
@@ -308,7 +308,7 @@ public class RoomA10 extends Room {
                                         -1, 1) );
     addBasicZone(zoneX, zoneY, 
                  false, true, true, true, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
     spriteManager.addSprite( 
                  new BlockArray(kCritterBlocks, kBlockColours, 
@@ -331,7 +331,7 @@ public class RoomA10 extends Room {
       spriteManager.addSprite(ws);
     }
     
-    if ( !mWallSwitchesDone ) kExits[3].mDoor.setClosed(true);
+    if ( !mWallSwitchesDone ) mExits[3].mDoor.setClosed(true);
     
     // zone (0,1)
     
@@ -341,9 +341,9 @@ public class RoomA10 extends Room {
                                         -1, 1) );
     addBasicZone(zoneX, zoneY, 
                  false, true, false, false, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
-    if ( !mDragonKilled ) kExits[4].mDoor.setClosed(true);
+    if ( !mDragonKilled ) mExits[4].mDoor.setClosed(true);
     
     // zone (1,1)
     
@@ -353,9 +353,9 @@ public class RoomA10 extends Room {
                                         -1, 1) );
     addBasicZone(zoneX, zoneY, 
                  true, true, false, true, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
-    if ( mNumSwitchesDone <= 1 ) kExits[5].mDoor.setClosed(true);
+    if ( mNumSwitchesDone <= 1 ) mExits[5].mDoor.setClosed(true);
     
     // switches
     
@@ -432,10 +432,10 @@ public class RoomA10 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
     
@@ -450,7 +450,7 @@ public class RoomA10 extends Room {
         Env.sounds().play(Sounds.SWITCH_ON);
         if ( sw == mFloatingSwitch ) {
           assert( mMode == 2 );
-          kExits[5].mDoor.setClosed(false);
+          mExits[5].mDoor.setClosed(false);
         } else if ( sw == mFinalSwitch ) {
           assert( mMode == 8 );
           sw.freezeState(true);
@@ -465,7 +465,7 @@ public class RoomA10 extends Room {
       if ( event instanceof WallSwitch.EventStateChange ) {
         assert( mMode == 5 );
         assert( !mWallSwitchesDone );
-        assert( kExits[3].mDoor.closed() );
+        assert( mExits[3].mDoor.closed() );
         boolean done = true;
         for ( WallSwitch ws : mWallSwitches ) {
           if ( ws.getState() == 0 ) done = false;
@@ -473,14 +473,14 @@ public class RoomA10 extends Room {
         if ( done ) {
           mWallSwitchesDone = true;
           saveGameEvent = true;
-          kExits[3].mDoor.setClosed(false);
+          mExits[3].mDoor.setClosed(false);
           Env.sounds().play(Sounds.SUCCESS, 3);
         }
         it.remove();
       }
       
     }
-    if ( saveGameEvent ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( saveGameEvent ) storyEvents.add(QuestStory.kSaveGameEvent);
 
     // check for scrolling
     EventRoomScroll scroll = checkHorizontalScroll();
@@ -502,8 +502,8 @@ public class RoomA10 extends Room {
         mFinalPath.setEndRate(+12);
       } else {
         mFinalPath.setEndRate(0);
-        if ( kExits[4].mDoor.closed() ) {
-          kExits[4].mDoor.setClosed(false);
+        if ( mExits[4].mDoor.closed() ) {
+          mExits[4].mDoor.setClosed(false);
           Env.sounds().play(Sounds.SUCCESS);
         }
       }
@@ -539,7 +539,7 @@ public class RoomA10 extends Room {
       if ( mTimer == finishTime ) {
         assert( mPlayer != null );
         mDragonKilled = true;
-        storyEvents.add(new QuestStory.EventSaveGame());
+        storyEvents.add(QuestStory.kSaveGameEvent);
         mMode = 10;
         mTimer = -1;
       }
@@ -592,7 +592,7 @@ public class RoomA10 extends Room {
         mTimer = -1;
         if ( mLeftBridge.getYPos() == 1 ) {
           mMode = 8;
-          storyEvents.add(new QuestStory.EventSaveGame());
+          storyEvents.add(QuestStory.kSaveGameEvent);
           Env.sounds().play(Sounds.SUCCESS);
         }
       }
@@ -649,7 +649,7 @@ public class RoomA10 extends Room {
         mTimer = -1;
         if ( mRightBridge.getYPos() == 1 ) {
           mMode = 5;
-          storyEvents.add(new QuestStory.EventSaveGame());
+          storyEvents.add(QuestStory.kSaveGameEvent);
           Env.sounds().play(Sounds.SUCCESS);
         }
       }
@@ -721,7 +721,7 @@ public class RoomA10 extends Room {
       if ( mNumSwitchesDone > 0 && (mTimer%period) > periodMin ) {
         mMode = 2;
         mTimer = -1;
-        storyEvents.add(new QuestStory.EventSaveGame());
+        storyEvents.add(QuestStory.kSaveGameEvent);
         Env.sounds().play(Sounds.SUCCESS, 3);
       }
     }
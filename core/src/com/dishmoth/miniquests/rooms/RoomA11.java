@@ -41,7 +41,7 @@ public class RoomA11 extends Room {
                                                   "tK" }; // burnt red
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.LEFT, 4,0, "#o",0, -1, RoomA10.NAME, 2),
               new Exit(Env.UP,   5,0, "#o",1, -1, RoomA10.NAME, 5) };
 
@@ -64,8 +64,8 @@ public class RoomA11 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -76,7 +76,7 @@ public class RoomA11 extends Room {
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,0) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite( new Liquid(0,0,-1, 1) );
 
@@ -103,10 +103,10 @@ public class RoomA11 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
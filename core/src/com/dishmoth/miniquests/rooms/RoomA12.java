@@ -84,7 +84,7 @@ public class RoomA12 extends Room {
                                                   "#c" }; // other yellow
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.UP,    4,0, "#0",0, -1, RoomA10.NAME, 3),
               new Exit(Env.RIGHT, 4,0, "#0",1, -1, RoomA10.NAME, 1) };
 
@@ -131,8 +131,8 @@ public class RoomA12 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -143,9 +143,9 @@ public class RoomA12 extends Room {
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,-2) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
-    if ( !mDone ) kExits[1].mDoor.setClosed(true);
+    if ( !mDone ) mExits[1].mDoor.setClosed(true);
     
     mFlames = new Flame[]{ new Flame(7, 9, 4),
                            new Flame(1, 9, 4),
@@ -180,10 +180,10 @@ public class RoomA12 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -205,10 +205,10 @@ public class RoomA12 extends Room {
           }
           if ( mXPos == 8 && mYPos == 4 && allFlamesOn() ) {
             mDone = true;
-            storyEvents.add(new QuestStory.EventSaveGame());
+            storyEvents.add(QuestStory.kSaveGameEvent);
             Env.sounds().play(Sounds.SUCCESS);
           }
-          kExits[1].mDoor.setClosed( !allFlamesOn() ); 
+          mExits[1].mDoor.setClosed( !allFlamesOn() ); 
         }
       }
     }
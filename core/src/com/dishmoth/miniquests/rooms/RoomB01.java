@@ -141,7 +141,7 @@ public class RoomB01 extends Room {
                                                   "#S" }; // red
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { // note: dummy exits at index 0 (start) and index 3 (switch)
               new Exit(1,1, Env.UP,    4,6,  "#k",1, -1, RoomB02.NAME, 2),
               new Exit(0,2, Env.RIGHT, 7,-2, "SS",0, -1, RoomB02.NAME, 0) };
@@ -224,7 +224,7 @@ public class RoomB01 extends Room {
       mCameraLevel = -1;
       mCamera.set(zoneX*Room.kSize, zoneY*Room.kSize, 0);
     } else {
-      setPlayerAtExit(kExits[entryPoint-1]);
+      setPlayerAtExit(mExits[entryPoint-1]);
     }
 
     return mPlayer;
@@ -266,8 +266,8 @@ public class RoomB01 extends Room {
     int zoneX, zoneY;
 
     Exit exits[] = ( mSwitchDone 
-                     ? kExits 
-                     : new Exit[]{ kExits[0] } );
+                     ? mExits 
+                     : new Exit[]{ mExits[0] } );
 
     // zone (1,-1)
     
@@ -420,7 +420,7 @@ public class RoomB01 extends Room {
                                 zoneX*Room.kSize, zoneY*Room.kSize, 0) ); 
     addBasicZone(zoneX, zoneY, 
                  true, false, false, false, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
     addTrees(zoneX, zoneY, 0, 1, spriteManager);
 
     spriteManager.addSprite(new Fence(zoneX*Room.kSize, 
@@ -441,7 +441,7 @@ public class RoomB01 extends Room {
     RoomB02 roomInside = (RoomB02)findRoom(RoomB02.NAME);
     assert( roomInside != null );
     if ( !roomInside.doorsUnlocked() ) {
-      kExits[0].mDoor.setClosed(true);
+      mExits[0].mDoor.setClosed(true);
     }
 
   } // Room.createSprites()
@@ -457,10 +457,10 @@ public class RoomB01 extends Room {
 
     // check exits
     
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
     
@@ -526,11 +526,11 @@ public class RoomB01 extends Room {
       mHiddenDoorWall.removeDoor(mHiddenDoor);
     }
     
-    mHiddenDoor = mHiddenDoorWall.addDoor(kExits[1].mDoorXYPos, zPos,
-                                          kExits[1].mFloorColour, 
-                                          kExits[1].mFloorDrop);
+    mHiddenDoor = mHiddenDoorWall.addDoor(mExits[1].mDoorXYPos, zPos,
+                                          mExits[1].mFloorColour, 
+                                          mExits[1].mFloorDrop);
 
-    if ( zPos == kExits[1].mDoorZPos ) {
+    if ( zPos == mExits[1].mDoorZPos ) {
       mHiddenDoor = null;
       Env.sounds().play(Sounds.SUCCESS);
     }
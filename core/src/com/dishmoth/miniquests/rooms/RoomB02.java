@@ -122,7 +122,7 @@ public class RoomB02 extends Room {
                                                   "4S" }; // or ClY
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.LEFT,  5, 0, "ES",0, -1, RoomB01.NAME, 2),
               new Exit(Env.RIGHT, 4,12, "ES",3, -1, RoomB03.NAME, 0),
               new Exit(Env.DOWN,  5, 6, "ES",0, -1, RoomB01.NAME, 1) };
@@ -196,8 +196,8 @@ public class RoomB02 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     
     mCamera.shift(0, 0, +3);
     
@@ -211,7 +211,7 @@ public class RoomB02 extends Room {
 
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,0) );
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
     
     updateFloorBlocks(spriteManager);
 
@@ -230,8 +230,8 @@ public class RoomB02 extends Room {
     }
 
     if ( mNumTriffidsDone < mTriffids.length ) {
-      kExits[1].mDoor.setClosed(true);
-      kExits[2].mDoor.setClosed(true);
+      mExits[1].mDoor.setClosed(true);
+      mExits[2].mDoor.setClosed(true);
     }
     
     mNewTriffidTimer = 0;
@@ -288,10 +288,10 @@ public class RoomB02 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -317,10 +317,10 @@ public class RoomB02 extends Room {
     if ( mNumTriffidsDone == mTriffids.length ) {
       if ( mNewTriffidTimer > 0 ) {
         if ( --mNewTriffidTimer == 0 ) {
-          kExits[1].mDoor.setClosed(false);
-          kExits[2].mDoor.setClosed(false);
+          mExits[1].mDoor.setClosed(false);
+          mExits[2].mDoor.setClosed(false);
           Env.sounds().play(Sounds.SUCCESS);
-          storyEvents.add(new QuestStory.EventSaveGame());
+          storyEvents.add(QuestStory.kSaveGameEvent);
         }
       }
     }
@@ -105,14 +105,14 @@ public class RoomB03 extends Room {
                                                   "tw" }; // green
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.LEFT,  3,12, "#k",0, 0, RoomB02.NAME, 1),
               new Exit(Env.UP,    8,54, "#w",0, 3, RoomB04.NAME, 0),
               new Exit(Env.RIGHT, 2,54, "#w",0, 3, RoomB07.NAME, 0),
               new Exit(Env.LEFT,  5,54, "#w",1, 3, RoomB06.NAME, 1) };
 
   // not real exits, but used as restart points
-  private static final Exit kFakeExits[] 
+  private final Exit mFakeExits[] 
           = { new Exit(Env.LEFT,  9,54, "xx",0, 3, RoomB03.NAME, 0) };
   
   // details of different camera height levels
@@ -176,12 +176,12 @@ public class RoomB03 extends Room {
 
     mLastEntryPoint = entryPoint;
     
-    assert( entryPoint >= 0 && entryPoint < kExits.length+kFakeExits.length );
-    if ( entryPoint < kExits.length ) {
-      setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length+mFakeExits.length );
+    if ( entryPoint < mExits.length ) {
+      setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     } else {
-      int restartPoint = entryPoint - kExits.length;
-      setPlayerAtExit(kFakeExits[restartPoint], kCameraLevels);
+      int restartPoint = entryPoint - mExits.length;
+      setPlayerAtExit(mFakeExits[restartPoint], kCameraLevels);
       int direc = mPlayer.getDirec();
       mPlayer.shiftPos(Env.STEP_X[direc], Env.STEP_Y[direc], 0);
     }
@@ -193,7 +193,7 @@ public class RoomB03 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite( new BlockArray(kBlocks0, kBlockColours, 0,0,-1) );
     spriteManager.addSprite( new BlockArray(kBlocks1, kBlockColours, 0,0,12) );
@@ -278,16 +278,16 @@ public class RoomB03 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
     // special restart point
     if ( mLastEntryPoint == 0 && mPlayer != null && mPlayer.getZPos() == 54 ) {
-      int e = kExits.length;
+      int e = mExits.length;
       storyEvents.add(new EventNewEntryPoint(e));
       mLastEntryPoint = e;
     }
@@ -321,14 +321,14 @@ public class RoomB03 extends Room {
       }
 
     }
-    if ( saveGameEvent ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( saveGameEvent ) storyEvents.add(QuestStory.kSaveGameEvent);
     
     // check pop-up triffid
     if ( mPopupTriffidState == 0 && mPlayer != null &&
          mPlayer.getXPos() == 0 && mPlayer.getYPos() == 2 ) {
       mPopupTriffidState = 1;
       spriteManager.addSprite( makePopupTriffid() );
-      storyEvents.add(new QuestStory.EventSaveGame());
+      storyEvents.add(QuestStory.kSaveGameEvent);
       Env.sounds().play(Sounds.TRIFFID_EMERGE);
     }
 
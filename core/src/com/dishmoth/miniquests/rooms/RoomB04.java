@@ -58,7 +58,7 @@ public class RoomB04 extends Room {
                                                   "x#" }; // blue-white
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.DOWN, 8,0, "Bx",0, -1, RoomB03.NAME, 1),
               new Exit(Env.LEFT, 3,0, "Bx",0, -1, RoomB05.NAME, 0) };
 
@@ -113,8 +113,8 @@ public class RoomB04 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -126,8 +126,8 @@ public class RoomB04 extends Room {
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,0) );
 
     Exit exits[] = ( mCompleted 
-                     ? kExits 
-                     : new Exit[]{ kExits[0] } );
+                     ? mExits 
+                     : new Exit[]{ mExits[0] } );
     addBasicWalls(exits, spriteManager);
 
     mStatues = new Statue[]{ new Statue(7, 2, 2, Env.LEFT, 0),
@@ -156,10 +156,10 @@ public class RoomB04 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -169,10 +169,10 @@ public class RoomB04 extends Room {
         for ( Statue s : mStatues ) s.setColour(0);
 
         final int x0 = 0,
-                  y0 = kExits[1].mDoorXYPos,
-                  z0 = kExits[1].mDoorZPos;
+                  y0 = mExits[1].mDoorXYPos,
+                  z0 = mExits[1].mDoorZPos;
         Wall wall = (Wall)spriteManager.findSpriteOfType( WallLeft.class );
-        wall.addDoor(y0, z0, kExits[1].mFloorColour, kExits[1].mFloorDrop);
+        wall.addDoor(y0, z0, mExits[1].mFloorColour, mExits[1].mFloorDrop);
         spriteManager.addSprite( new Splatter(x0-1, y0, z0, -1, 5,
                                               (byte)0, -1) );
         
@@ -192,7 +192,7 @@ public class RoomB04 extends Room {
         for ( Statue s : mStatues ) s.setColour(1);
         Env.sounds().play(Sounds.SWITCH_ON);
         mCompleted = true;
-        storyEvents.add(new QuestStory.EventSaveGame());
+        storyEvents.add(QuestStory.kSaveGameEvent);
       }
     } else {
       mStatuesTimer = kTimeStatues;
@@ -42,7 +42,7 @@ public class RoomB05 extends Room {
   private static final String kBlockColours[] = { "#d" }; // 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 3,13, "#d",1, 0, RoomB04.NAME, 1),
               new Exit(Env.DOWN,  1,13, "#d",1, 0, RoomB06.NAME, 0) };
 
@@ -93,8 +93,8 @@ public class RoomB05 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -104,7 +104,7 @@ public class RoomB05 extends Room {
   public void createSprites(SpriteManager spriteManager) {
 
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,13) );
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     mTriffids = new Triffid[3];
     
@@ -137,10 +137,10 @@ public class RoomB05 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -157,7 +157,7 @@ public class RoomB05 extends Room {
         it.remove();
       }
     }
-    if ( saveGameEvent ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( saveGameEvent ) storyEvents.add(QuestStory.kSaveGameEvent);
     
   } // Room.advance()
   
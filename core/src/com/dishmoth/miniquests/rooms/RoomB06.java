@@ -43,7 +43,7 @@ public class RoomB06 extends Room {
                                                   "#c" }; // orange
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.UP,    2,2, "#s",1, -1, RoomB05.NAME, 1), 
               new Exit(Env.RIGHT, 6,2, "#s",1, -1, RoomB03.NAME, 3) };
 
@@ -97,8 +97,8 @@ public class RoomB06 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -116,7 +116,7 @@ public class RoomB06 extends Room {
   public void createSprites(SpriteManager spriteManager) {
 
     spriteManager.addSprite(new BlockArray(kBlocks, kBlockColours, 0, 0, 2));
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     mSquarePos = new int[][]{ {0, 0}, {6, 0}, {0, 6}, {6, 6} };
     buildFloor(spriteManager);
@@ -262,10 +262,10 @@ public class RoomB06 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -201,7 +201,7 @@ public class RoomB07 extends Room {
                                                   "lT" }; // plum with pink
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.LEFT,  2,10, "NY",1, 0, RoomB03.NAME, 2),
               new Exit(Env.LEFT,  3,38, "lT",1, 2, RoomB08.NAME, 0),
               new Exit(Env.LEFT,  7,38, "lT",1, 2, RoomB08.NAME, 1),
@@ -279,8 +279,8 @@ public class RoomB07 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -342,7 +342,7 @@ public class RoomB07 extends Room {
   public void createSprites(SpriteManager spriteManager) {
 
     spriteManager.addSprite(new BlockArray(kBlocks, kBlockColours, 0, 0, 10));
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     Critter critters[] = new Critter[] 
              { new Critter(4,3,12, Env.LEFT, kCritterTrack),
@@ -397,13 +397,13 @@ public class RoomB07 extends Room {
       }
 
     }
-    if ( saveGameEvent ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( saveGameEvent ) storyEvents.add(QuestStory.kSaveGameEvent);
     
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
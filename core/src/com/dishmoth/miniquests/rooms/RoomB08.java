@@ -42,7 +42,7 @@ public class RoomB08 extends Room {
                                                   "#T" }; // plum with white
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 3,10, "#T",1, 0, RoomB07.NAME, 1),
               new Exit(Env.RIGHT, 7,10, "#T",1, 0, RoomB07.NAME, 2),
               new Exit(Env.DOWN,  5,10, "VT",1, 0, RoomB09.NAME, 0),
@@ -68,8 +68,8 @@ public class RoomB08 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -79,7 +79,7 @@ public class RoomB08 extends Room {
   public void createSprites(SpriteManager spriteManager) {
 
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,10) );
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     // check the blocks from the room to the right
     updateBridgeRight(spriteManager);
@@ -151,10 +151,10 @@ public class RoomB08 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
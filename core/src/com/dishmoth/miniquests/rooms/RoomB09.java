@@ -63,7 +63,7 @@ public class RoomB09 extends Room {
                                                   "j#" }; // button 3
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.UP, 5,10, "#h",1, 0, RoomB08.NAME, 2) };
 
   // details of different camera height levels
@@ -82,8 +82,8 @@ public class RoomB09 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -93,7 +93,7 @@ public class RoomB09 extends Room {
   public void createSprites(SpriteManager spriteManager) {
 
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,8) );
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
   } // Room.createSprites()
   
@@ -109,10 +109,10 @@ public class RoomB09 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -62,7 +62,7 @@ public class RoomB10 extends Room {
                                                   "#T" }; // plum 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 5,10, "#k",1, 0, RoomB08.NAME, 3) };
 
   // details of different camera height levels
@@ -168,8 +168,8 @@ public class RoomB10 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -182,7 +182,7 @@ public class RoomB10 extends Room {
                                             0,0,0) );
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,10) );
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     if ( !mCritterDead ) {
       mCritter = new Critter(1,4,10, Env.UP, kCritterTrack);
@@ -267,10 +267,10 @@ public class RoomB10 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -315,13 +315,13 @@ public class RoomB10 extends Room {
       Env.sounds().play(Sounds.SUCCESS, 2);
       mUpperActivated = true;
       mUpperTimer = 5*kTimeBlockShift;
-      storyEvents.add(new QuestStory.EventSaveGame());
+      storyEvents.add(QuestStory.kSaveGameEvent);
     }
     if ( !mLowerActivated && checkSwitchStates(kSwitchStatesLower) ) {
       Env.sounds().play(Sounds.SUCCESS, 2);
       mLowerActivated = true;
       mLowerTimer = 5*kTimeBlockShift;
-      storyEvents.add(new QuestStory.EventSaveGame());
+      storyEvents.add(QuestStory.kSaveGameEvent);
     }
 
     // just for fun, blow up the critter
@@ -72,7 +72,7 @@ public class RoomB11 extends Room {
                                                   ":T" }; // plum 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.DOWN, 5,10, "#d",1, 0, RoomB08.NAME, 4) };
 
   // details of different camera height levels
@@ -156,8 +156,8 @@ public class RoomB11 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -170,7 +170,7 @@ public class RoomB11 extends Room {
                                             0,0,0) );
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,10) );
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     Critter critter = new Critter(2,9,10, Env.RIGHT, kCritterTrack);
     critter.setStunTime(70);
@@ -233,10 +233,10 @@ public class RoomB11 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -261,7 +261,7 @@ public class RoomB11 extends Room {
       }
 
     }
-    if ( saveGameEvent ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( saveGameEvent ) storyEvents.add(QuestStory.kSaveGameEvent);
     
     // move the bridge blocks
     if ( mBridgeTimer > 0 ) {
@@ -13,6 +13,7 @@ import com.dishmoth.miniquests.game.EgaImage;
 import com.dishmoth.miniquests.game.Env;
 import com.dishmoth.miniquests.game.Exit;
 import com.dishmoth.miniquests.game.Fence;
+import com.dishmoth.miniquests.game.GameRandom;
 import com.dishmoth.miniquests.game.Picture;
 import com.dishmoth.miniquests.game.Player;
 import com.dishmoth.miniquests.game.Room;
@@ -78,7 +79,7 @@ public class RoomB12 extends Room {
   private static final String kBlockColours[] = { "#k" }; // 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.DOWN, 3,0, "#k",0, -1, RoomB07.NAME, 3),
               new Exit(Env.UP,   2,6, "#k",1, -1, RoomB13.NAME, 0) };
   
@@ -88,12 +89,19 @@ public class RoomB12 extends Room {
   private static final double kWaterFraction1  = 0.5;
   private static final int    kWaterChangeRate = 5;
   
-  // image for the room's background
+  // seed for the initial water pattern (which is cosmetic, so it has its
+  // own random numbers and leaves the game's random numbers untouched)
+  private static final long kWaterSeed = 12;
+  
+  // image for the room's background (shared by all instances of the room)
   private static EgaImage kBackdropImage;
   private static int      kBackdropWater[];
   
+  // this room's copy of the background, with its own animated water
+  private EgaImage mBackdropImage;
+  
   // prepare resources
-  static public void initialize() {
+  static public synchronized void initialize() {
     
     if ( kBackdropImage != null ) return;
     kBackdropImage = Env.resources().loadEgaImage("TowerTop.png");
@@ -111,12 +119,6 @@ public class RoomB12 extends Room {
         kBackdropWater[index++] = k;
       }
     }
-
-    for ( int k = 0 ; k < kBackdropWater.length ; k++ ) {
-      int pix = kBackdropWater[k];
-      pixels[pix] = (Env.randomDouble() < kWaterFraction1) 
-                    ? kWaterColour1 : kWaterColour2;
-    }
   
   } // initialize()
   
@@ -127,6 +129,15 @@ public class RoomB12 extends Room {
 
     initialize();
 
+    mBackdropImage = kBackdropImage.clone();
+    byte pixels[] = mBackdropImage.pixels();
+    GameRandom random = new GameRandom(kWaterSeed);
+    for ( int k = 0 ; k < kBackdropWater.length ; k++ ) {
+      int pix = kBackdropWater[k];
+      pixels[pix] = (random.nextDouble() < kWaterFraction1) 
+                    ? kWaterColour1 : kWaterColour2;
+    }
+    
   } // constructor
 
   // create the player at the specified entry point to the room
@@ -134,8 +145,8 @@ public class RoomB12 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -152,7 +163,7 @@ public class RoomB12 extends Room {
     walls[Env.UP]    = new WallUp(-upShift, 0, 0);
     walls[Env.LEFT]  = new WallLeft(0, 0, 0);
     walls[Env.DOWN]  = new WallDown(0, 0, 0);
-    for ( Exit exit : kExits ) {
+    for ( Exit exit : mExits ) {
       final Wall wall = walls[ exit.mWallSide ];
       int shift = (wall == walls[Env.UP]) ? upShift : 0;
       exit.mDoor = wall.addDoor(exit.mDoorXYPos+shift, exit.mDoorZPos, 
@@ -166,7 +177,7 @@ public class RoomB12 extends Room {
     spriteManager.addSprite(new Fence(5,3,0,  5, Env.RIGHT, 1));
     spriteManager.addSprite(new Fence(5,3,0,  7, Env.UP, 1));
 
-    spriteManager.addSprite(new Picture(kBackdropImage, 17, 0, 100));
+    spriteManager.addSprite(new Picture(mBackdropImage, 17, 0, 100));
     
   } // Room.createSprites()
   
@@ -182,15 +193,15 @@ public class RoomB12 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
     // animate the water
-    byte pixels[] = kBackdropImage.pixels();
+    byte pixels[] = mBackdropImage.pixels();
     for ( int n = 0 ; n < kWaterChangeRate ; n++ ) {
       int pixelNum = kBackdropWater[ Env.randomInt(kBackdropWater.length) ];
       pixels[pixelNum] = (Env.randomDouble() < kWaterFraction1) 
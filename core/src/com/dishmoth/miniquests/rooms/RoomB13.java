@@ -131,7 +131,7 @@ public class RoomB13 extends Room {
                                                   "#B" }; // 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(0,0, Env.DOWN, 4,10, "NB",1, 0, RoomB12.NAME, 1) };
 
   // details of different camera height levels
@@ -216,8 +216,8 @@ public class RoomB13 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -257,7 +257,7 @@ public class RoomB13 extends Room {
                                 zoneX*Room.kSize+6, zoneY*Room.kSize+3, 2) );
     addBasicZone(zoneX, zoneY, 
                  true, false, true, true, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
     // zone (0,1)
     
@@ -271,7 +271,7 @@ public class RoomB13 extends Room {
                                 zoneX*Room.kSize+3, zoneY*Room.kSize+3, 2) );
     addBasicZone(zoneX, zoneY, 
                  true, true, true, false, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
     // assorted stuff
     
@@ -354,10 +354,10 @@ public class RoomB13 extends Room {
 
     // check exits
     
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
     
@@ -418,7 +418,7 @@ public class RoomB13 extends Room {
       }
       
     }
-    if ( saveGameEvent ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( saveGameEvent ) storyEvents.add(QuestStory.kSaveGameEvent);
     
     // create sentry triffids
     
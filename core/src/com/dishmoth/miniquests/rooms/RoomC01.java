@@ -116,7 +116,7 @@ public class RoomC01 extends Room {
                                                   "tB" }; // blue
   
   // details of exit/entry points for the room
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { // note: dummy exit at index 0
               new Exit(Env.DOWN, 3,0, "tB",0, -1, RoomC02.NAME, 0) }; 
   
@@ -143,7 +143,7 @@ public class RoomC01 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length+1 );
+    assert( entryPoint >= 0 && entryPoint < mExits.length+1 );
     
     if ( entryPoint == 0 ) {
       // special case: start of game
@@ -153,7 +153,7 @@ public class RoomC01 extends Room {
       mCameraLevel = -1;
       mCamera.set(0, 0, 0);
     } else {
-      setPlayerAtExit(kExits[entryPoint-1]);
+      setPlayerAtExit(mExits[entryPoint-1]);
       mLift.setPos( mLift.getXPos(), mLift.getYPos(), kLiftZMin );
     }
     
@@ -173,7 +173,7 @@ public class RoomC01 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite(new BlockArray(kBlocks, kBlockColours, 0,0,-8));
 
@@ -190,10 +190,10 @@ public class RoomC01 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -176,7 +176,7 @@ public class RoomC02 extends Room {
                               kLiftColours2[] = { "lL" }; // light purple
   
   // details of exit/entry points for the room
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.UP,   5,20, "#k",0, 1, RoomC01.NAME, 1),
               new Exit(Env.LEFT, 2, 0, "#k",0, 0, RoomC03.NAME, 0) }; 
   
@@ -216,8 +216,8 @@ public class RoomC02 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -234,7 +234,7 @@ public class RoomC02 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite(new BlockArray(kBlocks, kBlockColours, 0,0,0));
 
@@ -274,10 +274,10 @@ public class RoomC02 extends Room {
     }
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -66,7 +66,7 @@ public class RoomC03 extends Room {
                                                   "OY" }; // green and dark
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 4,8, "#Y",1, 0, RoomC02.NAME, 1), 
               new Exit(Env.UP,    4,4, "#Y",1, 0, RoomC04.NAME, 0) };
 
@@ -105,8 +105,8 @@ public class RoomC03 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -116,7 +116,7 @@ public class RoomC03 extends Room {
   public void createSprites(SpriteManager spriteManager) {
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,4) );    
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
     
     mCritters = new Critter[3];
     mRespawnTimers = new int[]{ 30, 45, 60 };
@@ -137,10 +137,10 @@ public class RoomC03 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -163,7 +163,7 @@ public class RoomC03 extends Room {
       } else {
         // check if still alive
         if ( mCritters[k] != null &&
-             !spriteManager.list().contains(mCritters[k]) ) {
+             !spriteManager.contains(mCritters[k]) ) {
           mCritters[k] = null;
           mRespawnTimers[k] = kRespawnDelay;
         }
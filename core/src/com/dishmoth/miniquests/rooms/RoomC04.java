@@ -61,7 +61,7 @@ public class RoomC04 extends Room {
 
   // details of exit/entry points for the room 
   // (plus special cases: 3 => respawn at top of lift, 4 => ride up on lift)
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(0,0, Env.DOWN, 2,0, "lL",0, -1, RoomC03.NAME, 1),
               new Exit(0,0, Env.LEFT, 5,0, "#f",0, -1, RoomC13.NAME, 1),
               new Exit(0,0, Env.UP,   2,0, "#L",0, -1, RoomC05.NAME, 0) };
@@ -170,15 +170,15 @@ public class RoomC04 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length+2 );
-    if ( entryPoint < kExits.length ) {
-      setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length+2 );
+    if ( entryPoint < mExits.length ) {
+      setPlayerAtExit(mExits[entryPoint]);
       mLift.setPos(mLift.getXPos(), mLift.getYPos(), 
                    (mLiftAtTop ? kLiftZMax : kLiftZMin));
     } else {
       RoomC14 roomBelow = (RoomC14)findRoom(RoomC14.NAME);
       assert( roomBelow != null );
-      if ( entryPoint == kExits.length ) {
+      if ( entryPoint == mExits.length ) {
         // special case: 3 => respawn at top of lift
         mPlayer = new Player(11, 5, 0, Env.RIGHT);
         mLiftAtTop = false;
@@ -223,7 +223,7 @@ public class RoomC04 extends Room {
     zoneY = 0;
     addBasicZone(zoneX, zoneY, 
                  false, true, true, true, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
     // zone (1,0)
     
@@ -231,7 +231,7 @@ public class RoomC04 extends Room {
     zoneY = 0;
     addBasicZone(zoneX, zoneY, 
                  true, true, false, true, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
     makeNewBlocks(spriteManager);
     
@@ -301,10 +301,10 @@ public class RoomC04 extends Room {
     }
     
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
     if ( !mLiftAtTop && mPlayer != null && mPlayer.getZPos() == kLiftZMin+4 ) {
@@ -408,7 +408,7 @@ public class RoomC04 extends Room {
     if ( mCutSceneTimer == 0 ) {
       spriteManager.enableAdvanceForAll();
       Env.sounds().play(Sounds.SUCCESS);
-      storyEvents.add(new QuestStory.EventSaveGame());
+      storyEvents.add(QuestStory.kSaveGameEvent);
     }
 
     return advanceFinished;
@@ -39,7 +39,7 @@ public class RoomC05 extends Room {
   private static final String kBlockColours[] = { "VZ" }; // blue
   
   // details of exit/entry points for the room
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.DOWN, 4,0, "VZ",0, -1, RoomC04.NAME, 2),
               new Exit(Env.UP,   5,0, "#Z",0, -1, RoomC06.NAME, 0) }; 
   
@@ -72,8 +72,8 @@ public class RoomC05 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -90,7 +90,7 @@ public class RoomC05 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite(new BlockArray(kBlocks, kBlockColours, 0,0,0));
 
@@ -117,10 +117,10 @@ public class RoomC05 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -48,7 +48,7 @@ public class RoomC06 extends Room {
                                                   "tk" }; // light brown
   
   // details of exit/entry points for the room
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.DOWN, 7,0, "Kk",0, 0, RoomC05.NAME, 1),
               new Exit(Env.LEFT, 7,8, "Kk",4, 0, RoomC07.NAME, 0) }; 
   
@@ -111,8 +111,8 @@ public class RoomC06 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -127,7 +127,7 @@ public class RoomC06 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite(new BlockArray(kBlocks, kBlockColours, 0,0,0));
     spriteManager.addSprite(new BlockArray(new String[][]{{"0"}}, kBlockColours,
@@ -158,10 +158,10 @@ public class RoomC06 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -185,7 +185,7 @@ public class RoomC06 extends Room {
     if ( !mCritterKilled ) {
       if ( spriteManager.findSpriteOfType(Critter.class) == null ) {
         mCritterKilled = true;
-        storyEvents.add(new QuestStory.EventSaveGame());
+        storyEvents.add(QuestStory.kSaveGameEvent);
       }
     }
 
@@ -57,7 +57,7 @@ public class RoomC07 extends Room {
                                                   "#T" }; // ??
   
   // details of exit/entry points for the room
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 2,0, "#T",0, -1, RoomC06.NAME, 1),
               new Exit(Env.RIGHT, 7,0, "#T",0, -1, RoomC08.NAME, 0),
               new Exit(Env.UP,    2,0, "#T",0, -1, RoomC09.NAME, 0),
@@ -140,8 +140,8 @@ public class RoomC07 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -158,13 +158,13 @@ public class RoomC07 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite(new BlockArray(kBlocks, kBlockColours, 0,0,-2));
 
     if ( !mFirstDoorOpen ) {
-      kExits[1].mDoor.setClosed(true);
-      kExits[2].mDoor.setClosed(true);
+      mExits[1].mDoor.setClosed(true);
+      mExits[2].mDoor.setClosed(true);
       Critter critters[] = { new Critter(5, 7, 0, Env.RIGHT, 
                                          new CritterTrack(kGlowPath1, 0,7)),
                              new Critter(2, 2, 0, Env.LEFT, 
@@ -197,11 +197,11 @@ public class RoomC07 extends Room {
       }
       spriteManager.addSprite(mSecondPath);
     } else {
-      kExits[3].mDoor.setClosed(true);      
+      mExits[3].mDoor.setClosed(true);      
     }
 
     if ( !mThirdDoorOpen ) {
-      kExits[4].mDoor.setClosed(true);
+      mExits[4].mDoor.setClosed(true);
     }
     
     mTimer = 0;
@@ -214,10 +214,10 @@ public class RoomC07 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -228,10 +228,10 @@ public class RoomC07 extends Room {
           mTimer = kFirstDoorDelay;
         } else if ( --mTimer == 0 ) {
           mFirstDoorOpen = true;
-          kExits[1].mDoor.setClosed(false);
-          kExits[2].mDoor.setClosed(false);
+          mExits[1].mDoor.setClosed(false);
+          mExits[2].mDoor.setClosed(false);
           Env.sounds().play(Sounds.SUCCESS);
-          storyEvents.add(new QuestStory.EventSaveGame());
+          storyEvents.add(QuestStory.kSaveGameEvent);
         }
       }
     }
@@ -239,16 +239,16 @@ public class RoomC07 extends Room {
     // check the first path
     if ( mFirstPath != null && !mSecondDoorOpen && mFirstPath.complete() ) {
       mSecondDoorOpen = true;
-      //kExits[2].mDoor.setClosed(false);
+      //mExits[2].mDoor.setClosed(false);
       //Env.sounds().play(Sounds.SUCCESS);
     }
     
     // check the second path
     if ( mSecondPath != null && !mThirdDoorOpen && mSecondPath.complete() ) {
       mThirdDoorOpen = true;
-      kExits[4].mDoor.setClosed(false);
+      mExits[4].mDoor.setClosed(false);
       Env.sounds().play(Sounds.SUCCESS);
-      storyEvents.add(new QuestStory.EventSaveGame());
+      storyEvents.add(QuestStory.kSaveGameEvent);
     }
         
   } // Room.advance()
@@ -64,7 +64,7 @@ public class RoomC08 extends Room {
                                                   "yS" }; // flame centre
   
   // details of exit/entry points for the room
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.LEFT, 1,4, "#S",1, -1, RoomC07.NAME, 1),
               new Exit(Env.LEFT, 7,4, "Sk",1, -1, RoomC09.NAME, 2) }; 
   
@@ -198,8 +198,8 @@ public class RoomC08 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -218,7 +218,7 @@ public class RoomC08 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite(new BlockArray(kBlocks, kBlockColours, 0,0,4));
 
@@ -251,7 +251,7 @@ public class RoomC08 extends Room {
       mPath = new GlowPath(kGlowPath, -1,0,4, kPathColour);
       mPath.setComplete();
       spriteManager.addSprite(mPath);
-      kExits[1].mDoor.setClosed(true);
+      mExits[1].mDoor.setClosed(true);
     } else {
       mPath = null;
     }
@@ -269,10 +269,10 @@ public class RoomC08 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -291,7 +291,7 @@ public class RoomC08 extends Room {
         it.remove();
       }
     }
-    if ( saveGameEvent ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( saveGameEvent ) storyEvents.add(QuestStory.kSaveGameEvent);
 
     // add enemies
     if ( mSwitchDone && !mFlameDone ) {
@@ -350,7 +350,7 @@ public class RoomC08 extends Room {
             if ( sp instanceof Critter ) ((Critter)sp).destroy(-1);
           }        
           Env.sounds().play(Sounds.SUCCESS);
-          storyEvents.add(new QuestStory.EventSaveGame());
+          storyEvents.add(QuestStory.kSaveGameEvent);
         } else {
           mFlame.setColours( kFlameColours[mFlameColour] );
           mFlame.setFlame(true);
@@ -362,7 +362,7 @@ public class RoomC08 extends Room {
     if ( mFlameDone && !mPathDone && mPath == null && 
          mFlameRestartTimer == 0 && mPlayer != null && 
          mPlayer.getXPos() == 8 && mPlayer.getYPos() == 4 ) {
-      kExits[1].mDoor.setClosed(true);
+      mExits[1].mDoor.setClosed(true);
       Env.sounds().play(Sounds.GATE);
       mPath = new GlowPath(kGlowPath, -1,0,4, kPathColour);
       spriteManager.addSprite(mPath);
@@ -47,7 +47,7 @@ public class RoomC09 extends Room {
                                                   "#c" }; // orange
   
   // details of exit/entry points for the room
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.DOWN,  2,0, "#c",0, -1, RoomC07.NAME, 2),
               new Exit(Env.LEFT,  3,0, "sc",0, -1, RoomC10.NAME, 0),
               new Exit(Env.RIGHT, 3,0, "#V",0, -1, RoomC08.NAME, 1) }; 
@@ -135,8 +135,8 @@ public class RoomC09 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -154,14 +154,14 @@ public class RoomC09 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite(new BlockArray(kBlocks, kBlockColours, 0,0,0));
 
     RoomC08 roomRight = (RoomC08)findRoom(RoomC08.NAME);
     assert( roomRight != null );
     boolean doorLocked = roomRight.pathComplete();
-    if ( doorLocked ) kExits[2].mDoor.setClosed(true);
+    if ( doorLocked ) mExits[2].mDoor.setClosed(true);
     
     RoomC07 roomDown = (RoomC07)findRoom(RoomC07.NAME);
     assert( roomDown != null );
@@ -175,7 +175,7 @@ public class RoomC09 extends Room {
     }
   
     if ( !mPathDone ) {
-      kExits[1].mDoor.setClosed(true);
+      mExits[1].mDoor.setClosed(true);
     }
     
     mSpinners = new Spinner[]{ new Spinner(5, 0, 0, false),
@@ -201,10 +201,10 @@ public class RoomC09 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -218,9 +218,9 @@ public class RoomC09 extends Room {
     // check the path
     if ( !mPathDone && mPath != null && mPath.complete() ) {
       mPathDone = true;
-      kExits[1].mDoor.setClosed(false);
+      mExits[1].mDoor.setClosed(false);
       Env.sounds().play(Sounds.SUCCESS);
-      storyEvents.add(new QuestStory.EventSaveGame());
+      storyEvents.add(QuestStory.kSaveGameEvent);
     }
         
   } // Room.advance()
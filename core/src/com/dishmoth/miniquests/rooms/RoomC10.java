@@ -45,7 +45,7 @@ public class RoomC10 extends Room {
                                                   "#F" }; // blue
   
   // details of exit/entry points for the room
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 5,0, "BF",0, -1, RoomC09.NAME, 1), 
               new Exit(Env.DOWN,  4,0, "BF",0, -1, RoomC11.NAME, 0) };
               
@@ -113,8 +113,8 @@ public class RoomC10 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -131,7 +131,7 @@ public class RoomC10 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite(new BlockArray(kBlocks, kBlockColours, 0,0,0));
 
@@ -139,7 +139,7 @@ public class RoomC10 extends Room {
     if ( mPathDone ) {
       mPath.setComplete();
     } else {
-      kExits[1].mDoor.setClosed(true);
+      mExits[1].mDoor.setClosed(true);
     }
     spriteManager.addSprite(mPath);
     
@@ -154,19 +154,19 @@ public class RoomC10 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
     // check the path
     if ( !mPathDone && mPath.complete() ) {
       mPathDone = true;
-      kExits[1].mDoor.setClosed(false);
+      mExits[1].mDoor.setClosed(false);
       Env.sounds().play(Sounds.SUCCESS);
-      storyEvents.add(new QuestStory.EventSaveGame());
+      storyEvents.add(QuestStory.kSaveGameEvent);
     }
         
   } // Room.advance()
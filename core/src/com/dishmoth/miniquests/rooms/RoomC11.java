@@ -92,7 +92,7 @@ public class RoomC11 extends Room {
                                                   "#2" }; // yellow
   
   // details of exit/entry points for the room
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.UP,   4,0, "#2",0, -1, RoomC10.NAME, 1),
               new Exit(Env.RIGHT,6,0, "I2",0, -1, RoomC07.NAME, 3) }; 
   
@@ -201,8 +201,8 @@ public class RoomC11 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     
     if ( mSwitchTimer > 0 ) {
       mSwitchTimer = 1;
@@ -227,7 +227,7 @@ public class RoomC11 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     mNumBlocksVisible = 0;
     mNumSwitchesDone = ( mPathDone ? kSwitchPos.length : 0 );
@@ -239,7 +239,7 @@ public class RoomC11 extends Room {
     if ( mPathDone ) {
       mPath.setComplete();
     } else {
-      kExits[1].mDoor.setClosed(true);
+      mExits[1].mDoor.setClosed(true);
     }
     spriteManager.addSprite(mPath);
 
@@ -318,10 +318,10 @@ public class RoomC11 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -381,9 +381,9 @@ public class RoomC11 extends Room {
       mSwitchTimer = 0;
       mTickTimer = mTickDelay = 0;
       vanishBlocks(false);
-      kExits[1].mDoor.setClosed(false);
+      mExits[1].mDoor.setClosed(false);
       Env.sounds().play(Sounds.SUCCESS);
-      storyEvents.add(new QuestStory.EventSaveGame());
+      storyEvents.add(QuestStory.kSaveGameEvent);
     }
 
     // dispose of any falling sprites
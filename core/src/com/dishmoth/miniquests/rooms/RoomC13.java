@@ -118,7 +118,7 @@ public class RoomC13 extends Room {
                                                   "xh" }; // lit path
   
   // details of exit/entry points for the room
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.UP,   2,8, "#h",1, -1, RoomC12.NAME, 1),
               new Exit(Env.RIGHT,2,0, "#h",1, -1, RoomC04.NAME, 1) }; 
   
@@ -198,8 +198,8 @@ public class RoomC13 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     
     if ( mLiftState == 0 ) {
       mLiftState = (entryPoint == 0) ? -1 : +1;
@@ -248,7 +248,7 @@ public class RoomC13 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite(new BlockArray(kBlocks, kBlockColours, 0,0,-4));
 
@@ -292,10 +292,10 @@ public class RoomC13 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -342,7 +342,7 @@ public class RoomC13 extends Room {
       mPath1.setComplete();
       spriteManager.addSprite(mPath1);
       Env.sounds().play(Sounds.SUCCESS);
-      storyEvents.add(new QuestStory.EventSaveGame());
+      storyEvents.add(QuestStory.kSaveGameEvent);
       assert( mPath2 == null );      
       makeLift(spriteManager);
     }
@@ -90,7 +90,7 @@ public class RoomC14 extends Room {
   
   // details of exit/entry points for the room 
   // (plus special case: 1 => ride down on lift)
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 4,10, "#L",1, 0, RoomC15.NAME, 0) };
 
   // details of different camera height levels
@@ -194,10 +194,10 @@ public class RoomC14 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length+1 );
-    if ( entryPoint >= 0 && entryPoint < kExits.length ) {
+    assert( entryPoint >= 0 && entryPoint < mExits.length+1 );
+    if ( entryPoint >= 0 && entryPoint < mExits.length ) {
       assert( mComplete );
-      setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+      setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     } else {
       // special case: exit 1 => at top of lift
       mLiftAtTop = false;
@@ -222,7 +222,7 @@ public class RoomC14 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite( new BlockArray(kBelowBlocks, 
                                             kBlockColours, -1,-1,2) );    
@@ -230,7 +230,7 @@ public class RoomC14 extends Room {
     spriteManager.addSprite( new BlockArray(kDoorBlocks, 
                                             kBlockColours, 8,4,10) );
 
-    if ( !mComplete ) kExits[0].mDoor.setClosed(true);
+    if ( !mComplete ) mExits[0].mDoor.setClosed(true);
 
     mLift = new BlockArray(kLiftBlocks, kBlockColours, 1,1,kLiftZMin);
     spriteManager.addSprite(mLift);
@@ -301,10 +301,10 @@ public class RoomC14 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
     if ( mLiftAtTop && mLift.getZPos() == kLiftZMax ) {
@@ -375,7 +375,7 @@ public class RoomC14 extends Room {
     // unlock the door
     if ( mUnlockTimer > 0 ) {
       if ( --mUnlockTimer == 0 ) {
-        kExits[0].mDoor.setClosed(false);
+        mExits[0].mDoor.setClosed(false);
         mSwitch.setState(0);
         Env.sounds().play( Sounds.SUCCESS );
         mComplete = true;
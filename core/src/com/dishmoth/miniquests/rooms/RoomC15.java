@@ -56,7 +56,7 @@ public class RoomC15 extends Room {
                                                   "V:" }; // blue/yellow
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(0,1, Env.LEFT,  5,0, "VZ",0, -1, RoomC14.NAME, 0),
               new Exit(0,1, Env.RIGHT, 5,0, "#:",0, -1, RoomC16.NAME, 0) };
 
@@ -150,8 +150,8 @@ public class RoomC15 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -168,7 +168,7 @@ public class RoomC15 extends Room {
     zoneY = 0;
     addBasicZone(zoneX, zoneY, 
                  true, false, true, true, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
     FloorBoss boss = new FloorBoss();
     spriteManager.addSprite( boss );
@@ -180,7 +180,7 @@ public class RoomC15 extends Room {
     zoneY = 1;
     addBasicZone(zoneX, zoneY, 
                  true, true, true, false, 
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 
                                       Room.kSize*zoneX, Room.kSize*zoneY, 0) );
@@ -243,10 +243,10 @@ public class RoomC15 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
     
@@ -288,7 +288,7 @@ public class RoomC15 extends Room {
         it.remove();
       }
     }
-    if ( saveGameEvent ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( saveGameEvent ) storyEvents.add(QuestStory.kSaveGameEvent);
     
     // light up the switches or open the gate
     if ( mSwitchesDone ) {
@@ -345,7 +345,7 @@ public class RoomC15 extends Room {
         mGate = null;
         Env.sounds().play(Sounds.GATE);
         spriteManager.addSprite(mPath);
-        storyEvents.add(new QuestStory.EventSaveGame());
+        storyEvents.add(QuestStory.kSaveGameEvent);
       }
     }
     
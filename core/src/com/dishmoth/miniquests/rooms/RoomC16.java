@@ -93,7 +93,7 @@ public class RoomC16 extends Room {
                                                   "tB" }; // blue
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.LEFT, 8,0, "#A",0, -1, RoomC15.NAME, 1) };
 
   // the blocks for the room's lift
@@ -166,8 +166,8 @@ public class RoomC16 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -178,7 +178,7 @@ public class RoomC16 extends Room {
     
     spriteManager.addSprite( new BlockArray(kBlocks,kBlockColours, 0,0,-14) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     int liftZ = (mPathDone ? kLiftZMax : kLiftZMin);
     mLift = new BlockArray(kLiftBlocks,kBlockColours, 4,1,liftZ);
@@ -218,10 +218,10 @@ public class RoomC16 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -261,7 +261,7 @@ public class RoomC16 extends Room {
       mPathDone = true;
       mLiftTimer = 0;
       Env.sounds().play(Sounds.SUCCESS);
-      storyEvents.add(new QuestStory.EventSaveGame());
+      storyEvents.add(QuestStory.kSaveGameEvent);
     }
     
   } // Room.advance()
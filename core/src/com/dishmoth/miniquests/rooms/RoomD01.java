@@ -59,7 +59,7 @@ public class RoomD01 extends Room {
                                                   "#S" }; // entrance
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][] 
+  private final Exit mTwistExits[][] 
           = { { // note: dummy exit at index 0
                 new Exit(Env.DOWN, 4,2, "#S",0, -1, RoomD03.NAME, 0) },
                 
@@ -109,7 +109,7 @@ public class RoomD01 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
     
   } // prepareExist()
   
@@ -118,7 +118,7 @@ public class RoomD02 extends Room {
   // details of exit/entry points for the room 
   // (extra exits: 4 and 5 below)
   // (dummy exits: 6 died in fountain, 7 escaped from fountain)
-  private static final Exit kExits[][] 
+  private final Exit mTwistExits[][] 
         = { { new Exit(1,2, Env.UP,    5,0, "#m",0, -1, RoomD03.NAME, 1),
               new Exit(0,1, Env.LEFT,  5,0, "Em",0, -1, RoomD04.NAME, 0),
               new Exit(1,0, Env.DOWN , 5,0, "Em",0, -1, "",0),
@@ -140,7 +140,7 @@ public class RoomD02 extends Room {
               new Exit(2,1, Env.RIGHT, 5,0, "#m",0, -1, RoomD03.NAME, 2) } };
 
   // additional exits that appear later (numbers 4 and 5)
-  private static final Exit kExtraExits[] 
+  private final Exit mExtraExits[] 
         = { new Exit(2,2, Env.RIGHT, 4,0, "#m",0, -1, RoomD16.NAME, 3),
             new Exit(2,2, Env.UP,    5,0, "#m",0, -1, RoomD18.NAME, 1) };
   
@@ -319,10 +319,10 @@ public class RoomD02 extends Room {
   // configure (or reconfigure) exits based on the room twist
   private void prepareExits() {
     
-    assert( mTwist >= 0 && mTwist < kExits.length );
+    assert( mTwist >= 0 && mTwist < mTwistExits.length );
     
     Exit oldExits[] = mExits;
-    Exit mainExits[] = kExits[mTwist];
+    Exit mainExits[] = mTwistExits[mTwist];
 
     int numExits = mainExits.length;
 
@@ -338,7 +338,7 @@ public class RoomD02 extends Room {
     mExits = new Exit[numExits];
     for ( int k = 0 ; k < numExits ; k++ ) {
       if ( k < mainExits.length ) mExits[k] = mainExits[k];
-      else                        mExits[k] = kExtraExits[k-mainExits.length];
+      else                        mExits[k] = mExtraExits[k-mainExits.length];
     }
     
     if ( oldExits != null ) {
@@ -925,13 +925,13 @@ public class RoomD02 extends Room {
         }
       }
       assert( wall != null );
-      wall.addDoor(kExtraExits[1].mDoorXYPos, 
-                   kExtraExits[1].mDoorZPos, 
-                   kExtraExits[1].mFloorColour, 
-                   kExtraExits[1].mFloorDrop);
-      spriteManager.addSprite( new Splatter(2*kSize+kExtraExits[1].mDoorXYPos,
+      wall.addDoor(mExtraExits[1].mDoorXYPos, 
+                   mExtraExits[1].mDoorZPos, 
+                   mExtraExits[1].mFloorColour, 
+                   mExtraExits[1].mFloorDrop);
+      spriteManager.addSprite( new Splatter(2*kSize+mExtraExits[1].mDoorXYPos,
                                             3*kSize, 
-                                            kExtraExits[1].mDoorZPos,
+                                            mExtraExits[1].mDoorZPos,
                                             -1, 5,
                                             (byte)0, Env.DOWN) );
       Env.sounds().play(Sounds.SUCCESS);
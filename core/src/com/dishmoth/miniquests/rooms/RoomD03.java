@@ -56,7 +56,7 @@ public class RoomD03 extends Room {
                                                   "#V" }; //
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][]
+  private final Exit mTwistExits[][]
         = { { new Exit(Env.UP,    5,0, "#P",0, -1, RoomD01.NAME, 1),
               new Exit(Env.DOWN,  5,0, "#P",0, -1, RoomD02.NAME, 0),
               new Exit(Env.LEFT,  5,0, "#P",0, -1, RoomD07.NAME, 0),
@@ -144,7 +144,7 @@ public class RoomD03 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
     
   } // prepareExist()
   
@@ -220,7 +220,7 @@ public class RoomD03 extends Room {
           mStatueTimers[k] = kStatueEndDelay;
         }
         Env.sounds().play(Sounds.SUCCESS, 5);
-        storyEvents.add(new QuestStory.EventSaveGame());
+        storyEvents.add(QuestStory.kSaveGameEvent);
         mSpikesDone = true;
       }
     }
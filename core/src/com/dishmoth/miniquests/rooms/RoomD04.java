@@ -144,7 +144,7 @@ public class RoomD04 extends Room {
                                                    { "   1" } };
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][]
+  private final Exit mTwistExits[][]
         = { { new Exit(Env.RIGHT, 5,4,  "#s",1, 0, RoomD02.NAME, 1),
               new Exit(Env.UP,    5,4,  "#s",1, 0, "",0),
               new Exit(Env.LEFT,  8,4,  "#s",0, 0, "",0),
@@ -279,7 +279,7 @@ public class RoomD04 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
     
   } // prepareExist()
   
@@ -80,7 +80,7 @@ public class RoomD05 extends Room {
                                                   "ue", }; // dark
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][]
+  private final Exit mTwistExits[][]
         = { { new Exit(Env.RIGHT, 5,6, "#D",0, 0, RoomD13.NAME, 0),
               new Exit(Env.UP,    8,6, "#D",1, 0, "",0),
               new Exit(Env.DOWN,  8,6, "lD",0, 0, "",0) },
@@ -169,7 +169,7 @@ public class RoomD05 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
     
   } // prepareExist()
   
@@ -130,7 +130,7 @@ public class RoomD06 extends Room {
                                                   "kq" }; //
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][]
+  private final Exit mTwistExits[][]
         = { { new Exit(Env.UP,   8,0,  "#q",0, 0, RoomD16.NAME, 0),
               new Exit(Env.UP,   8,14, "#q",1, 1, RoomD16.NAME, 1),
               new Exit(Env.LEFT, 5,0,  "kq",0, 0, RoomD02.NAME, 3) },
@@ -250,7 +250,7 @@ public class RoomD06 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
     
   } // prepareExist()
   
@@ -70,7 +70,7 @@ public class RoomD07 extends Room {
                                                   "OU" }; 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][] 
+  private final Exit mTwistExits[][] 
           = { { new Exit(Env.RIGHT, 5,4, "#U",1, 0, RoomD03.NAME, 2),
                 new Exit(Env.LEFT,  4,4, "6U",2, 0, RoomD08.NAME, 0),
                 new Exit(Env.RIGHT, 1,4, "#U",2, 0, "",0) },
@@ -181,7 +181,7 @@ public class RoomD07 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
     
   } // prepareExist()
   
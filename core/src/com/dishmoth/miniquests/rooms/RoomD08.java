@@ -76,7 +76,7 @@ public class RoomD08 extends Room {
   private static final int kOrder[] = { 0, 1, 2, 0, 3, 0, 1, 3 };
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[]
+  private final Exit mExits[]
         = { new Exit(Env.RIGHT, 4,4, kBlockColours[3],1, 0, RoomD07.NAME, 1),
             new Exit(Env.DOWN,  2,4, kBlockColours[0],1, 0, RoomD09.NAME, 0) };
   
@@ -138,8 +138,8 @@ public class RoomD08 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     mCurrentColour = ( entryPoint==0 ? 3 : 0 );
     return mPlayer;
     
@@ -234,7 +234,7 @@ public class RoomD08 extends Room {
     paintBlocks(blocks);
     spriteManager.addSprite( blocks );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     makeSwitches(spriteManager);
 
@@ -269,10 +269,10 @@ public class RoomD08 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
     
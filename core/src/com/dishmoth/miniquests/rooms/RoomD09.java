@@ -54,7 +54,7 @@ public class RoomD09 extends Room {
                                                   "0S" }; 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][] 
+  private final Exit mTwistExits[][] 
           = { { new Exit(Env.UP,   2,0, "#S",0, -1, RoomD08.NAME, 1),
                 new Exit(Env.DOWN, 8,0, "WS",0, -1, "",0) },
   
@@ -109,7 +109,7 @@ public class RoomD09 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
     
   } // prepareExist()
   
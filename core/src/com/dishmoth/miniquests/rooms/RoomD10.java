@@ -69,7 +69,7 @@ public class RoomD10 extends Room {
                                                   "K2" }; 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][] 
+  private final Exit mTwistExits[][] 
           = { { new Exit(Env.UP,   5,2, "#2",0, -1, RoomD04.NAME, 4),
                 new Exit(Env.DOWN, 1,2, "62",0, -1, RoomD11.NAME, 0) },
   
@@ -154,7 +154,7 @@ public class RoomD10 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
     
   } // prepareExist()
   
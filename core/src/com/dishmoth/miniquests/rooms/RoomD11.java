@@ -72,7 +72,7 @@ public class RoomD11 extends Room {
                                                   "#l" }; 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[]
+  private final Exit mExits[]
             = { new Exit(Env.UP,    1,0, "#U",0, -1, RoomD10.NAME, 1),
                 new Exit(Env.RIGHT, 8,0, "#U",0, -1, RoomD12.NAME, 0) };
   
@@ -101,8 +101,8 @@ public class RoomD11 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -113,7 +113,7 @@ public class RoomD11 extends Room {
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,-6) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     mSpikes = new Spikes[6][3];
     for ( int k = 0 ; k < mSpikes.length ; k++ ) {
@@ -144,10 +144,10 @@ public class RoomD11 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -54,7 +54,7 @@ public class RoomD12 extends Room {
                                                   "eW" }; 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][] 
+  private final Exit mTwistExits[][] 
           = { { new Exit(Env.LEFT,  8,0, "eW",0, -1, RoomD11.NAME, 1),
                 new Exit(Env.RIGHT, 8,0, "#W",0, -1, "",0) },
   
@@ -167,7 +167,7 @@ public class RoomD12 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
     
   } // prepareExist()
   
@@ -109,7 +109,7 @@ public class RoomD13 extends Room {
                                                   "#k" }; 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][] 
+  private final Exit mTwistExits[][] 
           = { { new Exit(Env.LEFT,  5, 0, "kK",0, 0, RoomD05.NAME, 0),
                 new Exit(Env.RIGHT, 1, 0, "#K",0, 0, RoomD14.NAME, 0),
                 new Exit(Env.LEFT,  5,12, "#k",1, 1, "",0) },
@@ -194,7 +194,7 @@ public class RoomD13 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
     
   } // prepareExist()
   
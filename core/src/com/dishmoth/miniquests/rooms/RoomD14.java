@@ -77,7 +77,7 @@ public class RoomD14 extends Room {
                                                   "SW" }; 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[]
+  private final Exit mExits[]
             = { new Exit(Env.LEFT, 1,6, "OA",1, 0, RoomD13.NAME, 1),
                 new Exit(Env.UP,   2,6, "#A",0, 0, RoomD15.NAME, 0) };
 
@@ -149,8 +149,8 @@ public class RoomD14 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -161,7 +161,7 @@ public class RoomD14 extends Room {
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,0) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     mSpookTimer = kSpookDelay/2;
     mSpookNum = 0;
@@ -193,10 +193,10 @@ public class RoomD14 extends Room {
                       SpriteManager          spriteManager) {
 
     // check the exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
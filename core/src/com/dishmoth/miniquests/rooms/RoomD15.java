@@ -117,7 +117,7 @@ public class RoomD15 extends Room {
                                                             "++++++++++" });
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][] 
+  private final Exit mTwistExits[][] 
           = { { new Exit(Env.DOWN, 2,0, "YU",0, -1, RoomD14.NAME, 1),
                 new Exit(Env.UP,   8,0, "#U",0, -1, "",0) },
   
@@ -183,7 +183,7 @@ public class RoomD15 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
     
   } // prepareExist()
   
@@ -57,7 +57,7 @@ public class RoomD16 extends Room {
                                                   "tE" }; // reverse beige
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][] 
+  private final Exit mTwistExits[][] 
           = { { new Exit(Env.DOWN, 8, 0, "Et",0, 0, RoomD06.NAME, 0),
                 new Exit(Env.DOWN, 8,14, "tE",1, 1, RoomD06.NAME, 1),
                 new Exit(Env.UP,   8,14, "tE",1, 1, RoomD17.NAME, 0),
@@ -147,7 +147,7 @@ public class RoomD16 extends Room {
     
     RoomD02 twistRoom = (RoomD02)findRoom(RoomD02.NAME);
     assert( twistRoom != null );
-    mExits = kExits[ twistRoom.twist() ];    
+    mExits = mTwistExits[ twistRoom.twist() ];    
 
     if ( !mCompleted ) {
       mExits = new Exit[]{ mExits[0], mExits[1], mExits[2] };
@@ -200,8 +200,8 @@ public class RoomD16 extends Room {
 
     // check player position
     final int x0 = 0,
-              y0 = kExits[0][3].mDoorXYPos,
-              z0 = kExits[0][3].mDoorZPos;
+              y0 = mTwistExits[0][3].mDoorXYPos,
+              z0 = mTwistExits[0][3].mDoorZPos;
     if ( !mCompleted && mTimer == 0 &&
          mPlayer.getXPos() == x0 &&
          mPlayer.getYPos() == y0 &&
@@ -109,7 +109,7 @@ public class RoomD17 extends Room {
                                                   "######" };
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[]
+  private final Exit mExits[]
             = { new Exit(Env.DOWN, 8,8, "V#",0, 0, RoomD16.NAME, 2) };
   
   // details of different camera height levels
@@ -181,8 +181,8 @@ public class RoomD17 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -193,7 +193,7 @@ public class RoomD17 extends Room {
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,0) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     mStatues = new Statue[]{ new Statue(5,0,10, Env.UP, 0),
                              new Statue(9,5,10, Env.LEFT, 0),
@@ -241,10 +241,10 @@ public class RoomD17 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
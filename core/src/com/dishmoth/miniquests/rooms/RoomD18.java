@@ -76,7 +76,7 @@ public class RoomD18 extends Room {
                                                   "#U" }; 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[][] 
+  private final Exit mTwistExits[][] 
           = { { new Exit(Env.LEFT, 5,0, "#U",0, -1, RoomD03.NAME, 3),
                 new Exit(Env.DOWN, 5,0, "#U",0, -1, RoomD02.NAME, 5) },
   
@@ -131,10 +131,10 @@ public class RoomD18 extends Room {
     assert( twistRoom != null );
 
     if ( twistRoom.completed() ) {
-      mExits = kExits[ twistRoom.twist() ];    
+      mExits = mTwistExits[ twistRoom.twist() ];    
     } else {
       mExits = new Exit[1];
-      mExits[0] = kExits[ twistRoom.twist() ][0];
+      mExits[0] = mTwistExits[ twistRoom.twist() ][0];
     }
     
   } // prepareExist()
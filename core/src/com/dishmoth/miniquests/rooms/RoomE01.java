@@ -83,7 +83,7 @@ public class RoomE01 extends Room {
                                                   "FX" };
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { // note: dummy exit at index 0
               new Exit(0, 0, Env.DOWN, 4,6, "lX",0, -1, RoomE02.NAME, 0) };
 
@@ -105,7 +105,7 @@ public class RoomE01 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length+1 );
+    assert( entryPoint >= 0 && entryPoint < mExits.length+1 );
     
     if ( entryPoint == 0 ) {
       // special case: start of game
@@ -115,7 +115,7 @@ public class RoomE01 extends Room {
       mCameraLevel = -1;
       mCamera.set(0, 0, 0);
     } else {
-      setPlayerAtExit(kExits[entryPoint-1]);
+      setPlayerAtExit(mExits[entryPoint-1]);
       mRaft.setPos(6, 6, 0);
     }
     
@@ -130,9 +130,9 @@ public class RoomE01 extends Room {
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,0) );
     
     addBasicZone(0, 0, false, true, true, true,
-                 kExits, spriteManager);
+                 mExits, spriteManager);
     addBasicZone(1, 0, false, true, false, true,
-                 kExits, spriteManager);
+                 mExits, spriteManager);
 
     spriteManager.addSprite(new Fence(0, 9, 0, 10, Env.RIGHT, 1));
     spriteManager.addSprite(new Fence(1, 5, 0, 9, Env.RIGHT, 1));
@@ -160,10 +160,10 @@ public class RoomE01 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
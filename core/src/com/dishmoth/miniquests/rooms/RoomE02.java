@@ -280,7 +280,7 @@ public class RoomE02 extends Room {
                                                   "Sk" }; // 
   
   // details of exit/entry points for the room
-  private static final Exit kExits[]
+  private final Exit mExits[]
           = { new Exit(0,2, Env.UP,   4,6, "#k",0, -1, RoomE01.NAME, 1),
               new Exit(0,2, Env.LEFT, 7,0, "#k",0, -1, RoomE05.NAME, 0),
               new Exit(0,1, Env.LEFT, 4,8, "#k",4, -1, RoomE03.NAME, 1),
@@ -399,7 +399,7 @@ public class RoomE02 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
     
     // special behaviour
     if ( entryPoint == 0 ) {
@@ -408,7 +408,7 @@ public class RoomE02 extends Room {
       mCameraLevel = -1;
       mCamera.set(0, 2*Room.kSize, 0);
     } else {
-      setPlayerAtExit(kExits[entryPoint]);
+      setPlayerAtExit(mExits[entryPoint]);
     }
     
     return mPlayer;
@@ -425,7 +425,7 @@ public class RoomE02 extends Room {
       for ( zoneX = 0 ; zoneX <= 2 ; zoneX++ ) {
         addBasicZone(zoneX, zoneY, 
                      (zoneX==2), (zoneY==2), (zoneX==0), (zoneY==0),
-                     kExits, spriteManager);
+                     mExits, spriteManager);
         if ( zoneX != 1 || zoneY != 1 ) {
           spriteManager.addSprite(new Liquid(zoneX*Room.kSize,
                                              zoneY*Room.kSize,
@@ -511,7 +511,7 @@ public class RoomE02 extends Room {
     if ( mSwitch02aDone ) {
       mSwitch02a.setState(1);
     } else {
-      kExits[1].mDoor.setClosed(true);
+      mExits[1].mDoor.setClosed(true);
     }
     
     mSwitch02b = new WallSwitch(0, 2, Env.UP, 7, 8, 
@@ -665,10 +665,10 @@ public class RoomE02 extends Room {
 
     // check exits
     
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -689,7 +689,7 @@ public class RoomE02 extends Room {
         WallSwitch ws = ((WallSwitch.EventStateChange)event).mSwitch;
         if ( ws == mSwitch02a ) {
           assert( !mSwitch02aDone );
-          kExits[1].mDoor.setClosed(false);      
+          mExits[1].mDoor.setClosed(false);      
           Env.sounds().play(Sounds.SUCCESS, 3);
           mSwitch02aDone = true;
         } else if ( ws == mSwitch02b ) {
@@ -793,7 +793,7 @@ public class RoomE02 extends Room {
       
     } // for (event)
 
-    if ( save ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( save ) storyEvents.add(QuestStory.kSaveGameEvent);
     
     // enable the bridge switches in zone (1,0)
     if ( mSwitches10Done < 4 && mSwitch10 == null ) {
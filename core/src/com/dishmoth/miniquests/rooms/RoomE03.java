@@ -153,7 +153,7 @@ public class RoomE03 extends Room {
                                                   "Hh"}; // 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[]
+  private final Exit mExits[]
           = { new Exit(2,2, Env.UP,    1,0, "#h",0, -1, RoomE05.NAME, 1),
               new Exit(2,2, Env.RIGHT, 4,8, "#h",4, -1, RoomE02.NAME, 2),
               new Exit(2,2, Env.RIGHT, 2,0, "#h",0, -1, RoomE02.NAME, 3),
@@ -254,8 +254,8 @@ public class RoomE03 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -270,7 +270,7 @@ public class RoomE03 extends Room {
       for ( zoneX = 0 ; zoneX <= 2 ; zoneX++ ) {
         addBasicZone(zoneX, zoneY, 
                      (zoneX==2), (zoneY==2), (zoneX==0), (zoneY==0),
-                     kExits, spriteManager);
+                     mExits, spriteManager);
         if ( zoneX != 1 || zoneY != 1 ) {
           Liquid gunk = new Liquid(zoneX*Room.kSize, zoneY*Room.kSize, -2, 2);
           gunk.setLethalDepth(2);
@@ -517,10 +517,10 @@ public class RoomE03 extends Room {
 
     // check exits
     
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -617,7 +617,7 @@ public class RoomE03 extends Room {
       
     } // for (event)
 
-    if ( save ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( save ) storyEvents.add(QuestStory.kSaveGameEvent);
     
     // move the raft (and check for scrolling)
 
@@ -626,10 +626,10 @@ public class RoomE03 extends Room {
       if ( playerOnRaft && !mPlayer.isActing() ) {
         final int x = mPlayer.getXPos() - mCamera.xPos(),
                   y = mPlayer.getYPos() - mCamera.yPos();
-        if      ( x >= kSize ) scroll = new EventRoomScroll(+kSize, 0, 0);
-        else if ( y >= kSize ) scroll = new EventRoomScroll(0, +kSize, 0);
-        else if ( x < 0 )      scroll = new EventRoomScroll(-kSize, 0, 0);
-        else if ( y < 0 )      scroll = new EventRoomScroll(0, -kSize, 0);
+        if      ( x >= kSize ) scroll = scrollEvent(+kSize, 0, 0);
+        else if ( y >= kSize ) scroll = scrollEvent(0, +kSize, 0);
+        else if ( x < 0 )      scroll = scrollEvent(-kSize, 0, 0);
+        else if ( y < 0 )      scroll = scrollEvent(0, -kSize, 0);
         else                   scroll = null;
       }
     }
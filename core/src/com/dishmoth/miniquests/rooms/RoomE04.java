@@ -214,7 +214,7 @@ public class RoomE04 extends Room {
                                                   "Og" }; // 
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[]
+  private final Exit mExits[]
           = { new Exit(0,0, Env.LEFT,  4,0, "#g",0, -1, RoomE10.NAME, 0),
               new Exit(0,1, Env.LEFT,  4,4, "#g",2, -1, RoomE09.NAME, 1),
               new Exit(0,2, Env.LEFT,  6,0, "#g",0, -1, RoomE08.NAME, 0),
@@ -300,8 +300,8 @@ public class RoomE04 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -316,7 +316,7 @@ public class RoomE04 extends Room {
       for ( zoneX = 0 ; zoneX <= 2 ; zoneX++ ) {
         addBasicZone(zoneX, zoneY, 
                      (zoneX==2), (zoneY==2), (zoneX==0), (zoneY==0),
-                     kExits, spriteManager);
+                     mExits, spriteManager);
         if ( zoneX != 1 || zoneY != 1 ) {
           Liquid gunk = new Liquid(zoneX*Room.kSize, zoneY*Room.kSize, -2, 2);
           gunk.setLethalDepth(2);
@@ -406,7 +406,7 @@ public class RoomE04 extends Room {
     if ( mDoor02Done ) {
       mDoorSwitch02.setState(1);
     } else {
-      kExits[2].mDoor.setClosed(true);
+      mExits[2].mDoor.setClosed(true);
     }
     
     // zone (1,2)
@@ -459,7 +459,7 @@ public class RoomE04 extends Room {
     RoomE13 otherRoom = (RoomE13)findRoom(RoomE13.NAME);
     assert( otherRoom != null );
     if ( !otherRoom.completed() ) {
-      kExits[7].mDoor.setClosed(true);
+      mExits[7].mDoor.setClosed(true);
     }
     
   } // Room.createSprites()
@@ -486,10 +486,10 @@ public class RoomE04 extends Room {
 
     // check exits
     
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -569,7 +569,7 @@ public class RoomE04 extends Room {
       if ( event instanceof WallSwitch.EventStateChange ) {
         assert( !mDoor02Done );
         mDoor02Done = true;
-        kExits[2].mDoor.setClosed(false);
+        mExits[2].mDoor.setClosed(false);
         Env.sounds().play(Sounds.SUCCESS, 3);
         it.remove();
       }
@@ -614,7 +614,7 @@ public class RoomE04 extends Room {
       }
     }
     
-    if ( save ) storyEvents.add(new QuestStory.EventSaveGame());
+    if ( save ) storyEvents.add(QuestStory.kSaveGameEvent);
     
   } // Room.advance()
 
@@ -53,7 +53,7 @@ public class RoomE06 extends Room {
                                                   "NZ" }; // blue-blue
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.UP,    8,0, "#Z",0, -1, RoomE02.NAME, 5),
               new Exit(Env.RIGHT, 6,0, "#Z",0, -1, RoomE07.NAME, 0),
               new Exit(Env.DOWN,  8,0, "NZ",0, -1, RoomE04.NAME, 6),
@@ -119,8 +119,8 @@ public class RoomE06 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -132,7 +132,7 @@ public class RoomE06 extends Room {
     mFloor = new BlockArray(kBlocks, kBlockColours, 0,0,0);
     spriteManager.addSprite(mFloor);
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     mGate = new FenceGate(5,1,0, Env.UP, 1);
     spriteManager.addSprite(mGate);
@@ -310,10 +310,10 @@ public class RoomE06 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -345,7 +345,7 @@ public class RoomE06 extends Room {
               mGate.setClosed(false);
               mDone = true;
               Env.sounds().play(Sounds.SUCCESS, 5);
-              storyEvents.add(new QuestStory.EventSaveGame());
+              storyEvents.add(QuestStory.kSaveGameEvent);
             }
           } else {
             mCursorPos = (mCursorPos + 1) % 4;
@@ -67,7 +67,7 @@ public class RoomE07 extends Room {
                                                   "yc" }; //
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.LEFT,  6,0, "#c",0, -1, RoomE06.NAME, 1),
               new Exit(Env.RIGHT, 6,0, "#c",0, -1, RoomE12.NAME, 2),
               new Exit(Env.DOWN,  2,0, "t6",0, -1, RoomE13.NAME, 0),
@@ -157,8 +157,8 @@ public class RoomE07 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -169,7 +169,7 @@ public class RoomE07 extends Room {
     
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,-2) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite(new Fence(0, 2, 0, 10, Env.RIGHT, 1));
 
@@ -224,10 +224,10 @@ public class RoomE07 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -29,7 +29,7 @@ public class RoomE09 extends Room {
   private static final String kBlockColours[] = { "M6" }; // yellow
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.UP,    5,0, "#6",0, -1, RoomE08.NAME, 1),
               new Exit(Env.RIGHT, 5,4, "#6",0, -1, RoomE04.NAME, 1) };
 
@@ -91,8 +91,8 @@ public class RoomE09 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     
     mState = ( entryPoint == 0 ? 7 : 5 ); 
     
@@ -152,7 +152,7 @@ public class RoomE09 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     spriteManager.addSprite(new Liquid(0,0,-1, 2));
 
@@ -244,10 +244,10 @@ public class RoomE09 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
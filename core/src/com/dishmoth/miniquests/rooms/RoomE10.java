@@ -68,7 +68,7 @@ public class RoomE10 extends Room {
                                                   "FX" }; // purple
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 4,42, "#X",0, 3, RoomE04.NAME, 0), 
               new Exit(Env.RIGHT, 5,0,  "#X",0, 0, RoomE11.NAME, 0) };
 
@@ -114,8 +114,8 @@ public class RoomE10 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     
     if ( entryPoint == 1 ) {
       mStairs.reset(kStairsBottom+10, kStairsBottom);
@@ -140,7 +140,7 @@ public class RoomE10 extends Room {
 
     spriteManager.addSprite(new BlockArray(kBlocks1, kBlockColours, 0,0,0));
     spriteManager.addSprite(new BlockArray(kBlocks2, kBlockColours, 0,0,40));
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     mStairs = new BlockStairs(3, 7, kStairsTop,
                               8, 7, kStairsTop,
@@ -166,10 +166,10 @@ public class RoomE10 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -46,14 +46,14 @@ public class RoomE11 extends Room {
                                                   "lT" }; // brown with centre
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.LEFT,  5,0, "#l",0, -1, RoomE11.NAME, 2), 
               new Exit(Env.DOWN,  5,0, "#l",0, -1, RoomE11.NAME, 3), 
               new Exit(Env.RIGHT, 5,0, "#l",0, -1, RoomE11.NAME, 0), 
               new Exit(Env.UP,    5,0, "#l",0, -1, RoomE11.NAME, 1) };
               
   // dummy exit objects for the true maze exits 
-  private static final Exit kMazeExits[] 
+  private final Exit mMazeExits[] 
           = { new Exit(0,0,0,"  ",0,0, RoomE10.NAME, 1),
               new Exit(0,0,0,"  ",0,0, RoomE12.NAME, 0) };
 
@@ -78,8 +78,8 @@ public class RoomE11 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     return mPlayer;
     
   } // createPlayer()
@@ -110,7 +110,7 @@ public class RoomE11 extends Room {
     
     spriteManager.addSprite( new BlockArray(blocks, kBlockColours, 0, 0, 0) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
   } // Room.createSprites()
   
@@ -119,9 +119,9 @@ public class RoomE11 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      Exit exit = kExits[exitIndex];
+      Exit exit = mExits[exitIndex];
 
       final int direc = exit.mWallSide;
       mMazeXPos += Env.STEP_X[direc];
@@ -130,7 +130,7 @@ public class RoomE11 extends Room {
       if ( mMazeXPos == kStartXPos-1 && mMazeYPos == kStartYPos ) {
         // retreat from the maze
         mInMaze = false;
-        exit = kMazeExits[0];
+        exit = mMazeExits[0];
       }
       
       else if ( kBlocks[0][Room.kSize-1-mMazeYPos].charAt(mMazeXPos) != '1' ) {
@@ -142,7 +142,7 @@ public class RoomE11 extends Room {
       else if ( mMazeXPos == kEndXPos && mMazeYPos == kEndYPos ) {
         // leave by the true exit
         mInMaze = false;
-        exit = kMazeExits[1];
+        exit = mMazeExits[1];
       }
       
       storyEvents.add(new EventRoomChange(exit.mDestination,
@@ -211,7 +211,7 @@ public class RoomE12 extends Room {
                                                   "#A" }; // green
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.RIGHT, 4,0,  "#V",0, 0, RoomE11.NAME, 0),
               new Exit(Env.LEFT,  1,42, "#c",1, 4, RoomE07.NAME, 3),
               new Exit(Env.LEFT,  6,42, "#A",1, 4, RoomE07.NAME, 1),
@@ -283,8 +283,8 @@ public class RoomE12 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint], kCameraLevels);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint], kCameraLevels);
     return mPlayer;
     
   } // createPlayer()
@@ -296,7 +296,7 @@ public class RoomE12 extends Room {
     spriteManager.addSprite( new BlockArray(kBlocks1, kBlockColours, 0,0,0) );
     spriteManager.addSprite( new BlockArray(kBlocks2, kBlockColours, 0,0,42) );
     
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
     mStairBlocks = null;
 
@@ -330,10 +330,10 @@ public class RoomE12 extends Room {
                       SpriteManager          spriteManager) {
 
     // check exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
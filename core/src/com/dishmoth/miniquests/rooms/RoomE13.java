@@ -80,7 +80,7 @@ public class RoomE13 extends Room {
                                                   "Ll"}; // pale purple
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.UP,   2,14, "#L",1, -1, RoomE07.NAME, 2),
               new Exit(Env.LEFT, 5,14, "XL",1, -1, RoomE04.NAME, 7) };
 
@@ -137,8 +137,8 @@ public class RoomE13 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
-    setPlayerAtExit(kExits[entryPoint]);
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
+    setPlayerAtExit(mExits[entryPoint]);
     
     mCamera.shift(0, 0, +6);
     
@@ -150,7 +150,7 @@ public class RoomE13 extends Room {
   @Override
   public void createSprites(SpriteManager spriteManager) {
     
-    addBasicZone(0, 0, true, true, true, false, kExits, spriteManager);
+    addBasicZone(0, 0, true, true, true, false, mExits, spriteManager);
     
     spriteManager.addSprite(new Liquid(0, 0, -1, 2));
     spriteManager.addSprite(new Liquid(0, -Room.kSize, -1, 2));
@@ -159,7 +159,7 @@ public class RoomE13 extends Room {
     spriteManager.addSprite( new BlockArray(kBlocksB, kBlockColours, 0,0,14) );
     
     if ( !mDone ) {
-      kExits[1].mDoor.setClosed(true);
+      mExits[1].mDoor.setClosed(true);
       spriteManager.addSprite(new FloorSwitch(0, 9, 14, "lL", "XL"));
     }
     
@@ -192,10 +192,10 @@ public class RoomE13 extends Room {
   public void advance(LinkedList<StoryEvent> storyEvents,
                       SpriteManager          spriteManager) {
 
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
     
@@ -207,7 +207,7 @@ public class RoomE13 extends Room {
         mDone = true;
         FloorSwitch s = ((FloorSwitch.EventStateChange)event).mSwitch;
         spriteManager.removeSprite(s);
-        kExits[1].mDoor.setClosed(false);
+        mExits[1].mDoor.setClosed(false);
         Env.sounds().play(Sounds.SWITCH_ON);
         it.remove();
       }
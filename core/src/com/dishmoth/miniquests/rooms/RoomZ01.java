@@ -87,7 +87,7 @@ public class RoomZ01 extends Room {
                                                   "EN" };
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { // note: dummy exit at index 0
               new Exit(Env.UP, 2,8, "#N",0, -1, RoomZ02.NAME, 0) };
 
@@ -119,7 +119,7 @@ public class RoomZ01 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length+1 );
+    assert( entryPoint >= 0 && entryPoint < mExits.length+1 );
     
     if ( entryPoint == 0 ) {
       // special case: start of game
@@ -128,7 +128,7 @@ public class RoomZ01 extends Room {
       mCameraLevel = -1;
       mCamera.set(0, 0, 0);
     } else {
-      setPlayerAtExit(kExits[entryPoint-1]);
+      setPlayerAtExit(mExits[entryPoint-1]);
     }
     
     return mPlayer;
@@ -141,9 +141,9 @@ public class RoomZ01 extends Room {
 
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,0) );
 
-    addBasicWalls(kExits, spriteManager);
+    addBasicWalls(mExits, spriteManager);
 
-    kExits[0].mDoor.setClosed(true);
+    mExits[0].mDoor.setClosed(true);
     mDoorTimer = kDoorDelay;
     
     mFlickerImage = new Mural(Env.UP, 1, 8, 
@@ -172,17 +172,17 @@ public class RoomZ01 extends Room {
                       SpriteManager          spriteManager) {
 
     // check the exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
     // unlock the door
     if ( mDoorTimer > 0 ) {
       if ( --mDoorTimer == 0 ) {
-        kExits[0].mDoor.setClosed(false);
+        mExits[0].mDoor.setClosed(false);
         Env.sounds().play(Sounds.GATE);
       }
     }
@@ -114,7 +114,7 @@ public class RoomZ02 extends Room {
                                                   "tk" };
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.DOWN,  2,0, "#k",0, -1, RoomZ01.NAME, 1),
               new Exit(Env.RIGHT, 3,8, "#k",0, -1, RoomZ03.NAME, 0) };
 
@@ -171,9 +171,9 @@ public class RoomZ02 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
     
-    setPlayerAtExit(kExits[entryPoint]);
+    setPlayerAtExit(mExits[entryPoint]);
     if ( entryPoint == 0 ) {
       mPlayer.addBrain(new Brain.NoFireModule());
       mPlayer.addBrain(new Brain.ZombieModule(
@@ -190,8 +190,8 @@ public class RoomZ02 extends Room {
 
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,-4) );
 
-    addBasicWalls(kExits, spriteManager);
-    kExits[1].mDoor.setClosed(true);
+    addBasicWalls(mExits, spriteManager);
+    mExits[1].mDoor.setClosed(true);
   
     mStairBlocks = new BlockArray(kStairBlocks, kBlockColours, 6,0,-4);
     spriteManager.addSprite(mStairBlocks);
@@ -230,10 +230,10 @@ public class RoomZ02 extends Room {
                       SpriteManager          spriteManager) {
 
     // check the exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
@@ -256,7 +256,7 @@ public class RoomZ02 extends Room {
         assert( mNumSwitchesDone == 1 );
         mWallSwitch.setState(2);
         mNumSwitchesDone = 2;
-        kExits[1].mDoor.setClosed(false);
+        mExits[1].mDoor.setClosed(false);
         Env.sounds().play(Sounds.SUCCESS, 7);
         it.remove();
       }
@@ -311,7 +311,7 @@ public class RoomZ02 extends Room {
     // shut the entrance door
     if ( mEntranceTimer > 0 ) {
       if ( --mEntranceTimer == 0 ) {
-        kExits[0].mDoor.setClosed(true);
+        mExits[0].mDoor.setClosed(true);
         Env.sounds().play(Sounds.GATE);
       }
     }
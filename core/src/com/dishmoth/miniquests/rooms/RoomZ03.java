@@ -100,7 +100,7 @@ public class RoomZ03 extends Room {
   private static final String kBlockColours[] = { "Vh" };
   
   // details of exit/entry points for the room 
-  private static final Exit kExits[] 
+  private final Exit mExits[] 
           = { new Exit(Env.LEFT, 4,2, "Vh",1, -1, RoomZ02.NAME, 1),
               new Exit(Env.UP,   5,6, "#h",0, -1, RoomZ03.NAME, 99) };
 
@@ -132,9 +132,9 @@ public class RoomZ03 extends Room {
   @Override
   public Player createPlayer(int entryPoint) {
 
-    assert( entryPoint >= 0 && entryPoint < kExits.length );
+    assert( entryPoint >= 0 && entryPoint < mExits.length );
     
-    setPlayerAtExit(kExits[entryPoint]);
+    setPlayerAtExit(mExits[entryPoint]);
     if ( entryPoint == 0 ) {
       mPlayer.addBrain(new Brain.ZombieModule(
                                  new int[]{ -1,5, Env.RIGHT,10, -1,15 }));
@@ -150,8 +150,8 @@ public class RoomZ03 extends Room {
 
     spriteManager.addSprite( new BlockArray(kBlocks, kBlockColours, 0,0,-4) );
 
-    addBasicWalls(kExits, spriteManager);
-    kExits[1].mDoor.setClosed(true);
+    addBasicWalls(mExits, spriteManager);
+    mExits[1].mDoor.setClosed(true);
 
     spriteManager.addSprite( new BlockArray(kExitBlocks, kBlockColours, 
                                             5,10,4) );
@@ -182,31 +182,31 @@ public class RoomZ03 extends Room {
                       SpriteManager          spriteManager) {
 
     // check the exits
-    final int exitIndex = checkExits(kExits);
+    final int exitIndex = checkExits(mExits);
     if ( exitIndex != -1 ) {
-      storyEvents.add(new EventRoomChange(kExits[exitIndex].mDestination,
-                                          kExits[exitIndex].mEntryPoint));
+      storyEvents.add(new EventRoomChange(mExits[exitIndex].mDestination,
+                                          mExits[exitIndex].mEntryPoint));
       return;
     }
 
     // open the final door
-    if ( kExits[1].mDoor.closed() && mPlayer.getYPos() < 10 &&
+    if ( mExits[1].mDoor.closed() && mPlayer.getYPos() < 10 &&
          spriteManager.findSpriteOfType(Critter.class) == null ) {
-      kExits[1].mDoor.setClosed(false);
+      mExits[1].mDoor.setClosed(false);
       Env.sounds().play(Sounds.SUCCESS, 3);
     }
     
     // shut the entrance door
     if ( mEntranceTimer > 0 ) {
       if ( --mEntranceTimer == 0 ) {
-        kExits[0].mDoor.setClosed(true);
+        mExits[0].mDoor.setClosed(true);
         Env.sounds().play(Sounds.GATE);
       }
     }
 
     // shut the exit door
-    if ( mPlayer.getYPos() > 11 && !kExits[1].mDoor.closed() ) {
-        kExits[1].mDoor.setClosed(true);
+    if ( mPlayer.getYPos() > 11 && !mExits[1].mDoor.closed() ) {
+        mExits[1].mDoor.setClosed(true);
         Env.sounds().play(Sounds.GATE);
     }
     
@@ -13,6 +13,11 @@ public class DesktopLauncher {
         config.setWindowedMode(400, 300);
         config.setWindowIcon(FileType.Internal, "DesktopIcon128.png",
                              "DesktopIcon32.png", "DesktopIcon16.png");
-        new Lwjgl3Application(new MiniQuestsGame(), config);
+        // the game can advance on its own thread, separate from the display
+        // (e.g., java -Dminiquests.pipelined=true ...)
+        MiniQuestsGame game = ( Boolean.getBoolean("miniquests.pipelined")
+                              ? new MiniQuestsGame(new SimulationThread())
+                              : new MiniQuestsGame() );
+        new Lwjgl3Application(game, config);
 	}
 }
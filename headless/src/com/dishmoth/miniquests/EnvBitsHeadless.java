@@ -0,0 +1,72 @@
+/*
+ *  EnvBitsHeadless.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests;
+
+import com.dishmoth.miniquests.game.Env;
+import com.dishmoth.miniquests.game.EnvBits;
+
+// platform-dependent code for Env (headless version, no saving or exiting)
+public class EnvBitsHeadless implements EnvBits {
+
+  // whether debug messages are displayed
+  private boolean mVerbose;
+  
+  // game data to be loaded (or null)
+  private byte mSaveData[];
+  
+  // constructor
+  public EnvBitsHeadless() {
+    
+    mVerbose = true;
+    mSaveData = null;
+    
+  } // constructor()
+  
+  // turn debug output on or off (can be noisy during long runs)
+  public void setVerbose(boolean verbose) { mVerbose = verbose; }
+  
+  // supply game data for load() (e.g., from a recording)
+  public void setSaveData(byte data[]) { mSaveData = data; }
+  
+  // prepare before use
+  public void initialize() {
+  } // EnvBits.initialize()
+  
+  // display debug text
+  public void debug(String message) {
+
+    if ( mVerbose ) System.out.println(message);
+    
+  } // EnvBits.debug()
+
+  // which platform we're running on
+  public Env.Platform platform() { return Env.Platform.HEADLESS; }
+
+  // terminate the program (ignored, the runner decides when to stop)
+  public void exit() {
+  } // EnvBits.exit()
+
+  // save some game data (ignored)
+  public void save(byte data[]) {
+  } // EnvBits.save()
+  
+  // nothing is saved, so nothing to wait for
+  public void flushSave() {
+  } // EnvBits.flushSave()
+  
+  // load the game data (nothing is ever saved, but data can be supplied)
+  public byte[] load() {
+    
+    return mSaveData;
+    
+  } // EnvBits.load()
+
+  // send a log message back to HQ (ignored)
+  public void report(String address, String message) {
+  } // EnvBits.report()
+  
+} // class EnvBitsHeadless
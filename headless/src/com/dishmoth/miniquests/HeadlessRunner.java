@@ -0,0 +1,408 @@
+/*
+ *  HeadlessRunner.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.dishmoth.miniquests.game.EgaCanvas;
+import com.dishmoth.miniquests.game.Env;
+import com.dishmoth.miniquests.game.GameManager;
+import com.dishmoth.miniquests.game.KeyRecorder;
+import com.dishmoth.miniquests.game.KeyRecording;
+import com.dishmoth.miniquests.game.KeyReplay;
+import com.dishmoth.miniquests.game.QuestStory;
+import com.dishmoth.miniquests.game.SpriteProfiler;
+import com.dishmoth.miniquests.game.Story;
+import com.dishmoth.miniquests.game.Telemetry;
+import com.dishmoth.miniquests.game.TrainingStory;
+
+// run the game without a window, audio or input, as fast as possible
+// (for soak-testing the quests and for measuring the cost of a tick)
+// 
+// the keys can be recorded to a file, or played back from a recording 
+// (from here or from MainWindow), in which case the seed, story and number
+// of ticks come from the recording, and the state of the game at the end 
+// must match the recording's
+//
+// a batch of games (one for each seed from the starting seed onwards) can
+// be run at once on several threads, each game with its own context
+//
+// usage: HeadlessRunner [-quest N | -training] [-ticks N] [-seed N] 
+//                       [-randomkeys] [-record FILE | -replay FILE]
+//                       [-batch N [-threads N]]
+//                       [-draw] [-profile] [-verbose]
+public class HeadlessRunner {
+
+  // default settings
+  static private final int  kDefaultTicks = 100000;
+  static private final long kDefaultSeed  = 1;
+  
+  // main method
+  public static void main(String args[]) {
+
+    int     questNum   = 0;
+    boolean training   = false;
+    long    numTicks   = kDefaultTicks;
+    long    seed       = kDefaultSeed;
+    boolean randomKeys = false;
+    String  recordFile = null;
+    String  replayFile = null;
+    boolean draw       = false;
+    boolean profile    = false;
+    boolean verbose    = false;
+    int     batchSize  = 0;
+    int     numThreads = Runtime.getRuntime().availableProcessors();
+    
+    KeyRecording replay = null;
+    
+    try {
+      for ( int k = 0 ; k < args.length ; k++ ) {
+        String arg = args[k];
+        if      ( arg.equals("-quest") )      questNum = Integer.parseInt(args[++k]);
+        else if ( arg.equals("-training") )   training = true;
+        else if ( arg.equals("-ticks") )      numTicks = Long.parseLong(args[++k]);
+        else if ( arg.equals("-seed") )       seed = Long.parseLong(args[++k]);
+        else if ( arg.equals("-randomkeys") ) randomKeys = true;
+        else if ( arg.equals("-record") )     recordFile = args[++k];
+        else if ( arg.equals("-replay") )     replayFile = args[++k];
+        else if ( arg.equals("-draw") )       draw = true;
+        else if ( arg.equals("-profile") )    profile = true;
+        else if ( arg.equals("-verbose") )    verbose = true;
+        else if ( arg.equals("-batch") )      batchSize = Integer.parseInt(args[++k]);
+        else if ( arg.equals("-threads") )    numThreads = Integer.parseInt(args[++k]);
+        else throw new IllegalArgumentException("unknown option " + arg);
+      }
+      if ( questNum < 0 || questNum >= QuestStory.NUM_QUESTS ) {
+        throw new IllegalArgumentException("bad quest number " + questNum);
+      }
+      if ( numTicks <= 0 ) {
+        throw new IllegalArgumentException("bad number of ticks " + numTicks);
+      }
+      if ( recordFile != null && replayFile != null ) {
+        throw new IllegalArgumentException("can't record and replay at once");
+      }
+      if ( batchSize < 0 ) {
+        throw new IllegalArgumentException("bad batch size " + batchSize);
+      }
+      if ( numThreads <= 0 ) {
+        throw new IllegalArgumentException("bad number of threads " 
+                                           + numThreads);
+      }
+      if ( batchSize > 0 && (recordFile != null || replayFile != null 
+                                                 || profile) ) {
+        throw new IllegalArgumentException("can't record, replay or profile "
+                                           + "a batch");
+      }
+      if ( replayFile != null ) {
+        replay = KeyRecording.decode(readFile(replayFile));
+        if ( replay == null ) {
+          throw new IllegalArgumentException("bad recording " + replayFile);
+        }
+      }
+    } catch ( Exception ex ) {
+      System.out.println("HeadlessRunner: " + ex.getMessage());
+      System.out.println("usage: HeadlessRunner [-quest N | -training] "
+                         + "[-ticks N] [-seed N] [-randomkeys] "
+                         + "[-record FILE | -replay FILE] "
+                         + "[-batch N [-threads N]] [-draw] "
+                         + "[-profile] [-verbose]");
+      System.exit(1);
+    }
+    
+    if ( batchSize > 0 ) {
+      runBatch(training ? -1 : questNum, numTicks, seed, batchSize, 
+               numThreads, randomKeys, draw, verbose);
+      return;
+    }
+    
+    if ( replay != null ) {
+      HeadlessRunner runner = new HeadlessRunner(replay, verbose || profile);
+      long hash = runner.run(replay.startingStory(), replay.numTicks(), 
+                             draw, profile);
+      if ( hash == replay.hash() ) {
+        System.out.println("Replay matches recording (state hash " 
+                           + Long.toHexString(hash) + ")");
+      } else {
+        System.out.println("Replay DOES NOT match recording (state hash "
+                           + Long.toHexString(hash) + ", expected "
+                           + Long.toHexString(replay.hash()) + ")");
+        System.exit(2);
+      }
+      return;
+    }
+    
+    KeyRecording recording = null;
+    if ( recordFile != null ) {
+      recording = new KeyRecording(seed, 
+                                   ( training ? KeyRecording.STORY_TRAINING 
+                                              : questNum ));
+    }
+    
+    HeadlessRunner runner = new HeadlessRunner(seed, randomKeys, recording,
+                                               verbose || profile);
+    long hash = runner.run((training ? new TrainingStory() 
+                                     : new QuestStory(questNum)),
+                           numTicks, draw, profile);
+    
+    if ( recording != null ) {
+      recording.setHash(hash);
+      try {
+        writeFile(recordFile, recording.encode());
+      } catch ( IOException ex ) {
+        System.out.println("HeadlessRunner: could not write " + recordFile
+                           + " (" + ex.getMessage() + ")");
+        System.exit(1);
+      }
+      System.out.println("Recorded " + recording.numTicks() + " ticks to " 
+                         + recordFile + " (state hash " 
+                         + Long.toHexString(hash) + ")");
+    }
+    
+  } // main()
+
+  // run a number of games at once, one for each seed (quest -1 is training)
+  private static void runBatch(final int questNum, final long numTicks, 
+                               long seed, int batchSize, int numThreads,
+                               final boolean randomKeys, final boolean draw,
+                               final boolean verbose) {
+    
+    Env.setContextBinding(new ThreadContexts());
+    
+    ForkJoinPool pool = new ForkJoinPool(numThreads);
+    List<Future<Long>> results = new ArrayList<Future<Long>>();
+    long startNanos = System.nanoTime();
+    
+    for ( int k = 0 ; k < batchSize ; k++ ) {
+      final long gameSeed = seed + k;
+      results.add(pool.submit(new Callable<Long>() {
+        public Long call() {
+          HeadlessRunner runner = new HeadlessRunner(gameSeed, randomKeys,
+                                                     verbose);
+          runner.mReport = false;
+          return runner.run(( questNum < 0 ? new TrainingStory() 
+                                           : new QuestStory(questNum) ),
+                            numTicks, draw, false);
+        }
+      }));
+    }
+    
+    try {
+      for ( int k = 0 ; k < batchSize ; k++ ) {
+        long hash = results.get(k).get();
+        System.out.println("Seed " + (seed + k) + ": state hash " 
+                           + Long.toHexString(hash));
+      }
+    } catch ( InterruptedException ex ) {
+      System.out.println("HeadlessRunner: batch interrupted");
+      System.exit(1);
+    } catch ( ExecutionException ex ) {
+      System.out.println("HeadlessRunner: batch failed (" 
+                         + ex.getCause() + ")");
+      System.exit(1);
+    } finally {
+      pool.shutdown();
+    }
+    
+    long totalNanos = Math.max(1, System.nanoTime() - startNanos);
+    double ticksPerSecond = batchSize*numTicks/(totalNanos*1.0e-9);
+    System.out.println(batchSize + " games of " + numTicks + " ticks on "
+                       + numThreads + " threads in "
+                       + String.format("%.2f", totalNanos*1.0e-9)
+                       + " sec, "
+                       + String.format("%.0f", ticksPerSecond)
+                       + " ticks per sec in total");
+    
+  } // runBatch()
+  
+  // assorted objects
+  private EnvBitsHeadless    mEnvBits;
+  private KeyMonitorHeadless mKeyMonitor;
+  
+  // keys are recorded or played back if either of these is not null
+  private KeyRecorder mKeyRecorder = null;
+  private KeyReplay   mKeyReplay   = null;
+  
+  // whether run() prints the speed of the game (switched off for batches)
+  private boolean mReport = true;
+  
+  // constructor
+  public HeadlessRunner(long seed, boolean randomKeys, boolean verbose) {
+    
+    this(seed, randomKeys, null, verbose);
+    
+  } // constructor
+  
+  // constructor (keys are recorded if the recording is not null)
+  public HeadlessRunner(long seed, boolean randomKeys, 
+                        KeyRecording recording, boolean verbose) {
+    
+    initialize(seed, verbose);
+    
+    mKeyMonitor = ( randomKeys ? new KeyMonitorHeadless(seed) 
+                               : new KeyMonitorHeadless() );
+    if ( recording != null ) {
+      mKeyRecorder = new KeyRecorder(mKeyMonitor, recording);
+      Env.addKeyMonitor(mKeyRecorder);
+    } else {
+      Env.addKeyMonitor(mKeyMonitor);
+    }
+    
+  } // constructor
+  
+  // constructor (keys are played back from the recording)
+  public HeadlessRunner(KeyRecording replay, boolean verbose) {
+    
+    initialize(replay.seed(), verbose);
+    
+    // start from the same saved game data as the recording
+    mEnvBits.setSaveData(replay.saveData());
+    Env.saveState().load();
+    
+    mKeyMonitor = null;
+    mKeyReplay = new KeyReplay(replay);
+    Env.addKeyMonitor(mKeyReplay);
+    
+  } // constructor
+  
+  // set up the environment
+  private void initialize(long seed, boolean verbose) {
+    
+    mEnvBits = new EnvBitsHeadless();
+    mEnvBits.setVerbose(verbose);
+
+    Env.initialize( mEnvBits, 
+                    new ResourcesHeadless(), 
+                    new SoundsHeadless() );
+    Env.setRandomSeed(seed);
+    
+  } // initialize()
+  
+  // advance the story for a number of ticks, then report the speed
+  // (returns a hash of the game's final state, see KeyRecording.stateHash())
+  public long run(Story story, long numTicks, boolean draw, boolean profile) {
+    
+    GameManager gameManager = new GameManager(story);
+    SpriteProfiler profiler = ( profile ? new SpriteProfiler(jvmClock()) 
+                                        : null );
+    gameManager.setProfiler(profiler);
+    EgaCanvas canvas = ( draw ? new EgaCanvas(Env.screenWidth(), 
+                                              Env.screenHeight()) 
+                              : null );
+    
+    long peakNanos = 0;
+    long startNanos = System.nanoTime();
+    
+    Telemetry telemetry = Env.telemetry();
+    
+    for ( long tick = 0 ; tick < numTicks ; tick++ ) {
+      long tickNanos = System.nanoTime();
+      
+      if ( mKeyReplay != null ) {
+        mKeyReplay.advance();
+      } else {
+        mKeyMonitor.advance();
+        if ( mKeyRecorder != null ) mKeyRecorder.advance();
+      }
+      gameManager.advance();
+      long advanceNanos = System.nanoTime();
+      telemetry.record(Telemetry.ADVANCE, advanceNanos - tickNanos);
+      if ( canvas != null ) {
+        canvas.clear();
+        gameManager.draw(canvas);
+        telemetry.record(Telemetry.DRAW, System.nanoTime() - advanceNanos);
+      }
+      
+      long endNanos = System.nanoTime();
+      telemetry.record(Telemetry.FRAME, endNanos - tickNanos);
+      telemetry.frame(1, (canvas != null), endNanos);
+      peakNanos = Math.max(peakNanos, endNanos - tickNanos);
+    }
+    
+    long totalNanos = Math.max(1, System.nanoTime() - startNanos);
+    double ticksPerSecond = numTicks/(totalNanos*1.0e-9);
+    
+    if ( mReport ) {
+      System.out.println(numTicks + " ticks in "
+                         + String.format("%.2f", totalNanos*1.0e-9)
+                         + " sec, "
+                         + String.format("%.0f", ticksPerSecond)
+                         + " ticks per sec ("
+                         + String.format("%.0f", 
+                                         ticksPerSecond/Env.ticksPerSecond())
+                         + "x real time), mean "
+                         + String.format("%.1f", totalNanos*1.0e-3/numTicks)
+                         + "us, peak "
+                         + String.format("%.1f", peakNanos*1.0e-3)
+                         + "us per tick");
+      telemetry.report();
+      if ( profiler != null ) profiler.report();
+    }
+    
+    if ( canvas == null ) {
+      canvas = new EgaCanvas(Env.screenWidth(), Env.screenHeight());
+    }
+    canvas.clear();
+    gameManager.draw(canvas);
+    return KeyRecording.stateHash(canvas);
+    
+  } // run()
+  
+  // read a text file
+  private static String readFile(String fileName) throws IOException {
+    
+    byte bytes[] = Files.readAllBytes(new File(fileName).toPath());
+    return new String(bytes, StandardCharsets.US_ASCII);
+    
+  } // readFile()
+  
+  // write a text file
+  private static void writeFile(String fileName, 
+                                String text) throws IOException {
+    
+    Files.write(new File(fileName).toPath(), 
+                text.getBytes(StandardCharsets.US_ASCII));
+    
+  } // writeFile()
+  
+  // timings for the sprite profiler (with allocations if the JVM counts them)
+  private static SpriteProfiler.Clock jvmClock() {
+    
+    ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    com.sun.management.ThreadMXBean sunBean = null;
+    if ( bean instanceof com.sun.management.ThreadMXBean ) {
+      sunBean = (com.sun.management.ThreadMXBean)bean;
+      if ( sunBean.isThreadAllocatedMemorySupported() ) {
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+      } else {
+        sunBean = null;
+      }
+    }
+    final com.sun.management.ThreadMXBean allocBean = sunBean;
+    
+    return new SpriteProfiler.Clock() {
+      public long nanoTime() { return System.nanoTime(); }
+      public long allocatedBytes() {
+        if ( allocBean == null ) return -1;
+        return allocBean.getThreadAllocatedBytes(Thread.currentThread()
+                                                       .getId());
+      }
+    };
+    
+  } // jvmClock()
+  
+} // class HeadlessRunner
@@ -0,0 +1,94 @@
+/*
+ *  KeyMonitorHeadless.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests;
+
+import java.util.Random;
+
+import com.dishmoth.miniquests.game.Env;
+import com.dishmoth.miniquests.game.KeyMonitor;
+
+// fake key presses (headless version)
+// either nothing is ever pressed, or the player wanders about at random
+// (the random keys use their own seed so that Env's random numbers are
+// the same whether or not the keys are random)
+public class KeyMonitorHeadless implements KeyMonitor {
+
+  // how long a random direction is held for (ticks)
+  static private final int kMinHoldTime = 3,
+                           kMaxHoldTime = 30;
+  
+  // chance of pressing fire on each change of direction
+  static private final float kFireChance = 0.3f;
+  
+  // source of random key presses (or null if no keys are ever pressed)
+  private Random mRandom;
+  
+  // which direction is currently pressed (or Env.NONE)
+  private int mDirec;
+  
+  // whether fire is currently pressed
+  private boolean mFire;
+  
+  // ticks until the keys next change
+  private int mHoldTimer;
+  
+  // constructor (no keys are pressed)
+  public KeyMonitorHeadless() {
+    
+    mRandom = null;
+    reset();
+    
+  } // constructor
+  
+  // constructor (keys are pressed at random)
+  public KeyMonitorHeadless(long seed) {
+    
+    mRandom = new Random(seed);
+    reset();
+    
+  } // constructor
+  
+  // update the pressed keys (called once per tick before the game advances)
+  public void advance() {
+    
+    if ( mRandom == null ) return;
+    
+    if ( --mHoldTimer > 0 ) return;
+    
+    mHoldTimer = kMinHoldTime + mRandom.nextInt(kMaxHoldTime-kMinHoldTime+1);
+    mDirec = mRandom.nextInt(5) - 1;
+    mFire = ( mRandom.nextFloat() < kFireChance );
+    
+  } // advance()
+  
+  // assert that all keys are currently not pressed
+  public void reset() {
+    
+    mDirec = Env.NONE;
+    mFire = false;
+    mHoldTimer = 0;
+    
+  } // KeyMonitor.reset()
+  
+  // check whether any of a group of keys is currently pressed
+  public boolean up()     { return ( mDirec == Env.UP ); }
+  public boolean down()   { return ( mDirec == Env.DOWN ); }
+  public boolean left()   { return ( mDirec == Env.LEFT ); }
+  public boolean right()  { return ( mDirec == Env.RIGHT ); }
+  public boolean fire()   { return mFire; }
+  public boolean escape() { return false; }
+
+  // check whether any key is currently pressed
+  public boolean any() { return ( mDirec != Env.NONE || mFire ); }
+  
+  // how the touch screen maps to controls (not relevant here)
+  public void setMode(int mode) {}
+  
+  // set details of the on-screen buttons (not relevant here)
+  public void setButtonDetails(int arrowStyle, int fireStyle) {}
+  
+} // class KeyMonitorHeadless
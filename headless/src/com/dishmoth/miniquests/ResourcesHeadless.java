@@ -0,0 +1,63 @@
+/*
+ *  ResourcesHeadless.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests;
+
+import com.dishmoth.miniquests.game.EgaImage;
+import com.dishmoth.miniquests.game.EgaTools;
+import com.dishmoth.miniquests.game.Resources;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import javax.imageio.ImageIO;
+
+// manager for graphics (headless version, images are read but never shown)
+public class ResourcesHeadless implements Resources {
+
+  // path for files
+  static protected final String kRootPackageName = "data/";
+  
+  // constructor
+  public ResourcesHeadless() {
+    
+  } // constructor
+  
+  // return an EgaImage from file (exception if not known)
+  // (the images are still needed since their sizes affect the game)
+  public EgaImage loadEgaImage(String resourceName) {
+    
+    BufferedImage image = null;
+    try {
+      String name = kRootPackageName + resourceName;
+      URL url = ResourcesHeadless.class.getClassLoader().getResource(name);
+      InputStream inS = new BufferedInputStream(url.openStream());
+      image = ImageIO.read(inS);
+      inS.close();
+    } catch (Exception ex) {
+      throw new RuntimeException("Resources.loadEgaImage(): "
+                                 + "error reading \"" + resourceName 
+                                 + "\": " + ex.getClass().getName() 
+                                 + " " + ex.getMessage());
+    }
+    
+    final int width  = image.getWidth(),
+              height = image.getHeight();
+    
+    byte pixels[] = new byte[width*height];
+    int index = 0;
+    for ( int y = 0 ; y < height ; y++ ) {
+      for ( int x = 0 ; x < width ; x++ ) {
+        pixels[index++] = (byte)EgaTools.argbToEga(image.getRGB(x, y));
+      }
+    }
+    
+    return new EgaImage(0, 0, width, height, pixels, 0.0f);
+    
+  } // Resources.loadEgaImage()
+  
+} // class ResourcesHeadless
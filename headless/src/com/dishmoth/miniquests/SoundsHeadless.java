@@ -0,0 +1,58 @@
+/*
+ *  SoundsHeadless.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests;
+
+import com.dishmoth.miniquests.game.Sounds;
+
+// silent audio (headless version, sound effects are never loaded)
+public class SoundsHeadless extends Sounds {
+
+  // constructor
+  public SoundsHeadless() {
+
+    super();
+    
+  } // constructor
+  
+  // prepare a sound resource (nothing to do)
+  @Override
+  protected void loadSound(int id, String fileName, int numVersions) {
+  } // Sounds.loadSound()
+
+  // check that all sounds have loaded (they never are)
+  @Override
+  protected void checkSounds() {
+
+    mAvailable = false;
+      
+  } // Sounds.checkSound()
+
+  // play a sound effect (silently)
+  @Override
+  public void play(int id) {
+    
+    assert( id >= 0 && id < kNumSounds );
+    
+  } // Sounds.play()
+
+  // start a sound looping (silently)
+  @Override
+  public void loop(int id) {
+    
+    assert( id >= 0 && id < kNumSounds );
+    
+  } // Sounds.loop()
+  
+  // stop a looping sound
+  @Override
+  public void stop(int id) {
+
+    assert( id >= 0 && id < kNumSounds );
+    
+  } // Sounds.stop()
+
+} // class SoundsHeadless
@@ -0,0 +1,28 @@
+/*
+ *  ThreadContexts.java
+ *  Copyright (c) 2022 Simon Hern
+ *  Contact: dishmoth@yahoo.co.uk, dishmoth.com, github.com/dishmoth
+ */
+
+package com.dishmoth.miniquests;
+
+import com.dishmoth.miniquests.game.Env;
+import com.dishmoth.miniquests.game.GameContext;
+
+// a separate game context for each thread, so that several headless games
+// can run at once (see Env.setContextBinding())
+public class ThreadContexts implements Env.ContextBinding {
+
+  // the context for each thread
+  private final ThreadLocal<GameContext> mContexts 
+                                          = new ThreadLocal<GameContext>();
+  
+  // the current thread's context
+  @Override
+  public GameContext current() { return mContexts.get(); }
+  
+  // change the current thread's context
+  @Override
+  public void setCurrent(GameContext context) { mContexts.set(context); }
+  
+} // class ThreadContexts